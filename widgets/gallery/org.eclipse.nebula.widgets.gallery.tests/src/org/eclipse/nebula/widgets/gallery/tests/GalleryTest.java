@@ -1,5 +1,8 @@
 package org.eclipse.nebula.widgets.gallery.tests;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import junit.framework.TestCase;
 
 import org.eclipse.nebula.widgets.gallery.DefaultGalleryGroupRenderer;
@@ -7,8 +10,11 @@ import org.eclipse.nebula.widgets.gallery.DefaultGalleryItemRenderer;
 import org.eclipse.nebula.widgets.gallery.Gallery;
 import org.eclipse.nebula.widgets.gallery.GalleryItem;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
 
 public class GalleryTest extends TestCase {
 	Display d = null;
@@ -116,6 +122,89 @@ public class GalleryTest extends TestCase {
 		
 	}
 
+	public void testSelectAllAndRemove() {
+		Gallery g = createGallery(SWT.V_SCROLL | SWT.MULTI);
+
+		GalleryItem items[] = new GalleryItem[40];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = new GalleryItem(g, SWT.None);
+			for (int j = 0; j < 40; j++) {
+				new GalleryItem(items[i], SWT.None);
+			}
+		}
+
+		g.selectAll();
+		assertEquals(40 * 41, g.getSelectionCount());
+		assertEquals(40 * 41, g.getSelection().length);
+
+		// Selection flags follow the items when one is removed
+		items[1].deselectAll();
+		g.remove(items[0]);
+		assertEquals(39 * 41 - 40, g.getSelectionCount());
+		GalleryItem[] selection = g.getSelection();
+		assertEquals(items[1], selection[0]);
+		assertEquals(items[2], selection[1]);
+		assertEquals(items[2].getItem(0), selection[2]);
+
+		// Inserting an item does not select it
+		GalleryItem inserted = new GalleryItem(g, SWT.None, 0);
+		assertEquals(39 * 41 - 40, g.getSelectionCount());
+		assertEquals(items[1], g.getSelection()[0]);
+		assertFalse(inserted.equals(g.getSelection()[0]));
+
+		g.deselectAll();
+		assertEquals(0, g.getSelectionCount());
+		assertEquals(0, g.getSelection().length);
+		g.dispose();
+	}
+
+	public void testDeselectNotifiesLastSelected() {
+		NotifyingGallery g = new NotifyingGallery(s, SWT.V_SCROLL | SWT.MULTI);
+		g.setGroupRenderer(new DefaultGalleryGroupRenderer());
+		g.setItemRenderer(new DefaultGalleryItemRenderer());
+
+		GalleryItem groups[] = new GalleryItem[2];
+		GalleryItem subItems[][] = new GalleryItem[2][2];
+		for (int i = 0; i < 2; i++) {
+			groups[i] = new GalleryItem(g, SWT.None);
+			for (int j = 0; j < 2; j++) {
+				subItems[i][j] = new GalleryItem(groups[i], SWT.None);
+			}
+		}
+
+		final List<Widget> notified = new ArrayList<>();
+		g.addSelectionListener(new SelectionAdapter() {
+			public void widgetSelected(SelectionEvent e) {
+				notified.add(e.item);
+			}
+		});
+
+		// selected last but not last in the order of the items
+		g.setSelection(new GalleryItem[] { subItems[1][0], subItems[0][1],
+				subItems[0][0] });
+		assertEquals(subItems[1][0], g.getSelection()[2]);
+
+		g.deselectAndNotify(subItems[0][1]);
+		assertEquals(1, notified.size());
+		assertEquals(subItems[0][0], notified.get(0));
+
+		// once it is deselected, the last selected item in the order of the
+		// items is reported
+		g.deselectAndNotify(subItems[0][0]);
+		assertEquals(subItems[1][0], notified.get(1));
+		g.dispose();
+	}
+
+	private static class NotifyingGallery extends Gallery {
+		NotifyingGallery(Shell parent, int style) {
+			super(parent, style);
+		}
+
+		void deselectAndNotify(GalleryItem item) {
+			setSelected(item, false, true);
+		}
+	}
+
 	private Gallery createGallery(int flags) {
 		Gallery g = new Gallery(s, flags);
 
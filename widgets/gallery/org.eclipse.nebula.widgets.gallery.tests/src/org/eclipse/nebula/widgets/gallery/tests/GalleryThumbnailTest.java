@@ -0,0 +1,128 @@
+package org.eclipse.nebula.widgets.gallery.tests;
+
+import junit.framework.TestCase;
+
+import org.eclipse.nebula.widgets.gallery.Gallery;
+import org.eclipse.nebula.widgets.gallery.GalleryItem;
+import org.eclipse.nebula.widgets.gallery.IGalleryImageProvider;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Thumbnails of the image provider of the Gallery.
+ */
+public class GalleryThumbnailTest extends TestCase {
+	Display d = null;
+	Shell s = null;
+	private boolean createdDisplay = false;
+
+	private IGalleryImageProvider provider = new IGalleryImageProvider() {
+		public Object getImageKey(GalleryItem item) {
+			return item.getText();
+		}
+
+		public ImageData loadImageData(Object key, int width, int height) {
+			return new ImageData(200, 100, 24,
+					new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		}
+	};
+
+	protected void setUp() throws Exception {
+		d = Display.getCurrent();
+		if (d == null) {
+			d = new Display();
+			createdDisplay = true;
+		}
+		s = new Shell(d, SWT.NONE);
+		super.setUp();
+	}
+
+	protected void tearDown() throws Exception {
+		if (createdDisplay) {
+			d.dispose();
+		}
+		super.tearDown();
+	}
+
+	public void testThumbnailIsLoadedAndCached() {
+		Gallery g = createGallery();
+		GalleryItem item = createItem(g, "a");
+
+		assertNull(g.getThumbnail(item, 50, 50));
+
+		Image thumbnail = waitForThumbnail(g, item, 50, 50);
+		Rectangle bounds = thumbnail.getBounds();
+		assertEquals(50, bounds.width);
+		assertEquals(25, bounds.height);
+		assertSame(thumbnail, g.getThumbnail(item, 50, 50));
+
+		// Another size of the same image is drawn while loading
+		assertSame(thumbnail, g.getThumbnail(item, 80, 80));
+
+		g.dispose();
+		assertTrue(thumbnail.isDisposed());
+	}
+
+	public void testCacheSize() {
+		Gallery g = createGallery();
+		g.setThumbnailCacheSize(50 * 25);
+		GalleryItem item1 = createItem(g, "a");
+		GalleryItem item2 = createItem(g, "b");
+
+		Image thumbnail1 = waitForThumbnail(g, item1, 50, 50);
+		Image thumbnail2 = waitForThumbnail(g, item2, 50, 50);
+
+		assertTrue(thumbnail1.isDisposed());
+		assertFalse(thumbnail2.isDisposed());
+		g.dispose();
+	}
+
+	public void testNoProvider() {
+		Gallery g = createGallery();
+		GalleryItem item = createItem(g, "a");
+		waitForThumbnail(g, item, 50, 50);
+
+		g.setImageProvider(null);
+		assertNull(g.getImageProvider());
+		assertNull(g.getThumbnail(item, 50, 50));
+		g.dispose();
+	}
+
+	private Gallery createGallery() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL);
+		g.setImageProvider(provider);
+		return g;
+	}
+
+	private GalleryItem createItem(Gallery g, String text) {
+		GalleryItem group = g.getItemCount() == 0 ? new GalleryItem(g,
+				SWT.NONE) : g.getItem(0);
+		GalleryItem item = new GalleryItem(group, SWT.NONE);
+		item.setText(text);
+		return item;
+	}
+
+	private Image waitForThumbnail(Gallery g, GalleryItem item, int width,
+			int height) {
+		long end = System.currentTimeMillis() + 5000;
+		Image thumbnail = g.getThumbnail(item, width, height);
+		while ((thumbnail == null || thumbnail.getBounds().width > width)
+				&& System.currentTimeMillis() < end) {
+			if (!d.readAndDispatch()) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					break;
+				}
+			}
+			thumbnail = g.getThumbnail(item, width, height);
+		}
+		assertNotNull(thumbnail);
+		return thumbnail;
+	}
+}
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.gallery;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GC;
@@ -350,4 +351,41 @@ public abstract class AbstractGalleryItemRenderer {
 		return font;
 	}
 
+	/**
+	 * Returns the image to draw for the given GalleryItem : its own image or,
+	 * if it has none, the thumbnail of the image provider of the Gallery.
+	 * 
+	 * @see Gallery#setImageProvider(IGalleryImageProvider)
+	 * @param item
+	 * @param width
+	 *            maximum width the image will be drawn at
+	 * @param height
+	 *            maximum height the image will be drawn at
+	 * @return the Image to draw or null
+	 */
+	protected Image getImage(GalleryItem item, int width, int height) {
+		Image image = item.getImage();
+		if (image == null) {
+			image = gallery.getThumbnail(item, width, height);
+		}
+		return image;
+	}
+
+	/**
+	 * Draws the placeholder of an image which is not loaded yet by the image
+	 * provider of the Gallery.
+	 * 
+	 * @param gc
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 */
+	protected void drawImagePlaceholder(GC gc, int x, int y, int width,
+			int height) {
+		gc.setForeground(gallery.getDisplay()
+				.getSystemColor(SWT.COLOR_WIDGET_NORMAL_SHADOW));
+		gc.drawRectangle(x, y, width - 1, height - 1);
+	}
+
 }
@@ -131,7 +131,6 @@ public class DefaultGalleryItemRenderer extends AbstractGalleryItemRenderer {
 	 */
 	public void draw(GC gc, GalleryItem item, int index, int x, int y,
 			int width, int height) {
-		_drawImage = item.getImage();
 		_drawForegroundColor = getForeground(item);
 
 		// Set up the GC
@@ -146,6 +145,10 @@ public class DefaultGalleryItemRenderer extends AbstractGalleryItemRenderer {
 			useableHeight -= fontHeight + 2;
 		}
 
+		int maxImageWidth = width - 8 - 2 * this.dropShadowsSize;
+		int maxImageHeight = useableHeight - 8 - 2 * this.dropShadowsSize;
+		_drawImage = getImage(item, maxImageWidth, maxImageHeight);
+
 		int imageWidth = 0;
 		int imageHeight = 0;
 		int xShift = 0;
@@ -158,8 +161,7 @@ public class DefaultGalleryItemRenderer extends AbstractGalleryItemRenderer {
 			imageHeight = itemImageBounds.height;
 
 			size = RendererHelper.getBestSize(imageWidth, imageHeight,
-					width - 8 - 2 * this.dropShadowsSize,
-					useableHeight - 8 - 2 * this.dropShadowsSize);
+					maxImageWidth, maxImageHeight);
 
 			xShift = RendererHelper.getShift(width, size.x);
 			yShift = RendererHelper.getShift(useableHeight, size.y);
@@ -228,6 +230,12 @@ public class DefaultGalleryItemRenderer extends AbstractGalleryItemRenderer {
 				drawAllOverlays(gc, item, x, y, size, xShift, yShift);
 			}
 
+		} else if (gallery.getImageProvider() != null && maxImageWidth > 0
+				&& maxImageHeight > 0) {
+			drawImagePlaceholder(gc,
+					x + RendererHelper.getShift(width, maxImageWidth),
+					y + RendererHelper.getShift(useableHeight, maxImageHeight),
+					maxImageWidth, maxImageHeight);
 		}
 
 		// Draw label
@@ -25,6 +25,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.events.TreeListener;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Canvas;
@@ -105,13 +106,25 @@ public class Gallery extends Canvas {
 
 	GalleryItem[] items = null;
 
+	/**
+	 * Selected items, built from the selection flags when needed. Null if the
+	 * selection changed since it was built.
+	 */
 	private GalleryItem[] selection = null;
 
 	/**
-	 * Selection bit flags. Each 'int' contains flags for 32 items.
+	 * Selection bit flags. Each 'int' contains flags for 32 items. The flags
+	 * of the root items and of each group are the selection, see
+	 * {@link SelectionFlags}.
 	 */
 	protected int[] selectionFlags = null;
 
+	/**
+	 * The item selected last, reported to the selection listeners when
+	 * another item is deselected. Null if it was deselected since.
+	 */
+	GalleryItem lastSelected = null;
+
 	/**
 	 * Virtual mode flag.
 	 */
@@ -152,6 +165,14 @@ public class Gallery extends Canvas {
 
 	int lastIndexOf = 0;
 
+	/**
+	 * Start of each root item along the scrolling direction, as laid out by
+	 * the last layout, followed by the end of the last one. Visible root items
+	 * are looked up by binary search in the first groupOffsetCount + 1 values.
+	 */
+	private int[] groupOffsets = new int[1];
+	private int groupOffsetCount = 0;
+
 	/**
 	 * Keeps track of the last selected item. This is necessary to support
 	 * "Shift+Mouse button" where we have to select all items between the
@@ -177,6 +198,12 @@ public class Gallery extends Canvas {
 	protected int lastContentWidth = 0;
 	protected int higherQualityDelay = 500;
 
+	/**
+	 * Thumbnails of the images of the image provider. Created when a provider
+	 * is set.
+	 */
+	private GalleryThumbnailCache thumbnails;
+
 	/**
 	 * Keep track of processing the current mouse event.
 	 */
@@ -234,6 +261,9 @@ public class Gallery extends Canvas {
 		if (DEBUG)
 			System.out.println("setCount" + count); //$NON-NLS-1$
 
+		SelectionFlags.truncate(selectionFlags, count);
+		selection = null;
+
 		if (count == 0) {
 			// No items
 			items = null;
@@ -477,6 +507,96 @@ public class Gallery extends Canvas {
 		this.antialias = antialias;
 	}
 
+	/**
+	 * @see #setImageProvider(IGalleryImageProvider)
+	 * @return
+	 */
+	public IGalleryImageProvider getImageProvider() {
+		checkWidget();
+		return thumbnails == null ? null : thumbnails.getProvider();
+	}
+
+	/**
+	 * Set the provider of the images of items which have no image of their
+	 * own. Images are decoded in background threads, at the size they are
+	 * drawn at, and kept in a cache of thumbnails. Renderers draw a
+	 * placeholder while a thumbnail is loading.
+	 * 
+	 * @see #getThumbnail(GalleryItem, int, int)
+	 * @see #setThumbnailCacheSize(int)
+	 * @param imageProvider
+	 *            the provider, or null to only draw item images.
+	 */
+	public void setImageProvider(IGalleryImageProvider imageProvider) {
+		checkWidget();
+		if (thumbnails == null) {
+			if (imageProvider == null)
+				return;
+			thumbnails = new GalleryThumbnailCache(this);
+		}
+		thumbnails.setProvider(imageProvider);
+		redraw();
+	}
+
+	/**
+	 * @see #setThumbnailCacheSize(int)
+	 * @return
+	 */
+	public int getThumbnailCacheSize() {
+		checkWidget();
+		return thumbnails == null ? GalleryThumbnailCache.DEFAULT_SIZE
+				: thumbnails.getSize();
+	}
+
+	/**
+	 * Set the maximum number of pixels of all cached thumbnails. The least
+	 * recently drawn thumbnails are disposed first. Default is 16M pixels.
+	 * 
+	 * @param pixels
+	 */
+	public void setThumbnailCacheSize(int pixels) {
+		checkWidget();
+		if (thumbnails == null)
+			thumbnails = new GalleryThumbnailCache(this);
+		thumbnails.setSize(pixels);
+	}
+
+	/**
+	 * Get the thumbnail of an item from the image provider. This method is
+	 * intended for item renderers. If the thumbnail is not available yet, it is
+	 * loaded in the background and the item is redrawn once it is ready.
+	 * <p>
+	 * The returned image belongs to the gallery and must not be disposed or
+	 * kept after the paint.
+	 * </p>
+	 * 
+	 * @param item
+	 * @param width
+	 *            maximum width of the thumbnail
+	 * @param height
+	 *            maximum height of the thumbnail
+	 * @return the thumbnail, a thumbnail of another size while it is loading,
+	 *         or null if there is none yet.
+	 */
+	public Image getThumbnail(GalleryItem item, int width, int height) {
+		checkWidget();
+		if (thumbnails == null)
+			return null;
+		return thumbnails.get(item, width, height);
+	}
+
+	/**
+	 * Dispose all cached thumbnails, for instance when the source images have
+	 * changed. They are loaded again on the next redraw.
+	 */
+	public void clearThumbnails() {
+		checkWidget();
+		if (thumbnails != null) {
+			thumbnails.clear();
+			redraw();
+		}
+	}
+
 	/**
 	 * Send a selection event for a gallery item
 	 * 
@@ -723,12 +843,23 @@ public class Gallery extends Canvas {
 	}
 
 	private void select(int from, int to) {
-		for (int i = from; i <= to; i++) {
-			GalleryItem item = getItem(i);
-			this._addSelection(item);
-			item._selectAll();
+		if (!multi) {
+			// Single selection : each item replaces the previous one.
+			for (int i = from; i <= to; i++) {
+				GalleryItem item = getItem(i);
+				this._addSelection(item);
+				item._selectAll();
+			}
+			return;
+		}
 
+		selectionFlags = SelectionFlags.set(selectionFlags, from, to,
+				getItemCount());
+		for (int i = from; i <= to; i++) {
+			getItem(i)._selectAll();
 		}
+		lastSelected = getItem(to);
+		selectionChanged();
 	}
 
 	private void select(GalleryItem from, GalleryItem to) {
@@ -825,9 +956,13 @@ public class Gallery extends Canvas {
 
 			if (item != null && selected) {
 				notifiedItem = item;
+			} else if (lastSelected != null && isSelected(lastSelected)) {
+				notifiedItem = lastSelected;
 			} else {
-				if (selection != null && selection.length > 0) {
-					notifiedItem = selection[selection.length - 1];
+				GalleryItem[] currentSelection = getSelection();
+				if (currentSelection.length > 0) {
+					notifiedItem = currentSelection[currentSelection.length
+							- 1];
 				}
 			}
 
@@ -857,59 +992,39 @@ public class Gallery extends Canvas {
 		if (item.getParentItem() != null) {
 			item.getParentItem()._addSelection(item);
 		} else {
-			int index = indexOf(item);
-
-			// Divide position by 32 to get selection bloc for this item.
-			int n = index >> 5;
-			if (selectionFlags == null) {
-				// Create selectionFlag array
-				// Add 31 before dividing by 32 to ensure at least one 'int' is
-				// created if size < 32.
-				selectionFlags = new int[(items.length + 31) >> 5];
-			} else if (n >= selectionFlags.length) {
-				// Expand selectionArray
-				int[] oldFlags = selectionFlags;
-				selectionFlags = new int[n + 1];
-				System.arraycopy(oldFlags, 0, selectionFlags, 0,
-						oldFlags.length);
-			}
-
-			// Get flag position in the 32 bit block and ensure is selected.
-			selectionFlags[n] |= 1 << (index & 0x1f);
-
-		}
-
-		if (selection == null) {
-			selection = new GalleryItem[1];
-		} else {
-			GalleryItem[] oldSelection = selection;
-			selection = new GalleryItem[oldSelection.length + 1];
-			System.arraycopy(oldSelection, 0, selection, 0,
-					oldSelection.length);
+			selectionFlags = SelectionFlags.set(selectionFlags, indexOf(item),
+					items.length);
 		}
-		selection[selection.length - 1] = item;
 
+		lastSelected = item;
+		selectionChanged();
 	}
 
 	private void _removeSelection(GalleryItem item) {
+		if (item == lastSelected)
+			lastSelected = null;
 
 		if (item.getParentItem() == null) {
-			int index = _indexOf(item);
-			selectionFlags[index >> 5] &= ~(1 << (index & 0x1f));
+			SelectionFlags.clear(selectionFlags, _indexOf(item));
 		} else
 			_removeSelection(item.getParentItem(), item);
 
-		int index = _arrayIndexOf(selection, item);
-		if (index == -1)
-			return;
-
-		selection = (GalleryItem[]) _arrayRemoveItem(selection, index);
-
+		selectionChanged();
 	}
 
 	protected void _removeSelection(GalleryItem parent, GalleryItem item) {
-		int index = _indexOf(parent, item);
-		parent.selectionFlags[index >> 5] &= ~(1 << (index & 0x1f));
+		if (item == lastSelected)
+			lastSelected = null;
+		SelectionFlags.clear(parent.selectionFlags, _indexOf(parent, item));
+		selectionChanged();
+	}
+
+	/**
+	 * Called when the selection flags of the gallery or of a group have
+	 * changed.
+	 */
+	void selectionChanged() {
+		selection = null;
 	}
 
 	protected boolean isSelected(GalleryItem item) {
@@ -924,13 +1039,7 @@ public class Gallery extends Canvas {
 		if (selectionFlags == null)
 			return false;
 
-		int index = indexOf(item);
-		int n = index >> 5;
-		if (n >= selectionFlags.length)
-			return false;
-		int flags = selectionFlags[n];
-		return flags != 0 && (flags & 1 << (index & 0x1f)) != 0;
-
+		return SelectionFlags.get(selectionFlags, indexOf(item));
 	}
 
 	/**
@@ -955,14 +1064,13 @@ public class Gallery extends Canvas {
 		if (DEBUG)
 			System.out.println("clear"); //$NON-NLS-1$
 
-		this.selection = null;
+		selectionChanged();
+		lastSelected = null;
 		// Deselect groups
 		// We could set selectionFlags to null, but we rather set all values to
 		// 0 to redure garbage collection. On each iteration, we deselect 32
 		// items.
-		if (selectionFlags != null)
-			for (int i = 0; i < selectionFlags.length; i++)
-				selectionFlags[i] = 0;
+		SelectionFlags.clear(selectionFlags);
 
 		if (items == null)
 			return;
@@ -1028,6 +1136,8 @@ public class Gallery extends Canvas {
 		if (groupRenderer != null)
 			groupRenderer.dispose();
 
+		if (thumbnails != null)
+			thumbnails.dispose();
 	}
 
 	void onMouseDown(Event e) {
@@ -1181,9 +1291,18 @@ public class Gallery extends Canvas {
 			drawBackground(gc, clipping.x, clipping.y, clipping.width,
 					clipping.height);
 
-			int[] indexes = getVisibleItems(clipping);
+			if (thumbnails != null)
+				thumbnails.paintStarted();
+
+			// Visible root items
+			int start = vertical ? (clipping.y + translate)
+					: (clipping.x + translate);
+			int end = vertical ? (clipping.y + clipping.height + translate)
+					: (clipping.x + clipping.width + translate);
+			int first = getGroupIndexFrom(start);
+			int last = getGroupIndexAfter(end) - 1;
 
-			if (indexes != null && indexes.length > 0) {
+			if (first <= last) {
 
 				// Call preDraw for optimization
 				if (groupRenderer != null)
@@ -1191,11 +1310,11 @@ public class Gallery extends Canvas {
 				if (itemRenderer != null)
 					itemRenderer.preDraw(gc);
 
-				for (int i = indexes.length - 1; i >= 0; i--) {
+				for (int i = last; i >= first; i--) {
 					if (DEBUG)
-						System.out.println("Drawing group " + indexes[i]); //$NON-NLS-1$
+						System.out.println("Drawing group " + i); //$NON-NLS-1$
 
-					_drawGroup(gc, indexes[i]);
+					_drawGroup(gc, i);
 				}
 
 				// Call postDraw for optimization / cleanup
@@ -1204,6 +1323,10 @@ public class Gallery extends Canvas {
 				if (itemRenderer != null)
 					itemRenderer.postDraw(gc);
 			}
+
+			// Cancel the loading of thumbnails scrolled away
+			if (thumbnails != null)
+				thumbnails.paintEnded();
 		} catch (Exception e) {
 			// We can't let onPaint throw an exception because unexpected
 			// results may occur in SWT.
@@ -1233,42 +1356,82 @@ public class Gallery extends Canvas {
 		}
 	};
 
-	private int[] getVisibleItems(Rectangle clipping) {
+	/**
+	 * Returns the index of the first root item which ends at or after the
+	 * given position, or the item count if there is none. Positions are along
+	 * the scrolling direction and include the current translation.
+	 * 
+	 * @param pos
+	 * @return
+	 */
+	private int getGroupIndexFrom(int pos) {
+		validateGroupOffsets();
 
-		if (items == null)
-			return null;
+		int low = 0;
+		int high = groupOffsetCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (groupOffsets[mid + 1] < pos) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first root item which starts after the given
+	 * position, or the item count if there is none.
+	 * 
+	 * @param pos
+	 * @return
+	 */
+	private int getGroupIndexAfter(int pos) {
+		validateGroupOffsets();
 
-		int start = vertical ? (clipping.y + translate)
-				: (clipping.x + translate);
+		int low = 0;
+		int high = groupOffsetCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (groupOffsets[mid] <= pos) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
 
-		int end = vertical ? (clipping.y + clipping.height + translate)
-				: (clipping.x + clipping.width + translate);
+	/**
+	 * Rebuild the root item offsets from the current item locations if root
+	 * items were added or removed since the last layout.
+	 */
+	private void validateGroupOffsets() {
+		int count = items == null ? 0 : items.length;
+		if (groupOffsetCount == count)
+			return;
 
-		ArrayList<Integer> al = new ArrayList<>();
-		int index = 0;
+		ensureGroupOffsetsCapacity(count);
 		GalleryItem item = null;
-		while (index < items.length) {
+		for (int i = 0; i < count; i++) {
 			if (virtualGroups) {
-				item = _getItem(index, false);
+				item = _getItem(i, false);
 			} else {
-				item = _getItem(index);
+				item = _getItem(i);
 			}
-			if ((vertical ? item.y : item.x) > end)
-				break;
-
-			if ((vertical ? (item.y + item.height)
-					: (item.x + item.width)) >= start)
-				al.add(new Integer(index));
-
-			index++;
+			groupOffsets[i] = vertical ? item.y : item.x;
+			groupOffsets[i + 1] = vertical ? (item.y + item.height)
+					: (item.x + item.width);
 		}
+		groupOffsetCount = count;
+	}
 
-		int[] result = new int[al.size()];
-
-		for (int i = 0; i < al.size(); i++)
-			result[i] = ((Integer) al.get(i)).intValue();
-
-		return result;
+	private void ensureGroupOffsetsCapacity(int count) {
+		if (groupOffsets.length < count + 1) {
+			groupOffsets = new int[Math.max(count + 1,
+					groupOffsets.length * 2)];
+		}
 	}
 
 	/**
@@ -1520,8 +1683,10 @@ public class Gallery extends Canvas {
 		int currentHeight = 0;
 
 		int mainItemCount = getItemCount();
+		ensureGroupOffsetsCapacity(mainItemCount);
 
 		for (int i = 0; i < mainItemCount; i++) {
+			groupOffsets[i] = currentHeight;
 			GalleryItem item = null;
 			if (virtualGroups) {
 				item = this._getItem(i, false);
@@ -1565,6 +1730,9 @@ public class Gallery extends Canvas {
 
 		groupRenderer.postLayout(null);
 
+		groupOffsets[mainItemCount] = currentHeight;
+		groupOffsetCount = mainItemCount;
+
 		return currentHeight;
 	}
 
@@ -1706,6 +1874,11 @@ public class Gallery extends Canvas {
 	private void _addItem(GalleryItem item, int position) {
 		// Insert item
 		items = (GalleryItem[]) _arrayAddItem(items, item, position);
+		if (position != -1) {
+			selectionFlags = SelectionFlags.insert(selectionFlags, position,
+					items.length);
+			selectionChanged();
+		}
 
 		// Update Gallery
 		updateStructuralValues(null, false);
@@ -1851,20 +2024,9 @@ public class Gallery extends Canvas {
 
 		int pos = vertical ? (coords.y + translate) : (coords.x + translate);
 
-		int index = 0;
-		GalleryItem item = null;
-		while (index < items.length) {
-			item = getItem(index);
-
-			if ((vertical ? item.y : item.x) > pos)
-				break;
-
-			if ((vertical ? (item.y + item.height)
-					: (item.x + item.width)) >= pos)
-				return item;
-
-			index++;
-		}
+		int index = getGroupIndexFrom(pos);
+		if (index < groupOffsetCount && groupOffsets[index] <= pos)
+			return getItem(index);
 
 		return null;
 	}
@@ -2250,19 +2412,53 @@ public class Gallery extends Canvas {
 		this.redraw();
 	}
 
+	/**
+	 * Returns the selected items, in the order of the items : each root item
+	 * comes before its own selected children. This is not the order in which
+	 * the items were selected.
+	 * 
+	 * @return
+	 */
 	public GalleryItem[] getSelection() {
 		if (selection == null) {
-			return new GalleryItem[0];
+			selection = buildSelection();
 		}
 
 		return selection;
 	}
 
+	private GalleryItem[] buildSelection() {
+		ArrayList<GalleryItem> result = new ArrayList<>();
+		int itemCount = getItemCount();
+		for (int i = 0; i < itemCount; i++) {
+			if (SelectionFlags.get(selectionFlags, i))
+				result.add(_getItem(i));
+
+			// Uninitialized groups have no selected children.
+			GalleryItem group = items[i];
+			if (group == null || group.selectionFlags == null)
+				continue;
+
+			int j = SelectionFlags.nextSetBit(group.selectionFlags, 0);
+			while (j != -1 && j < group.getItemCount()) {
+				result.add(_getItem(group, j));
+				j = SelectionFlags.nextSetBit(group.selectionFlags, j + 1);
+			}
+		}
+		return result.toArray(new GalleryItem[result.size()]);
+	}
+
 	public int getSelectionCount() {
-		if (selection == null)
-			return 0;
+		if (selection != null)
+			return selection.length;
 
-		return selection.length;
+		int count = SelectionFlags.count(selectionFlags);
+		int itemCount = getItemCount();
+		for (int i = 0; i < itemCount; i++) {
+			if (items[i] != null)
+				count += SelectionFlags.count(items[i].selectionFlags);
+		}
+		return count;
 	}
 
 	/**
@@ -2337,6 +2533,8 @@ public class Gallery extends Canvas {
 		}
 
 		this.items = (GalleryItem[]) this._arrayRemoveItem(this.items, index);
+		SelectionFlags.remove(selectionFlags, index);
+		selectionChanged();
 	}
 
 	protected void _remove(GalleryItem parent, int index) {
@@ -2346,6 +2544,8 @@ public class Gallery extends Canvas {
 
 		parent.items = (GalleryItem[]) this._arrayRemoveItem(parent.items,
 				index);
+		SelectionFlags.remove(parent.selectionFlags, index);
+		selectionChanged();
 	}
 
 	protected Object[] _arrayRemoveItem(Object[] array, int index) {
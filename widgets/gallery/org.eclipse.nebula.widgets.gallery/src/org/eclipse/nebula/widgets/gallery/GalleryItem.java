@@ -188,6 +188,11 @@ public class GalleryItem extends Item {
 
 		// Insert item
 		items = (GalleryItem[]) parent._arrayAddItem(items, item, position);
+		if (position != -1) {
+			selectionFlags = SelectionFlags.insert(selectionFlags, position,
+					items.length);
+			parent.selectionChanged();
+		}
 
 		// Update Gallery
 		parent.updateStructuralValues(null, false);
@@ -214,6 +219,9 @@ public class GalleryItem extends Item {
 	 * @param itemCount
 	 */
 	public void setItemCount(int count) {
+		SelectionFlags.truncate(selectionFlags, count);
+		parent.selectionChanged();
+
 		if (count == 0) {
 			// No items
 			items = null;
@@ -338,9 +346,8 @@ public class GalleryItem extends Item {
 		// We could set selectionFlags to null, but we rather set all values to
 		// 0 to redure garbage collection. On each iteration, we deselect 32
 		// items.
-		if (selectionFlags != null)
-			for (int i = 0; i < selectionFlags.length; i++)
-				selectionFlags[i] = 0;
+		SelectionFlags.clear(selectionFlags);
+		parent.selectionChanged();
 
 		if (items == null)
 			return;
@@ -359,27 +366,9 @@ public class GalleryItem extends Item {
 		}
 
 		if (item.getParentItem() == this) {
-
-			int index = indexOf(item);
-
-			// Divide position by 32 to get selection bloc for this item.
-			int n = index >> 5;
-			if (selectionFlags == null) {
-				// Create selectionFlag array
-				// Add 31 before dividing by 32 to ensure at least one 'int' is
-				// created if size < 32.
-				selectionFlags = new int[(items.length + 31) >> 5];
-			} else if (n >= selectionFlags.length) {
-				// Expand selectionArray
-				int[] oldFlags = selectionFlags;
-				selectionFlags = new int[n + 1];
-				System.arraycopy(oldFlags, 0, selectionFlags, 0,
-						oldFlags.length);
-			}
-
-			// Get flag position in the 32 bit block and ensure is selected.
-			selectionFlags[n] |= 1 << (index & 0x1f);
-
+			selectionFlags = SelectionFlags.set(selectionFlags, indexOf(item),
+					items.length);
+			parent.selectionChanged();
 		}
 	}
 
@@ -391,12 +380,7 @@ public class GalleryItem extends Item {
 			if (selectionFlags == null)
 				return false;
 
-			int index = indexOf(item);
-			int n = index >> 5;
-			if (n >= selectionFlags.length)
-				return false;
-			int flags = selectionFlags[n];
-			return flags != 0 && (flags & 1 << (index & 0x1f)) != 0;
+			return SelectionFlags.get(selectionFlags, indexOf(item));
 		}
 		return false;
 	}
@@ -405,11 +389,25 @@ public class GalleryItem extends Item {
 		if (Gallery.DEBUG)
 			System.out.println("GalleryItem.select(  " + from + "," + to + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
+		if (!parent.multi) {
+			// Single selection : each item replaces the previous one.
+			for (int i = from; i <= to; i++) {
+				GalleryItem item = getItem(i);
+				parent._addSelection(item);
+				item._selectAll();
+			}
+			return;
+		}
+
+		// Items which are not initialized yet have no children to select.
+		selectionFlags = SelectionFlags.set(selectionFlags, from, to,
+				getItemCount());
 		for (int i = from; i <= to; i++) {
-			GalleryItem item = getItem(i);
-			parent._addSelection(item);
-			item._selectAll();
+			if (items[i] != null && items[i].items != null)
+				items[i]._selectAll();
 		}
+		parent.lastSelected = getItem(to);
+		parent.selectionChanged();
 	}
 
 	/**
@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.gallery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * <p>
+ * Thumbnails of the images of an {@link IGalleryImageProvider}, keyed by
+ * source and size.
+ * </p>
+ * <p>
+ * Missing thumbnails are decoded on a small pool of background threads and
+ * created on the UI thread, which then redraws the items waiting for them.
+ * Requests for items which are no longer visible at the end of a paint are
+ * cancelled. Thumbnails are kept in a least recently used order and the oldest
+ * ones are disposed once their total number of pixels exceeds the cache size.
+ * </p>
+ * <p>
+ * All methods must be called on the UI thread.
+ * </p>
+ */
+final class GalleryThumbnailCache {
+
+	/**
+	 * Default cache size in pixels : about 64 MB of 32 bits images.
+	 */
+	static final int DEFAULT_SIZE = 16 * 1024 * 1024;
+
+	private static final String THREAD_NAME = "Gallery thumbnail loader"; //$NON-NLS-1$
+
+	private static final int KEEP_ALIVE_SECONDS = 10;
+
+	private final Gallery gallery;
+
+	private final Display display;
+
+	private IGalleryImageProvider provider;
+
+	private int maxPixels = DEFAULT_SIZE;
+
+	private long pixels;
+
+	// Access ordered : the first thumbnail is the least recently drawn.
+	private final LinkedHashMap<Key, Image> thumbnails = new LinkedHashMap<>(
+			64, 0.75f, true);
+
+	// Latest thumbnail of each source, drawn while another size is loading.
+	private final Map<Object, Key> latest = new HashMap<>();
+
+	private final Map<Key, Request> pending = new HashMap<>();
+
+	private final HashSet<Key> failed = new HashSet<>();
+
+	private ThreadPoolExecutor executor;
+
+	private int paint;
+
+	GalleryThumbnailCache(Gallery gallery) {
+		this.gallery = gallery;
+		this.display = gallery.getDisplay();
+	}
+
+	IGalleryImageProvider getProvider() {
+		return provider;
+	}
+
+	/**
+	 * Set the provider and drop all thumbnails of the previous one.
+	 * 
+	 * @param provider
+	 */
+	void setProvider(IGalleryImageProvider provider) {
+		clear();
+		this.provider = provider;
+	}
+
+	int getSize() {
+		return maxPixels;
+	}
+
+	/**
+	 * Set the maximum number of pixels of all thumbnails. The least recently
+	 * drawn thumbnails are disposed until the cache fits.
+	 * 
+	 * @param pixels
+	 */
+	void setSize(int pixels) {
+		this.maxPixels = pixels;
+		evict();
+	}
+
+	/**
+	 * Returns the thumbnail of an item, requesting it if it is missing.
+	 * 
+	 * @param item
+	 * @param width
+	 *            maximum width of the thumbnail
+	 * @param height
+	 *            maximum height of the thumbnail
+	 * @return the thumbnail, a thumbnail of the same source at another size if
+	 *         it is still loading, or null.
+	 */
+	Image get(GalleryItem item, int width, int height) {
+		if (provider == null || width <= 0 || height <= 0)
+			return null;
+
+		Object source = provider.getImageKey(item);
+		if (source == null)
+			return null;
+
+		Key key = new Key(source, width, height);
+		Image image = thumbnails.get(key);
+		if (image != null)
+			return image;
+
+		if (!failed.contains(key))
+			request(key, item);
+
+		Key other = latest.get(source);
+		return other == null ? null : thumbnails.get(other);
+	}
+
+	private void request(Key key, GalleryItem item) {
+		Request request = pending.get(key);
+		if (request == null) {
+			final Request newRequest = new Request(key, provider);
+			newRequest.future = getExecutor().submit(() -> load(newRequest));
+			pending.put(key, newRequest);
+			request = newRequest;
+		}
+		if (!request.items.contains(item))
+			request.items.add(item);
+		request.paint = paint;
+	}
+
+	private ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			int threads = Math.max(1, Math.min(4,
+					Runtime.getRuntime().availableProcessors() - 1));
+			executor = new ThreadPoolExecutor(threads, threads,
+					KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), runnable -> {
+						Thread thread = new Thread(runnable, THREAD_NAME);
+						thread.setDaemon(true);
+						thread.setPriority(Thread.MIN_PRIORITY);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+		}
+		return executor;
+	}
+
+	/**
+	 * Decode an image. Runs on a background thread.
+	 */
+	private void load(Request request) {
+		if (request.cancelled)
+			return;
+
+		ImageData data = null;
+		try {
+			data = request.provider.loadImageData(request.key.source,
+					request.key.width, request.key.height);
+		} catch (RuntimeException e) {
+			// Same as an image which cannot be loaded.
+			e.printStackTrace();
+		}
+
+		if (data != null && (data.width > request.key.width
+				|| data.height > request.key.height)) {
+			Point size = RendererHelper.getBestSize(data.width, data.height,
+					request.key.width, request.key.height);
+			data = data.scaledTo(Math.max(1, size.x), Math.max(1, size.y));
+		}
+
+		if (request.cancelled || display.isDisposed())
+			return;
+
+		final ImageData loaded = data;
+		try {
+			display.asyncExec(() -> loaded(request, loaded));
+		} catch (SWTException e) {
+			// Display disposed in the meantime.
+		}
+	}
+
+	/**
+	 * Create the thumbnail of a decoded image and redraw the items waiting for
+	 * it.
+	 */
+	private void loaded(Request request, ImageData data) {
+		if (pending.get(request.key) != request)
+			return;
+		pending.remove(request.key);
+
+		if (data == null) {
+			failed.add(request.key);
+		} else {
+			put(request.key, new Image(display, data));
+		}
+
+		for (GalleryItem item : request.items) {
+			if (!item.isDisposed())
+				gallery.redraw(item);
+		}
+	}
+
+	private void put(Key key, Image image) {
+		Image previous = thumbnails.put(key, image);
+		if (previous != null)
+			remove(key, previous);
+
+		Rectangle bounds = image.getBounds();
+		pixels += (long) bounds.width * bounds.height;
+		latest.put(key.source, key);
+		evict();
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<Key, Image>> i = thumbnails.entrySet().iterator();
+		while (pixels > maxPixels && thumbnails.size() > 1 && i.hasNext()) {
+			Map.Entry<Key, Image> entry = i.next();
+			i.remove();
+			remove(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void remove(Key key, Image image) {
+		Rectangle bounds = image.getBounds();
+		pixels -= (long) bounds.width * bounds.height;
+		image.dispose();
+		if (key.equals(latest.get(key.source)))
+			latest.remove(key.source);
+	}
+
+	/**
+	 * Start of a paint of the gallery.
+	 */
+	void paintStarted() {
+		paint++;
+	}
+
+	/**
+	 * End of a paint of the gallery : cancel requests of items which were not
+	 * drawn and are no longer visible.
+	 */
+	void paintEnded() {
+		if (pending.isEmpty())
+			return;
+
+		Rectangle area = gallery.getClientArea();
+		Iterator<Request> i = pending.values().iterator();
+		while (i.hasNext()) {
+			Request request = i.next();
+			if (request.paint == paint)
+				continue;
+
+			request.items.removeIf(item -> !isVisible(item, area));
+			if (request.items.isEmpty()) {
+				request.cancel();
+				i.remove();
+			}
+		}
+	}
+
+	private boolean isVisible(GalleryItem item, Rectangle area) {
+		if (item.isDisposed())
+			return false;
+
+		GalleryItem group = item.getParentItem();
+		if (group != null && !group.isExpanded())
+			return false;
+
+		return item.getBounds().intersects(area);
+	}
+
+	/**
+	 * Cancel all requests and dispose all thumbnails.
+	 */
+	void clear() {
+		for (Request request : pending.values()) {
+			request.cancel();
+		}
+		pending.clear();
+
+		for (Image image : thumbnails.values()) {
+			image.dispose();
+		}
+		thumbnails.clear();
+		latest.clear();
+		failed.clear();
+		pixels = 0;
+	}
+
+	void dispose() {
+		clear();
+		provider = null;
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	private static final class Key {
+		final Object source;
+
+		final int width;
+
+		final int height;
+
+		Key(Object source, int width, int height) {
+			this.source = source;
+			this.width = width;
+			this.height = height;
+		}
+
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return width == other.width && height == other.height
+					&& source.equals(other.source);
+		}
+
+		public int hashCode() {
+			return (source.hashCode() * 31 + width) * 31 + height;
+		}
+	}
+
+	private static final class Request {
+		final Key key;
+
+		final IGalleryImageProvider provider;
+
+		final List<GalleryItem> items = new ArrayList<>(1);
+
+		Future<?> future;
+
+		int paint;
+
+		volatile boolean cancelled;
+
+		Request(Key key, IGalleryImageProvider provider) {
+			this.key = key;
+			this.provider = provider;
+		}
+
+		void cancel() {
+			cancelled = true;
+			future.cancel(false);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.gallery;
+
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * <p>
+ * Provides the images of gallery items which have no image of their own. The
+ * images are decoded on background threads and only kept as thumbnails of the
+ * size they are drawn at, so that galleries of many large pictures neither
+ * block the UI thread nor hold every picture in memory.
+ * </p>
+ * 
+ * @see Gallery#setImageProvider(IGalleryImageProvider)
+ */
+public interface IGalleryImageProvider {
+
+	/**
+	 * Returns the key of the source image of an item, for instance its file
+	 * path. Items with equal keys share their thumbnails. Called on the UI
+	 * thread.
+	 * 
+	 * @param item
+	 * @return the key, or null if the item has no image
+	 */
+	Object getImageKey(GalleryItem item);
+
+	/**
+	 * Decodes the source image of a key. Called on a background thread : it
+	 * must not access widgets.
+	 * <p>
+	 * The image will be drawn within <code>width</code> x <code>height</code>
+	 * pixels. Implementations should subsample while decoding when they can;
+	 * image data which is still larger is scaled down before it is cached.
+	 * </p>
+	 * 
+	 * @param key
+	 *            key returned by {@link #getImageKey(GalleryItem)}
+	 * @param width
+	 *            maximum width the image will be drawn at
+	 * @param height
+	 *            maximum height the image will be drawn at
+	 * @return the image data, or null if the image cannot be loaded
+	 */
+	ImageData loadImageData(Object key, int width, int height);
+}
@@ -124,12 +124,14 @@ public class ListItemRenderer extends AbstractGalleryItemRenderer {
 	public void draw(GC gc, GalleryItem item, int index, int x, int y,
 			int width, int height) {
 
-		Image itemImage = item.getImage();
 		Color itemBackgroundColor = item.getBackground();
 		Color itemForegroundColor = item.getForeground();
 
 		int useableHeight = height;
 
+		int maxImageSize = useableHeight - 4 - this.dropShadowsSize;
+		Image itemImage = getImage(item, maxImageSize, maxImageSize);
+
 		int imageWidth = 0;
 		int imageHeight = 0;
 		int xShift = 0;
@@ -142,8 +144,7 @@ public class ListItemRenderer extends AbstractGalleryItemRenderer {
 			imageHeight = itemImageBounds.height;
 
 			size = RendererHelper.getBestSize(imageWidth, imageHeight,
-					useableHeight - 4 - this.dropShadowsSize,
-					useableHeight - 4 - this.dropShadowsSize);
+					maxImageSize, maxImageSize);
 
 			xShift = ((useableHeight - size.x) >> 1) + 2;
 			yShift = (useableHeight - size.y) >> 1;
@@ -189,6 +190,10 @@ public class ListItemRenderer extends AbstractGalleryItemRenderer {
 						x + xShift, y + yShift, size.x, size.y);
 				drawAllOverlays(gc, item, x, y, size, xShift, yShift);
 			}
+		} else if (gallery.getImageProvider() != null && maxImageSize > 0) {
+			drawImagePlaceholder(gc, x + ((useableHeight - maxImageSize) >> 1)
+					+ 2, y + ((useableHeight - maxImageSize) >> 1),
+					maxImageSize, maxImageSize);
 		}
 
 		if (item.getText() != null && !EMPTY_STRING.equals(item.getText())
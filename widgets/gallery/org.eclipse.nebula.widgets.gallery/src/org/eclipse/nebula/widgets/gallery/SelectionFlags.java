@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.gallery;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Operations on the selection bit flags of {@link Gallery} and
+ * {@link GalleryItem}. Each 'int' contains flags for 32 items, bit
+ * <code>index & 0x1f</code> of int <code>index >> 5</code> being set if the
+ * item at <code>index</code> is selected. A null array selects nothing.
+ * </p>
+ * <p>
+ * Ranges are set and items are inserted or removed 32 flags at a time.
+ * Methods which may need a larger array return the array to use from now on.
+ * </p>
+ */
+final class SelectionFlags {
+
+	private SelectionFlags() {
+	}
+
+	/**
+	 * Returns true if the flag of the item at index is set.
+	 */
+	static boolean get(int[] flags, int index) {
+		if (flags == null)
+			return false;
+
+		int n = index >> 5;
+		if (n >= flags.length)
+			return false;
+
+		return (flags[n] & 1 << (index & 0x1f)) != 0;
+	}
+
+	/**
+	 * Sets the flag of the item at index.
+	 * 
+	 * @param size
+	 *            item count, used to size a new array
+	 */
+	static int[] set(int[] flags, int index, int size) {
+		flags = ensureCapacity(flags, Math.max(index + 1, size));
+		flags[index >> 5] |= 1 << (index & 0x1f);
+		return flags;
+	}
+
+	/**
+	 * Sets the flags of the items from <code>from</code> to <code>to</code>
+	 * (inclusive).
+	 * 
+	 * @param size
+	 *            item count, used to size a new array
+	 */
+	static int[] set(int[] flags, int from, int to, int size) {
+		if (from > to)
+			return flags;
+
+		flags = ensureCapacity(flags, Math.max(to + 1, size));
+
+		int first = from >> 5;
+		int last = to >> 5;
+		int firstMask = -1 << (from & 0x1f);
+		int lastMask = -1 >>> (31 - (to & 0x1f));
+
+		if (first == last) {
+			flags[first] |= firstMask & lastMask;
+		} else {
+			flags[first] |= firstMask;
+			Arrays.fill(flags, first + 1, last, -1);
+			flags[last] |= lastMask;
+		}
+		return flags;
+	}
+
+	/**
+	 * Clears the flag of the item at index.
+	 */
+	static void clear(int[] flags, int index) {
+		if (flags == null)
+			return;
+
+		int n = index >> 5;
+		if (n < flags.length)
+			flags[n] &= ~(1 << (index & 0x1f));
+	}
+
+	/**
+	 * Clears all flags. The array is kept to reduce garbage collection.
+	 */
+	static void clear(int[] flags) {
+		if (flags != null)
+			Arrays.fill(flags, 0);
+	}
+
+	/**
+	 * Clears the flags of the items from <code>size</code>, after the item
+	 * count went down to size.
+	 */
+	static void truncate(int[] flags, int size) {
+		if (flags == null)
+			return;
+
+		int n = size >> 5;
+		if (n >= flags.length)
+			return;
+
+		flags[n] &= (1 << (size & 0x1f)) - 1;
+		Arrays.fill(flags, n + 1, flags.length, 0);
+	}
+
+	/**
+	 * Moves the flags of the items from index one position up, after an
+	 * unselected item was inserted at index.
+	 * 
+	 * @param size
+	 *            item count, including the inserted item
+	 */
+	static int[] insert(int[] flags, int index, int size) {
+		if (flags == null)
+			return null;
+
+		flags = ensureCapacity(flags, size);
+
+		int n = index >> 5;
+		if (n >= flags.length)
+			return flags;
+
+		for (int i = flags.length - 1; i > n; i--) {
+			flags[i] = flags[i] << 1 | flags[i - 1] >>> 31;
+		}
+
+		int lowMask = (1 << (index & 0x1f)) - 1;
+		flags[n] = flags[n] & lowMask | (flags[n] & ~lowMask) << 1;
+		return flags;
+	}
+
+	/**
+	 * Moves the flags of the items after index one position down, after the
+	 * item at index was removed.
+	 */
+	static void remove(int[] flags, int index) {
+		if (flags == null)
+			return;
+
+		int n = index >> 5;
+		if (n >= flags.length)
+			return;
+
+		int lowMask = (1 << (index & 0x1f)) - 1;
+		flags[n] = flags[n] & lowMask | (flags[n] >>> 1 & ~lowMask);
+
+		for (int i = n; i < flags.length; i++) {
+			if (i > n)
+				flags[i] >>>= 1;
+			if (i + 1 < flags.length)
+				flags[i] |= flags[i + 1] << 31;
+		}
+	}
+
+	/**
+	 * Returns the index of the first item from <code>from</code> which flag
+	 * is set, or -1 if there is none.
+	 */
+	static int nextSetBit(int[] flags, int from) {
+		if (flags == null)
+			return -1;
+
+		int n = from >> 5;
+		if (n >= flags.length)
+			return -1;
+
+		int word = flags[n] & -1 << (from & 0x1f);
+		while (true) {
+			if (word != 0)
+				return (n << 5) + Integer.numberOfTrailingZeros(word);
+			if (++n == flags.length)
+				return -1;
+			word = flags[n];
+		}
+	}
+
+	/**
+	 * Returns the number of set flags.
+	 */
+	static int count(int[] flags) {
+		if (flags == null)
+			return 0;
+
+		int count = 0;
+		for (int i = 0; i < flags.length; i++) {
+			count += Integer.bitCount(flags[i]);
+		}
+		return count;
+	}
+
+	private static int[] ensureCapacity(int[] flags, int size) {
+		// Add 31 before dividing by 32 to ensure at least one 'int' is
+		// created if size < 32.
+		int length = (size + 31) >> 5;
+		if (flags == null)
+			return new int[Math.max(1, length)];
+
+		if (length <= flags.length)
+			return flags;
+
+		int[] newFlags = new int[length];
+		System.arraycopy(flags, 0, newFlags, 0, flags.length);
+		return newFlags;
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import junit.framework.TestCase;
+
+public class FullImageTilesTest extends TestCase {
+	private Display display;
+	private Shell shell;
+	private GanttComposite composite;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		display = Display.getDefault();
+		shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		shell.setSize(400, 300);
+
+		final GanttChart chart = new GanttChart(shell, SWT.NONE);
+		composite = chart.getGanttComposite();
+		for (int i = 0; i < 40; i++) {
+			final Calendar start = Calendar.getInstance();
+			start.add(Calendar.DATE, i);
+			final Calendar end = (Calendar) start.clone();
+			end.add(Calendar.DATE, 5 + i % 7);
+			new GanttEvent(chart, "Event " + i, start, end, i * 5 % 100);
+		}
+
+		shell.open();
+		composite.redraw();
+		composite.update();
+		flushEvents();
+	}
+
+	protected void tearDown() throws Exception {
+		shell.dispose();
+		flushEvents();
+		super.tearDown();
+	}
+
+	private void flushEvents() {
+		while (display.readAndDispatch()) {
+			// process all pending events
+		}
+	}
+
+	public void testTilesMatchFullImage() {
+		final Point size = composite.getFullImageSize();
+		final int headerHeight = composite.getHeaderHeight();
+		assertTrue(size.y > 3 * headerHeight);
+
+		final Image full = composite.getFullImage();
+		final ImageData fullData = full.getImageData();
+		full.dispose();
+		assertEquals(size.x, fullData.width);
+		assertEquals(size.y, fullData.height);
+
+		// one tile overlapping the header, the others well below it and away from the left edge
+		final int tileWidth = size.x / 3;
+		final int tileHeight = headerHeight + 5;
+		final Rectangle[] regions = new Rectangle[] { new Rectangle(0, headerHeight / 2, tileWidth, tileHeight),
+				new Rectangle(tileWidth, headerHeight / 2, tileWidth, tileHeight),
+				new Rectangle(tileWidth + 7, size.y - tileHeight, tileWidth, tileHeight),
+				new Rectangle(size.x - tileWidth, 2 * headerHeight + 3, tileWidth, tileHeight) };
+
+		final List<Rectangle> handled = new ArrayList<Rectangle>();
+		composite.drawFullImageTiles(regions, new IImageTileHandler() {
+			public void handleTile(Image tile, Rectangle region) {
+				handled.add(region);
+				assertRegionEquals(fullData, tile.getImageData(), region);
+			}
+		});
+
+		assertEquals(regions.length, handled.size());
+		for (int i = 0; i < regions.length; i++) {
+			assertSame(regions[i], handled.get(i));
+		}
+	}
+
+	private static void assertRegionEquals(ImageData expected, ImageData actual, Rectangle region) {
+		assertEquals(region.width, actual.width);
+		assertEquals(region.height, actual.height);
+		for (int y = 0; y < region.height; y++) {
+			for (int x = 0; x < region.width; x++) {
+				final int expectedPixel = expected.getPixel(region.x + x, region.y + y);
+				final int actualPixel = actual.getPixel(x, y);
+				if (!expected.palette.getRGB(expectedPixel).equals(actual.palette.getRGB(actualPixel))) {
+					fail("Pixel " + x + "," + y + " of region " + region + " differs from the full image");
+				}
+			}
+		}
+	}
+}
@@ -22,7 +22,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Image;
 
-public abstract class AbstractSettings implements ISettings2 {
+public abstract class AbstractSettings implements ISettings3 {
 
 	public String getDateFormat() {
 		return "MM/dd/yyyy";
@@ -599,6 +599,10 @@ public abstract class AbstractSettings implements ISettings2 {
 		return true;
 	}
 
+	public boolean cacheChartBackground() {
+		return true;
+	}
+
 	public boolean fireEmptyEventSelection() {
 		return false;
 	}
@@ -21,6 +21,7 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 public class DateHelper {
 
@@ -28,7 +29,9 @@ public class DateHelper {
     private static Map        _dateFormatMap;
     private static int        _todayYear;
     private static int        _todayYearDate;
+    private static long       _todayEpochDay;
     private static Locale     _locale;
+    private static GanttTimeModel _timeModel;
         
     static {
         _dateFormatMap = new HashMap();
@@ -39,9 +42,24 @@ public class DateHelper {
         Calendar temp = Calendar.getInstance(locale);
         _todayYear = temp.get(Calendar.YEAR);
         _todayYearDate = temp.get(Calendar.DAY_OF_YEAR);
+        _timeModel = new GanttTimeModel(temp.getTimeZone());
+        _todayEpochDay = _timeModel.toEpochDay(temp.getTimeInMillis());
         _dateFormatMap.clear();
     }
 
+    /**
+     * The time model in the zone of the calendars created by this class, used for all date arithmetic that does not
+     * need a <code>Calendar</code>.
+     */
+    static GanttTimeModel getTimeModel() {
+        GanttTimeModel model = _timeModel;
+        if (model == null) {
+            model = new GanttTimeModel(TimeZone.getDefault());
+            _timeModel = model;
+        }
+        return model;
+    }
+
     public static int hoursBetween(Calendar start, Calendar end, boolean assumeSameDate) {
         return minutesBetween(start.getTime(), end.getTime(), assumeSameDate, false) / 60;
     }
@@ -51,6 +69,9 @@ public class DateHelper {
     }
 
     public static int minutesBetween(Date start, Date end, boolean assumeSameDate, boolean assumeSameHour) {
+        if (!assumeSameHour) {
+            return minutesBetween(start.getTime(), end.getTime(), assumeSameDate);
+        }
         Calendar sDate = Calendar.getInstance(_locale);
         Calendar eDate = Calendar.getInstance(_locale);
         sDate.setTime(start);
@@ -75,7 +96,18 @@ public class DateHelper {
         return (int) diff;
     }
 
+    /**
+     * Same as {@link #minutesBetween(Date, Date, boolean, boolean)} without assuming the same hour, for epoch
+     * milliseconds.
+     */
+    static int minutesBetween(long startMillis, long endMillis, boolean assumeSameDate) {
+        return (int) (getTimeModel().millisBetween(startMillis, endMillis, assumeSameDate) / GanttTimeModel.MILLIS_PER_MINUTE);
+    }
+
     public static int secondsBetween(Date start, Date end, boolean assumeSameDate, boolean assumeSameHour) {
+        if (!assumeSameHour) {
+            return secondsBetween(start.getTime(), end.getTime(), assumeSameDate);
+        }
         Calendar sDate = Calendar.getInstance(_locale);
         Calendar eDate = Calendar.getInstance(_locale);
         sDate.setTime(start);
@@ -98,42 +130,26 @@ public class DateHelper {
         diff /= 1000;
         return (int) diff;
     }
-    
+
+    /**
+     * Same as {@link #secondsBetween(Date, Date, boolean, boolean)} without assuming the same hour, for epoch
+     * milliseconds.
+     */
+    static int secondsBetween(long startMillis, long endMillis, boolean assumeSameDate) {
+        return (int) (getTimeModel().millisBetween(startMillis, endMillis, assumeSameDate) / GanttTimeModel.MILLIS_PER_SECOND);
+    }
+
     public static long daysBetween(Calendar start, Calendar end) {
-        // create copies
-        GregorianCalendar startDate = new GregorianCalendar(_locale);
-        GregorianCalendar endDate = new GregorianCalendar(_locale);
-
-        // switch calendars to pure Julian mode for correct day-between
-        // calculation, from the Java API:
-        // - To obtain a pure Julian calendar, set the change date to
-        // Date(Long.MAX_VALUE).
-        startDate.setGregorianChange(new Date(Long.MAX_VALUE));
-        endDate.setGregorianChange(new Date(Long.MAX_VALUE));
-
-        // set them
-        startDate.setTime(start.getTime());
-        endDate.setTime(end.getTime());
-
-        // force times to be exactly the same
-        startDate.set(Calendar.HOUR_OF_DAY, 12);
-        endDate.set(Calendar.HOUR_OF_DAY, 12);
-        startDate.set(Calendar.MINUTE, 0);
-        endDate.set(Calendar.MINUTE, 0);
-        startDate.set(Calendar.SECOND, 0);
-        endDate.set(Calendar.SECOND, 0);
-        startDate.set(Calendar.MILLISECOND, 0);
-        endDate.set(Calendar.MILLISECOND, 0);
-
-        // now we should be able to do a "safe" millisecond/day calculation to
-        // get the number of days, note that we need to include the timezone or daylights savings will get lost!! this is a huge issue
-        long endMilli = endDate.getTimeInMillis() + endDate.getTimeZone().getOffset(endDate.getTimeInMillis());
-        long startMilli = startDate.getTimeInMillis() + startDate.getTimeZone().getOffset(startDate.getTimeInMillis());
-
-        // calculate # of days, finally
-        long diff = (endMilli - startMilli) / MILLISECONDS_IN_DAY;
-
-        return diff;
+        // the difference of the local dates, ignoring the time of day. This used to be calculated on two Julian
+        // calendars set to noon, the local date keeps daylight savings in mind the same way without creating any
+        return daysBetween(start.getTimeInMillis(), end.getTimeInMillis());
+    }
+
+    /**
+     * Same as {@link #daysBetween(Calendar, Calendar)} for epoch milliseconds.
+     */
+    static long daysBetween(long startMillis, long endMillis) {
+        return getTimeModel().daysBetween(startMillis, endMillis);
     }
 
     public static long daysBetweenxX(Calendar start, Calendar end) {
@@ -157,11 +173,7 @@ public class DateHelper {
     }
 
     public static long daysBetween(Date start, Date end) {
-        Calendar dEnd = Calendar.getInstance(_locale);
-        Calendar dStart = Calendar.getInstance(_locale);
-        dEnd.setTime(end);
-        dStart.setTime(start);
-        return daysBetween(dStart, dEnd);
+        return daysBetween(start.getTime(), end.getTime());
     }
 
     public static boolean isNow(Calendar cal, Locale locale, boolean minuteCheck) {
@@ -180,10 +192,7 @@ public class DateHelper {
     }
 
     public static boolean isToday(Date date) {
-        Calendar cal = Calendar.getInstance(_locale);
-        cal.setTime(date);
-
-        return isToday(cal);
+        return getTimeModel().toEpochDay(date.getTime()) == _todayEpochDay;
     }
 
     /**
@@ -211,11 +220,6 @@ public class DateHelper {
     }
     
     public static String getDate(Calendar cal, String dateFormat) {
-        //Calendar toUse = (Calendar) cal.clone();
-        Calendar toUse = Calendar.getInstance(_locale);
-        toUse.setTime(cal.getTime());
-        toUse.add(Calendar.MONTH, -1);
-
         /*		HashMap dMap = null;
         		if (fastDateMap.get(cal) != null) {
         			dMap = (HashMap) fastDateMap.get(cal);
@@ -249,13 +253,8 @@ public class DateHelper {
     }
 
     public static boolean sameDate(Date date1, Date date2) {
-        Calendar cal1 = Calendar.getInstance(_locale);
-        Calendar cal2 = Calendar.getInstance(_locale);
-
-        cal1.setTime(date1);
-        cal2.setTime(date2);
-
-        return sameDate(cal1, cal2);
+        final GanttTimeModel model = getTimeModel();
+        return model.toEpochDay(date1.getTime()) == model.toEpochDay(date2.getTime());
     }
 
     public static boolean sameDate(Calendar cal1, Calendar cal2) {
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Off-screen copy of the background layers of the chart (fills, phases and vertical lines), which do not change while
+ * the user works with the events on top of them.
+ * <p>
+ * The layers are repainted only when the key describing them changes. When only the first drawn day changes, in the
+ * views where every day has the same width, the image is shifted by whole days and only the uncovered strip is
+ * repainted.
+ */
+final class GanttBackgroundCache {
+
+    /**
+     * Paints the background layers onto the given GC, using the same coordinates as the chart. The clipping of the GC limits a
+     * repaint to the strip uncovered by a shift, so the painter has to keep it, also when leaving advanced mode.
+     */
+    interface Painter {
+        void paint(GC gc);
+    }
+
+    private Image   _image;
+    private long[]  _key;
+    private long    _day;
+
+    /**
+     * Draws the cached layers within the area, repainting what is out of date first.
+     *
+     * @param gc GC of the chart
+     * @param area area of the chart covered by the layers
+     * @param key values the layers depend on
+     * @param day first drawn day, epoch day
+     * @param dayWidth width of a day if the image may be shifted by whole days, 0 otherwise
+     * @param painter paints the layers
+     */
+    void draw(final GC gc, final Rectangle area, final long[] key, final long day, final int dayWidth, final Painter painter) {
+        final int width = area.x + area.width;
+        final int height = area.y + area.height;
+        if (_image == null || _image.getBounds().width != width || _image.getBounds().height != height) {
+            dispose();
+            _image = new Image(gc.getDevice(), width, height);
+        }
+
+        if (_key == null || !Arrays.equals(key, _key)) {
+            repaint(area, null, painter);
+        } else if (day != _day) {
+            final long dx = (_day - day) * dayWidth;
+            if (dayWidth <= 0 || Math.abs(dx) >= area.width) {
+                repaint(area, null, painter);
+            } else {
+                repaint(area, (int) dx, painter);
+            }
+        }
+        _key = key;
+        _day = day;
+
+        gc.drawImage(_image, area.x, area.y, area.width, area.height, area.x, area.y, area.width, area.height);
+    }
+
+    // repaints the whole area, or moves it and repaints the strip it uncovers
+    private void repaint(final Rectangle area, final Integer dx, final Painter painter) {
+        final GC imageGC = new GC(_image);
+        try {
+            if (dx != null) {
+                final int move = dx.intValue();
+                imageGC.copyArea(area.x, area.y, area.width, area.height, area.x + move, area.y);
+                if (move > 0) {
+                    imageGC.setClipping(area.x, area.y, move, area.height);
+                } else {
+                    imageGC.setClipping(area.x + area.width + move, area.y, -move, area.height);
+                }
+            }
+            painter.paint(imageGC);
+        } finally {
+            imageGC.dispose();
+        }
+    }
+
+    /**
+     * Drops the cached layers so that the next draw repaints them.
+     */
+    void invalidate() {
+        _key = null;
+    }
+
+    void dispose() {
+        if (_image != null && !_image.isDisposed()) {
+            _image.dispose();
+        }
+        _image = null;
+        _key = null;
+    }
+}
@@ -51,6 +51,7 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FillLayout;
@@ -199,6 +200,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	// the number of days that will be visible in the current area. Is set after
 	// we're done drawing the chart
 	private int _daysVisible;
+
+	// end of the visible dates in epoch millis, cached for the main calendar and days visible it was calculated for
+	private long _viewPortEndMillis;
+	private long _viewPortEndMainMillis = Long.MIN_VALUE;
+	private int _viewPortEndDaysVisible;
 	private int _hoursVisible;
 
 	// all events
@@ -279,6 +285,29 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	private final Set<Object> _allEventsCombined;
 	// sections, in groups, or single
 
+	// index over the dates and rows of the events, so that painting and hit-testing only look at events near the visible area
+	private final GanttEventIndex _eventIndex = new GanttEventIndex();
+
+	// rows of the events of the chart and of each section, laid out again only when the events, groups or row heights change
+	private GanttLayout _layout;
+	private final Map<GanttSection, GanttLayout> _sectionLayouts = new HashMap<GanttSection, GanttLayout>();
+
+	// the events near the visible area as of the last visibility update, all other events are out of bounds
+	private final List<GanttEvent> _nearbyEvents = new ArrayList<GanttEvent>();
+	private boolean _nearbyEventsKnown;
+	// the dates the nearby events were looked up for, epoch millis
+	private long _nearbyFrom;
+	private long _nearbyTo;
+	// events that were near the visible area before but no longer are, to the left and to the right of it
+	private final List<GanttEvent> _leftEvents = new ArrayList<GanttEvent>();
+	private final List<GanttEvent> _rightEvents = new ArrayList<GanttEvent>();
+
+	// widest name extent of any event, the text drawn to the right of an event may reach into view from that far
+	private int _maxNameExtentWidth;
+
+	// off-screen copy of the fills, phases and vertical lines, repainted when the view, zoom or dates change
+	private final GanttBackgroundCache _backgroundCache = new GanttBackgroundCache();
+
 	private final List<Integer> _verticalLineLocations;
 
 	// faster
@@ -480,7 +509,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 							_parentChart.getDisplay().asyncExec(new Runnable() {
 								public void run() {
 									if (!isDisposed()) {
-										refresh();
+										redraw();
 									}
 								}
 							});
@@ -612,6 +641,12 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			}
 		});
 
+		addListener(SWT.Dispose, new Listener() {
+			public void handleEvent(final Event event) {
+				_backgroundCache.dispose();
+			}
+		});
+
 		addListener(SWT.Resize, new Listener() {
 			public void handleEvent(final Event event) {
 				handleResize(false);
@@ -939,6 +974,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 */
 	public void setDrawVerticalLinesOverride(final boolean drawVertical) {
 		_drawVerticalLines = drawVertical;
+		backgroundChanged();
 	}
 
 	/**
@@ -1143,7 +1179,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					continue;
 				}
 
-				if (nextEvent.getVisibility() == Constants.EVENT_OOB_BOTTOM) {
+				// events out of view horizontally are only flagged as such, so check the row of the next event itself
+				if (getEventRowVisibility(nextEvent) == Constants.EVENT_OOB_BOTTOM) {
 					return event;
 				}
 			} else {
@@ -1329,17 +1366,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				calculateAllScopes(bounds, null);
 			}
 
-			// draw fills
-			drawFills(gc, bounds);
-
-			if (hasGanttPhases()) {
-				drawGanttPhases(gc, bounds, false, null);
-			}
-
-			// draws vertical lines all over the chart
-			if (_drawVerticalLines) {
-				drawVerticalLines(gc, bounds, true);
-			}
+			// draw fills, phases and vertical lines
+			drawBackground(gc, bounds, boundsOverride);
 
 			if (_drawHorizontalLines) {
 				drawHorizontalLines(gc, bounds);
@@ -1356,6 +1384,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			drawConnections(gc);
 		}
 
+		updateEventRows();
+
 		if (drawSections) {
 			drawSectionColumn(gc, bounds, false, false, false, false);
 		}
@@ -1941,6 +1971,75 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		internalDrawFills(gc, bounds, gs);
 	}
 
+	// fills, phases and vertical lines of the chart without sections. On screen they come from the background cache, which is only repainted
+	// when something they depend on changes, or shifted by whole days when the chart is scrolled
+	private void drawBackground(final GC gc, final Rectangle bounds, final Rectangle boundsOverride) {
+		if (boundsOverride == null && !_savingChartImage && _settings instanceof ISettings3 && ((ISettings3) _settings).cacheChartBackground()) {
+			// the fills start right below the header, or at the top once the header has been scrolled away
+			final int top = Math.max(0, bounds.y - Math.min(_vScrollPos, getHeaderHeight()));
+			final Rectangle area = new Rectangle(bounds.x, top, bounds.width, super.getClientArea().height - top);
+
+			if (area.width > 0 && area.height > 0) {
+				final int dayWidth = getBackgroundShiftWidth();
+				final long day = dayWidth > 0 ? getFirstDrawnEpochDay() : 0;
+				_backgroundCache.draw(gc, area, getBackgroundKey(area, dayWidth), day, dayWidth, new GanttBackgroundCache.Painter() {
+					public void paint(final GC imageGC) {
+						drawBackgroundLayers(imageGC, bounds);
+					}
+				});
+			}
+		} else {
+			drawBackgroundLayers(gc, bounds);
+		}
+
+		if (_drawVerticalLines) {
+			drawTodayLines(gc, bounds);
+		}
+	}
+
+	private void drawBackgroundLayers(final GC gc, final Rectangle bounds) {
+		drawFills(gc, bounds);
+
+		if (hasGanttPhases()) {
+			drawGanttPhases(gc, bounds, false, null);
+		}
+
+		// draws vertical lines all over the chart
+		if (_drawVerticalLines) {
+			drawDividerLines(gc, bounds, true);
+		}
+	}
+
+	// width of a day in the views where every day is equally wide, so the background can be shifted by whole days, 0 otherwise
+	private int getBackgroundShiftWidth() {
+		switch (_currentView) {
+			case ISettings.VIEW_WEEK:
+			case ISettings.VIEW_D_DAY:
+				return _dayWidth;
+			case ISettings.VIEW_MONTH:
+				return _monthDayWidth;
+			default:
+				return 0;
+		}
+	}
+
+	// everything the cached background depends on apart from the first drawn day. Phase, holiday and color changes flag it through backgroundChanged()
+	private long[] getBackgroundKey(final Rectangle area, final int shiftWidth) {
+		final GanttTimeModel timeModel = DateHelper.getTimeModel();
+		final long main = _mainCalendar.getTimeInMillis();
+
+		return new long[] { _currentView, _zoomLevel, _dayWidth, _monthDayWidth, _weekWidth, _yearDayWidth, _minuteDayWidth, area.x, area.y, area.width, area.height, _vScrollPos,
+				_drawVerticalLines ? 1 : 0, _ganttPhases.size(), _selHeaderDates.hashCode(), timeModel.toEpochDay(System.currentTimeMillis()),
+				shiftWidth > 0 ? timeModel.getMillisOfDay(main) : main };
+	}
+
+	/**
+	 * Flags the cached background for a repaint, called when phases, holidays or anything else drawn below the events changes.
+	 */
+	void backgroundChanged() {
+		_backgroundCache.invalidate();
+	}
+
 	// background fills
 	private void drawFills(final GC gc, final Rectangle bounds) {
 		internalDrawFills(gc, bounds, null);
@@ -2444,6 +2543,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	// draws vertical lines for separating days, hours, months, years etc
 	private void drawVerticalLines(final GC gc, final Rectangle bounds, final boolean applyVscroll) {
+		drawDividerLines(gc, bounds, applyVscroll);
+		drawTodayLines(gc, bounds);
+	}
+
+	private void drawDividerLines(final GC gc, final Rectangle bounds, final boolean applyVscroll) {
 		// int xMax = bounds.width + bounds.x;
 		// space it out 1 or more or else it will draw over the bottom horizontal line of the header
 		final int yStart = bounds.y - (applyVscroll ? _vScrollPos : 0);
@@ -2469,19 +2573,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				gc.drawLine(current, yStart, current, height);
 			}
 			if (_useAlpha) {
-				gc.setAlpha(255);
-				gc.setAdvanced(false);
-			}
-
-			final Calendar today = Calendar.getInstance(_defaultLocale);
-
-			drawTodayLine(gc, bounds, getStartingXFor(today), today.get(Calendar.DAY_OF_WEEK), _lineTodayColor);
-
-			if (_settings.getPeriodStart() != null) {
-				drawTodayLine(gc, bounds, getStartingXFor(_settings.getPeriodStart()), _settings.getPeriodStart().get(Calendar.DAY_OF_WEEK), _linePeriodColor);
-			}
-			if (_settings.getPeriodEnd() != null) {
-				drawTodayLine(gc, bounds, getStartingXFor(_settings.getPeriodEnd()), _settings.getPeriodEnd().get(Calendar.DAY_OF_WEEK), _linePeriodColor);
+				resetAlpha(gc);
 			}
 		} else if (_currentView == ISettings.VIEW_YEAR) {
 			for (int i = 0; i < _verticalLineLocations.size(); i++) {
@@ -2490,16 +2582,31 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				final int x = _verticalLineLocations.get(i).intValue();
 				gc.drawLine(x, yStart, x, height);
 			}
+		}
+	}
+
+	// today and period lines, these reach up into the header so they're never part of the cached background
+	private void drawTodayLines(final GC gc, final Rectangle bounds) {
+		switch (_currentView) {
+			case ISettings.VIEW_MINUTE:
+			case ISettings.VIEW_DAY:
+			case ISettings.VIEW_WEEK:
+			case ISettings.VIEW_MONTH:
+			case ISettings.VIEW_D_DAY:
+			case ISettings.VIEW_YEAR:
+				break;
+			default:
+				return;
+		}
 
-			final Calendar today = Calendar.getInstance(_defaultLocale);
-			drawTodayLine(gc, bounds, getStartingXFor(today), today.get(Calendar.DAY_OF_WEEK), _lineTodayColor);
+		final Calendar today = Calendar.getInstance(_defaultLocale);
+		drawTodayLine(gc, bounds, getStartingXFor(today), today.get(Calendar.DAY_OF_WEEK), _lineTodayColor);
 
-			if (_settings.getPeriodStart() != null) {
-				drawTodayLine(gc, bounds, getStartingXFor(_settings.getPeriodStart()), _settings.getPeriodStart().get(Calendar.DAY_OF_WEEK), _linePeriodColor);
-			}
-			if (_settings.getPeriodEnd() != null) {
-				drawTodayLine(gc, bounds, getStartingXFor(_settings.getPeriodEnd()), _settings.getPeriodEnd().get(Calendar.DAY_OF_WEEK), _linePeriodColor);
-			}
+		if (_settings.getPeriodStart() != null) {
+			drawTodayLine(gc, bounds, getStartingXFor(_settings.getPeriodStart()), _settings.getPeriodStart().get(Calendar.DAY_OF_WEEK), _linePeriodColor);
+		}
+		if (_settings.getPeriodEnd() != null) {
+			drawTodayLine(gc, bounds, getStartingXFor(_settings.getPeriodEnd()), _settings.getPeriodEnd().get(Calendar.DAY_OF_WEEK), _linePeriodColor);
 		}
 	}
 
@@ -2594,13 +2701,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// get the offset to draw things at
 		final Calendar temp = Calendar.getInstance(_defaultLocale);
 		temp.setTime(_mainCalendar.getTime());
-		final Calendar temp2 = Calendar.getInstance(_defaultLocale);
-		temp2.setTime(_mainCalendar.getTime());
-		temp2.set(Calendar.DAY_OF_WEEK, temp.getFirstDayOfWeek());
-		final int days = (int) DateHelper.daysBetween(temp, temp2);
-		current += days * _monthDayWidth;
-
 		temp.set(Calendar.DAY_OF_WEEK, temp.getFirstDayOfWeek());
+		final int days = (int) DateHelper.daysBetween(_mainCalendar, temp);
+		current += days * _monthDayWidth;
 
 		while (true) {
 			final int curDay = temp.get(Calendar.DAY_OF_WEEK);
@@ -2648,14 +2751,10 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// get the offset to draw things at
 		final Calendar temp = Calendar.getInstance(_defaultLocale);
 		temp.setTime(_mainCalendar.getTime());
-		final Calendar temp2 = Calendar.getInstance(_defaultLocale);
-		temp2.setTime(_mainCalendar.getTime());
-		temp2.set(Calendar.DAY_OF_WEEK, temp.getFirstDayOfWeek());
-		final int days = (int) DateHelper.daysBetween(temp, temp2);
-		current += days * _monthDayWidth;
-
 		// move us to sunday, as the date shouldn't change when scrolling
 		temp.set(Calendar.DAY_OF_WEEK, temp.getFirstDayOfWeek());
+		final int days = (int) DateHelper.daysBetween(_mainCalendar, temp);
+		current += days * _monthDayWidth;
 
 		while (true) {
 			// draw month at beginning of month
@@ -3472,8 +3571,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 			// alpha
 			if (phase.getAlpha() == 255) {
-				gc.setAlpha(255);
-				gc.setAdvanced(false);
+				resetAlpha(gc);
 			} else {
 				gc.setAlpha(phase.getAlpha());
 			}
@@ -3528,8 +3626,16 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			}
 		}
 
+		resetAlpha(gc);
+	}
+
+	// turns alpha blending off for layers drawn below the events. Leaving advanced mode also drops the clipping, which the background
+	// cache sets to only repaint the strip uncovered by a scroll, so the clipping is put back
+	private static void resetAlpha(final GC gc) {
+		final Rectangle clip = gc.getClipping();
 		gc.setAlpha(255);
 		gc.setAdvanced(false);
+		gc.setClipping(clip);
 	}
 
 	/**
@@ -3689,22 +3795,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		final Set alreadyDrawn = new HashSet();
 
-		List events = _ganttEvents;
-		if (gs != null) {
-			events = gs.getEvents();
-		}
-
-		final List correctOrder = new ArrayList();
-		for (int i = 0; i < events.size(); i++) {
-			final IGanttChartItem event = (IGanttChartItem) events.get(i);
-			if (event instanceof GanttGroup) {
-				final GanttGroup gg = (GanttGroup) event;
-				final List children = gg.getEventMembers();
-				correctOrder.addAll(children);
-				continue;
-			} else {
-				correctOrder.add(event);
-			}
+		// the same order the events were laid out in
+		final GanttLayout layout = getLayout(bounds, gs);
+		final List correctOrder = new ArrayList(layout.size());
+		for (int i = 0; i < layout.size(); i++) {
+			correctOrder.add(layout.getEvent(i));
 		}
 
 		_totVisEventCnt = 0;
@@ -3737,6 +3832,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					ge.setNameExtent(gc.textExtent(toDraw));
 					ge.setParsedString(toDraw);
 					ge.setNameChanged(false);
+					_maxNameExtentWidth = Math.max(_maxNameExtentWidth, ge.getNameExtent().x);
 				}
 				continue;
 			}
@@ -3821,6 +3917,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			ge.setNameExtent(gc.textExtent(toDraw));
 			ge.setParsedString(toDraw);
 			ge.setNameChanged(false);
+			_maxNameExtentWidth = Math.max(_maxNameExtentWidth, ge.getNameExtent().x);
 		}
 
 		// draw the text if any, o
@@ -3838,67 +3935,140 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	// updates all event visibilities, the bounds is the currently visible bounds, not the bounds that should be calculated
 	private void updateEventVisibilities(final Rectangle bounds) {
-		final Object[] all = _allEventsCombined.toArray();
-		for (int i = 0; i < all.length; i++) {
-			final GanttEvent ge = (GanttEvent) all[i];
-			ge.setVisibility(getEventVisibility(ge, bounds));
-		}
-	}
+		_nearbyEvents.clear();
 
-	private void calculateAllScopes(final Rectangle bounds, final GanttSection gs) {
-		if (_ganttEvents.isEmpty()) {
+		// when saving the chart as an image everything is visible, and without an end date we can't tell which dates are visible
+		if (_savingChartImage || _daysVisible == 0 && _endCalendar == null) {
+			_nearbyEventsKnown = false;
+			final Object[] all = _allEventsCombined.toArray();
+			for (int i = 0; i < all.length; i++) {
+				final GanttEvent ge = (GanttEvent) all[i];
+				ge.setVisibility(getEventVisibility(ge, bounds));
+			}
 			return;
 		}
 
-		int yStart = bounds.y + _settings.getEventsTopSpacer();// - mVerticalScrollPosition;
+		if (!_eventIndex.isValid()) {
+			rebuildEventIndex();
+			_nearbyEventsKnown = false;
+		}
 
-		final Set allEventsInGroups = new HashSet();
-		for (int i = 0; i < _ganttGroups.size(); i++) {
-			allEventsInGroups.addAll(_ganttGroups.get(i).getEventMembers());
+		// the dates an event has to cover to be visible, widened by anything that is drawn next to an event
+		final int dayWidth = Math.max(1, getDayUnitWidth());
+		final int buffer = _settings.getArrowHeadEventSpacer();
+		final int mainX = Math.abs(_mainBounds == null ? 0 : _mainBounds.x);
+		long daysBefore = (buffer + _maxNameExtentWidth + mainX) / dayWidth + 2;
+		if (_currentView == ISettings.VIEW_YEAR) {
+			// years are drawn from the first of the month
+			daysBefore += 31;
 		}
+		final long daysAfter = (bounds.width + buffer + mainX) / dayWidth + 2;
 
-		boolean lastLoopWasGroup = false;
-		// GanttGroup lastGroup = null;
-		final Map groupLocations = new HashMap();
+		final long viewPortStart = _mainCalendar.getTimeInMillis();
+		final long from = viewPortStart - daysBefore * GanttTimeModel.MILLIS_PER_DAY;
+		final long to = Math.max(viewPortStart + daysAfter * GanttTimeModel.MILLIS_PER_DAY, getViewPortEndMillis());
 
-		List events = _ganttEvents;
-		if (gs != null) {
-			events = gs.getEvents();
+		// events far from the visible dates are out of bounds to the left or right, no need to calculate where they are drawn.
+		// Once they are all flagged, only those the visible dates moved across since the last update can change sides
+		if (_nearbyEventsKnown) {
+			_eventIndex.queryOutside(Math.min(from, _nearbyFrom), Math.max(to, _nearbyTo), from, to, _leftEvents, _rightEvents);
+			for (int i = 0; i < _leftEvents.size(); i++) {
+				final GanttEvent ge = _leftEvents.get(i);
+				ge.setVisibility(getOutOfRangeEventVisibility(ge, false));
+			}
+			for (int i = 0; i < _rightEvents.size(); i++) {
+				final GanttEvent ge = _rightEvents.get(i);
+				ge.setVisibility(getOutOfRangeEventVisibility(ge, true));
+			}
+			_leftEvents.clear();
+			_rightEvents.clear();
+		} else {
+			for (int i = 0; i < _eventIndex.size(); i++) {
+				final GanttEvent ge = _eventIndex.getEvent(i);
+				if (!_eventIndex.isChanged(ge)) {
+					ge.setVisibility(getOutOfRangeEventVisibility(ge, _eventIndex.getStart(i) > to));
+				}
+			}
 		}
 
-		final List correctOrder = new ArrayList();
-		for (int i = 0; i < events.size(); i++) {
-			final IGanttChartItem event = (IGanttChartItem) events.get(i);
-			if (event instanceof GanttGroup) {
-				final GanttGroup gg = (GanttGroup) event;
-				final List children = gg.getEventMembers();
-				correctOrder.addAll(children);
-				continue;
+		_eventIndex.query(from, to, _nearbyEvents);
+		for (int i = 0; i < _nearbyEvents.size(); i++) {
+			final GanttEvent ge = _nearbyEvents.get(i);
+			ge.setVisibility(getEventVisibility(ge, bounds));
+		}
+		_nearbyFrom = from;
+		_nearbyTo = to;
+		_nearbyEventsKnown = true;
+	}
+
+	// rebuilds the index over the dates covered by the events
+	private void rebuildEventIndex() {
+		_eventIndex.clear();
+
+		for (int i = 0; i < _ganttEvents.size(); i++) {
+			_eventIndex.setPosition(_ganttEvents.get(i), i);
+		}
+
+		final Object[] all = _allEventsCombined.toArray();
+		for (int i = 0; i < all.length; i++) {
+			final GanttEvent ge = (GanttEvent) all[i];
+			final Calendar start = getVisibleStartDate(ge);
+			final Calendar end = getVisibleEndDate(ge);
+			if (start == null || end == null) {
+				// can't tell, always check it
+				_eventIndex.add(ge, Long.MIN_VALUE, Long.MAX_VALUE);
 			} else {
-				correctOrder.add(event);
+				_eventIndex.add(ge, start.getTimeInMillis(), end.getTimeInMillis());
 			}
 		}
 
-		for (int i = 0; i < correctOrder.size(); i++) {
-			final IGanttChartItem event = (IGanttChartItem) correctOrder.get(i);
+		_eventIndex.build();
+	}
 
-			final GanttEvent ge = (GanttEvent) event;
+	// remembers the rows of the events drawn, for hit-testing
+	private void updateEventRows() {
+		if (!_nearbyEventsKnown || !_eventIndex.isValid()) {
+			_eventIndex.invalidateRows();
+			return;
+		}
 
-			// if the override is set, set it on events etc so it's used
-			if (_fixedRowHeight != 0) {
-				ge.setFixedRowHeight(_fixedRowHeight);
-				if (ge.getGanttGroup() != null) {
-					ge.getGanttGroup().setFixedRowHeight(_fixedRowHeight);
-				}
+		final List<GanttEvent> drawn = new ArrayList<GanttEvent>();
+		for (int i = 0; i < _nearbyEvents.size(); i++) {
+			final GanttEvent ge = _nearbyEvents.get(i);
+			if (ge.getVisibility() == Constants.EVENT_VISIBLE) {
+				drawn.add(ge);
 			}
+		}
+		_eventIndex.buildRows(drawn);
+	}
 
-			boolean groupedEvent = false;
-			boolean newGroup = false;
+	/**
+	 * Lets the chart know that the dates an event covers may have changed, so the index over the events can be updated.
+	 *
+	 * @param ge GanttEvent
+	 */
+	void eventRangeChanged(final GanttEvent ge) {
+		_eventIndex.eventChanged(ge);
+		if (ge.getScopeParent() != null) {
+			_eventIndex.eventChanged(ge.getScopeParent());
+		}
+	}
+
+	private void calculateAllScopes(final Rectangle bounds, final GanttSection gs) {
+		if (_ganttEvents.isEmpty()) {
+			return;
+		}
+
+		// the rows come from the layout snapshot, only the dates need to be turned into x locations again
+		final GanttLayout layout = getLayout(bounds, gs);
+
+		for (int i = 0; i < layout.size(); i++) {
+			final GanttEvent ge = layout.getEvent(i);
 
 			// if events are not visible, we can save a lot of time by not drawing them
 			ge.setVisibility(getEventVisibility(ge, bounds));
 
-			if (ge.isHidden()) {
+			if (ge.isHidden() || !layout.isLaidOut(i)) {
 				continue;
 			}
 
@@ -3909,115 +4079,79 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			final int xStart = getStartingXFor(ge);
 			final int xEventWidth = getXLengthForEvent(ge);
 
-			// entire group if this element is part of a group
-			if (allEventsInGroups.contains(ge)) {
-				groupedEvent = true;
-
-				// remember the location we draw this group at
-				if (!groupLocations.containsKey(ge.getGanttGroup())) {
-					newGroup = true;
-					if (i != 0 && lastLoopWasGroup) {
-						yStart += _eventHeight + _eventSpacer;
-					}
-					groupLocations.put(ge.getGanttGroup(), new Integer(yStart));
-				}
-			}
-
-			// event just after a group
-			if (lastLoopWasGroup && !groupedEvent) {
-				yStart += _eventHeight + _eventSpacer;
-			}
-
-			// position event will be drawn at vertically
-			int yDrawPos = yStart - _vScrollPos;
-
-			// if it's a grouped event, get the location from our map to where it's drawn
-			if (groupedEvent && groupLocations.containsKey(ge.getGanttGroup())) {
-				yDrawPos = ((Integer) groupLocations.get(ge.getGanttGroup())).intValue() - _vScrollPos;
-			}
-
-			int fixedRowHeight = _fixedRowHeight;
-			int verticalAlignment = ge.getVerticalEventAlignment();
-
-			if (ge.getGanttGroup() == null) {
-				if (!ge.isAutomaticRowHeight()) {
-					fixedRowHeight = ge.getFixedRowHeight();
-				}
-			} else {
-				verticalAlignment = ge.getGanttGroup().getVerticalEventAlignment();
-				if (!ge.getGanttGroup().isAutomaticRowHeight()) {
-					fixedRowHeight = ge.getGanttGroup().getFixedRowHeight();
-				}
-			}
+			ge.setHorizontalLineTopY(layout.getLineTopY(i) + _vScrollPos);
+			ge.setHorizontalLineBottomY(layout.getLineBottomY(i));
 
-			final boolean fixedHeight = fixedRowHeight > 0;
-
-			ge.setHorizontalLineTopY(yStart + _vScrollPos);
-
-			if (fixedHeight) {
-				yStart += fixedRowHeight;
+			// set event bounds
+			ge.setBounds(new Rectangle(xStart, layout.getY(i) - _vScrollPos, xEventWidth, _eventHeight));
 
-				int extra = 0;
+			// update the actual width of the event
+			ge.updateActualWidth();
+		}
 
-				switch (verticalAlignment) {
-					case SWT.BOTTOM:
-						extra = fixedRowHeight - _eventHeight;
-						break;
-					case SWT.CENTER:
-						extra = fixedRowHeight / 2 - _eventHeight / 2;
-						break;
-					case SWT.NONE:
-					case SWT.TOP:
-						extra = _eventSpacer - _eventHeight;
-						break;
-					default:
-						break;
-				}
+		_bottomMostY = layout.getBottomY(_bottomMostY);
 
-				if (extra < 0) {
-					extra = 0;
-				}
+		// take off the last iteration, easier here than an if check for each iteration
+		_bottomMostY -= _eventSpacer;
+	}
 
-				yDrawPos += extra;
+	// returns the layout snapshot of the chart or section, laying it out again if the events, groups or row heights changed since
+	private GanttLayout getLayout(final Rectangle bounds, final GanttSection gs) {
+		final int top = bounds.y + _settings.getEventsTopSpacer();
 
+		GanttLayout layout = gs == null ? _layout : _sectionLayouts.get(gs);
+		if (layout == null || !layout.isBuiltFor(top, _eventHeight, _eventSpacer, _fixedRowHeight)) {
+			final Set allEventsInGroups = new HashSet();
+			for (int i = 0; i < _ganttGroups.size(); i++) {
+				allEventsInGroups.addAll(_ganttGroups.get(i).getEventMembers());
 			}
 
-			// sub-events in a grouped event type where the group has a fixed row height, we just set the yStart to the last yStart, which actually
-			// got through the above switch statement and had its start position calculated
-			if (!newGroup && groupedEvent) {
-				yDrawPos = ((Integer) groupLocations.get(ge.getGanttGroup())).intValue() - _vScrollPos;
+			final List items = gs == null ? _ganttEvents : gs.getEvents();
+			if (_fixedRowHeight != 0) {
+				applyFixedRowHeight(items);
 			}
 
-			if (fixedHeight) {
-				ge.setHorizontalLineBottomY(yDrawPos - _eventHeight + _vScrollPos);
+			layout = new GanttLayout(items, allEventsInGroups, top, _eventHeight, _eventSpacer, _fixedRowHeight);
+			if (gs == null) {
+				_layout = layout;
 			} else {
-				ge.setHorizontalLineBottomY(yDrawPos + _eventHeight + _vScrollPos);
+				_sectionLayouts.put(gs, layout);
 			}
+		}
 
-			// set event bounds
-			ge.setBounds(new Rectangle(xStart, yDrawPos, xEventWidth, _eventHeight));
-
-			// update the actual width of the event
-			ge.updateActualWidth();
+		return layout;
+	}
 
-			if (groupedEvent) {
-				lastLoopWasGroup = true;
-			} else {
-				// space them out
-				if (!fixedHeight) {
-					yStart += _eventHeight + _eventSpacer;
-					_bottomMostY = yStart + _eventHeight;
+	// sets the fixed row height override on the events and their groups so it's used. This flags the layouts for a rebuild when a height
+	// changes, so it's done before the layout is built
+	private void applyFixedRowHeight(final List items) {
+		for (int i = 0; i < items.size(); i++) {
+			final Object item = items.get(i);
+			if (item instanceof GanttGroup) {
+				final List members = ((GanttGroup) item).getEventMembers();
+				for (int j = 0; j < members.size(); j++) {
+					applyFixedRowHeight((GanttEvent) members.get(j));
 				}
-				lastLoopWasGroup = false;
-
+			} else {
+				applyFixedRowHeight((GanttEvent) item);
 			}
+		}
+	}
 
-			_bottomMostY = Math.max(_bottomMostY, yStart + _eventHeight);
-
+	private void applyFixedRowHeight(final GanttEvent ge) {
+		ge.setFixedRowHeight(_fixedRowHeight);
+		if (ge.getGanttGroup() != null) {
+			ge.getGanttGroup().setFixedRowHeight(_fixedRowHeight);
 		}
+	}
 
-		// take off the last iteration, easier here than an if check for each iteration
-		_bottomMostY -= _eventSpacer;
+	/**
+	 * Flags the layout snapshots for a rebuild, called when events are added, removed, reordered, hidden or regrouped, or their row height
+	 * changes.
+	 */
+	void layoutChanged() {
+		_layout = null;
+		_sectionLayouts.clear();
 	}
 
 	// string processing for display text beyond event
@@ -4260,19 +4394,6 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				continue;
 			}
 
-			// don't draw hidden events, nor connections to them
-			if (ge1.isHidden() || ge2.isHidden()) {
-				continue;
-			}
-
-			// use connection color if set, otherwise use arrow color
-			gc.setForeground(connection.getColor() == null ? _arrowColor : connection.getColor());
-
-			// same deal but with hidden layers
-			if (!_hiddenLayers.isEmpty() && (_hiddenLayers.contains(ge1.getLayerInt()) || _hiddenLayers.contains(ge2.getLayerInt()))) {
-				continue;
-			}
-
 			final boolean sourceIsOutOfBounds = ge1.getVisibility() != Constants.EVENT_VISIBLE;
 			final boolean targetIsOutOfBounds = ge2.getVisibility() != Constants.EVENT_VISIBLE;
 
@@ -4295,6 +4416,19 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				}
 			}
 
+			// don't draw hidden events, nor connections to them
+			if (ge1.isHidden() || ge2.isHidden()) {
+				continue;
+			}
+
+			// use connection color if set, otherwise use arrow color
+			gc.setForeground(connection.getColor() == null ? _arrowColor : connection.getColor());
+
+			// same deal but with hidden layers
+			if (!_hiddenLayers.isEmpty() && (_hiddenLayers.contains(ge1.getLayerInt()) || _hiddenLayers.contains(ge2.getLayerInt()))) {
+				continue;
+			}
+
 			if (_settings.showOnlyDependenciesForSelectedItems()) {
 				if (_selectedEvents.isEmpty()) {
 					return;
@@ -5184,6 +5318,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void reindex(final GanttEvent event, final int newIndex) {
 		_ganttEvents.remove(event);
 		_ganttEvents.add(newIndex, event);
+		_eventIndex.invalidate();
+		layoutChanged();
 		redrawEventsArea();
 	}
 
@@ -5300,6 +5436,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		checkWidget();
 		if (!_ganttPhases.contains(phase)) {
 			_ganttPhases.add(phase);
+			backgroundChanged();
 		}
 
 		if (redraw) {
@@ -5315,7 +5452,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 */
 	public void removePhase(final GanttPhase phase, final boolean redraw) {
 		checkWidget();
-		_ganttPhases.remove(phase);
+		if (_ganttPhases.remove(phase)) {
+			backgroundChanged();
+		}
 
 		if (redraw) {
 			redraw();
@@ -5327,6 +5466,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 */
 	public void clearPhases() {
 		_ganttPhases.clear();
+		backgroundChanged();
 		redraw();
 	}
 
@@ -5413,6 +5553,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			event.getGanttGroup().removeEvent(event);
 		}
 		final boolean ret = _ganttEvents.remove(event);
+		layoutChanged();
 
 		redrawEventsArea();
 
@@ -5740,6 +5881,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		_visibleBounds.y += move;
+		_eventIndex.moveRows(-move);
 
 		updateEventVisibilities(_visibleBounds);
 	}
@@ -5749,6 +5891,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 */
 	public void refresh() {
 		checkWidget();
+		backgroundChanged();
 		redraw();
 	}
 
@@ -5776,127 +5919,50 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return Constants.EVENT_VISIBLE;
 		}
 
-		// fastest checks come first, if it's not a visible layer, it's not visible
-		if (_hiddenLayers.contains(new Integer(event.getLayer()))) {
-			return Constants.EVENT_NOT_VISIBLE;
+		final int rowVisibility = getEventRowVisibility(event);
+		if (rowVisibility != Constants.EVENT_VISIBLE) {
+			return rowVisibility;
 		}
 
-		// if event is missing dates, don't let it show, fix to #281983
-		if (event.getActualStartDate() == null || event.getActualEndDate() == null) {
+		final Calendar sCal = getVisibleStartDate(event);
+		final Calendar eCal = getVisibleEndDate(event);
+		if (sCal == null || eCal == null) {
 			return Constants.EVENT_NOT_VISIBLE;
 		}
 
-		// our second check is the check whether it's out of bounds vertically, if so we can return right away (and scope calculation
-		// takes the special OOB_HEIGHT into account when counting the vertical offset
+		// if we don't have width, check using dates, this happens on the
+		// initial draw and when events are outside of the picture
+		if (event.getWidthWithText() == 0) {
+			final long eventStart = sCal.getTimeInMillis();
+			final long eventEnd = eCal.getTimeInMillis();
 
-		// as we offset the entire view area when scrolling vertically by moving the events up or down vertically
-		// we need to check the offset as if they were still in their original position, which we do by taking their y location
-		// and adding on the vertical scroll position. Once we have those fake bounds, we simply check it against the visual area
-		// and if they're not inside, they're out!
-		final Rectangle fakeBounds = new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight());
-		fakeBounds.y += _vScrollPos;
+			final long viewPortStart = _mainCalendar.getTimeInMillis();
+			if (_daysVisible == 0 && _endCalendar == null) {
+				// May happen when the widget is about to be created and not visible
+				return Constants.EVENT_NOT_VISIBLE;
+			}
 
-		// first draw everything is zero, ignore that one
-		if (event.getY() != 0) {
-			if (fakeBounds.y > _visibleBounds.y + _visibleBounds.height) {
-				return Constants.EVENT_OOB_BOTTOM;
+			final long viewPortEnd = getViewPortEndMillis();
+
+			// inside
+			// if (eventStart >= viewPortStart && eventStart <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
+
+			// if (eventEnd >= viewPortStart && eventEnd <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
+
+			// event starts before calendar-end-time and ends after calendar-start-time (inside)
+			if (eventStart <= viewPortEnd && eventEnd >= viewPortStart) {
+				return Constants.EVENT_VISIBLE;
 			}
-			if (fakeBounds.y + fakeBounds.height < _visibleBounds.y) {
-				return Constants.EVENT_OOB_TOP;
+
+			// event spans entire screen, also fix to Bugzilla bug #236846 - https://bugs.eclipse.org/bugs/show_bug.cgi?id=236846
+			if (eventStart <= viewPortStart && eventEnd >= viewPortEnd) {
+				return Constants.EVENT_VISIBLE;
 			}
-		}
 
-		Calendar sCal = null;
-		Calendar eCal = null;
-
-		// bugfix #304819 - If planned dates are showing, visibility needs to take them into account and not just the normal dates
-		// thus, the earliest start and latest end matter instead as we're showing "everything".
-		if (isShowingPlannedDates()) {
-			sCal = event.getEarliestStartDate();
-			eCal = event.getLatestEndDate();
-		} else {
-			sCal = event.getActualStartDate();
-			eCal = event.getActualEndDate();
-			if (sCal == null) {
-				sCal = event.getRevisedStart();
-			}
-			if (eCal == null) {
-				eCal = event.getRevisedEnd();
-			}
-		}
-
-		// scope checking
-		if (event.isScope()) {
-			final GanttEvent earliest = event.getEarliestScopeEvent();
-			final GanttEvent latest = event.getLatestScopeEvent();
-			if (earliest != null) {
-				sCal = earliest.getActualStartDate();
-			}
-			if (latest != null) {
-				eCal = latest.getActualEndDate();
-			}
-
-			if (sCal == null || eCal == null) {
-				return Constants.EVENT_NOT_VISIBLE;
-			}
-		}
-
-		// if an event has movement constraints we draw a marker around it to display this fact, thus,
-		// if that marker expands beyond the size of the event, we need to assume that the event visibility is actually
-		// the size between the constraints and not just the event itself. If we were not to do this calculation
-		// the boundary box would not be drawn when the event was not in visible range, which would be very odd to the user
-		// as it would suddenly appear when the event became visible, but they could not view how far it expanded without zooming out.
-		if (event.hasMovementConstraints()) {
-			if (event.getNoMoveBeforeDate() != null && event.getNoMoveBeforeDate().before(sCal)) {
-				sCal = event.getNoMoveBeforeDate();
-			}
-			if (event.getNoMoveAfterDate() != null && event.getNoMoveAfterDate().after(eCal)) {
-				eCal = event.getNoMoveAfterDate();
-			}
-		}
-
-		// if we don't have width, check using dates, this happens on the
-		// initial draw and when events are outside of the picture
-		if (event.getWidthWithText() == 0) {
-			final Date eventStart = sCal.getTime();
-			final Date eventEnd = eCal.getTime();
-			final Calendar temp = Calendar.getInstance(_defaultLocale);
-			temp.setTime(_mainCalendar.getTime());
-
-			final long viewPortStart = temp.getTimeInMillis();
-			if (_daysVisible == 0) {
-				if (_endCalendar == null) {
-					// May happen when the widget is about to be created and not visible
-					if (_endCalendar==null) {
-						return Constants.EVENT_NOT_VISIBLE;
-					}
-				}
-				temp.setTime(_endCalendar.getTime());
-			} else {
-				temp.add(Calendar.DATE, _daysVisible);
-			}
-
-			final long viewPortEnd = temp.getTimeInMillis();
-
-			// inside
-			// if (eventStart.getTime() >= viewPortStart && eventStart.getTime() <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
-
-			// if (eventEnd.getTime() >= viewPortStart && eventEnd.getTime() <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
-
-			// event starts before calendar-end-time and ends after calendar-start-time (inside)
-			if (eventStart.getTime() <= viewPortEnd && eventEnd.getTime() >= viewPortStart) {
-				return Constants.EVENT_VISIBLE;
-			}
-
-			// event spans entire screen, also fix to Bugzilla bug #236846 - https://bugs.eclipse.org/bugs/show_bug.cgi?id=236846
-			if (eventStart.getTime() <= viewPortStart && eventEnd.getTime() >= viewPortEnd) {
-				return Constants.EVENT_VISIBLE;
-			}
-
-			// event starts in screen and ends outside screen
-			if (eventStart.getTime() >= viewPortStart && eventStart.getTime() <= viewPortEnd && eventEnd.getTime() >= viewPortEnd) {
-				return Constants.EVENT_VISIBLE;
-			}
+			// event starts in screen and ends outside screen
+			if (eventStart >= viewPortStart && eventStart <= viewPortEnd && eventEnd >= viewPortEnd) {
+				return Constants.EVENT_VISIBLE;
+			}
 
 		} else {
 			int xStart = getStartingXFor(sCal);
@@ -5934,6 +6000,131 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return Constants.EVENT_NOT_VISIBLE;
 	}
 
+	// the checks of the event visibility that don't depend on dates, returns visible if the event passes them
+	private int getEventRowVisibility(final GanttEvent event) {
+		// fastest checks come first, if it's not a visible layer, it's not visible
+		if (!_hiddenLayers.isEmpty() && _hiddenLayers.contains(event.getLayerInt())) {
+			return Constants.EVENT_NOT_VISIBLE;
+		}
+
+		// if event is missing dates, don't let it show, fix to #281983
+		if (event.getActualStartDate() == null || event.getActualEndDate() == null) {
+			return Constants.EVENT_NOT_VISIBLE;
+		}
+
+		// our second check is the check whether it's out of bounds vertically, if so we can return right away (and scope calculation
+		// takes the special OOB_HEIGHT into account when counting the vertical offset
+
+		// as we offset the entire view area when scrolling vertically by moving the events up or down vertically
+		// we need to check the offset as if they were still in their original position, which we do by taking their y location
+		// and adding on the vertical scroll position. Once we have those fake bounds, we simply check it against the visual area
+		// and if they're not inside, they're out!
+		final int y = event.getY();
+
+		// first draw everything is zero, ignore that one
+		if (y != 0) {
+			final int fakeY = y + _vScrollPos;
+			if (fakeY > _visibleBounds.y + _visibleBounds.height) {
+				return Constants.EVENT_OOB_BOTTOM;
+			}
+			if (fakeY + event.getHeight() < _visibleBounds.y) {
+				return Constants.EVENT_OOB_TOP;
+			}
+		}
+
+		return Constants.EVENT_VISIBLE;
+	}
+
+	// visibility of an event whose dates are far enough from the visible dates that it can't be seen, without calculating where it is drawn.
+	// Only the side matters, so it doesn't change when scrolling vertically
+	private int getOutOfRangeEventVisibility(final GanttEvent event, final boolean right) {
+		if (event.getActualStartDate() == null || event.getActualEndDate() == null || event.getWidthWithText() == 0) {
+			return Constants.EVENT_NOT_VISIBLE;
+		}
+
+		return right ? Constants.EVENT_OOB_RIGHT : Constants.EVENT_OOB_LEFT;
+	}
+
+	// the first date an event covers on the chart, including planned dates, scope members and movement constraints, null if unknown
+	private Calendar getVisibleStartDate(final GanttEvent event) {
+		Calendar sCal = null;
+
+		// bugfix #304819 - If planned dates are showing, visibility needs to take them into account and not just the normal dates
+		// thus, the earliest start and latest end matter instead as we're showing "everything".
+		if (isShowingPlannedDates()) {
+			sCal = event.getEarliestStartDate();
+		} else {
+			sCal = event.getActualStartDate();
+			if (sCal == null) {
+				sCal = event.getRevisedStart();
+			}
+		}
+
+		// scope checking
+		if (event.isScope()) {
+			final GanttEvent earliest = event.getEarliestScopeEvent();
+			if (earliest != null) {
+				sCal = earliest.getActualStartDate();
+			}
+		}
+
+		if (sCal == null) {
+			return null;
+		}
+
+		// if an event has movement constraints we draw a marker around it to display this fact, thus,
+		// if that marker expands beyond the size of the event, we need to assume that the event visibility is actually
+		// the size between the constraints and not just the event itself. If we were not to do this calculation
+		// the boundary box would not be drawn when the event was not in visible range, which would be very odd to the user
+		// as it would suddenly appear when the event became visible, but they could not view how far it expanded without zooming out.
+		if (event.hasMovementConstraints() && event.getNoMoveBeforeDate() != null && event.getNoMoveBeforeDate().before(sCal)) {
+			sCal = event.getNoMoveBeforeDate();
+		}
+
+		return sCal;
+	}
+
+	// the last date an event covers on the chart, see getVisibleStartDate(..)
+	private Calendar getVisibleEndDate(final GanttEvent event) {
+		Calendar eCal = null;
+
+		if (isShowingPlannedDates()) {
+			eCal = event.getLatestEndDate();
+		} else {
+			eCal = event.getActualEndDate();
+			if (eCal == null) {
+				eCal = event.getRevisedEnd();
+			}
+		}
+
+		if (event.isScope()) {
+			final GanttEvent latest = event.getLatestScopeEvent();
+			if (latest != null) {
+				eCal = latest.getActualEndDate();
+			}
+		}
+
+		if (eCal == null) {
+			return null;
+		}
+
+		if (event.hasMovementConstraints() && event.getNoMoveAfterDate() != null && event.getNoMoveAfterDate().after(eCal)) {
+			eCal = event.getNoMoveAfterDate();
+		}
+
+		return eCal;
+	}
+
+	// the pixels of one day in the current view
+	private int getDayUnitWidth() {
+		if (_currentView == ISettings.VIEW_MINUTE) {
+			return _minuteDayWidth;
+		} else if (_currentView == ISettings.VIEW_DAY) {
+			return _weekWidth;
+		}
+		return getDayWidth();
+	}
+
 	// gets the x position for where the event bar should start
 	private int getStartingXFor(final GanttEvent event) {
 		if (_currentView == ISettings.VIEW_MINUTE || _currentView == ISettings.VIEW_DAY) {
@@ -5958,22 +6149,22 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	}
 
 	private int getStartingXForEventHours(final Calendar start) {
-		final Calendar temp = Calendar.getInstance(_defaultLocale);
-		temp.setTime(_mainCalendar.getTime());
+		final long mainMillis = _mainCalendar.getTimeInMillis();
+		final long startMillis = start.getTimeInMillis();
 
 		// some stuff we know, (to help program this)
 		// 1 dayWidth is one working hour, thus, 1 dayWidth / 60 = 1 minute
 		// 1 day is the same as the week width
 
 		final int dw = getDayWidth();
-		final int daysBetween = (int) DateHelper.daysBetween(temp, start);
-		final int minsBetween = DateHelper.minutesBetween(temp.getTime(), start.getTime(), true, false);
+		final int daysBetween = (int) DateHelper.daysBetween(mainMillis, startMillis);
+		final int minsBetween = DateHelper.minutesBetween(mainMillis, startMillis, true);
 		int ret = 0;
 		if (_currentView == ISettings.VIEW_MINUTE) { // TodayLine for View_Minute
 			ret = daysBetween * _minuteDayWidth;
 			ret += _mainBounds.x;
-			final float minutesBetween = DateHelper.minutesBetween(temp.getTime(), start.getTime(), true, false);
-			final float secondsBetween = DateHelper.secondsBetween(temp.getTime(), start.getTime(), true, false);
+			final float minutesBetween = minsBetween;
+			final float secondsBetween = DateHelper.secondsBetween(mainMillis, startMillis, true);
 
 			float minPixels = 0;
 
@@ -5988,8 +6179,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// days is ok, now deal with hours
 			ret = daysBetween * _weekWidth;
 			ret += _mainBounds.x;
-			final float hoursBetween = DateHelper.hoursBetween(temp, start, true);
-			final float minutesBetween = DateHelper.minutesBetween(temp.getTime(), start.getTime(), true, false);
+			final float hoursBetween = minsBetween / 60;
+			final float minutesBetween = minsBetween;
 
 			float minPixels = 0;
 
@@ -6026,13 +6217,14 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return _mainBounds.x;
 		}
 
-		final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
-
+		long firstMillis = _mainCalendar.getTimeInMillis();
 		if (_currentView == ISettings.VIEW_YEAR) {
+			final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
 			temp.set(Calendar.DAY_OF_MONTH, 1);
+			firstMillis = temp.getTimeInMillis();
 		}
 
-		final long secondsBetween = DateHelper.secondsBetween(temp.getTime(), date.getTime(), false, false);
+		final long secondsBetween = DateHelper.secondsBetween(firstMillis, date.getTimeInMillis(), false);
 		final int dw = getDayWidth();
 		final float pps = dw / (24f * 60f * 60f);
 		return _mainBounds.x + (int) (secondsBetween * pps);
@@ -6049,7 +6241,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 
-		final int secondsBetweenStartAndEnd = DateHelper.secondsBetween(event.getActualStartDate().getTime(), event.getActualEndDate().getTime(), false, false);
+		final int secondsBetweenStartAndEnd = DateHelper.secondsBetween(event.getActualStartDate().getTimeInMillis(), event.getActualEndDate().getTimeInMillis(), false);
 
 		final int dw = this.getDayWidth();
 		final float pps = dw / (24f * 60f * 60f);
@@ -6089,6 +6281,20 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return x >= rect.x && y >= rect.y && x <= rect.x + rect.width && y <= rect.y + rect.height;
 	}
 
+	// checks whether an x/y position is inside the bounds of the given event
+	private boolean isInside(final int x, final int y, final GanttEvent event) {
+		return x >= event.getX() && y >= event.getY() && x <= event.getX() + event.getWidth() && y <= event.getY() + event.getHeight();
+	}
+
+	// returns the events that may be at the given y position in the order of the events of the chart, the caller still checks their bounds
+	private List<GanttEvent> getEventsAt(final int y) {
+		final List<GanttEvent> events = new ArrayList<GanttEvent>();
+		if (_eventIndex.getEventsAt(y, events)) {
+			return events;
+		}
+		return _ganttEvents;
+	}
+
 	// open edit dialogs
 	public void mouseDoubleClick(final MouseEvent me) {
 		// if we only listen to selected events we won't catch locked or
@@ -6099,10 +6305,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// it's in mouse-down mode, so we need to force it to not thinking that
 		killMouseState();
 
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent event = _ganttEvents.get(i);
+		final List<GanttEvent> events = getEventsAt(me.y);
+		for (int i = 0; i < events.size(); i++) {
+			final GanttEvent event = events.get(i);
 
-			if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
+			if (isInside(me.x, me.y, event)) {
 				for (int j = 0; j < _eventListeners.size(); j++) {
 					_eventListeners.get(j).eventDoubleClicked(event, me);
 				}
@@ -6253,14 +6460,15 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		// deal with selection
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent event = _ganttEvents.get(i);
+		final List<GanttEvent> events = getEventsAt(me.y);
+		for (int i = 0; i < events.size(); i++) {
+			final GanttEvent event = events.get(i);
 
 			if (event.isScope() && !_settings.allowScopeMenu()) {
 				continue;
 			}
 
-			if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
+			if (isInside(me.x, me.y, event)) {
 				final GC gc = new GC(this);
 
 				// if it's a scope and menu is allowed, we can finish right here
@@ -7154,9 +7362,10 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 			if (_mainBounds == null || me.x >= _mainBounds.x) {
 				// check if cursor is inside the area of an event
-				for (int i = 0; i < _ganttEvents.size(); i++) {
-					final GanttEvent event = _ganttEvents.get(i);
-					if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
+				final List<GanttEvent> events = getEventsAt(me.y);
+				for (int i = 0; i < events.size(); i++) {
+					final GanttEvent event = events.get(i);
+					if (isInside(me.x, me.y, event)) {
 						insideAnyEvent = true;
 
 						if (event.isScope()) {
@@ -7613,16 +7822,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return getStartingXForEventHours(cal);
 		}
 
-		// clone the "root" calendar (our leftmost date)
-		final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
-
 		final int dw = getDayWidth();
-		if (_currentView == ISettings.VIEW_YEAR) {
-			// we draw years starting on the left for simplicity's sake
-			temp.set(Calendar.DAY_OF_MONTH, 1);
-		}
-
-		final long days = DateHelper.daysBetween(temp, cal);
+		final long days = DateHelper.getTimeModel().toEpochDay(cal.getTimeInMillis()) - getFirstDrawnEpochDay();
 
 		int extra = 0;
 		if (_drawToMinute && (_currentView != ISettings.VIEW_DAY || _currentView != ISettings.VIEW_MINUTE)) {
@@ -7637,6 +7838,36 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return (int) days * dw + extra;
 	}
 
+	/**
+	 * Returns the date of the leftmost day as epoch day, see {@link GanttTimeModel}.
+	 */
+	private long getFirstDrawnEpochDay() {
+		long day = DateHelper.getTimeModel().toEpochDay(_mainCalendar.getTimeInMillis());
+		if (_currentView == ISettings.VIEW_YEAR) {
+			// we draw years starting on the left for simplicity's sake
+			day -= _mainCalendar.get(Calendar.DAY_OF_MONTH) - 1;
+		}
+		return day;
+	}
+
+	/**
+	 * Returns the end of the visible dates, the end calendar or the main calendar plus the days visible.
+	 */
+	private long getViewPortEndMillis() {
+		if (_daysVisible == 0) {
+			return _endCalendar.getTimeInMillis();
+		}
+		final long mainMillis = _mainCalendar.getTimeInMillis();
+		if (mainMillis != _viewPortEndMainMillis || _daysVisible != _viewPortEndDaysVisible) {
+			final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
+			temp.add(Calendar.DATE, _daysVisible);
+			_viewPortEndMillis = temp.getTimeInMillis();
+			_viewPortEndMainMillis = mainMillis;
+			_viewPortEndDaysVisible = _daysVisible;
+		}
+		return _viewPortEndMillis;
+	}
+
 	private int calculateMinuteAdjustment(Calendar date) {
 		final float ppm = getDayWidth() / (60f * 24f);
 
@@ -7670,54 +7901,18 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			xPosition -= _mainBounds.x;
 			final int totalMinutes = (int) (xPosition * ppm);
 
-			// set our temporary end calendar to the start date of the calendar
-			final Calendar fakeEnd = Calendar.getInstance(_defaultLocale);
-			fakeEnd.setTime(temp.getTime());
-
-			for (int i = 0; i < totalMinutes; i++) {
-				fakeEnd.add(Calendar.MINUTE, 1);
-				if (temp.get(Calendar.HOUR_OF_DAY) >= 24) {
-					temp.add(Calendar.DATE, 1);
-					temp.set(Calendar.HOUR_OF_DAY, 0);
-				}
-			}
-
-			return fakeEnd;
-		}
-
-		int xx = 0;
-
-		if (xPosition < 0) {
-			// loop from right to left
-			while (true) {
-				if (xx != 0) {
-					temp.add(Calendar.DATE, -1);
-				}
-
-				// after adding, as it's a diff direction and we round "up" (which is left)
-				if (xx < xPosition) {
-					break;
-				}
-
-				xx -= dw;
-			}
-		} else {
-			// loop from left to right
-			while (true) {
-				if (xx > xPosition) {
-					break;
-				}
-
-				if (xx != 0) {
-					temp.add(Calendar.DATE, 1);
-				}
-
-				xx += dw;
+			// move the start date of the calendar by the minutes
+			if (totalMinutes > 0) {
+				temp.add(Calendar.MINUTE, totalMinutes);
 			}
 
+			return temp;
 		}
 
-		// System.err.println(x + " " + xx);
+		// the days of the day boxes up to the position. Right to left we round "up" (which is left), a position on
+		// a day border belongs to the day left of it, and left to right to the day right of it
+		final int days = xPosition < 0 ? -(-xPosition / dw + 1) : xPosition / dw;
+		temp.add(Calendar.DATE, days);
 
 		return temp;
 	}
@@ -8076,6 +8271,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					_freeDragging = true;
 				}
 				event.updateY(me.y);
+				_eventIndex.invalidateRows();
 			} else {
 				// this makes the event "snap" back to where it was before as we undo the vertical Y
 				// if it's within range of our original position
@@ -8494,21 +8690,20 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		if (_mainBounds == null || me.x >= _mainBounds.x) {
-			for (int i = 0; i < _ganttEvents.size(); i++) {
-				final GanttEvent event = _ganttEvents.get(i);
-				if (!event.isHidden()) {
-					if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
-						showTooltip(event, me);
-						return;
-					}
+			final List<GanttEvent> events = getEventsAt(me.y);
+			for (int i = 0; i < events.size(); i++) {
+				final GanttEvent event = events.get(i);
+				if (!event.isHidden() && isInside(me.x, me.y, event)) {
+					showTooltip(event, me);
+					return;
+				}
+			}
 
-					if (_settings.showHolidayToolTips()) {
-						for (final Holiday holiday : holidays) {
-							if (holiday.hasTooltip() && isInside(me.x, me.y, holiday.getBounds())) {
-								showTooltip(holiday, me);
-								return;
-							}
-						}
+			if (_settings.showHolidayToolTips() && !_ganttEvents.isEmpty()) {
+				for (final Holiday holiday : holidays) {
+					if (holiday.hasTooltip() && isInside(me.x, me.y, holiday.getBounds())) {
+						showTooltip(holiday, me);
+						return;
 					}
 				}
 			}
@@ -8767,6 +8962,172 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public Image getFullImage() {
 		checkWidget();
 
+		final Image[] image = new Image[1];
+		runOnFullImage(new FullImageWork() {
+			public void run(final Rectangle fullBounds) {
+				if (fullBounds == null) {
+					image[0] = getImage();
+					return;
+				}
+
+				image[0] = new Image(getDisplay(), fullBounds);
+				final GC gc2 = new GC(image[0]);
+				drawFullImage(gc2, fullBounds, true);
+				gc2.dispose();
+			}
+		}, true);
+
+		return image[0];
+	}
+
+	/**
+	 * Returns the size of the image {@link #getFullImage()} would return, without drawing it.
+	 *
+	 * @return Size of the full image
+	 */
+	public Point getFullImageSize() {
+		checkWidget();
+
+		final Point size = new Point(0, 0);
+		runOnFullImage(new FullImageWork() {
+			public void run(final Rectangle fullBounds) {
+				final Rectangle bounds = fullBounds == null ? _visibleBounds : fullBounds;
+				size.x = bounds.width;
+				size.y = bounds.height;
+			}
+		}, false);
+
+		return size;
+	}
+
+	/**
+	 * Draws the given regions of the full chart image, see {@link #getFullImage()}, one at a time and hands each one to the
+	 * handler. The chart is drawn in horizontal bands the full width of the image, one band for each run of regions that
+	 * share the same vertical range, so only a band and a region-sized image exist at any time and a chart that is too big
+	 * for a single image can be printed or saved in pieces. Use {@link #getFullImageSize()} to lay out the regions.
+	 *
+	 * @param regions Regions of the full image, relative to its top left corner
+	 * @param handler Handler that is given the image of each region in turn
+	 */
+	public void drawFullImageTiles(final Rectangle[] regions, final IImageTileHandler handler) {
+		checkWidget();
+
+		runOnFullImage(new FullImageWork() {
+			public void run(final Rectangle fullBounds) {
+				final Rectangle bounds = fullBounds == null ? _visibleBounds : fullBounds;
+
+				Image band = null;
+				int bandY = -1;
+				int bandHeight = -1;
+				int bandOffset = 0;
+				Image tile = null;
+				try {
+					for (int i = 0; i < regions.length; i++) {
+						final Rectangle region = regions[i];
+						if (region.width <= 0 || region.height <= 0) {
+							continue;
+						}
+
+						if (band == null || region.y != bandY || region.height != bandHeight) {
+							if (band != null) {
+								band.dispose();
+							}
+
+							// the band is drawn the way the chart draws itself when scrolled down, so that the region starts right
+							// below the header. Regions that reach into the header are drawn unscrolled from the top
+							final int scrollPos = Math.max(0, region.y - getHeaderHeight());
+							scrollFullImageTo(scrollPos);
+							bandY = region.y;
+							bandHeight = region.height;
+							bandOffset = region.y - scrollPos;
+
+							final Rectangle bandBounds = new Rectangle(bounds.x, bounds.y, bounds.width, bandOffset + bandHeight);
+							band = new Image(getDisplay(), bandBounds);
+							final GC gc2 = new GC(band);
+							drawFullImage(gc2, bandBounds, fullBounds != null);
+							gc2.dispose();
+						}
+
+						if (tile == null || tile.getBounds().width != region.width || tile.getBounds().height != region.height) {
+							if (tile != null) {
+								tile.dispose();
+							}
+							tile = new Image(getDisplay(), region.width, region.height);
+						}
+
+						final GC gc2 = new GC(tile);
+						gc2.drawImage(band, region.x, bandOffset, region.width, region.height, 0, 0, region.width, region.height);
+						gc2.dispose();
+
+						handler.handleTile(tile, region);
+					}
+				} finally {
+					if (band != null) {
+						band.dispose();
+					}
+					if (tile != null) {
+						tile.dispose();
+					}
+					scrollFullImageTo(0);
+				}
+			}
+		}, true);
+	}
+
+	// moves the chart laid out by runOnFullImage() the way vScroll() does
+	private void scrollFullImageTo(final int scrollPos) {
+		final int diff = scrollPos - _vScrollPos;
+		if (diff == 0) {
+			return;
+		}
+
+		_vScrollPos = scrollPos;
+		moveYBounds(diff);
+		_recalcSecBounds = true;
+	}
+
+	/**
+	 * Saves the full chart image, see {@link #getFullImage()}, as PNG files of horizontal strips, each the full width of the
+	 * chart. The files are named after the given prefix followed by the number of the strip, starting at 1, and ".png".
+	 *
+	 * @param pathPrefix Path of the files without the strip number and extension
+	 * @param stripHeight Height of each strip, the last one may be smaller
+	 * @return Number of files written
+	 */
+	public int saveFullImageStrips(final String pathPrefix, final int stripHeight) {
+		checkWidget();
+		if (stripHeight <= 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+
+		final Point size = getFullImageSize();
+		final int count = (size.y + stripHeight - 1) / stripHeight;
+		final Rectangle[] strips = new Rectangle[count];
+		for (int i = 0; i < count; i++) {
+			strips[i] = new Rectangle(0, i * stripHeight, size.x, Math.min(stripHeight, size.y - i * stripHeight));
+		}
+
+		final int[] written = new int[1];
+		drawFullImageTiles(strips, new IImageTileHandler() {
+			public void handleTile(final Image tile, final Rectangle region) {
+				final ImageLoader imageLoader = new ImageLoader();
+				imageLoader.data = new ImageData[] { tile.getImageData() };
+				imageLoader.save(pathPrefix + (region.y / stripHeight + 1) + ".png", SWT.IMAGE_PNG);
+				written[0]++;
+			}
+		});
+
+		return written[0];
+	}
+
+	// work done while the chart is laid out as the full image. The full bounds are null if there are no events, in which case the
+	// visible area stands in for the full image
+	private interface FullImageWork {
+		void run(Rectangle fullBounds);
+	}
+
+	// when the work doesn't draw, the chart is only measured and there is nothing to lay out again afterwards
+	private void runOnFullImage(final FullImageWork work, final boolean draw) {
 		// we need to pretend that we are at scroll position 0 along with that our bounds are as big as all visible events,
 		// thus we save old values before so we can reset them at the end
 		_savingChartImage = true;
@@ -8777,14 +9138,17 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		final Calendar currentCalendar = DateHelper.getNewCalendar(_mainCalendar);
 		try {
 			// as we may accidentally move the current chart when saving, don't show the user, we'll be drawing on a different canvas anyway
-			setRedraw(false);
+			if (draw) {
+				setRedraw(false);
+			}
 
 			final GanttEvent geLeft = getEvent(true, true);
 			final Rectangle fullBounds = new Rectangle(0, 0, 0, 0);
 			final GanttEvent geRight = getEvent(false, true);
 
 			if (geRight == null || geLeft == null) {
-				return getImage();
+				work.run(null);
+				return;
 			}
 
 			// set calendar to earliest date
@@ -8841,24 +9205,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			_mainBounds = fullBounds;
 
 			// forcing a full update or event visibilities will not change
-			flagForceFullUpdate();
-
-			final Image buffer = new Image(getDisplay(), fullBounds);
-
-			final GC gc2 = new GC(buffer);
-			drawChartOntoGC(gc2, fullBounds);
-			drawHeader(gc2, false);
-
-			// we don't draw this when saving an image until the very end as we push
-			// bounds around differently and it gets drawn mis-aligned if we draw it
-			// before
-			if (drawSections && _settings.getSectionSide() == SWT.RIGHT) {
-				drawSectionColumn(gc2, fullBounds, false, true, false, true);
+			if (draw) {
+				flagForceFullUpdate();
 			}
 
-			gc2.dispose();
-
-			return buffer;
+			work.run(fullBounds);
 		} catch (final Exception err) {
 			SWT.error(SWT.ERROR_UNSPECIFIED, err);
 		} finally {
@@ -8868,17 +9219,32 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			_savingChartImage = false;
 			_mainBounds = oldBounds;
 			_mainCalendar = currentCalendar;
-			getDisplay().asyncExec(new Runnable() {
-				public void run() {
-					flagForceFullUpdate();
-					// this ensures no event-flicker
-					setRedraw(true);
-					redraw();
-				}
-			});
+			if (draw) {
+				getDisplay().asyncExec(new Runnable() {
+					public void run() {
+						flagForceFullUpdate();
+						// this ensures no event-flicker
+						setRedraw(true);
+						redraw();
+					}
+				});
+			}
 		}
+	}
 
-		return null;
+	// draws the chart laid out by runOnFullImage(), the header is drawn again on the full image as it's only drawn for the visible part otherwise
+	private void drawFullImage(final GC gc2, final Rectangle bounds, final boolean full) {
+		drawChartOntoGC(gc2, bounds);
+		if (full) {
+			drawHeader(gc2, false);
+		}
+
+		// we don't draw this when saving an image until the very end as we push
+		// bounds around differently and it gets drawn mis-aligned if we draw it
+		// before
+		if (hasGanttSections() && _settings.getSectionSide() == SWT.RIGHT) {
+			drawSectionColumn(gc2, bounds, false, true, false, true);
+		}
 	}
 
 	/**
@@ -9118,6 +9484,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	void flagForceFullUpdate() {
 		_recalcScopes = true;
 		_recalcSecBounds = true;
+		_eventIndex.invalidate();
+		layoutChanged();
+		backgroundChanged();
 
 		for (int i = 0; i < _ganttEvents.size(); i++) {
 			_ganttEvents.get(i).setBoundsSet(false);
@@ -9542,5 +9911,6 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	public void setHolidays(Holiday[] holidays) {
 		this.holidays = holidays;
+		backgroundChanged();
 	}
 }
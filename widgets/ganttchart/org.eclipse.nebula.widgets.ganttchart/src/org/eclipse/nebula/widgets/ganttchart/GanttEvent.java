@@ -744,6 +744,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
     public void setRevisedStart(final int dDayStart) {
         _revisedStart = _parentComposite.getDDayCalendar();
         _revisedStart.add(Calendar.DATE, dDayStart);
+        datesChanged();
     }
 
     /**
@@ -754,6 +755,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
     public void setRevisedEnd(final int dDayEnd) {
         _revisedEnd = _parentComposite.getDDayCalendar();
         _revisedEnd.add(Calendar.DATE, dDayEnd);
+        datesChanged();
     }
 
     /**
@@ -1000,6 +1002,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
         _scopeEvents.add(event);
 
         event.setScopeParent(this);
+        datesChanged();
     }
 
     /**
@@ -1009,6 +1012,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      */
     public void removeScopeEvent(final GanttEvent event) {
         _scopeEvents.remove(event);
+        datesChanged();
     }
 
     /**
@@ -1131,6 +1135,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      */
     public void setGanttGroup(final GanttGroup group) {
         _ganttGroup = group;
+        layoutChanged();
     }
 
     /**
@@ -1158,7 +1163,10 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      * @param hidden true to hide event.
      */
     public void setHidden(boolean hidden) {
-        _hidden = hidden;
+        if (_hidden != hidden) {
+            _hidden = hidden;
+            layoutChanged();
+        }
     }
 
     /**
@@ -1271,7 +1279,10 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      * @param fixedRowHeight Fixed row height
      */
     public void setFixedRowHeight(final int fixedRowHeight) {
-        this._fixedRowHeight = fixedRowHeight;
+        if (_fixedRowHeight != fixedRowHeight) {
+            this._fixedRowHeight = fixedRowHeight;
+            layoutChanged();
+        }
     }
 
     /**
@@ -1307,6 +1318,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      */
     public void setVerticalEventAlignment(final int verticalEventAlignment) {
         this._verticalEventAlignment = verticalEventAlignment;
+        layoutChanged();
     }
 
     /**
@@ -1363,6 +1375,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      */
     public void setNoMoveBeforeDate(final Calendar noMoveBeforeDate) {
         _noMoveBeforeDate = noMoveBeforeDate;
+        datesChanged();
     }
 
     /**
@@ -1383,6 +1396,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      */
     public void setNoMoveAfterDate(final Calendar noMoveAfterDate) {
         _noMoveAfterDate = noMoveAfterDate;
+        datesChanged();
     }
 
     /**
@@ -1744,7 +1758,23 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
         return this._daysBetweenStartAndEnd;
     }
 
+    // lets the chart know the dates this event covers may have changed
+    private void datesChanged() {
+        if (_parentComposite != null) {
+            _parentComposite.eventRangeChanged(this);
+        }
+    }
+
+    // lets the chart know the row of this event may have changed
+    private void layoutChanged() {
+        if (_parentComposite != null) {
+            _parentComposite.layoutChanged();
+        }
+    }
+
     private final void updateDaysBetweenStartAndEnd() {
+        datesChanged();
+
         if (getActualStartDate() == null || getActualEndDate() == null) {
             _daysBetweenStartAndEnd = -1;
             return;
@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index over the events of a chart so that painting and hit-testing only look at the events in or near the visible
+ * area.
+ * <p>
+ * The date index is an interval tree over the dates each event covers on the chart (epoch millis). It is stored as an
+ * array sorted by start date, the middle element of each range of the array holds the latest end of that range. It is
+ * built when needed after having been invalidated. Events whose dates change in the meantime are kept aside and are
+ * returned by every query, until there are so many of them that the index is invalidated.
+ * <p>
+ * The row index holds the events drawn by the last paint sorted by their y location. It is rebuilt on every paint.
+ */
+final class GanttEventIndex {
+
+    // changed events kept aside before the date index is invalidated, at least this many
+    private static final int  MIN_CHANGED_LIMIT = 64;
+
+    private GanttEvent[]      _events           = new GanttEvent[0];
+    private long[]            _starts           = new long[0];
+    private long[]            _ends             = new long[0];
+    private long[]            _maxEnds          = new long[0];
+    private int               _size;
+    private boolean           _valid;
+
+    private final List<Entry> _pending          = new ArrayList<Entry>();
+    private final Set<GanttEvent> _changed      = new HashSet<GanttEvent>();
+
+    // position of the events in the event list of the chart, which is the order hit-testing checks them in
+    private final Map<GanttEvent, Integer> _positions = new IdentityHashMap<GanttEvent, Integer>();
+
+    private GanttEvent[]      _rowEvents        = new GanttEvent[0];
+    private int[]             _rowYs            = new int[0];
+    private int               _rowCount;
+    private int               _rowOffset;
+    private int               _maxRowHeight;
+    private boolean           _rowsValid;
+
+    private final Comparator<GanttEvent> _positionComparator = new Comparator<GanttEvent>() {
+        public int compare(final GanttEvent e1, final GanttEvent e2) {
+            return _positions.get(e1).intValue() - _positions.get(e2).intValue();
+        }
+    };
+
+    /**
+     * @return true if the date index is built and up to date
+     */
+    boolean isValid() {
+        return _valid;
+    }
+
+    /**
+     * Flags the date index and the row index for a rebuild, for instance when events are added or removed.
+     */
+    void invalidate() {
+        _valid = false;
+        _changed.clear();
+        _rowsValid = false;
+    }
+
+    /**
+     * Starts building the date index, followed by calls to {@link #setPosition(GanttEvent, int)} and
+     * {@link #add(GanttEvent, long, long)} and finally to {@link #build()}.
+     */
+    void clear() {
+        invalidate();
+        _pending.clear();
+        _positions.clear();
+    }
+
+    /**
+     * @param event event of the event list of the chart
+     * @param position index of the event in that list
+     */
+    void setPosition(final GanttEvent event, final int position) {
+        _positions.put(event, Integer.valueOf(position));
+    }
+
+    /**
+     * @param event event to add
+     * @param start start of the dates the event covers, epoch millis
+     * @param end end of the dates the event covers, epoch millis
+     */
+    void add(final GanttEvent event, final long start, final long end) {
+        _pending.add(new Entry(event, start, end));
+    }
+
+    void build() {
+        final Entry[] entries = _pending.toArray(new Entry[_pending.size()]);
+        _pending.clear();
+        Arrays.sort(entries, new Comparator<Entry>() {
+            public int compare(final Entry e1, final Entry e2) {
+                return e1.start < e2.start ? -1 : e1.start == e2.start ? 0 : 1;
+            }
+        });
+
+        _size = entries.length;
+        if (_events.length < _size) {
+            _events = new GanttEvent[_size];
+            _starts = new long[_size];
+            _ends = new long[_size];
+            _maxEnds = new long[_size];
+        } else {
+            Arrays.fill(_events, null);
+        }
+        for (int i = 0; i < _size; i++) {
+            _events[i] = entries[i].event;
+            _starts[i] = entries[i].start;
+            _ends[i] = entries[i].end;
+        }
+        buildMaxEnds(0, _size - 1);
+        _valid = true;
+    }
+
+    // stores the latest end of the range at its middle element and returns it
+    private long buildMaxEnds(final int lo, final int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        final int mid = (lo + hi) >>> 1;
+        final long max = Math.max(_ends[mid], Math.max(buildMaxEnds(lo, mid - 1), buildMaxEnds(mid + 1, hi)));
+        _maxEnds[mid] = max;
+        return max;
+    }
+
+    /**
+     * Keeps an event aside until the next rebuild, as the dates it covers may have changed.
+     *
+     * @param event event that changed
+     */
+    void eventChanged(final GanttEvent event) {
+        if (!_valid) {
+            return;
+        }
+        _changed.add(event);
+        if (_changed.size() > Math.max(MIN_CHANGED_LIMIT, _size / 16)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * @return true if the event changed since the date index was built
+     */
+    boolean isChanged(final GanttEvent event) {
+        return _changed.contains(event);
+    }
+
+    /**
+     * @return number of events in the date index
+     */
+    int size() {
+        return _size;
+    }
+
+    /**
+     * @return the event at the given index, in the order of their start dates
+     */
+    GanttEvent getEvent(final int index) {
+        return _events[index];
+    }
+
+    /**
+     * @return the start of the dates the event at the given index covers
+     */
+    long getStart(final int index) {
+        return _starts[index];
+    }
+
+    /**
+     * Adds the events which cover any date from <code>from</code> to <code>to</code>, plus all changed events.
+     *
+     * @param from epoch millis
+     * @param to epoch millis
+     * @param result list to add the events to
+     */
+    void query(final long from, final long to, final List<GanttEvent> result) {
+        query(0, _size - 1, from, to, Long.MAX_VALUE, Long.MIN_VALUE, result, result);
+        result.addAll(_changed);
+    }
+
+    /**
+     * Adds the events which cover any date from <code>from</code> to <code>to</code> but none from <code>innerFrom</code> to
+     * <code>innerTo</code>, split by the side of the inner dates they are on. Changed events are left out.
+     *
+     * @param from epoch millis
+     * @param to epoch millis
+     * @param innerFrom epoch millis
+     * @param innerTo epoch millis
+     * @param left list to add the events ending before <code>innerFrom</code> to
+     * @param right list to add the events starting after <code>innerTo</code> to
+     */
+    void queryOutside(final long from, final long to, final long innerFrom, final long innerTo, final List<GanttEvent> left,
+            final List<GanttEvent> right) {
+        query(0, _size - 1, from, to, innerFrom, innerTo, left, right);
+    }
+
+    // adds the events covering from - to, except those covering innerFrom - innerTo if that range is not empty
+    private void query(int lo, final int hi, final long from, final long to, final long innerFrom, final long innerTo,
+            final List<GanttEvent> left, final List<GanttEvent> right) {
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (_maxEnds[mid] < from) {
+                return;
+            }
+            query(lo, mid - 1, from, to, innerFrom, innerTo, left, right);
+            // everything to the right starts later
+            if (_starts[mid] > to) {
+                return;
+            }
+            if (_ends[mid] >= from && !_changed.contains(_events[mid])) {
+                if (innerFrom > innerTo || _ends[mid] < innerFrom) {
+                    left.add(_events[mid]);
+                } else if (_starts[mid] > innerTo) {
+                    right.add(_events[mid]);
+                }
+            }
+            lo = mid + 1;
+        }
+    }
+
+    /**
+     * Rebuilds the row index.
+     *
+     * @param events the drawn events
+     */
+    void buildRows(final List<GanttEvent> events) {
+        final GanttEvent[] rows = events.toArray(new GanttEvent[events.size()]);
+        Arrays.sort(rows, new Comparator<GanttEvent>() {
+            public int compare(final GanttEvent e1, final GanttEvent e2) {
+                return e1.getY() - e2.getY();
+            }
+        });
+
+        _rowCount = rows.length;
+        _rowEvents = rows;
+        if (_rowYs.length < _rowCount) {
+            _rowYs = new int[_rowCount];
+        }
+        _maxRowHeight = 0;
+        for (int i = 0; i < _rowCount; i++) {
+            _rowYs[i] = rows[i].getY();
+            _maxRowHeight = Math.max(_maxRowHeight, rows[i].getHeight());
+        }
+        _rowOffset = 0;
+        _rowsValid = true;
+    }
+
+    /**
+     * Flags the row index as out of date until the next paint, for instance when an event is dragged vertically.
+     */
+    void invalidateRows() {
+        _rowsValid = false;
+    }
+
+    /**
+     * Moves all rows, same as the y location of all events is moved when scrolling vertically.
+     *
+     * @param move pixels to move the rows by
+     */
+    void moveRows(final int move) {
+        _rowOffset += move;
+    }
+
+    /**
+     * Returns the events of the event list of the chart whose row may contain the given y location, in the order of that
+     * list. The caller still checks the bounds of each event.
+     *
+     * @param y y location
+     * @param result list to add the events to
+     * @return false if the rows are out of date, and all events need to be checked
+     */
+    boolean getEventsAt(final int y, final List<GanttEvent> result) {
+        if (!_rowsValid || !_valid) {
+            return false;
+        }
+
+        final int top = y - _rowOffset - _maxRowHeight;
+        int lo = 0;
+        int hi = _rowCount;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (_rowYs[mid] < top) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        final int bottom = y - _rowOffset;
+        for (int i = lo; i < _rowCount && _rowYs[i] <= bottom; i++) {
+            if (_positions.containsKey(_rowEvents[i])) {
+                result.add(_rowEvents[i]);
+            }
+        }
+
+        if (result.size() > 1) {
+            Collections.sort(result, _positionComparator);
+        }
+        return true;
+    }
+
+    private static final class Entry {
+        final GanttEvent event;
+        final long       start;
+        final long       end;
+
+        Entry(final GanttEvent event, final long start, final long end) {
+            this.event = event;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -58,6 +58,7 @@ public class GanttGroup extends AbstractGanttEvent implements IGanttChartItem {
         }
 
         event.setGanttGroup(this);
+        layoutChanged();
     }
 
     /**
@@ -71,6 +72,7 @@ public class GanttGroup extends AbstractGanttEvent implements IGanttChartItem {
         }
 
         _events.remove(event);
+        layoutChanged();
     }
 
     /**
@@ -107,7 +109,10 @@ public class GanttGroup extends AbstractGanttEvent implements IGanttChartItem {
      * @param fixedRowHeight Row height in pixels.
      */
     public void setFixedRowHeight(final int fixedRowHeight) {
-        this._fixedRowHeight = fixedRowHeight;
+        if (_fixedRowHeight != fixedRowHeight) {
+            this._fixedRowHeight = fixedRowHeight;
+            layoutChanged();
+        }
     }
 
     /**
@@ -142,6 +147,12 @@ public class GanttGroup extends AbstractGanttEvent implements IGanttChartItem {
      */
     public void setVerticalEventAlignment(final int vAlignment) {
         this._vAlignment = vAlignment;
+        layoutChanged();
+    }
+
+    // the rows of the chart depend on the members and row height of its groups
+    private void layoutChanged() {
+        _chart.getGanttComposite().layoutChanged();
     }
 
     /**
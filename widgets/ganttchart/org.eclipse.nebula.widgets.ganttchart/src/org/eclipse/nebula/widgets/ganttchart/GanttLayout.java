@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.swt.SWT;
+
+/**
+ * Immutable snapshot of the vertical layout of the events of a chart or of one of its sections: the order the events are
+ * laid out and drawn in, with the members of groups in place of their group, and the rows they end up on.
+ * <p>
+ * The rows only depend on that order, on which events are hidden or grouped and on the row heights, not on the dates or
+ * the view. The snapshot is therefore kept while the chart is scrolled or zoomed and only built again when the events,
+ * groups or row heights change. All y locations are as if the chart was not scrolled vertically.
+ */
+final class GanttLayout {
+
+    private final GanttEvent[] _events;
+    private final boolean[]    _laidOut;
+    private final int[]        _y;
+    private final int[]        _lineTopY;
+    private final int[]        _lineBottomY;
+
+    // bottom of the laid out events, and whether it replaces the bottom of what was laid out before instead of extending it
+    private final int          _bottomY;
+    private final boolean      _bottomReplaced;
+
+    // what the layout was built with
+    private final int          _top;
+    private final int          _eventHeight;
+    private final int          _eventSpacer;
+    private final int          _fixedRowHeight;
+
+    /**
+     * Lays out the given events.
+     *
+     * @param items events and groups of the chart or section, in the order they were added in
+     * @param groupedEvents events that are members of a group of the chart
+     * @param top y location of the first row
+     * @param eventHeight height of an event
+     * @param eventSpacer space between rows
+     * @param fixedRowHeight row height override of the chart, 0 if none. It has to be set on the events and groups already
+     */
+    GanttLayout(final List items, final Set groupedEvents, final int top, final int eventHeight, final int eventSpacer, final int fixedRowHeight) {
+        _top = top;
+        _eventHeight = eventHeight;
+        _eventSpacer = eventSpacer;
+        _fixedRowHeight = fixedRowHeight;
+
+        final List order = new ArrayList();
+        for (int i = 0; i < items.size(); i++) {
+            final IGanttChartItem item = (IGanttChartItem) items.get(i);
+            if (item instanceof GanttGroup) {
+                order.addAll(((GanttGroup) item).getEventMembers());
+            } else {
+                order.add(item);
+            }
+        }
+
+        final int size = order.size();
+        _events = (GanttEvent[]) order.toArray(new GanttEvent[size]);
+        _laidOut = new boolean[size];
+        _y = new int[size];
+        _lineTopY = new int[size];
+        _lineBottomY = new int[size];
+
+        int yStart = top;
+        int bottomY = Integer.MIN_VALUE;
+        boolean bottomReplaced = false;
+        boolean lastLoopWasGroup = false;
+        final Map groupLocations = new HashMap();
+
+        for (int i = 0; i < size; i++) {
+            final GanttEvent ge = _events[i];
+
+            if (ge.isHidden()) {
+                continue;
+            }
+
+            boolean groupedEvent = false;
+            boolean newGroup = false;
+
+            // entire group if this element is part of a group
+            if (groupedEvents.contains(ge)) {
+                groupedEvent = true;
+
+                // remember the location we draw this group at
+                if (!groupLocations.containsKey(ge.getGanttGroup())) {
+                    newGroup = true;
+                    if (i != 0 && lastLoopWasGroup) {
+                        yStart += eventHeight + eventSpacer;
+                    }
+                    groupLocations.put(ge.getGanttGroup(), Integer.valueOf(yStart));
+                }
+            }
+
+            // event just after a group
+            if (lastLoopWasGroup && !groupedEvent) {
+                yStart += eventHeight + eventSpacer;
+            }
+
+            // position event will be drawn at vertically
+            int yDrawPos = yStart;
+
+            // if it's a grouped event, get the location from our map to where it's drawn
+            if (groupedEvent && groupLocations.containsKey(ge.getGanttGroup())) {
+                yDrawPos = ((Integer) groupLocations.get(ge.getGanttGroup())).intValue();
+            }
+
+            int rowHeight = fixedRowHeight;
+            int verticalAlignment = ge.getVerticalEventAlignment();
+
+            if (ge.getGanttGroup() == null) {
+                if (!ge.isAutomaticRowHeight()) {
+                    rowHeight = ge.getFixedRowHeight();
+                }
+            } else {
+                verticalAlignment = ge.getGanttGroup().getVerticalEventAlignment();
+                if (!ge.getGanttGroup().isAutomaticRowHeight()) {
+                    rowHeight = ge.getGanttGroup().getFixedRowHeight();
+                }
+            }
+
+            final boolean fixedHeight = rowHeight > 0;
+
+            _lineTopY[i] = yStart;
+
+            if (fixedHeight) {
+                yStart += rowHeight;
+
+                int extra = 0;
+
+                switch (verticalAlignment) {
+                    case SWT.BOTTOM:
+                        extra = rowHeight - eventHeight;
+                        break;
+                    case SWT.CENTER:
+                        extra = rowHeight / 2 - eventHeight / 2;
+                        break;
+                    case SWT.NONE:
+                    case SWT.TOP:
+                        extra = eventSpacer - eventHeight;
+                        break;
+                    default:
+                        break;
+                }
+
+                if (extra < 0) {
+                    extra = 0;
+                }
+
+                yDrawPos += extra;
+            }
+
+            // sub-events in a grouped event type where the group has a fixed row height, we just set the yStart to the last yStart, which actually
+            // got through the above switch statement and had its start position calculated
+            if (!newGroup && groupedEvent) {
+                yDrawPos = ((Integer) groupLocations.get(ge.getGanttGroup())).intValue();
+            }
+
+            _lineBottomY[i] = fixedHeight ? yDrawPos - eventHeight : yDrawPos + eventHeight;
+            _y[i] = yDrawPos;
+            _laidOut[i] = true;
+
+            if (groupedEvent) {
+                lastLoopWasGroup = true;
+            } else {
+                // space them out
+                if (!fixedHeight) {
+                    yStart += eventHeight + eventSpacer;
+                    bottomY = yStart + eventHeight;
+                    bottomReplaced = true;
+                }
+                lastLoopWasGroup = false;
+            }
+
+            bottomY = Math.max(bottomY, yStart + eventHeight);
+        }
+
+        _bottomY = bottomY;
+        _bottomReplaced = bottomReplaced;
+    }
+
+    /**
+     * @return true if the layout was built with the given values
+     */
+    boolean isBuiltFor(final int top, final int eventHeight, final int eventSpacer, final int fixedRowHeight) {
+        return _top == top && _eventHeight == eventHeight && _eventSpacer == eventSpacer && _fixedRowHeight == fixedRowHeight;
+    }
+
+    /**
+     * @return number of events in the layout, members of several groups count once per group
+     */
+    int size() {
+        return _events.length;
+    }
+
+    GanttEvent getEvent(final int index) {
+        return _events[index];
+    }
+
+    /**
+     * @return false if the event was hidden when the layout was built and has no row
+     */
+    boolean isLaidOut(final int index) {
+        return _laidOut[index];
+    }
+
+    /**
+     * @return y location of the event
+     */
+    int getY(final int index) {
+        return _y[index];
+    }
+
+    /**
+     * @return y location of the top of the row of the event
+     */
+    int getLineTopY(final int index) {
+        return _lineTopY[index];
+    }
+
+    /**
+     * @return y location of the bottom of the row of the event
+     */
+    int getLineBottomY(final int index) {
+        return _lineBottomY[index];
+    }
+
+    /**
+     * Returns the bottom of the laid out events given the bottom of what was laid out before them, before taking off the
+     * space below the last row.
+     *
+     * @param previousBottomY bottom of what was laid out before
+     * @return bottom y location
+     */
+    int getBottomY(final int previousBottomY) {
+        return _bottomReplaced ? _bottomY : Math.max(previousBottomY, _bottomY);
+    }
+}
@@ -105,6 +105,7 @@ public final class GanttPhase {
         if (startDate == null) {
             _startDate = null;
             _start = -1;
+            backgroundChanged();
             return;
         }
         _startDate = DateHelper.getNewCalendar(startDate);
@@ -121,6 +122,7 @@ public final class GanttPhase {
         if (endDate == null) {
             _endDate = null;
             _end = -1;
+            backgroundChanged();
             return;
         }
         _endDate = DateHelper.getNewCalendar(endDate);
@@ -167,6 +169,7 @@ public final class GanttPhase {
 
     public void setBodyTopColor(final Color bodyTopColor) {
         _bodyTopColor = bodyTopColor;
+        backgroundChanged();
     }
 
     public Color getBodyBottomColor() {
@@ -175,6 +178,7 @@ public final class GanttPhase {
 
     public void setBodyBottomColor(final Color bodyBottomColor) {
         _bodyBottomColor = bodyBottomColor;
+        backgroundChanged();
     }
 
     public int getAlpha() {
@@ -183,6 +187,7 @@ public final class GanttPhase {
 
     public void setAlpha(final int alpha) {
         _alpha = alpha;
+        backgroundChanged();
     }
 
     public Object getData() {
@@ -199,6 +204,7 @@ public final class GanttPhase {
 
     public void setHidden(final boolean hidden) {
         _hidden = hidden;
+        backgroundChanged();
     }
 
     public boolean isResizable() {
@@ -251,10 +257,12 @@ public final class GanttPhase {
 
     public void setStart(final long start) {
         _start = start;
+        backgroundChanged();
     }
 
     public void setEnd(final long end) {
         _end = end;
+        backgroundChanged();
     }
 
     public Color getHeaderTextColor() {
@@ -309,7 +317,16 @@ public final class GanttPhase {
     
     // --------------- PRIVATE METHODS ------------------
 
+    // the phase body is part of the cached background of the chart
+    private void backgroundChanged() {
+        if (_parentComposite != null) {
+            _parentComposite.backgroundChanged();
+        }
+    }
+
     private void updateDaysBetweenStartAndEnd() {
+        backgroundChanged();
+
         final Calendar start = getStartDate();
         final Calendar end = getEndDate();
         
@@ -136,7 +136,7 @@ public class GanttSection implements IFillBackgroundColors {
             if (event instanceof GanttEvent) {
                 ((GanttEvent) event).setGanttSection(this);
             }
-            
+            _parent.layoutChanged();
         }
     }
 
@@ -146,7 +146,9 @@ public class GanttSection implements IFillBackgroundColors {
      * @param event Item to remove
      */
     public void removeGanttEvent(final IGanttChartItem event) {
-        _ganttEvents.remove(event);
+        if (_ganttEvents.remove(event)) {
+            _parent.layoutChanged();
+        }
     }
 
 
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.TimeZone;
+
+/**
+ * Primitive time model used by the chart instead of temporary <code>Calendar</code> objects. Instants are epoch
+ * milliseconds, dates are epoch days (days since 1970-01-01 in the local time zone), so converting between dates and x
+ * positions is plain long arithmetic.
+ * <p>
+ * The zone offset of the last looked up period is cached. Transitions are searched for in a window of a few days around
+ * the looked up instant, which assumes that a zone never changes its offset twice within that window.
+ */
+final class GanttTimeModel {
+
+    static final long MILLIS_PER_SECOND = 1000;
+    static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    static final long MILLIS_PER_DAY    = 24 * 60 * MILLIS_PER_MINUTE;
+
+    private static final long OFFSET_WINDOW = 3 * MILLIS_PER_DAY;
+
+    private final TimeZone    _zone;
+
+    // replaced as a whole, so readers on other threads never see a half updated period
+    private volatile OffsetPeriod _period = new OffsetPeriod(0, 0, 0);
+
+    GanttTimeModel(final TimeZone zone) {
+        _zone = zone;
+    }
+
+    TimeZone getZone() {
+        return _zone;
+    }
+
+    /**
+     * @param millis epoch milliseconds
+     * @return the offset of the zone at the given instant, including daylight savings
+     */
+    int getOffset(final long millis) {
+        OffsetPeriod period = _period;
+        if (millis < period.start || millis >= period.end) {
+            period = findPeriod(millis);
+            _period = period;
+        }
+        return period.offset;
+    }
+
+    /**
+     * @param millis epoch milliseconds
+     * @return the local wall clock time as milliseconds since 1970-01-01 00:00 local time
+     */
+    long toLocalMillis(final long millis) {
+        return millis + getOffset(millis);
+    }
+
+    /**
+     * @param millis epoch milliseconds
+     * @return the local date as days since 1970-01-01
+     */
+    long toEpochDay(final long millis) {
+        return Math.floorDiv(toLocalMillis(millis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * @param millis epoch milliseconds
+     * @return milliseconds since local midnight
+     */
+    long getMillisOfDay(final long millis) {
+        return Math.floorMod(toLocalMillis(millis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * @return number of local dates between the two instants, ignoring the time of day
+     */
+    long daysBetween(final long startMillis, final long endMillis) {
+        return toEpochDay(endMillis) - toEpochDay(startMillis);
+    }
+
+    /**
+     * @param assumeSameDate true to only compare the local time of day
+     * @return milliseconds between the two instants
+     */
+    long millisBetween(final long startMillis, final long endMillis, final boolean assumeSameDate) {
+        if (assumeSameDate) {
+            return getMillisOfDay(endMillis) - getMillisOfDay(startMillis);
+        }
+        return endMillis - startMillis;
+    }
+
+    private OffsetPeriod findPeriod(final long millis) {
+        final int offset = _zone.getOffset(millis);
+        long start = millis - OFFSET_WINDOW;
+        if (_zone.getOffset(start) != offset) {
+            start = findTransition(start, millis);
+        }
+        long end = millis + OFFSET_WINDOW;
+        if (_zone.getOffset(end) != offset) {
+            end = findTransition(millis, end);
+        }
+        return new OffsetPeriod(start, end, offset);
+    }
+
+    // first instant in (from, to] with the offset of to, the offsets of from and to differ
+    private long findTransition(long from, long to) {
+        final int toOffset = _zone.getOffset(to);
+        while (to - from > 1) {
+            final long mid = from + (to - from) / 2;
+            if (_zone.getOffset(mid) == toOffset) {
+                to = mid;
+            } else {
+                from = mid;
+            }
+        }
+        return to;
+    }
+
+    private static final class OffsetPeriod {
+        final long start;
+        final long end;
+        final int  offset;
+
+        OffsetPeriod(final long start, final long end, final int offset) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+        }
+    }
+}
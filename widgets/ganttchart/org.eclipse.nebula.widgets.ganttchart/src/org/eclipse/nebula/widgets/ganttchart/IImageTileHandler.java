@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.ganttchart;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * This interface is used to receive the regions of the full chart image one at a time, so that
+ * the chart can be printed or saved without ever holding an image of the entire chart in memory.
+ *
+ * @see GanttComposite#drawFullImageTiles(Rectangle[], IImageTileHandler)
+ */
+public interface IImageTileHandler {
+
+	/**
+	 * Handles one region of the full chart image. The image is reused for the next region
+	 * once this method returns, so it must neither be kept nor disposed.
+	 * @param tile Image of the region, exactly as big as the region.
+	 * @param region The region of the full chart image that is drawn on the tile.
+	 */
+	void handleTile(Image tile, Rectangle region);
+}
@@ -27,8 +27,8 @@ import org.eclipse.swt.graphics.Image;
 /**
  * This interface lets you define various settings for the GanttChart. It's highly advisable that for implementation, {@link AbstractSettings} is extended
  * and methods needed to be changed from their defaults are overridden and changed. It would be quite a hassle to implement a full ISettings interface from scratch.
- * In order to preserve binary compatibility, after the MinuteView implementation, this interface has been extended by {@link ISettings2}
- * Please refer both to {@link ISettings} and {@link ISettings2} for any setting change.
+ * In order to preserve binary compatibility, after the MinuteView implementation, this interface has been extended by {@link ISettings2}, which in turn is extended by {@link ISettings3}
+ * Please refer to {@link ISettings}, {@link ISettings2} and {@link ISettings3} for any setting change.
  *
  * <pre>
  * class MySettings extends AbstractSettings {
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.ganttchart;
+
+/**
+ * This interface is an extension of ISettings2 with settings added later. Like {@link ISettings2}, it keeps existing implementations of the
+ * previous interfaces binary compatible: settings not implementing it keep the behavior the chart had before the setting was added,
+ * which is noted on each method.
+ * The abstract class {@link AbstractSettings} is implementing this interface.
+ * 
+ * You can change some settings by creating your own class and overriding your desired methods, instructions as follows:
+ * <pre>
+ * public class MySettings extends AbstractSettings {
+ * 	// override your methods here
+ * }
+ * </pre>
+ */
+
+public interface ISettings3 extends ISettings2 {
+
+    /**
+     * Whether to keep an off-screen copy of the chart background (fills, phases and vertical lines) and only repaint it when the view, zoom
+     * level, dates or phases change. Scrolling in the week, month and D-Day views shifts the copy by whole days. Charts with sections always
+     * draw the background directly.
+     * 
+     * @return <code>true</code> to cache the background. Default is <code>true</code> in {@link AbstractSettings}, settings not implementing this interface do not cache it.
+     */
+    public boolean cacheChartBackground();
+
+}
@@ -17,7 +17,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.nebula.widgets.ganttchart.GanttChart;
-import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.printing.Printer;
 import org.eclipse.swt.widgets.Display;
@@ -70,11 +69,9 @@ public class CompoundGanttChartPrinter extends GanttChartPrinter {
 		Point result = new Point(0, 0);
 		
 		for (GanttChart ganttChart : this.ganttCharts) {
-			Image chartImage = ganttChart.getGanttComposite().getFullImage();
-			Point imgPoint = PrintUtils.getPageCount(printer, chartImage);
+			Point imgPoint = PrintUtils.getPageCount(printer, ganttChart.getGanttComposite().getFullImageSize());
 			result.x += imgPoint.x;
 			result.y += imgPoint.y;
-			chartImage.dispose();
 		}
 		
 		return result; 
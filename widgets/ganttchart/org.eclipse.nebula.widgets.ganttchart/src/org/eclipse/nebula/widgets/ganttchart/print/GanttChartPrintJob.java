@@ -14,9 +14,12 @@
 package org.eclipse.nebula.widgets.ganttchart.print;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import org.eclipse.nebula.widgets.ganttchart.GanttChart;
+import org.eclipse.nebula.widgets.ganttchart.IImageTileHandler;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
@@ -73,12 +76,20 @@ public class GanttChartPrintJob implements Runnable {
 	
 	public void run() {
 		if (printer.startJob(jobName)) {
-			GC gc = new GC(printer);
+			final GC gc = new GC(printer);
 
 			int currentPage = 1;
-			for (GanttChart ganttChart : this.ganttCharts) {
+			for (final GanttChart ganttChart : this.ganttCharts) {
 				
-				Image printerImage = null;
+				final Rectangle printerClientArea = PrintUtils.computePrintArea(printer);
+				final Point scaleFactor = PrintUtils.computeScaleFactor(printer);
+
+				// Calculate the bounds of a page
+				int printerClientAreaHeight = ganttChart.getSettings().printFooter() ? 
+						(printerClientArea.height - PrintUtils.FOOTER_HEIGHT_IN_PRINTER_DPI) : printerClientArea.height;
+				final int pageWidth = printerClientArea.width / scaleFactor.x;
+				final int pageHeight = printerClientAreaHeight / scaleFactor.y;
+
 				if (printer.getPrinterData().scope == PrinterData.SELECTION) {
 					//the user selected to only print the selected area
 					//as this is quite difficult in GanttChart, we specify that
@@ -87,75 +98,60 @@ public class GanttChartPrintJob implements Runnable {
 					//area means: 
 					// - really only the visible area horizontally and vertically
 					// - only the horizontal visible area, but vertically everything
-					printerImage = ganttChart.getSettings().printSelectedVerticallyComplete() ? 
+					final Image printerImage = ganttChart.getSettings().printSelectedVerticallyComplete() ? 
 							ganttChart.getGanttComposite().getVerticallyFullImage() : ganttChart.getGanttComposite().getImage();
+					final Point pageCount = PrintUtils.getPageCount(printer, printerImage);
+
+					// Print pages Left to Right and then Top to Down
+					for (int verticalPageNumber = 0; verticalPageNumber < pageCount.y; verticalPageNumber++) {
+						for (int horizontalPageNumber = 0; horizontalPageNumber < pageCount.x; horizontalPageNumber++) {
+							if (shouldPrint(printer.getPrinterData(), currentPage)) {
+								final Rectangle region = getPageRegion(horizontalPageNumber, verticalPageNumber, pageWidth, pageHeight, 
+										printerImage.getBounds().width, printerImage.getBounds().height);
+								printPage(gc, ganttChart, printerImage, region, region, currentPage, printerClientArea, scaleFactor);
+							}
+							currentPage++;
+						}
+					}
+					
+					printerImage.dispose();
 				}
 				else {
-					printerImage = ganttChart.getGanttComposite().getFullImage();
-				}
-				
-				final Rectangle printerClientArea = PrintUtils.computePrintArea(printer);
-				final Point scaleFactor = PrintUtils.computeScaleFactor(printer);
-				final Point pageCount = PrintUtils.getPageCount(printer, printerImage);
-
-				// Print pages Left to Right and then Top to Down
-				for (int verticalPageNumber = 0; verticalPageNumber < pageCount.y; verticalPageNumber++) {
-
-					for (int horizontalPageNumber = 0; horizontalPageNumber < pageCount.x; horizontalPageNumber++) {
-
-						// Calculate bounds for the next page
-						int printerClientAreaHeight = ganttChart.getSettings().printFooter() ? 
-								(printerClientArea.height - PrintUtils.FOOTER_HEIGHT_IN_PRINTER_DPI) : printerClientArea.height;
-						Rectangle printBounds = new Rectangle((printerClientArea.width / scaleFactor.x) * horizontalPageNumber,
-						                                      (printerClientAreaHeight / scaleFactor.y) * verticalPageNumber,
-						                                      printerClientArea.width / scaleFactor.x,
-						                                      printerClientAreaHeight / scaleFactor.y);
-
-						if (shouldPrint(printer.getPrinterData(), currentPage)) {
-							printer.startPage();
-
-							Transform printerTransform = new Transform(printer);
+					//the whole chart is drawn page by page, as an image of all of it may be
+					//bigger than what fits into memory
+					final Point imageSize = ganttChart.getGanttComposite().getFullImageSize();
+					final Point pageCount = PrintUtils.getPageCount(printer, imageSize);
 
-							// Adjust for DPI difference between display and printer
-							printerTransform.scale(scaleFactor.x, scaleFactor.y);
-
-							// Adjust for margins
-							printerTransform.translate(printerClientArea.x / scaleFactor.x, printerClientArea.y / scaleFactor.y);
-
-							// GanttChart will not automatically print the pages at the left margin.
-							// Example: page 1 will print at x = 0, page 2 at x = 100, page 3 at x = 300
-							// Adjust to print from the left page margin. i.e x = 0
-							printerTransform.translate(-1 * printBounds.x, -1 * printBounds.y);
-							gc.setTransform(printerTransform);
-
-							int imgWidthClipping = printBounds.width;
-							if (((horizontalPageNumber * printBounds.width)+printBounds.width) > printerImage.getImageData().width) {
-								imgWidthClipping = printerImage.getImageData().width - (horizontalPageNumber * printBounds.width);
+					// Collect the pages Left to Right and then Top to Down
+					final List<Rectangle> regions = new ArrayList<Rectangle>();
+					final List<Integer> pageNumbers = new ArrayList<Integer>();
+					for (int verticalPageNumber = 0; verticalPageNumber < pageCount.y; verticalPageNumber++) {
+						for (int horizontalPageNumber = 0; horizontalPageNumber < pageCount.x; horizontalPageNumber++) {
+							if (shouldPrint(printer.getPrinterData(), currentPage)) {
+								regions.add(getPageRegion(horizontalPageNumber, verticalPageNumber, pageWidth, pageHeight, imageSize.x, imageSize.y));
+								pageNumbers.add(currentPage);
 							}
-							
-							int imgHeightClipping = printBounds.height;
-							if (((verticalPageNumber * printBounds.height)+printBounds.height) > printerImage.getImageData().height) {
-								imgHeightClipping = printerImage.getImageData().height - (verticalPageNumber * printBounds.height);
+							currentPage++;
+						}
+					}
+
+					// the tiles arrive in the order of the pages, pages beyond the edge of the chart
+					// get no tile and are printed with their footer only
+					final int[] nextPage = new int[] { 0 };
+					ganttChart.getGanttComposite().drawFullImageTiles(regions.toArray(new Rectangle[regions.size()]), new IImageTileHandler() {
+						public void handleTile(Image tile, Rectangle region) {
+							while (regions.get(nextPage[0]) != region) {
+								printPage(gc, ganttChart, null, null, regions.get(nextPage[0]), pageNumbers.get(nextPage[0]), printerClientArea, scaleFactor);
+								nextPage[0]++;
 							}
-							
-							gc.drawImage(printerImage, 
-									horizontalPageNumber * printBounds.width, 
-									verticalPageNumber * printBounds.height, 
-									imgWidthClipping, imgHeightClipping,
-									printBounds.x, printBounds.y, imgWidthClipping, imgHeightClipping);
-							
-							if (ganttChart.getSettings().printFooter())
-								printFooter(gc, ganttChart, currentPage, printBounds);
-
-							printer.endPage();
-							printerTransform.dispose();
-							
+							printPage(gc, ganttChart, tile, new Rectangle(0, 0, region.width, region.height), region, pageNumbers.get(nextPage[0]), printerClientArea, scaleFactor);
+							nextPage[0]++;
 						}
-						currentPage++;
+					});
+					for (int i = nextPage[0]; i < regions.size(); i++) {
+						printPage(gc, ganttChart, null, null, regions.get(i), pageNumbers.get(i), printerClientArea, scaleFactor);
 					}
 				}
-				
-				printerImage.dispose();
 			}
 			
 			printer.endJob();
@@ -168,6 +164,72 @@ public class GanttChartPrintJob implements Runnable {
 		}
 	}
 
+	/**
+	 * Calculates the region of the chart image that is printed on a page.
+	 * @param horizontalPageNumber The horizontal index of the page
+	 * @param verticalPageNumber The vertical index of the page
+	 * @param pageWidth The width of a page
+	 * @param pageHeight The height of a page
+	 * @param imageWidth The width of the chart image
+	 * @param imageHeight The height of the chart image
+	 * @return The region of the chart image, which may be empty for pages beyond the edge of the image
+	 */
+	private Rectangle getPageRegion(int horizontalPageNumber, int verticalPageNumber, int pageWidth, int pageHeight, int imageWidth, int imageHeight) {
+		int x = horizontalPageNumber * pageWidth;
+		int y = verticalPageNumber * pageHeight;
+		return new Rectangle(x, y, 
+				Math.max(0, Math.min(pageWidth, imageWidth - x)), 
+				Math.max(0, Math.min(pageHeight, imageHeight - y)));
+	}
+
+	/**
+	 * Prints one page.
+	 * @param gc The graphical context that is used for printing
+	 * @param ganttChart The GanttChart which is currently printed.
+	 * @param image The image to print from, or <code>null</code> for a page without chart
+	 * @param source The area of the image to print
+	 * @param region The region of the chart image that is printed on the page
+	 * @param currentPage The number of the current page that is printed
+	 * @param printerClientArea The print area of the printer
+	 * @param scaleFactor The factor to scale the screen resolution by
+	 */
+	private void printPage(GC gc, GanttChart ganttChart, Image image, Rectangle source, Rectangle region, int currentPage, 
+			Rectangle printerClientArea, Point scaleFactor) {
+		int printerClientAreaHeight = ganttChart.getSettings().printFooter() ? 
+				(printerClientArea.height - PrintUtils.FOOTER_HEIGHT_IN_PRINTER_DPI) : printerClientArea.height;
+		Rectangle printBounds = new Rectangle(region.x, region.y,
+		                                      printerClientArea.width / scaleFactor.x,
+		                                      printerClientAreaHeight / scaleFactor.y);
+
+		printer.startPage();
+
+		Transform printerTransform = new Transform(printer);
+
+		// Adjust for DPI difference between display and printer
+		printerTransform.scale(scaleFactor.x, scaleFactor.y);
+
+		// Adjust for margins
+		printerTransform.translate(printerClientArea.x / scaleFactor.x, printerClientArea.y / scaleFactor.y);
+
+		// GanttChart will not automatically print the pages at the left margin.
+		// Example: page 1 will print at x = 0, page 2 at x = 100, page 3 at x = 300
+		// Adjust to print from the left page margin. i.e x = 0
+		printerTransform.translate(-1 * printBounds.x, -1 * printBounds.y);
+		gc.setTransform(printerTransform);
+
+		if (image != null && source.width > 0 && source.height > 0) {
+			gc.drawImage(image, 
+					source.x, source.y, source.width, source.height,
+					printBounds.x, printBounds.y, source.width, source.height);
+		}
+		
+		if (ganttChart.getSettings().printFooter())
+			printFooter(gc, ganttChart, currentPage, printBounds);
+
+		printer.endPage();
+		printerTransform.dispose();
+	}
+
 	/**
 	 * Render the footer to a print page.
 	 * @param gc The graphical context that is used for printing
@@ -16,7 +16,6 @@ package org.eclipse.nebula.widgets.ganttchart.print;
 import org.eclipse.nebula.widgets.ganttchart.GanttChart;
 import org.eclipse.nebula.widgets.ganttchart.ILanguageManager;
 import org.eclipse.nebula.widgets.ganttchart.ISettings;
-import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.printing.PrintDialog;
 import org.eclipse.swt.printing.Printer;
@@ -26,7 +25,8 @@ import org.eclipse.swt.widgets.Shell;
 
 /**
  * This class is used to print a GanttChart. For this it will use the already existing
- * functionality of rendering the GanttChart to an image.
+ * functionality of rendering the GanttChart to an image, one page at a time when the
+ * whole chart is printed.
  * <p>
  * There are some configuration parameters that have impact on:
  * <ul>
@@ -112,9 +112,6 @@ public class GanttChartPrinter {
 	 * @return The number of horizontal and vertical pages that will be printed.
 	 */
 	protected Point getFullPageCount(Printer printer) {
-		Image chartImage = this.ganttChart.getGanttComposite().getFullImage();
-		Point result = PrintUtils.getPageCount(printer, chartImage);
-		chartImage.dispose();
-		return result;
+		return PrintUtils.getPageCount(printer, this.ganttChart.getGanttComposite().getFullImageSize());
 	}
 }
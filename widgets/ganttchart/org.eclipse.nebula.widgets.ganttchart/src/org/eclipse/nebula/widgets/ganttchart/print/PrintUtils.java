@@ -87,6 +87,20 @@ public class PrintUtils {
 	 */
 	public static Point getPageCount(Printer printer, Image image){
 		Rectangle ganttArea = getVisibleGanttChartArea(image);
+		return getPageCount(printer, new Point(ganttArea.width, ganttArea.height));
+	}
+
+	/**
+	 * Calculate number of horizontal and vertical pages needed
+	 * to print an image of the chart with the given size.
+	 * @param printer The printer that will be used to print the chart
+	 * @param imageSize The size of the image of the chart that should be printed.
+	 * @return The number of horizontal and vertical pages that will be
+	 * 			printed.
+	 * @see org.eclipse.nebula.widgets.ganttchart.GanttComposite#getFullImageSize()
+	 */
+	public static Point getPageCount(Printer printer, Point imageSize){
+		Rectangle ganttArea = new Rectangle(0, 0, imageSize.x, imageSize.y);
 		Rectangle printArea = PrintUtils.computePrintArea(printer);
 		Point scaleFactor = PrintUtils.computeScaleFactor(printer);
 		
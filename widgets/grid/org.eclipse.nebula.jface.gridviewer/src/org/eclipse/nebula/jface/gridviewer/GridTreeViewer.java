@@ -297,6 +297,10 @@ public class GridTreeViewer extends AbstractTreeViewer {
 	 * When this method is called, existing rows are not resized to their 
 	 * preferred height.  Therefore it is suggested that this method be called
 	 * before rows are populated (i.e. before setInput).
+	 * <p>
+	 * For large inputs, consider enabling
+	 * {@link Grid#setEstimatedItemHeights(boolean)}: rows are then measured
+	 * when they are scrolled into view instead of when they are populated.
 	 */
 	public void setAutoPreferredHeight(boolean autoPreferredHeight) {
 		this.autoPreferredHeight = autoPreferredHeight;
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridColumns;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ColumnarDataVisualizer_Test {
+
+  private Display display;
+  private Shell shell;
+  private ColumnarDataVisualizer visualizer;
+  private Grid grid;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    visualizer = new ColumnarDataVisualizer( display.getSystemColor( SWT.COLOR_WHITE ),
+                                             display.getSystemColor( SWT.COLOR_BLACK ),
+                                             display.getSystemFont() );
+    grid = new Grid( visualizer, shell, SWT.CHECK );
+  }
+
+  @After
+  public void tearDown() {
+    shell.dispose();
+  }
+
+  @Test
+  public void testDefaults() {
+    createGridColumns( grid, 2, SWT.NONE );
+    GridItem item = new GridItem( grid, SWT.NONE );
+
+    assertEquals( "", item.getText( 1 ) );
+    assertSame( display.getSystemColor( SWT.COLOR_WHITE ), item.getBackground( 1 ) );
+    assertSame( display.getSystemFont(), item.getFont( 1 ) );
+    assertTrue( item.getCheckable( 1 ) );
+    assertFalse( item.getChecked( 1 ) );
+    assertEquals( 0, item.getColumnSpan( 1 ) );
+    assertEquals( 0, visualizer.getRowSlotCount() );
+  }
+
+  @Test
+  public void testSetValues() {
+    createGridColumns( grid, 3, SWT.NONE );
+    GridItem item = new GridItem( grid, SWT.NONE );
+    Color red = display.getSystemColor( SWT.COLOR_RED );
+
+    item.setText( 2, "foo" );
+    item.setBackground( 1, red );
+    item.setChecked( 0, true );
+    item.setCheckable( 2, false );
+    item.setColumnSpan( 1, 2 );
+
+    assertEquals( "foo", item.getText( 2 ) );
+    assertSame( red, item.getBackground( 1 ) );
+    assertTrue( item.getChecked( 0 ) );
+    assertFalse( item.getCheckable( 2 ) );
+    assertEquals( 2, item.getColumnSpan( 1 ) );
+    assertEquals( 1, visualizer.getRowSlotCount() );
+  }
+
+  @Test
+  public void testAddAndRemoveColumnShiftsValues() {
+    GridColumn[] columns = createGridColumns( grid, 3, SWT.NONE );
+    GridItem item = new GridItem( grid, SWT.NONE );
+    item.setText( 1, "one" );
+    item.setText( 2, "two" );
+
+    new GridColumn( grid, SWT.NONE, 1 );
+    assertEquals( "", item.getText( 1 ) );
+    assertEquals( "one", item.getText( 2 ) );
+    assertEquals( "two", item.getText( 3 ) );
+
+    columns[ 1 ].dispose();
+    assertEquals( "two", item.getText( 2 ) );
+  }
+
+  @Test
+  public void testDisposedRowSlotIsRecycled() {
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem first = new GridItem( grid, SWT.NONE );
+    first.setText( "first" );
+    first.setChecked( true );
+    first.dispose();
+    assertEquals( 0, visualizer.getRowSlotCount() );
+
+    GridItem second = new GridItem( grid, SWT.NONE );
+    second.setGrayed( false );
+
+    assertEquals( "", second.getText() );
+    assertFalse( second.getChecked() );
+    assertEquals( 1, visualizer.getRowSlotCount() );
+  }
+
+  @Test
+  public void testClearedValuesAreDroppedFromHandleTable() {
+    createGridColumns( grid, 2, SWT.NONE );
+    Color red = display.getSystemColor( SWT.COLOR_RED );
+    Color blue = display.getSystemColor( SWT.COLOR_BLUE );
+    GridItem first = new GridItem( grid, SWT.NONE );
+    GridItem second = new GridItem( grid, SWT.NONE );
+    first.setBackground( 0, red );
+    second.setForeground( 1, red );
+    assertEquals( 1, visualizer.getInternedValueCount() );
+
+    first.setBackground( 0, blue );
+    assertEquals( 2, visualizer.getInternedValueCount() );
+    first.setBackground( 0, null );
+    assertEquals( 1, visualizer.getInternedValueCount() );
+
+    first.setBackground( 0, blue );
+    first.dispose();
+    assertEquals( 1, visualizer.getInternedValueCount() );
+    second.dispose();
+    assertEquals( 0, visualizer.getInternedValueCount() );
+
+    GridItem third = new GridItem( grid, SWT.NONE );
+    third.setBackground( 1, blue );
+    assertSame( blue, third.getBackground( 1 ) );
+    assertEquals( 1, visualizer.getInternedValueCount() );
+  }
+}
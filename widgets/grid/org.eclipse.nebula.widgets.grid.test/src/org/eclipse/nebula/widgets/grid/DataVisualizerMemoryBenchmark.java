@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Compares the heap used by {@link GridItemDataVisualizer} and
+ * {@link ColumnarDataVisualizer} for the same grid content. Run as a plain
+ * Java application, optionally with the row and column count as arguments.
+ */
+public class DataVisualizerMemoryBenchmark {
+
+  public static void main( String[] args ) {
+    int rows = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 500000;
+    int columns = args.length > 1 ? Integer.parseInt( args[ 1 ] ) : 30;
+    Display display = new Display();
+    Color background = display.getSystemColor( SWT.COLOR_WHITE );
+    Color foreground = display.getSystemColor( SWT.COLOR_BLACK );
+    Font font = display.getSystemFont();
+
+    measure( "GridItemDataVisualizer",
+             new GridItemDataVisualizer( background, foreground, font ),
+             display,
+             rows,
+             columns );
+    measure( "ColumnarDataVisualizer",
+             new ColumnarDataVisualizer( background, foreground, font ),
+             display,
+             rows,
+             columns );
+    display.dispose();
+  }
+
+  private static void measure( String name,
+                               DataVisualizer visualizer,
+                               Display display,
+                               int rows,
+                               int columns )
+  {
+    Shell shell = new Shell( display );
+    Grid grid = new Grid( visualizer, shell, SWT.CHECK | SWT.VIRTUAL );
+    for( int i = 0; i < columns; i++ ) {
+      new GridColumn( grid, SWT.NONE );
+    }
+    Color alternate = display.getSystemColor( SWT.COLOR_GRAY );
+    long before = usedMemory();
+    long start = System.nanoTime();
+    for( int row = 0; row < rows; row++ ) {
+      GridItem item = new GridItem( grid, SWT.NONE );
+      for( int column = 0; column < columns; column++ ) {
+        item.setText( column, "cell" );
+        item.setBackground( column, ( row & 1 ) == 0 ? alternate : null );
+        item.setChecked( column, ( column & 1 ) == 0 );
+        item.setColumnSpan( column, 0 );
+      }
+    }
+    long elapsed = ( System.nanoTime() - start ) / 1000000;
+    long used = usedMemory() - before;
+    System.out.println( name
+                        + ": "
+                        + rows
+                        + " x "
+                        + columns
+                        + " cells, "
+                        + ( used / ( 1024 * 1024 ) )
+                        + " MB, "
+                        + elapsed
+                        + " ms" );
+    shell.dispose();
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for( int i = 0; i < 3; i++ ) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
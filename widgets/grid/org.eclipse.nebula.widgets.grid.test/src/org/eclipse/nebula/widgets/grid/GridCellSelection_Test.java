@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GridCellSelection_Test {
+
+  private GridCellSelection selection;
+
+  @Before
+  public void setUp() {
+    selection = new GridCellSelection();
+  }
+
+  @Test
+  public void testAddKeepsInsertionOrder() {
+    assertTrue( selection.add( 2, 5 ) );
+    assertTrue( selection.add( 0, 1 ) );
+    assertFalse( selection.add( 2, 5 ) );
+
+    assertEquals( 2, selection.size() );
+    assertArrayEquals( new Point[] { new Point( 2, 5 ), new Point( 0, 1 ) }, selection.toArray() );
+    assertEquals( new Point( 2, 5 ), selection.first() );
+  }
+
+  @Test
+  public void testRemove() {
+    selection.add( 2, 5 );
+    selection.add( 0, 1 );
+
+    assertTrue( selection.remove( 2, 5 ) );
+    assertFalse( selection.remove( 2, 5 ) );
+    assertFalse( selection.contains( 2, 5 ) );
+    assertEquals( new Point( 0, 1 ), selection.first() );
+  }
+
+  @Test
+  public void testRowsAndColumns() {
+    selection.add( 3, 7 );
+    selection.add( 1, 2 );
+    selection.add( 1, 7 );
+
+    assertEquals( 2, selection.rowCount() );
+    assertArrayEquals( new int[] { 7, 2 }, selection.rows() );
+    assertArrayEquals( new int[] { 1, 3 }, selection.columns() );
+    assertTrue( selection.containsRow( 2 ) );
+    assertFalse( selection.containsRow( 3 ) );
+
+    selection.remove( 1, 2 );
+    assertFalse( selection.containsRow( 2 ) );
+    assertEquals( 1, selection.rowCount() );
+  }
+
+  @Test
+  public void testRemoveColumnShiftsFollowingColumns() {
+    selection.add( 0, 0 );
+    selection.add( 1, 0 );
+    selection.add( 2, 0 );
+
+    assertTrue( selection.removeColumn( 1 ) );
+
+    assertArrayEquals( new Point[] { new Point( 0, 0 ), new Point( 1, 0 ) }, selection.toArray() );
+  }
+
+  @Test
+  public void testSameAs() {
+    selection.add( 1, 1 );
+    selection.add( 2, 2 );
+
+    assertTrue( selection.sameAs( Arrays.asList( new Point( 1, 1 ), new Point( 2, 2 ) ) ) );
+    assertFalse( selection.sameAs( Arrays.asList( new Point( 2, 2 ), new Point( 1, 1 ) ) ) );
+  }
+
+  @Test
+  public void testClear() {
+    selection.add( 1, 1 );
+    selection.clear();
+
+    assertEquals( 0, selection.size() );
+    assertNull( selection.first() );
+    assertFalse( selection.containsRow( 1 ) );
+  }
+
+  @Test
+  public void testLargeSelection() {
+    for( int y = 0; y < 50000; y++ ) {
+      for( int x = 0; x < 20; x++ ) {
+        selection.add( x, y );
+      }
+    }
+
+    assertEquals( 1000000, selection.size() );
+    assertTrue( selection.contains( 19, 49999 ) );
+    assertEquals( 50000, selection.rowCount() );
+  }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures the time of a full repaint and of a column traversal for grids with
+ * a growing number of columns. With cached column indices the cost per
+ * visible column stays flat. Run as a plain Java application.
+ */
+public class GridColumnRepaintBenchmark {
+
+  private static final int ROWS = 200;
+  private static final int REPAINTS = 20;
+
+  public static void main( String[] args ) {
+    Display display = new Display();
+    for( int columns : new int[] { 50, 100, 200, 400, 800 } ) {
+      measure( display, columns );
+    }
+    display.dispose();
+  }
+
+  private static void measure( Display display, int columnCount ) {
+    Shell shell = new Shell( display );
+    shell.setLayout( new FillLayout() );
+    Grid grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setHeaderVisible( true );
+    grid.setCellSelectionEnabled( true );
+    for( int i = 0; i < columnCount; i++ ) {
+      GridColumn column = new GridColumn( grid, SWT.NONE );
+      column.setText( "col_" + i );
+      column.setWidth( 5 );
+    }
+    for( int i = 0; i < ROWS; i++ ) {
+      GridItem item = new GridItem( grid, SWT.NONE );
+      item.setColumnSpan( 0, 1 );
+    }
+    shell.setSize( 1600, 1000 );
+    shell.open();
+    flush( display );
+
+    long start = System.nanoTime();
+    for( int i = 0; i < REPAINTS; i++ ) {
+      grid.redraw();
+      grid.update();
+    }
+    long paint = ( System.nanoTime() - start ) / REPAINTS;
+
+    grid.setFocusItem( grid.getItem( 0 ) );
+    grid.setFocusColumn( grid.getColumn( 0 ) );
+    GridColumn column = grid.getColumn( 0 );
+    start = System.nanoTime();
+    while( column != null ) {
+      grid.setCellSelection( new Point( grid.indexOf( column ), 0 ) );
+      column = grid.getNextVisibleColumn( column );
+    }
+    long traversal = ( System.nanoTime() - start ) / columnCount;
+
+    System.out.println( columnCount
+                        + " columns: repaint "
+                        + ( paint / 1000 )
+                        + " us, "
+                        + ( paint / columnCount )
+                        + " ns per column, traversal "
+                        + traversal
+                        + " ns per column" );
+    shell.dispose();
+  }
+
+  private static void flush( Display display ) {
+    while( display.readAndDispatch() ) {
+      // process pending events
+    }
+  }
+}
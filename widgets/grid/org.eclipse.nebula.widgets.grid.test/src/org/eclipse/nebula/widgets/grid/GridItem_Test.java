@@ -808,6 +808,78 @@ public class GridItem_Test {
     assertEquals( expected, grid.getItem( 8 ).getBounds( 0 ) );
   }
 
+  @Test
+  public void testPack_CachesPreferredHeight() {
+    GridColumn column = new GridColumn( grid, SWT.NONE );
+    column.setWidth( 40 );
+    column.setWordWrap( true );
+    GridItem item = new GridItem( grid, SWT.NONE );
+    item.setText( "a" );
+    item.pack();
+    int singleLine = item.getHeight();
+
+    item.setText( "a b c d e f g h i j k l m n o p" );
+    item.pack();
+    int wrapped = item.getHeight();
+    assertTrue( wrapped > singleLine );
+
+    column.setWidth( 1000 );
+    item.pack();
+    assertEquals( singleLine, item.getHeight() );
+  }
+
+  @Test
+  public void testPack_EstimatedItemHeights() {
+    GridColumn column = new GridColumn( grid, SWT.NONE );
+    column.setWidth( 40 );
+    column.setWordWrap( true );
+    GridItem measured = new GridItem( grid, SWT.NONE );
+    measured.setText( "a b c d e f g h i j k l m n o p" );
+    measured.pack();
+    int wrapped = measured.getHeight();
+
+    grid.setEstimatedItemHeights( true );
+    GridItem estimated = new GridItem( grid, SWT.NONE );
+    estimated.setText( "a" );
+    estimated.pack();
+
+    assertTrue( grid.isEstimatedItemHeights() );
+    assertTrue( estimated.heightEstimated );
+    assertEquals( wrapped, estimated.getHeight() );
+  }
+
+  @Test
+  public void testPack_ColumnOrderKeepsPreferredHeight() {
+    createGridColumns( grid, 2, SWT.NONE );
+    GridItem item = new GridItem( grid, SWT.NONE );
+    item.pack();
+    int height = grid.getCachedPreferredItemHeight( item );
+
+    grid.setColumnOrder( new int[] { 1, 0 } );
+    assertEquals( height, grid.getCachedPreferredItemHeight( item ) );
+
+    new GridColumn( grid, SWT.NONE );
+    assertEquals( -1, grid.getCachedPreferredItemHeight( item ) );
+  }
+
+  @Test
+  public void testPack_HeaderChangeResetsPreferredHeight() {
+    createGridColumns( grid, 1, SWT.NONE );
+    grid.setRowHeaderVisible( true );
+    GridItem item = new GridItem( grid, SWT.NONE );
+    item.pack();
+    assertTrue( grid.getCachedPreferredItemHeight( item ) != -1 );
+
+    item.setHeaderText( "header" );
+    assertEquals( -1, grid.getCachedPreferredItemHeight( item ) );
+
+    item.pack();
+    assertTrue( grid.getCachedPreferredItemHeight( item ) != -1 );
+    Image image = loadImage( display, Fixture.IMAGE1 );
+    item.setHeaderImage( image );
+    assertEquals( -1, grid.getCachedPreferredItemHeight( item ) );
+  }
+
   //////////////////
   // Helping classes
   private class LoggingListener implements Listener {
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GridRowIndex_Test {
+
+  // row heights 10, 20 (hidden), 30, 40 plus separator line
+  private static final int[] WEIGHTS = { 11, 0, 31, 41 };
+
+  private GridRowIndex index;
+
+  @Before
+  public void setUp() {
+    index = new GridRowIndex();
+    index.rebuild( WEIGHTS.length, i -> WEIGHTS[ i ] );
+  }
+
+  @Test
+  public void testPrefixSums() {
+    assertEquals( 0, index.countBefore( 0 ) );
+    assertEquals( 1, index.countBefore( 2 ) );
+    assertEquals( 3, index.countBefore( 4 ) );
+    assertEquals( 11, index.heightBefore( 2 ) );
+    assertEquals( 42, index.heightBefore( 3 ) );
+    assertEquals( 83, index.heightBefore( 4 ) );
+  }
+
+  @Test
+  public void testIndexOfVisible() {
+    assertEquals( 0, index.indexOfVisible( 0 ) );
+    assertEquals( 2, index.indexOfVisible( 1 ) );
+    assertEquals( 3, index.indexOfVisible( 2 ) );
+    assertEquals( -1, index.indexOfVisible( 3 ) );
+  }
+
+  @Test
+  public void testIndexAt() {
+    assertEquals( 0, index.indexAt( 0 ) );
+    assertEquals( 0, index.indexAt( 10 ) );
+    assertEquals( 2, index.indexAt( 11 ) );
+    assertEquals( 3, index.indexAt( 82 ) );
+    assertEquals( -1, index.indexAt( 83 ) );
+  }
+
+  @Test
+  public void testNextAndPreviousVisible() {
+    assertEquals( 2, index.nextVisible( 0 ) );
+    assertEquals( -1, index.nextVisible( 3 ) );
+    assertEquals( 0, index.previousVisible( 2 ) );
+    assertEquals( -1, index.previousVisible( 0 ) );
+  }
+
+  @Test
+  public void testSetAndAppend() {
+    index.set( 1, 21 );
+    index.append( 51 );
+
+    assertEquals( 5, index.size() );
+    assertEquals( 4, index.countBefore( 4 ) );
+    assertEquals( 155, index.heightBefore( 5 ) );
+    assertEquals( 1, index.indexAt( 11 ) );
+    assertEquals( 4, index.indexOfVisible( 4 ) );
+  }
+
+  @Test
+  public void testInvalidate() {
+    assertTrue( index.isValid() );
+    index.invalidate();
+    assertFalse( index.isValid() );
+  }
+}
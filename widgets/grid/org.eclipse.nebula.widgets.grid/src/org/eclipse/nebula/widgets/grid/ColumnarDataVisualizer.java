@@ -0,0 +1,646 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+
+/**
+ * A {@link DataVisualizer} that stores the cell values column by column in
+ * primitive arrays instead of one boxed list per {@link GridItem}.
+ * <p>
+ * Every item is given a dense row slot the first time one of its values is
+ * set. Slots of disposed items are recycled, so the arrays never have to be
+ * shifted when rows are inserted or removed. Spans are kept in
+ * <code>int</code> arrays, check, grayed and checkable states in
+ * {@link BitSet}s, and colors, fonts and images are interned into handle
+ * tables so that each cell only costs one <code>int</code>. Arrays of a column
+ * are only allocated once a value of that kind is set, and inserting or
+ * removing a column does not touch the row data of the other columns.
+ * </p>
+ * This implementation is preferable for grids with many rows and columns,
+ * where {@link GridItemDataVisualizer} spends most of its memory on maps and
+ * boxed values.
+ */
+public class ColumnarDataVisualizer implements DataVisualizer {
+
+	private static final int NO_SLOT = -1;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Interns values by identity and hands out compact <code>int</code>
+	 * handles. The handle <code>0</code> is reserved for <code>null</code>.
+	 * Every handle counts the cells referring to it, and is dropped and reused
+	 * once the last of them is cleared, so that the table does not keep
+	 * disposed resources.
+	 */
+	private static final class HandleTable<T> {
+		private final Map<T, Integer> handles = new IdentityHashMap<T, Integer>();
+		private final List<T> values = new ArrayList<T>();
+		private int[] referenceCounts = new int[INITIAL_CAPACITY];
+		private int[] freeHandles = new int[INITIAL_CAPACITY];
+		private int freeHandleCount = 0;
+
+		HandleTable() {
+			values.add(null);
+		}
+
+		/**
+		 * Returns the handle of the value and adds a reference to it.
+		 */
+		int acquire(T value) {
+			if (value == null)
+				return 0;
+			Integer handle = handles.get(value);
+			if (handle == null) {
+				if (freeHandleCount > 0) {
+					handle = freeHandles[--freeHandleCount];
+					values.set(handle, value);
+				} else {
+					handle = values.size();
+					values.add(value);
+					referenceCounts = ensure(referenceCounts, handle);
+				}
+				handles.put(value, handle);
+			}
+			referenceCounts[handle]++;
+			return handle;
+		}
+
+		/**
+		 * Removes a reference to the handle, dropping the value with the last
+		 * one.
+		 */
+		void release(int handle) {
+			if (handle == 0 || --referenceCounts[handle] > 0)
+				return;
+			handles.remove(values.get(handle));
+			values.set(handle, null);
+			if (freeHandleCount == freeHandles.length)
+				freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+			freeHandles[freeHandleCount++] = handle;
+		}
+
+		/**
+		 * Releases the handle stored at the slot of the array and replaces it
+		 * with the handle of the value.
+		 */
+		int[] replace(int[] array, int slot, T value) {
+			int handle = acquire(value);
+			array = ensure(array, slot);
+			release(array[slot]);
+			array[slot] = handle;
+			return array;
+		}
+
+		void releaseAll(int[] array) {
+			if (array == null)
+				return;
+			for (int handle : array) {
+				release(handle);
+			}
+		}
+
+		T valueOf(int handle) {
+			return values.get(handle);
+		}
+
+		int size() {
+			return handles.size();
+		}
+
+		void clear() {
+			handles.clear();
+			values.clear();
+			values.add(null);
+			Arrays.fill(referenceCounts, 0);
+			freeHandleCount = 0;
+		}
+	}
+
+	/**
+	 * Values of a single column, indexed by row slot. Every array is allocated
+	 * on first use.
+	 */
+	private static final class Column {
+		String[] texts;
+		String[] toolTipTexts;
+		int[] backgrounds;
+		int[] foregrounds;
+		int[] fonts;
+		int[] images;
+		int[] columnSpans;
+		int[] rowSpans;
+		final BitSet checkeds = new BitSet();
+		final BitSet grayeds = new BitSet();
+		final BitSet uncheckables = new BitSet();
+
+		void clearSlot(int slot, HandleTable<Color> colors, HandleTable<Font> fontTable,
+				HandleTable<Image> imageTable) {
+			clear(texts, slot);
+			clear(toolTipTexts, slot);
+			clear(backgrounds, slot, colors);
+			clear(foregrounds, slot, colors);
+			clear(fonts, slot, fontTable);
+			clear(images, slot, imageTable);
+			clear(columnSpans, slot);
+			clear(rowSpans, slot);
+			checkeds.clear(slot);
+			grayeds.clear(slot);
+			uncheckables.clear(slot);
+		}
+
+		private static void clear(String[] array, int slot) {
+			if (array != null && slot < array.length)
+				array[slot] = null;
+		}
+
+		private static void clear(int[] array, int slot) {
+			if (array != null && slot < array.length)
+				array[slot] = 0;
+		}
+
+		private static void clear(int[] array, int slot, HandleTable<?> table) {
+			if (array != null && slot < array.length) {
+				table.release(array[slot]);
+				array[slot] = 0;
+			}
+		}
+
+		void releaseHandles(HandleTable<Color> colors, HandleTable<Font> fontTable, HandleTable<Image> imageTable) {
+			colors.releaseAll(backgrounds);
+			colors.releaseAll(foregrounds);
+			fontTable.releaseAll(fonts);
+			imageTable.releaseAll(images);
+		}
+	}
+
+	private final List<Column> columns = new ArrayList<Column>();
+
+	private final HandleTable<Color> colors = new HandleTable<Color>();
+	private final HandleTable<Font> fontTable = new HandleTable<Font>();
+	private final HandleTable<Image> imageTable = new HandleTable<Image>();
+
+	private int nextSlot = 0;
+	private int[] freeSlots = new int[INITIAL_CAPACITY];
+	private int freeSlotCount = 0;
+
+	private Color defaultBackground;
+	private Color defaultForeground;
+	private Font defaultFont;
+
+	/**
+	 * Create {@link ColumnarDataVisualizer} with default value
+	 *
+	 * @param defaultBackground
+	 * @param defaultForeground
+	 * @param defaultFont
+	 */
+	public ColumnarDataVisualizer(Color defaultBackground, Color defaultForeground, Font defaultFont) {
+		this.defaultBackground = defaultBackground;
+		this.defaultForeground = defaultForeground;
+		this.defaultFont = defaultFont;
+	}
+
+	/**
+	 * @return the number of row slots currently assigned to items
+	 */
+	public int getRowSlotCount() {
+		return nextSlot - freeSlotCount;
+	}
+
+	/**
+	 * @return the number of colors, fonts and images currently referenced by
+	 *         cells
+	 */
+	int getInternedValueCount() {
+		return colors.size() + fontTable.size() + imageTable.size();
+	}
+
+	private int slotOf(GridItem gridItem) {
+		return gridItem.dataVisualizerSlot;
+	}
+
+	private int acquireSlot(GridItem gridItem) {
+		int slot = gridItem.dataVisualizerSlot;
+		if (slot == NO_SLOT) {
+			slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextSlot++;
+			gridItem.dataVisualizerSlot = slot;
+		}
+		return slot;
+	}
+
+	private Column getColumn(int column) {
+		if (column < 0 || column >= columns.size())
+			return null;
+		return columns.get(column);
+	}
+
+	private Column getOrCreateColumn(int column) {
+		while (columns.size() <= column) {
+			columns.add(null);
+		}
+		Column c = columns.get(column);
+		if (c == null) {
+			c = new Column();
+			columns.set(column, c);
+		}
+		return c;
+	}
+
+	private static int newCapacity(int length, int slot) {
+		return Math.max(Math.max(INITIAL_CAPACITY, slot + 1), length + (length >> 1));
+	}
+
+	private static int[] ensure(int[] array, int slot) {
+		if (array == null)
+			return new int[newCapacity(0, slot)];
+		if (slot >= array.length)
+			return Arrays.copyOf(array, newCapacity(array.length, slot));
+		return array;
+	}
+
+	private static String[] ensure(String[] array, int slot) {
+		if (array == null)
+			return new String[newCapacity(0, slot)];
+		if (slot >= array.length)
+			return Arrays.copyOf(array, newCapacity(array.length, slot));
+		return array;
+	}
+
+	private static int get(int[] array, int slot) {
+		if (array == null || slot == NO_SLOT || slot >= array.length)
+			return 0;
+		return array[slot];
+	}
+
+	private static String get(String[] array, int slot) {
+		if (array == null || slot == NO_SLOT || slot >= array.length)
+			return null;
+		return array[slot];
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultBackground()
+	 */
+	@Override
+	public Color getDefaultBackground() {
+		return defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultForeground()
+	 */
+	@Override
+	public Color getDefaultForeground() {
+		return defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultFont()
+	 */
+	@Override
+	public Font getDefaultFont() {
+		return defaultFont;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getBackground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getBackground(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		Color color = c == null ? null : colors.valueOf(get(c.backgrounds, slotOf(gridItem)));
+		return color == null ? defaultBackground : color;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getForeground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getForeground(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		Color color = c == null ? null : colors.valueOf(get(c.foregrounds, slotOf(gridItem)));
+		return color == null ? defaultForeground : color;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getFont(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Font getFont(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		Font font = c == null ? null : fontTable.valueOf(get(c.fonts, slotOf(gridItem)));
+		return font == null ? defaultFont : font;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getImage(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Image getImage(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		return c == null ? null : imageTable.valueOf(get(c.images, slotOf(gridItem)));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getText(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		String text = c == null ? null : get(c.texts, slotOf(gridItem));
+		return text == null ? "" : text;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getToolTipText(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		return c == null ? null : get(c.toolTipTexts, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getColumnSpan(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		return c == null ? 0 : get(c.columnSpans, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getRowSpan(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		return c == null ? 0 : get(c.rowSpans, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getChecked(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getChecked(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		int slot = slotOf(gridItem);
+		return c != null && slot != NO_SLOT && c.checkeds.get(slot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getGrayed(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getGrayed(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		int slot = slotOf(gridItem);
+		return c != null && slot != NO_SLOT && c.grayeds.get(slot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getCheckable(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getCheckable(GridItem gridItem, int column) {
+		Column c = getColumn(column);
+		int slot = slotOf(gridItem);
+		return c == null || slot == NO_SLOT || !c.uncheckables.get(slot);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setBackground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setBackground(GridItem gridItem, int column, Color color) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.backgrounds = colors.replace(c.backgrounds, slot, color);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setForeground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setForeground(GridItem gridItem, int column, Color foreground) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.foregrounds = colors.replace(c.foregrounds, slot, foreground);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setFont(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setFont(GridItem gridItem, int column, Font font) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.fonts = fontTable.replace(c.fonts, slot, font);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setImage(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Image)
+	 */
+	@Override
+	public void setImage(GridItem gridItem, int column, Image image) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.images = imageTable.replace(c.images, slot, image);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setText(GridItem gridItem, int column, String text) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.texts = ensure(c.texts, slot);
+		c.texts[slot] = text;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setToolTipText(GridItem gridItem, int column, String tooltip) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.toolTipTexts = ensure(c.toolTipTexts, slot);
+		c.toolTipTexts[slot] = tooltip;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setColumnSpan(GridItem gridItem, int column, int span) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.columnSpans = ensure(c.columnSpans, slot);
+		c.columnSpans[slot] = span;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setRowSpan(GridItem gridItem, int column, int span) {
+		if (column < 0)
+			return;
+		int slot = acquireSlot(gridItem);
+		Column c = getOrCreateColumn(column);
+		c.rowSpans = ensure(c.rowSpans, slot);
+		c.rowSpans[slot] = span;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setChecked(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setChecked(GridItem gridItem, int column, boolean checked) {
+		if (column < 0)
+			return;
+		getOrCreateColumn(column).checkeds.set(acquireSlot(gridItem), checked);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setGrayed(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setGrayed(GridItem gridItem, int column, boolean grayed) {
+		if (column < 0)
+			return;
+		getOrCreateColumn(column).grayeds.set(acquireSlot(gridItem), grayed);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setCheckable(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setCheckable(GridItem gridItem, int column, boolean checked) {
+		if (column < 0)
+			return;
+		getOrCreateColumn(column).uncheckables.set(acquireSlot(gridItem), !checked);
+	}
+
+	/**
+	 * Releases the row slot of the item, so that it can be reused by the next
+	 * item which gets a value, and drops the colors, fonts and images no other
+	 * cell refers to.
+	 *
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearRow(GridItem)
+	 */
+	@Override
+	public void clearRow(GridItem gridItem) {
+		int slot = gridItem.dataVisualizerSlot;
+		if (slot == NO_SLOT)
+			return;
+		gridItem.dataVisualizerSlot = NO_SLOT;
+		for (Column c : columns) {
+			if (c != null)
+				c.clearSlot(slot, colors, fontTable, imageTable);
+		}
+		if (freeSlotCount == freeSlots.length)
+			freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+		freeSlots[freeSlotCount++] = slot;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearColumn(int)
+	 */
+	@Override
+	public void clearColumn(int column) {
+		if (column >= 0 && column < columns.size()) {
+			Column c = columns.remove(column);
+			if (c != null)
+				c.releaseHandles(colors, fontTable, imageTable);
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#addColumn(int)
+	 */
+	@Override
+	public void addColumn(int column) {
+		if (column >= 0 && column < columns.size())
+			columns.add(column, null);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultBackground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultBackground(Color defaultBackground) {
+		this.defaultBackground = defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultForeground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultForeground(Color defaultForeground) {
+		this.defaultForeground = defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultFont(org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setDefaultFont(Font defaultFont) {
+		this.defaultFont = defaultFont;
+	}
+
+	/**
+	 * Clears all values. Items keep their row slot, so that values set later
+	 * do not require a new one.
+	 *
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearAll()
+	 */
+	@Override
+	public void clearAll() {
+		for (int i = 0; i < columns.size(); i++) {
+			columns.set(i, null);
+		}
+		colors.clear();
+		fontTable.clear();
+		imageTable.clear();
+	}
+
+}
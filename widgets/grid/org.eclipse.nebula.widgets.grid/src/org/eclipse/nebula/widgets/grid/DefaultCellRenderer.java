@@ -205,27 +205,33 @@ public class DefaultCellRenderer extends GridCellRenderer {
             textLayout.setWidth(width < 1 ? 1 : width);
 			int verticalDelta = 0;
             if (item.getParent().isAutoHeight()) {
-				// Look through all columns (except this one) to get the max height needed for
-				// this item
-				int columnCount = item.getParent().getColumnCount();
-				int maxHeight = textLayout.getBounds().height + textTopMargin + textBottomMargin;
-				if (image != null) {
-					int imageHeight = topMargin + image.getBounds().height + bottomMargin;
-					maxHeight = Math.max(maxHeight, imageHeight);
-				}
-				for (int i = 0; i < columnCount; i++) {
-					GridColumn column = item.getParent().getColumn(i);
-					if (i != getColumn() && column.getWordWrap()) {
-						height = column.getCellRenderer().computeSize(gc, column.getWidth(), SWT.DEFAULT, item).y;
-						maxHeight = Math.max(maxHeight, height);
+				// The height is cached on the item until its content or the columns change,
+				// so that the other columns are not measured on every paint
+				int maxHeight = item.getParent().getCachedAutoHeight(item);
+				if (maxHeight == -1) {
+					// Look through all columns (except this one) to get the max height needed for
+					// this item
+					int columnCount = item.getParent().getColumnCount();
+					maxHeight = textLayout.getBounds().height + textTopMargin + textBottomMargin;
+					if (image != null) {
+						int imageHeight = topMargin + image.getBounds().height + bottomMargin;
+						maxHeight = Math.max(maxHeight, imageHeight);
+					}
+					for (int i = 0; i < columnCount; i++) {
+						GridColumn column = item.getParent().getColumn(i);
+						if (i != getColumn() && column.getWordWrap()) {
+							height = column.getCellRenderer().computeSize(gc, column.getWidth(), SWT.DEFAULT, item).y;
+							maxHeight = Math.max(maxHeight, height);
+						}
 					}
-				}
 
-				// Also look at the row header if necessary
-				if (item.getParent().isWordWrapHeader()) {
-					height = item.getParent().getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT,
-							item).y;
-					maxHeight = Math.max(maxHeight, height);
+					// Also look at the row header if necessary
+					if (item.getParent().isWordWrapHeader()) {
+						height = item.getParent().getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT,
+								item).y;
+						maxHeight = Math.max(maxHeight, height);
+					}
+					item.getParent().setCachedAutoHeight(item, maxHeight);
 				}
 
 				if (maxHeight != item.getHeight()) {
@@ -29,7 +29,6 @@ package org.eclipse.nebula.widgets.grid;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
 import java.util.function.Consumer;
@@ -124,8 +123,6 @@ public class Grid extends Canvas {
 	// TODO: JAVADOC!
 	// TODO: column freezing
 
-	// TODO: Performance - need to cache top index
-
 	/**
 	 * @return {@link DataVisualizer}
 	 */
@@ -160,6 +157,7 @@ public class Grid extends Canvas {
 	 */
 	public void clearItems() {
 		items.clear();
+		visibleRowIndex.invalidate();
 		rootItems.clear();
 		deselectAll();
 		redraw();
@@ -275,8 +273,8 @@ public class Grid extends Canvas {
 	private boolean cellSelectionEnabled = false;
 	private boolean cellDragSelectionEnabled = true;
 
-	private final List<Point> selectedCells = new ArrayList<>();
-	private final List<Point> selectedCellsBeforeRangeSelect = new ArrayList<>();
+	private final GridCellSelection selectedCells = new GridCellSelection();
+	private final GridCellSelection selectedCellsBeforeRangeSelect = new GridCellSelection();
 
 	private boolean cellDragSelectionOccuring = false;
 	private boolean cellRowDragSelectionOccuring = false;
@@ -315,6 +313,11 @@ public class Grid extends Canvas {
 	 */
 	private final List<GridColumn> displayOrderedColumns = new ArrayList<>();
 
+	/**
+	 * True if {@link GridColumn#displayIndex} of all columns is up to date.
+	 */
+	private boolean displayIndicesValid = false;
+
 	private GridColumnGroup[] columnGroups = new GridColumnGroup[0];
 
 	/**
@@ -656,6 +659,15 @@ public class Grid extends Canvas {
 	 */
 	int bottomIndex = -1;
 
+	/**
+	 * Prefix sums of the visible row count and row heights, used to map scroll
+	 * values and pixel offsets to rows without walking all items. The index is
+	 * rebuilt lazily after items have been inserted or removed in the middle.
+	 *
+	 * @see #getVisibleRowIndex()
+	 */
+	private final GridRowIndex visibleRowIndex = new GridRowIndex();
+
 	/**
 	 * Index of the first visible column. A value of -1 indicates that the value is
 	 * old and will be recomputed.
@@ -724,6 +736,23 @@ public class Grid extends Canvas {
 	private boolean sizeOnEveryItemImageChange;
 	private boolean autoHeight = false;
 	private boolean autoWidth = true;
+
+	/**
+	 * Incremented whenever a change of the columns may change the preferred
+	 * height of the rows. Heights cached on items are only valid for the
+	 * generation they have been computed in.
+	 */
+	private int preferredHeightGeneration = 0;
+
+	/**
+	 * If true, {@link GridItem#pack()} estimates the height of a row and the
+	 * real height is computed when the row is painted.
+	 */
+	private boolean estimatedItemHeights = false;
+
+	/** sum and number of the measured preferred heights, used for estimates */
+	private long measuredHeightSum = 0;
+	private int measuredHeightCount = 0;
 	private boolean wordWrapRowHeader = false;
 
 	private final DataVisualizer dataVisualizer;
@@ -1309,7 +1338,7 @@ public class Grid extends Canvas {
 			}
 
 			if (item != null) {
-				final int displayColIndex = displayOrderedColumns.indexOf(overThis);
+				final int displayColIndex = displayIndexOf(overThis);
 
 				// track back all previous columns and check their spanning
 				for (int i = 0; i < displayColIndex; i++) {
@@ -1380,7 +1409,7 @@ public class Grid extends Canvas {
 			columnOrders = new int[columns.size()];
 			int i = 0;
 			for (GridColumn col : displayOrderedColumns) {
-				columnOrders[i] = columns.indexOf(col);
+				columnOrders[i] = indexOf(col);
 				i++;
 			}
 		}
@@ -1541,6 +1570,32 @@ public class Grid extends Canvas {
 	 */
 	private void clearDisplayOrderedCache() {
 		columnOrders = null;
+		displayIndicesValid = false;
+	}
+
+	/**
+	 * Returns the position of the column in the display order. The positions
+	 * are cached on the columns and recomputed after the display order changed.
+	 *
+	 * @param column
+	 *            column
+	 * @return index of the column in {@link #displayOrderedColumns} or -1
+	 */
+	private int displayIndexOf(final GridColumn column) {
+		if (!displayIndicesValid) {
+			for (int i = 0; i < displayOrderedColumns.size(); i++) {
+				displayOrderedColumns.get(i).displayIndex = i;
+			}
+			displayIndicesValid = true;
+		}
+		if (column == null) {
+			return -1;
+		}
+		final int index = column.displayIndex;
+		if (index >= 0 && index < displayOrderedColumns.size() && displayOrderedColumns.get(index) == column) {
+			return index;
+		}
+		return -1;
 	}
 
 	/**
@@ -1863,20 +1918,14 @@ public class Grid extends Canvas {
 
 		GridItem itemToReturn = null;
 
-		int row = getTopIndex();
-		while (row < items.size() && y2 <= getClientArea().height) {
-			final GridItem currItem = items.get(row);
-			if (currItem.isVisible()) {
-				final int currItemHeight = currItem.getHeight();
-
-				if (p.y >= y2 && p.y < y2 + currItemHeight + 1) {
-					itemToReturn = currItem;
-					break;
-				}
-
-				y2 += currItemHeight + 1;
+		final int row = getTopIndex();
+		if (row < items.size() && p.y >= y2) {
+			final GridRowIndex rowIndex = getVisibleRowIndex();
+			final int topOffset = rowIndex.heightBefore(row);
+			final int found = rowIndex.indexAt(topOffset + p.y - y2);
+			if (found != -1 && y2 + rowIndex.heightBefore(found) - topOffset <= getClientArea().height) {
+				itemToReturn = items.get(found);
 			}
-			row++;
 		}
 
 		if (hasSpanning) {
@@ -1884,7 +1933,7 @@ public class Grid extends Canvas {
 				final int itemIndex = getIndexOfItem(itemToReturn);
 
 				final GridColumn gridColumn = getColumn(itemToReturn, point);
-				final int displayColIndex = displayOrderedColumns.indexOf(gridColumn);
+				final int displayColIndex = displayIndexOf(gridColumn);
 
 				// track back all previous columns and check their spanning
 				int indexNextItemToCheck = 0;
@@ -2141,18 +2190,8 @@ public class Grid extends Canvas {
 			return null;
 		}
 
-		GridItem nextItem = items.get(index + 1);
-
-		while (!nextItem.isVisible()) {
-			index++;
-			if (items.size() == index + 1) {
-				return null;
-			}
-
-			nextItem = items.get(index + 1);
-		}
-
-		return nextItem;
+		final int next = getVisibleRowIndex().nextVisible(index);
+		return next == -1 ? null : items.get(next);
 	}
 
 	/**
@@ -2183,18 +2222,8 @@ public class Grid extends Canvas {
 			}
 		}
 
-		GridItem prevItem = items.get(index - 1);
-
-		while (!prevItem.isVisible()) {
-			index--;
-			if (index == 0) {
-				return null;
-			}
-
-			prevItem = items.get(index - 1);
-		}
-
-		return prevItem;
+		final int previous = getVisibleRowIndex().previousVisible(index);
+		return previous == -1 ? null : items.get(previous);
 	}
 
 	/**
@@ -2214,7 +2243,7 @@ public class Grid extends Canvas {
 	public GridColumn getPreviousVisibleColumn(final GridColumn column) {
 		checkWidget();
 
-		int index = displayOrderedColumns.indexOf(column);
+		int index = displayIndexOf(column);
 
 		if (index == 0) {
 			return null;
@@ -2253,7 +2282,7 @@ public class Grid extends Canvas {
 	public GridColumn getNextVisibleColumn(final GridColumn column) {
 		checkWidget();
 
-		int index = displayOrderedColumns.indexOf(column);
+		int index = displayIndexOf(column);
 
 		if (index == displayOrderedColumns.size() - 1) {
 			return null;
@@ -2374,18 +2403,15 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return selectedItems.toArray(new GridItem[selectedItems.size()]);
 		} else {
-			final Vector<GridItem> items = new Vector<>();
+			final List<GridItem> items = new ArrayList<>(selectedCells.rowCount());
 			final int itemCount = getItemCount();
 
-			for (final Point cell : selectedCells) {
-				if (cell.y >= 0 && cell.y < itemCount) {
-					final GridItem item = getItem(cell.y);
-					if (!items.contains(item)) {
-						items.add(item);
-					}
+			for (final int row : selectedCells.rows()) {
+				if (row < itemCount) {
+					items.add(getItem(row));
 				}
 			}
-			return items.toArray(new GridItem[] {});
+			return items.toArray(new GridItem[items.size()]);
 		}
 	}
 
@@ -2409,14 +2435,7 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return selectedItems.size();
 		} else {
-			final Vector<GridItem> items = new Vector<>();
-			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!items.contains(item)) {
-					items.add(item);
-				}
-			}
-			return items.size();
+			return selectedCells.rowCount();
 		}
 	}
 
@@ -2465,7 +2484,7 @@ public class Grid extends Canvas {
 				return -1;
 			}
 
-			return selectedCells.get(0).y;
+			return selectedCells.first().y;
 		}
 	}
 
@@ -2501,20 +2520,7 @@ public class Grid extends Canvas {
 			}
 			return indices;
 		} else {
-			final Vector<GridItem> selectedRows = new Vector<>();
-			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!selectedRows.contains(item)) {
-					selectedRows.add(item);
-				}
-			}
-			final int[] indices = new int[selectedRows.size()];
-			int i = 0;
-			for (final GridItem item : selectedRows) {
-				indices[i] = item.getRowIndex();
-				i++;
-			}
-			return indices;
+			return selectedCells.rows();
 		}
 	}
 
@@ -2546,29 +2552,13 @@ public class Grid extends Canvas {
 			int firstVisibleIndex = vScroll.getSelection();
 
 			if (isTree) {
-				final Iterator<GridItem> itemsIter = items.iterator();
-				int row = firstVisibleIndex + 1;
-
-				while (row > 0 && itemsIter.hasNext()) {
-					final GridItem item = itemsIter.next();
-
-					if (item.isVisible()) {
-						row--;
-						if (row == 0) {
-							firstVisibleIndex = item.getRowIndex();
-						}
-					}
+				final int row = getVisibleRowIndex().indexOfVisible(firstVisibleIndex);
+				if (row != -1) {
+					firstVisibleIndex = row;
 				}
 			}
 
 			topIndex = firstVisibleIndex;
-
-			/*
-			 * MOPR here lies more potential for increasing performance for the case (isTree
-			 * || hasDifferingHeights) the topIndex could be derived from the previous value
-			 * depending on a delta of the vScroll.getSelection() instead of being
-			 * calculated completely anew
-			 */
 		}
 
 		return topIndex;
@@ -2631,23 +2621,19 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	private RowRange getRowRange(int startIndex, int endIndex) {
+		final GridRowIndex rowIndex = getVisibleRowIndex();
 
 		// parameter preparation
 		if (startIndex == -1) {
 			// search frist visible item
-			do {
-				startIndex++;
-			} while (startIndex < items.size() && !items.get(startIndex).isVisible());
-			if (startIndex == items.size()) {
+			startIndex = rowIndex.indexOfVisible(0);
+			if (startIndex == -1) {
 				return null;
 			}
 		}
 		if (endIndex == -1) {
 			// search last visible item
-			endIndex = items.size();
-			do {
-				endIndex--;
-			} while (endIndex >= 0 && !items.get(endIndex).isVisible());
+			endIndex = rowIndex.previousVisible(items.size());
 			if (endIndex == -1) {
 				return null;
 			}
@@ -2664,17 +2650,9 @@ public class Grid extends Canvas {
 		range.endIndex = endIndex;
 
 		if (isTree || hasDifferingHeights) {
-			for (int idx = startIndex; idx <= endIndex; idx++) {
-				final GridItem currItem = items.get(idx);
-
-				if (currItem.isVisible()) {
-					if (range.rows > 0) {
-						range.height++; // height of horizontal row separator
-					}
-					range.height += currItem.getHeight();
-					range.rows++;
-				}
-			}
+			range.rows = rowIndex.countBefore(endIndex + 1) - rowIndex.countBefore(startIndex);
+			// every row is counted with the separator below it, except the last one
+			range.height = rowIndex.heightBefore(endIndex + 1) - rowIndex.heightBefore(startIndex) - 1;
 		} else {
 			range.rows = range.endIndex - range.startIndex + 1;
 			range.height = (getItemHeight() + 1) * range.rows - 1;
@@ -2711,25 +2689,19 @@ public class Grid extends Canvas {
 	 */
 	private RowRange getRowRange(int startIndex, final int availableHeight, final boolean forceEndCompletelyInside,
 			final boolean inverse) {
+		final GridRowIndex rowIndex = getVisibleRowIndex();
+
 		// parameter preparation
 		if (startIndex == -1) {
 			if (!inverse) {
 				// search frist visible item
-				do {
-					startIndex++;
-				} while (startIndex < items.size() && !items.get(startIndex).isVisible());
-				if (startIndex == items.size()) {
-					return null;
-				}
+				startIndex = rowIndex.indexOfVisible(0);
 			} else {
 				// search last visible item
-				startIndex = items.size();
-				do {
-					startIndex--;
-				} while (startIndex >= 0 && !items.get(startIndex).isVisible());
-				if (startIndex == -1) {
-					return null;
-				}
+				startIndex = rowIndex.previousVisible(items.size());
+			}
+			if (startIndex == -1) {
+				return null;
 			}
 		}
 
@@ -2766,28 +2738,15 @@ public class Grid extends Canvas {
 				// STEP 1:
 				// try to find a visible item we can add
 
-				int nextIndex = otherIndex;
-				GridItem nextItem;
-
-				do {
-					if (!inverse) {
-						nextIndex++;
-					} else {
-						nextIndex--;
-					}
+				final int nextIndex = !inverse ? rowIndex.nextVisible(otherIndex) : rowIndex.previousVisible(otherIndex);
 
-					if (nextIndex >= 0 && nextIndex < items.size()) {
-						nextItem = items.get(nextIndex);
-					} else {
-						nextItem = null;
-					}
-				} while (nextItem != null && !nextItem.isVisible());
-
-				if (nextItem == null) {
+				if (nextIndex == -1) {
 					// no visible item found
 					break;
 				}
 
+				final GridItem nextItem = items.get(nextIndex);
+
 				if (forceEndCompletelyInside) {
 					// must lie completely within the allowed height
 					if (!(consumedHeight + 1 + nextItem.getHeight() <= availableHeight)) {
@@ -2855,14 +2814,6 @@ public class Grid extends Canvas {
 	int getGridHeight() {
 		final RowRange range = getRowRange(-1, -1);
 		return range != null ? range.height : 0;
-		/*
-		 * MOPR currently this method is only used in #getTableSize() ; if it will be
-		 * used for more important things in the future (e.g. the max value for
-		 * vScroll.setValues() when doing pixel-by-pixel vertical scrolling) then this
-		 * value should at least be cached or even updated incrementally when grid items
-		 * are added/removed or expaned/collapsed (similar as #currentVisibleItems).
-		 * (this is only necessary in the case (isTree || hasDifferingHeights))
-		 */
 	}
 
 	/**
@@ -2952,7 +2903,11 @@ public class Grid extends Canvas {
 			return -1;
 		}
 
-		return columns.indexOf(column);
+		final int index = column.modelIndex;
+		if (index >= 0 && index < columns.size() && columns.get(index) == column) {
+			return index;
+		}
+		return -1;
 	}
 
 	/**
@@ -3034,12 +2989,7 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return isSelected(items.get(index));
 		} else {
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.containsRow(index);
 		}
 	}
 
@@ -3071,12 +3021,7 @@ public class Grid extends Canvas {
 			if (index == -1) {
 				return false;
 			}
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.containsRow(index);
 		}
 	}
 
@@ -3836,6 +3781,7 @@ public class Grid extends Canvas {
 	public void setRowHeaderVisible(final boolean show, final int minWidth) {
 		checkWidget();
 		rowHeaderVisible = show;
+		invalidatePreferredItemHeights();
 		setColumnScrolling(true);
 
 		if (show && isAutoWidth()) {
@@ -4124,15 +4070,7 @@ public class Grid extends Canvas {
 			return;
 		}
 
-		int vScrollAmount = 0;
-
-		for (int i = 0; i < index; i++) {
-			if (items.get(i).isVisible()) {
-				vScrollAmount++;
-			}
-		}
-
-		vScroll.setSelection(vScrollAmount);
+		vScroll.setSelection(getVisibleRowIndex().countBefore(index));
 		topIndex = -1;
 		bottomIndex = -1;
 		redraw();
@@ -4233,7 +4171,7 @@ public class Grid extends Canvas {
 			}
 		} else {
 			if (x < firstVisibleX || col.getWidth() > getClientArea().width - firstVisibleX) {
-				final int sel = displayOrderedColumns.indexOf(col);
+				final int sel = displayIndexOf(col);
 				hScroll.setSelection(sel);
 			} else {
 				int availableWidth = getClientArea().width - firstVisibleX - col.getWidth();
@@ -4243,7 +4181,7 @@ public class Grid extends Canvas {
 
 				while (true) {
 					if (prevCol == null || prevCol.getWidth() > availableWidth) {
-						final int sel = displayOrderedColumns.indexOf(currentScrollTo);
+						final int sel = displayIndexOf(currentScrollTo);
 						hScroll.setSelection(sel);
 						break;
 					} else {
@@ -4382,8 +4320,9 @@ public class Grid extends Canvas {
 				return;
 			}
 
-			showItem(getItem(selectedCells.get(0).y));
-			showColumn(getColumn(selectedCells.get(0).x));
+			final Point first = selectedCells.first();
+			showItem(getItem(first.y));
+			showColumn(getColumn(first.x));
 		}
 
 	}
@@ -4503,6 +4442,157 @@ public class Grid extends Canvas {
 		return estimateWithResult(sizingGC -> computeItemHeight(item, sizingGC));
 	}
 
+	/**
+	 * Invalidates the preferred heights cached on all items. Called when a column
+	 * is added, removed, resized, shown, hidden or gets a different renderer.
+	 */
+	void invalidatePreferredItemHeights() {
+		preferredHeightGeneration++;
+		measuredHeightSum = 0;
+		measuredHeightCount = 0;
+	}
+
+	/**
+	 * Returns the preferred height of the given item, which is the maximum
+	 * preferred height of its cells in the visible columns. The height is cached
+	 * on the item until its content or the columns change.
+	 *
+	 * @param item
+	 *            item to measure
+	 * @param gc
+	 *            GC used to perform font metrics or <code>null</code> to create
+	 *            one if the height is not cached
+	 * @return the preferred height
+	 */
+	int getPreferredItemHeight(final GridItem item, final GC gc) {
+		final int cached = getCachedPreferredItemHeight(item);
+		if (cached != -1) {
+			return cached;
+		}
+		final int height = gc == null ? estimateWithResult(sizingGC -> measureItemHeight(item, sizingGC))
+				: measureItemHeight(item, gc);
+		item.preferredHeight = height;
+		item.preferredHeightGeneration = preferredHeightGeneration;
+		measuredHeightSum += height;
+		measuredHeightCount++;
+		return height;
+	}
+
+	/**
+	 * @param item
+	 *            item
+	 * @return the cached preferred height of the item or -1 if it is not cached
+	 *         or out of date
+	 */
+	int getCachedPreferredItemHeight(final GridItem item) {
+		return item.preferredHeightGeneration == preferredHeightGeneration ? item.preferredHeight : -1;
+	}
+
+	private int measureItemHeight(final GridItem item, final GC gc) {
+		int maxPrefHeight = 2;
+		for (int cnt = 0; cnt < columns.size(); cnt++) {
+			final GridColumn column = columns.get(cnt);
+			if (!column.isVisible()) {
+				continue; // invisible columns do not affect item/row height
+			}
+
+			final GridCellRenderer renderer = column.getCellRenderer();
+
+			renderer.setAlignment(column.getAlignment());
+			renderer.setCheck(column.isCheck());
+			renderer.setColumn(cnt);
+			renderer.setTree(column.isTree());
+			renderer.setWordWrap(column.getWordWrap());
+
+			final Point size = renderer.computeSize(gc, column.getWidth(), SWT.DEFAULT, item);
+			if (size != null) {
+				maxPrefHeight = Math.max(maxPrefHeight, size.y);
+			}
+		}
+		return maxPrefHeight;
+	}
+
+	/**
+	 * Returns the height computed by the auto-height feature for the given item
+	 * if it is still valid.
+	 *
+	 * @param item
+	 *            item
+	 * @return the cached auto height or -1
+	 * @see #setAutoHeight(boolean)
+	 */
+	int getCachedAutoHeight(final GridItem item) {
+		return item.autoHeightGeneration == preferredHeightGeneration ? item.autoHeight : -1;
+	}
+
+	/**
+	 * Caches the height computed by the auto-height feature for the given item.
+	 *
+	 * @param item
+	 *            item
+	 * @param height
+	 *            the auto height
+	 */
+	void setCachedAutoHeight(final GridItem item, final int height) {
+		item.autoHeight = height;
+		item.autoHeightGeneration = preferredHeightGeneration;
+	}
+
+	/**
+	 * Returns the height used for items whose preferred height has not been
+	 * measured yet: the average of the heights measured so far or the default
+	 * item height.
+	 *
+	 * @return the estimated item height
+	 */
+	int getEstimatedItemHeight() {
+		if (measuredHeightCount == 0) {
+			return getItemHeight();
+		}
+		return Math.max(1, (int) (measuredHeightSum / measuredHeightCount));
+	}
+
+	/**
+	 * Measures the items with an estimated height in the rows that are about to
+	 * be painted, starting at the given row. The heights are set without
+	 * redrawing, and the scroll bars are updated by the paint in progress.
+	 *
+	 * @param firstRow
+	 *            index of the first painted row
+	 */
+	private void refineEstimatedItemHeights(final int firstRow) {
+		if (!estimatedItemHeights || firstRow < 0) {
+			return;
+		}
+		final int clientHeight = getClientArea().height;
+		GC gc = null;
+		try {
+			int y = 0;
+			for (int row = firstRow; row < items.size() && y < clientHeight; row++) {
+				final GridItem item = items.get(row);
+				if (!item.isVisible()) {
+					continue;
+				}
+				if (item.heightEstimated) {
+					item.heightEstimated = false;
+					if (gc == null) {
+						gc = new GC(this);
+					}
+					final int height = getPreferredItemHeight(item, gc);
+					if (height != item.getHeight()) {
+						item.setMeasuredHeight(height);
+						scrollValuesObsolete = true;
+					}
+				}
+				y += item.getHeight() + 1;
+			}
+		} finally {
+			if (gc != null) {
+				gc.dispose();
+			}
+		}
+	}
+
 	/**
 	 * Returns the x position of the given column. Takes into account scroll
 	 * position.
@@ -4715,10 +4805,12 @@ public class Grid extends Canvas {
 		if ((dragDropBeforeColumn != columnBeingPushed && dragDropAfterColumn != columnBeingPushed)
 				&& (columnGroups.length == 0 || dragDropPointValid)) {
 
-			int notifyFrom = displayOrderedColumns.indexOf(columnBeingPushed);
+			int notifyFrom = displayIndexOf(columnBeingPushed);
 			int notifyTo = notifyFrom;
 
 			displayOrderedColumns.remove(columnBeingPushed);
+			// the positions are read below to find where to insert
+			displayIndicesValid = false;
 
 			if (dragDropBeforeColumn == null) {
 
@@ -4737,15 +4829,15 @@ public class Grid extends Canvas {
 					// cols
 
 					if (dragDropBeforeColumn.getColumnGroup() == columnBeingPushed.getColumnGroup()) {
-						insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+						insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 					} else if (dragDropAfterColumn.getColumnGroup() == columnBeingPushed.getColumnGroup()) {
-						insertAtIndex = displayOrderedColumns.indexOf(dragDropAfterColumn) + 1;
+						insertAtIndex = displayIndexOf(dragDropAfterColumn) + 1;
 					} else {
 						if (dragDropBeforeColumn.getColumnGroup() == null) {
-							insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+							insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 						} else {
 							final GridColumnGroup beforeGroup = dragDropBeforeColumn.getColumnGroup();
-							insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+							insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 							while (insertAtIndex > 0
 									&& displayOrderedColumns.get(insertAtIndex - 1).getColumnGroup() == beforeGroup) {
 								insertAtIndex--;
@@ -4754,17 +4846,18 @@ public class Grid extends Canvas {
 						}
 					}
 				} else {
-					insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+					insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 				}
 				displayOrderedColumns.add(insertAtIndex, columnBeingPushed);
 				notifyFrom = Math.min(notifyFrom, insertAtIndex);
 				notifyTo = Math.max(notifyTo, insertAtIndex);
 			}
 
+			clearDisplayOrderedCache();
+
 			for (int i = notifyFrom; i <= notifyTo; i++) {
 				displayOrderedColumns.get(i).fireMoved();
 			}
-			clearDisplayOrderedCache();
 		}
 		redraw();
 	}
@@ -4948,7 +5041,7 @@ public class Grid extends Canvas {
 	}
 
 	void fireColumnsMoved() {
-		for (int index = displayOrderedColumns.indexOf(columnBeingResized) + 1; index < displayOrderedColumns
+		for (int index = displayIndexOf(columnBeingResized) + 1; index < displayOrderedColumns
 				.size(); index++) {
 			final GridColumn col = displayOrderedColumns.get(index);
 			if (col.isVisible()) {
@@ -4962,7 +5055,7 @@ public class Grid extends Canvas {
 
 		if (getHorizontalBar() != null) {
 			if (!getHorizontalBar().isVisible()) {
-				index = displayOrderedColumns.indexOf(column);
+				index = displayIndexOf(column);
 			}
 		}
 
@@ -5170,7 +5263,7 @@ public class Grid extends Canvas {
 		final GridColumn column = getColumn(point);
 
 		if (item != null && column != null) {
-			return new Point(columns.indexOf(column), item.getRowIndex());
+			return new Point(indexOf(column), item.getRowIndex());
 		}
 
 		return null;
@@ -5193,6 +5286,8 @@ public class Grid extends Canvas {
 		e.gc.setBackground(getBackground());
 		this.drawBackground(e.gc, 0, 0, getSize().x, getSize().y);
 
+		refineEstimatedItemHeights(getTopIndex());
+
 		if (scrollValuesObsolete) {
 			updateScrollbars();
 			scrollValuesObsolete = false;
@@ -5340,7 +5435,7 @@ public class Grid extends Canvas {
 
 							column.getCellRenderer().setColumn(indexOfColumn);
 
-							if (selectedCells.contains(new Point(indexOfColumn, row))) {
+							if (selectedCells.contains(indexOfColumn, row)) {
 								column.getCellRenderer().setCellSelected(true);
 								cellInRowSelected = true;
 							} else {
@@ -5619,8 +5714,8 @@ public class Grid extends Canvas {
 					int width = column.getWidth();
 
 					GridColumn nextCol = null;
-					if (displayOrderedColumns.indexOf(column) + 1 < displayOrderedColumns.size()) {
-						nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(column) + 1);
+					if (displayIndexOf(column) + 1 < displayOrderedColumns.size()) {
+						nextCol = displayOrderedColumns.get(displayIndexOf(column) + 1);
 					}
 
 					while (nextCol != null && nextCol.getColumnGroup() == column.getColumnGroup()) {
@@ -5631,8 +5726,8 @@ public class Grid extends Canvas {
 							width += nextCol.getWidth();
 						}
 
-						if (displayOrderedColumns.indexOf(nextCol) + 1 < displayOrderedColumns.size()) {
-							nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(nextCol) + 1);
+						if (displayIndexOf(nextCol) + 1 < displayOrderedColumns.size()) {
+							nextCol = displayOrderedColumns.get(displayIndexOf(nextCol) + 1);
 						} else {
 							nextCol = null;
 						}
@@ -6087,7 +6182,7 @@ public class Grid extends Canvas {
 		}
 
 		if (!shift && !ctrl) {
-			if (newCells.equals(selectedCells)) {
+			if (selectedCells.sameAs(newCells)) {
 				return null;
 			}
 
@@ -6109,8 +6204,7 @@ public class Grid extends Canvas {
 			shiftSelectionAnchorItem = getItem(newCell.y);
 
 			if (ctrl) {
-				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.copyFrom(selectedCellsBeforeRangeSelect);
 			} else {
 				selectedCells.clear();
 			}
@@ -6149,7 +6243,7 @@ public class Grid extends Canvas {
 
 				do {
 					if (!firstLoop2) {
-						final int index = displayOrderedColumns.indexOf(currentColumn) + 1;
+						final int index = displayIndexOf(currentColumn) + 1;
 
 						if (index < displayOrderedColumns.size()) {
 							currentColumn = getVisibleColumn_DegradeRight(currentItem,
@@ -6159,8 +6253,7 @@ public class Grid extends Canvas {
 						}
 
 						if (currentColumn != null) {
-							if (displayOrderedColumns.indexOf(currentColumn) > displayOrderedColumns
-									.indexOf(endColumn)) {
+							if (displayIndexOf(currentColumn) > displayIndexOf(endColumn)) {
 								currentColumn = null;
 							}
 						}
@@ -6181,8 +6274,7 @@ public class Grid extends Canvas {
 			}
 
 			if (dragging) {
-				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.copyFrom(selectedCellsBeforeRangeSelect);
 			}
 
 			if (reverse) {
@@ -6208,26 +6300,6 @@ public class Grid extends Canvas {
 		return e;
 	}
 
-	/**
-	 * Adds Point objects from the itemsToBeAdded list that do not currently exist
-	 * in the sourceList.
-	 *
-	 * @param sourceList
-	 * @param itemsToBeAdded
-	 */
-	private void addCellstThatDoNotAlreadyExist(List<Point> sourceList, List<Point> itemsToBeAdded) {
-		if (itemsToBeAdded.size() > 0) {
-			// add all the cells from the itemsToBeAdded list that don't already exist in
-			// the sourceList
-			for (Point cell : itemsToBeAdded) {
-				if (!sourceList.contains(cell)) {
-					sourceList.add(cell);
-				}
-
-			}
-		}
-	}
-
 	private void addToCellSelection(final Point newCell) {
 		if (newCell.x < 0 || newCell.x >= columns.size()) {
 			return;
@@ -6238,17 +6310,7 @@ public class Grid extends Canvas {
 		}
 
 		if (getColumn(newCell.x).getCellSelectionEnabled()) {
-			final Iterator<Point> it = selectedCells.iterator();
-			boolean found = false;
-			while (it.hasNext()) {
-				final Point p = it.next();
-				if (newCell.equals(p)) {
-					found = true;
-					break;
-				}
-			}
-
-			if (!found) {
+			if (!selectedCells.contains(newCell)) {
 				if (selectionType == GridSelectionType.SINGLE && selectedCells.size() > 0) {
 					return;
 				}
@@ -6261,8 +6323,8 @@ public class Grid extends Canvas {
 		// Update the list of which columns have all their cells selected
 		selectedColumns.clear();
 
-		for (final Point cell : selectedCells) {
-			selectedColumns.add(getColumn(cell.x));
+		for (final int column : selectedCells.columns()) {
+			selectedColumns.add(getColumn(column));
 		}
 	}
 
@@ -6540,7 +6602,7 @@ public class Grid extends Canvas {
 				final GridColumn col = getColumn(new Point(e.x, e.y));
 				boolean isSelectedCell = false;
 				if (col != null) {
-					isSelectedCell = selectedCells.contains(new Point(indexOf(col), item.getRowIndex()));
+					isSelectedCell = selectedCells.contains(indexOf(col), item.getRowIndex());
 				}
 
 				if (e.button == 1 || (e.button == 3 && col != null && !isSelectedCell)) {
@@ -6702,7 +6764,7 @@ public class Grid extends Canvas {
 		if (hoveringOnColumnResizer) {
 			columnBeingResized.pack();
 			columnBeingResized.fireResized();
-			for (int index = displayOrderedColumns.indexOf(columnBeingResized) + 1; index < displayOrderedColumns
+			for (int index = displayIndexOf(columnBeingResized) + 1; index < displayOrderedColumns
 					.size(); index++) {
 				final GridColumn col = displayOrderedColumns.get(index);
 				if (col.isVisible()) {
@@ -6962,8 +7024,7 @@ public class Grid extends Canvas {
 
 					final Vector<Point> newSelected = new Vector<>();
 
-					final boolean decreasing = (displayOrderedColumns.indexOf(iterCol) > displayOrderedColumns
-							.indexOf(focusColumn));
+					final boolean decreasing = (displayIndexOf(iterCol) > displayIndexOf(focusColumn));
 
 					do {
 						getCells(iterCol, newSelected);
@@ -7157,7 +7218,7 @@ public class Grid extends Canvas {
 				if (impliedFocusItem != null && impliedFocusColumn != null) {
 					newSelection = impliedFocusItem;
 
-					int index = displayOrderedColumns.indexOf(impliedFocusColumn);
+					int index = displayIndexOf(impliedFocusColumn);
 
 					int jumpAhead = impliedFocusItem.getColumnSpan(indexOf(impliedFocusColumn));
 
@@ -7192,7 +7253,7 @@ public class Grid extends Canvas {
 				if (impliedFocusItem != null && impliedFocusColumn != null) {
 					newSelection = impliedFocusItem;
 
-					final int index = displayOrderedColumns.indexOf(impliedFocusColumn);
+					final int index = displayIndexOf(impliedFocusColumn);
 
 					if (index != 0) {
 						newColumnFocus = displayOrderedColumns.get(index - 1);
@@ -7583,7 +7644,7 @@ public class Grid extends Canvas {
 		if (col != null) {
 			if (item != null) {
 				if (y < getClientArea().height - (columnFootersVisible ? footerHeight : 0)) {
-					col.getCellRenderer().setBounds(item.getBounds(columns.indexOf(col)));
+					col.getCellRenderer().setBounds(item.getBounds(indexOf(col)));
 
 					if (col.getCellRenderer().notify(IInternalWidget.MouseMove, new Point(x, y), item)) {
 						detail = col.getCellRenderer().getHoverDetail();
@@ -7774,6 +7835,7 @@ public class Grid extends Canvas {
 		if (index == -1) {
 			columns.add(column);
 			displayOrderedColumns.add(column);
+			column.modelIndex = columns.size() - 1;
 		} else {
 			columns.add(index, column);
 			displayOrderedColumns.add(index, column);
@@ -7783,6 +7845,8 @@ public class Grid extends Canvas {
 				columns.get(i).setColumnIndex(i);
 			}
 		}
+		clearDisplayOrderedCache();
+		invalidatePreferredItemHeights();
 
 		estimate(sizingGC -> {
 			computeHeaderHeight(sizingGC);
@@ -7797,7 +7861,6 @@ public class Grid extends Canvas {
 
 		scrollValuesObsolete = true;
 		redraw();
-		clearDisplayOrderedCache();
 		return columns.size() - 1;
 	}
 
@@ -7813,30 +7876,21 @@ public class Grid extends Canvas {
 		final int index = indexOf(column);
 
 		if (cellSelectionEnabled) {
-			final Vector<Point> removeSelectedCells = new Vector<>();
-
-			for (final Point cell : selectedCells) {
-				if (cell.x == index) {
-					removeSelectedCells.add(cell);
-				}
-			}
-
-			if (removeSelectedCells.size() > 0) {
-				selectedCells.removeAll(removeSelectedCells);
-				selectionModified = true;
-			}
-
-			for (final Point cell : selectedCells) {
-				if (cell.x >= index) {
-					cell.x--;
-					selectionModified = true;
-				}
-			}
+			selectionModified = selectedCells.removeColumn(index);
 		}
 
 		columns.remove(column);
 		displayOrderedColumns.remove(column);
 		dataVisualizer.clearColumn(index);
+		column.modelIndex = -1;
+
+		int i = 0;
+		for (final GridColumn col : columns) {
+			col.setColumnIndex(i);
+			i++;
+		}
+		clearDisplayOrderedCache();
+		invalidatePreferredItemHeights();
 
 		if (focusColumn == column) {
 			focusColumn = null;
@@ -7848,16 +7902,9 @@ public class Grid extends Canvas {
 
 		redraw();
 
-		int i = 0;
-		for (final GridColumn col : columns) {
-			col.setColumnIndex(i);
-			i++;
-		}
-
 		if (selectionModified && !disposing) {
 			updateColumnSelection();
 		}
-		clearDisplayOrderedCache();
 	}
 
 	/**
@@ -7939,6 +7986,7 @@ public class Grid extends Canvas {
 			for (int i = index + 1; i < items.size(); i++) {
 				items.get(i).increaseRow();
 			}
+			visibleRowIndex.invalidate();
 		}
 
 		estimate(sizingGC -> {
@@ -7958,6 +8006,12 @@ public class Grid extends Canvas {
 			}
 		});
 
+		if (visibleRowIndex.isValid() && row == visibleRowIndex.size()) {
+			visibleRowIndex.append(rowWeight(item));
+		} else {
+			visibleRowIndex.invalidate();
+		}
+
 		scrollValuesObsolete = true;
 		topIndex = -1;
 		bottomIndex = -1;
@@ -7984,6 +8038,7 @@ public class Grid extends Canvas {
 		final int index = item.getRowIndex();
 
 		items.remove(item);
+		visibleRowIndex.invalidate();
 
 		dataVisualizer.clearRow(item);
 
@@ -8084,6 +8139,41 @@ public class Grid extends Canvas {
 		currentVisibleItems += amount;
 	}
 
+	/**
+	 * Updates the visible row index after the visibility or the height of the
+	 * given item has changed.
+	 *
+	 * @param item
+	 *            item whose visibility or height changed
+	 */
+	void updateRowIndex(final GridItem item) {
+		if (visibleRowIndex.isValid()) {
+			final int index = item.getRowIndex();
+			if (index >= 0 && index < visibleRowIndex.size() && items.get(index) == item) {
+				visibleRowIndex.set(index, rowWeight(item));
+			} else {
+				visibleRowIndex.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * Returns the visible row index, rebuilding it first if rows have been
+	 * inserted or removed since it was last used.
+	 *
+	 * @return the up to date row index
+	 */
+	private GridRowIndex getVisibleRowIndex() {
+		if (!visibleRowIndex.isValid()) {
+			visibleRowIndex.rebuild(items.size(), i -> rowWeight(items.get(i)));
+		}
+		return visibleRowIndex;
+	}
+
+	private static int rowWeight(final GridItem item) {
+		return item.isVisible() ? item.getHeight() + 1 : 0;
+	}
+
 	/**
 	 * Returns the current item in focus.
 	 *
@@ -8254,7 +8344,7 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	GridColumn getVisibleColumn_DegradeLeft(final GridItem item, final GridColumn col) {
-		int index = displayOrderedColumns.indexOf(col);
+		int index = displayIndexOf(col);
 
 		GridColumn prevCol = col;
 
@@ -8268,7 +8358,7 @@ public class Grid extends Canvas {
 			prevCol = displayOrderedColumns.get(index - i);
 		}
 
-		index = displayOrderedColumns.indexOf(prevCol);
+		index = displayIndexOf(prevCol);
 
 		for (int j = 0; j < index; j++) {
 			final GridColumn tempCol = displayOrderedColumns.get(j);
@@ -8297,7 +8387,7 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	GridColumn getVisibleColumn_DegradeRight(final GridItem item, final GridColumn col) {
-		int index = displayOrderedColumns.indexOf(col);
+		int index = displayIndexOf(col);
 
 		int i = 0;
 		GridColumn nextCol = col;
@@ -8310,7 +8400,7 @@ public class Grid extends Canvas {
 			nextCol = displayOrderedColumns.get(index + i);
 		}
 
-		index = displayOrderedColumns.indexOf(nextCol);
+		index = displayIndexOf(nextCol);
 		final int startIndex = index;
 
 		while (index > 0) {
@@ -8872,7 +8962,7 @@ public class Grid extends Canvas {
 	 */
 	public Point[] getCellSelection() {
 		checkWidget();
-		return selectedCells.toArray(new Point[selectedCells.size()]);
+		return selectedCells.toArray();
 	}
 
 	GridColumn getFocusColumn() {
@@ -8881,7 +8971,7 @@ public class Grid extends Canvas {
 
 	void updateColumnFocus() {
 		if (!focusColumn.isVisible()) {
-			final int index = displayOrderedColumns.indexOf(focusColumn);
+			final int index = displayIndexOf(focusColumn);
 			if (index > 0) {
 				GridColumn prev = displayOrderedColumns.get(index - 1);
 				prev = getVisibleColumn_DegradeLeft(focusItem, prev);
@@ -9041,7 +9131,7 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	private Point getSelectionRange(GridItem fromItem, GridColumn fromColumn, GridItem toItem, GridColumn toColumn) {
-		if (displayOrderedColumns.indexOf(fromColumn) > displayOrderedColumns.indexOf(toColumn)) {
+		if (displayIndexOf(fromColumn) > displayIndexOf(toColumn)) {
 			final GridColumn temp = fromColumn;
 			fromColumn = toColumn;
 			toColumn = temp;
@@ -9296,6 +9386,7 @@ public class Grid extends Canvas {
 	public void setFont(final Font font) {
 		dataVisualizer.setDefaultFont(font);
 		defaultFont = font;
+		invalidatePreferredItemHeights();
 		super.setFont(font);
 	}
 
@@ -9362,6 +9453,7 @@ public class Grid extends Canvas {
 			for (int i = items.size() - 1; i >= count; i--) {
 				final GridItem removed = items.remove(i);
 				rootItems.remove(i);
+				visibleRowIndex.invalidate();
 
 				selectedItems.remove(removed);
 
@@ -10323,6 +10415,7 @@ public class Grid extends Canvas {
 
 		checkWidget();
 		autoHeight = enabled;
+		invalidatePreferredItemHeights();
 		setRowsResizeable(false); // turn of resizing of row height since it conflicts with this property
 		redraw();
 	}
@@ -10338,6 +10431,35 @@ public class Grid extends Canvas {
 		return autoHeight;
 	}
 
+	/**
+	 * Sets whether {@link GridItem#pack()} estimates row heights. When enabled,
+	 * packing an item does not measure its cells but gives the item an estimated
+	 * height (the average of the heights measured so far). The real preferred
+	 * height is computed when the row is scrolled into view and painted. This
+	 * makes packing a large number of rows with word-wrapped text cheap, at the
+	 * cost of a scroll bar that adjusts while scrolling.
+	 *
+	 * @param enabled
+	 *            true to estimate the heights of packed rows until they are
+	 *            shown, false (default) to measure them immediately
+	 * @see GridItem#pack()
+	 */
+	public void setEstimatedItemHeights(final boolean enabled) {
+		checkWidget();
+		estimatedItemHeights = enabled;
+	}
+
+	/**
+	 * Returns whether the heights of packed rows are estimated until the rows
+	 * are shown.
+	 *
+	 * @return true if row heights are estimated
+	 * @see #setEstimatedItemHeights(boolean)
+	 */
+	public boolean isEstimatedItemHeights() {
+		return estimatedItemHeights;
+	}
+
 	/**
 	 * Sets the value of the auto-width feature. When enabled, this feature resizes
 	 * the width of the row headers to reflect the content of row headers.
@@ -10382,6 +10504,7 @@ public class Grid extends Canvas {
 
 		checkWidget();
 		wordWrapRowHeader = enabled;
+		invalidatePreferredItemHeights();
 		redraw();
 	}
 
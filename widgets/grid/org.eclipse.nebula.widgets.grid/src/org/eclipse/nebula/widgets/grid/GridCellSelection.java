@@ -0,0 +1,490 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * The selected cells of a {@link Grid} in cell selection mode.
+ * <p>
+ * Cells are packed into <code>long</code> keys (row in the upper, column in
+ * the lower 32 bits) and kept in an open addressing hash set, so that
+ * {@link #contains(int, int)}, {@link #add(int, int)} and
+ * {@link #remove(int, int)} run in constant time. The insertion order is
+ * preserved, which is the order {@link #toArray()} returns. The number of
+ * selected cells per row and per column is counted as well, which answers
+ * whether a row or column has a selected cell without looking at the cells.
+ * </p>
+ */
+final class GridCellSelection {
+
+	private static final long REMOVED = Long.MIN_VALUE;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** hash table of keys */
+	private long[] keys = new long[INITIAL_CAPACITY];
+
+	/** position + 1 of the key in {@link #order}, 0 for a free table slot */
+	private int[] positions = new int[INITIAL_CAPACITY];
+
+	/** keys in insertion order, removed keys are replaced by REMOVED */
+	private long[] order = new long[INITIAL_CAPACITY];
+
+	private int orderLength = 0;
+
+	private int size = 0;
+
+	private int[] rowCounts = new int[0];
+
+	private int[] columnCounts = new int[0];
+
+	private int rowCount = 0;
+
+	static long key(int x, int y) {
+		return ((long) y << 32) | (x & 0xFFFFFFFFL);
+	}
+
+	static int x(long key) {
+		return (int) key;
+	}
+
+	static int y(long key) {
+		return (int) (key >> 32);
+	}
+
+	private static int hash(long key) {
+		final long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * @return the number of selected cells
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of rows that contain at least one selected cell
+	 */
+	int rowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * @param x
+	 *            column index
+	 * @param y
+	 *            row index
+	 * @return true if the cell is selected
+	 */
+	boolean contains(int x, int y) {
+		return find(key(x, y)) >= 0;
+	}
+
+	/**
+	 * @param cell
+	 *            cell
+	 * @return true if the cell is selected
+	 */
+	boolean contains(Point cell) {
+		return contains(cell.x, cell.y);
+	}
+
+	/**
+	 * @param cells
+	 *            cells
+	 * @return true if all cells are selected
+	 */
+	boolean containsAll(List<Point> cells) {
+		for (final Point cell : cells) {
+			if (!contains(cell)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param y
+	 *            row index
+	 * @return true if the row contains at least one selected cell
+	 */
+	boolean containsRow(int y) {
+		return y >= 0 && y < rowCounts.length && rowCounts[y] > 0;
+	}
+
+	/**
+	 * @param x
+	 *            column index
+	 * @return true if the column contains at least one selected cell
+	 */
+	boolean containsColumn(int x) {
+		return x >= 0 && x < columnCounts.length && columnCounts[x] > 0;
+	}
+
+	/**
+	 * Adds the cell to the selection.
+	 *
+	 * @param x
+	 *            column index
+	 * @param y
+	 *            row index
+	 * @return true if the cell was not selected before
+	 */
+	boolean add(int x, int y) {
+		final long key = key(x, y);
+		int slot = find(key);
+		if (slot >= 0) {
+			return false;
+		}
+		if ((size + 1) * 2 > keys.length) {
+			rehash(keys.length * 2);
+			slot = find(key);
+		}
+		if (orderLength == order.length) {
+			if (orderLength - size > size) {
+				rehash(keys.length);
+			} else {
+				order = Arrays.copyOf(order, order.length * 2);
+			}
+			slot = find(key);
+		}
+		slot = -slot - 1;
+		order[orderLength] = key;
+		keys[slot] = key;
+		positions[slot] = ++orderLength;
+		size++;
+		count(x, y, 1);
+		return true;
+	}
+
+	/**
+	 * @param cell
+	 *            cell to add
+	 * @return true if the cell was not selected before
+	 */
+	boolean add(Point cell) {
+		return add(cell.x, cell.y);
+	}
+
+	/**
+	 * Adds all cells of the given selection, keeping their order.
+	 *
+	 * @param other
+	 *            selection to add
+	 */
+	void addAll(GridCellSelection other) {
+		for (int i = 0; i < other.orderLength; i++) {
+			final long key = other.order[i];
+			if (key != REMOVED) {
+				add(x(key), y(key));
+			}
+		}
+	}
+
+	/**
+	 * Removes the cell from the selection.
+	 *
+	 * @param x
+	 *            column index
+	 * @param y
+	 *            row index
+	 * @return true if the cell was selected
+	 */
+	boolean remove(int x, int y) {
+		final int slot = find(key(x, y));
+		if (slot < 0) {
+			return false;
+		}
+		order[positions[slot] - 1] = REMOVED;
+		deleteSlot(slot);
+		size--;
+		count(x, y, -1);
+		if (size == 0) {
+			orderLength = 0;
+		}
+		return true;
+	}
+
+	/**
+	 * @param cell
+	 *            cell to remove
+	 * @return true if the cell was selected
+	 */
+	boolean remove(Point cell) {
+		return remove(cell.x, cell.y);
+	}
+
+	/**
+	 * @param cells
+	 *            cells to remove
+	 */
+	void removeAll(List<Point> cells) {
+		for (final Point cell : cells) {
+			remove(cell);
+		}
+	}
+
+	/**
+	 * Removes all cells of the given column and moves the cells of all
+	 * following columns one column to the left.
+	 *
+	 * @param x
+	 *            index of the removed column
+	 * @return true if the selection was modified
+	 */
+	boolean removeColumn(int x) {
+		boolean modified = false;
+		final long[] cells = keys();
+		clear();
+		for (final long key : cells) {
+			final int column = x(key);
+			if (column == x) {
+				modified = true;
+			} else if (column > x) {
+				add(column - 1, y(key));
+				modified = true;
+			} else {
+				add(column, y(key));
+			}
+		}
+		return modified;
+	}
+
+	/**
+	 * Removes all cells.
+	 */
+	void clear() {
+		if (size == 0 && orderLength == 0) {
+			return;
+		}
+		if (keys.length > 1024) {
+			keys = new long[INITIAL_CAPACITY];
+			positions = new int[INITIAL_CAPACITY];
+			order = new long[INITIAL_CAPACITY];
+		} else {
+			Arrays.fill(positions, 0);
+		}
+		Arrays.fill(rowCounts, 0);
+		Arrays.fill(columnCounts, 0);
+		orderLength = 0;
+		size = 0;
+		rowCount = 0;
+	}
+
+	/**
+	 * Replaces the content with the cells of the given selection.
+	 *
+	 * @param other
+	 *            selection to copy
+	 */
+	void copyFrom(GridCellSelection other) {
+		clear();
+		addAll(other);
+	}
+
+	/**
+	 * @param cells
+	 *            cells
+	 * @return true if the selection consists of exactly the given cells in the
+	 *         same order
+	 */
+	boolean sameAs(List<Point> cells) {
+		if (cells.size() != size) {
+			return false;
+		}
+		int index = 0;
+		for (int i = 0; i < orderLength; i++) {
+			final long key = order[i];
+			if (key != REMOVED) {
+				final Point cell = cells.get(index++);
+				if (cell.x != x(key) || cell.y != y(key)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the first selected cell or <code>null</code>
+	 */
+	Point first() {
+		for (int i = 0; i < orderLength; i++) {
+			final long key = order[i];
+			if (key != REMOVED) {
+				return new Point(x(key), y(key));
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the indices of all rows with a selected cell, in the order in
+	 *         which they have been selected first
+	 */
+	int[] rows() {
+		final int[] result = new int[rowCount];
+		final BitSet seen = new BitSet();
+		int index = 0;
+		for (int i = 0; i < orderLength && index < result.length; i++) {
+			final long key = order[i];
+			if (key != REMOVED) {
+				final int y = y(key);
+				if (y >= 0 && !seen.get(y)) {
+					seen.set(y);
+					result[index++] = y;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the indices of all columns with a selected cell, in ascending
+	 *         order
+	 */
+	int[] columns() {
+		int count = 0;
+		for (final int c : columnCounts) {
+			if (c > 0) {
+				count++;
+			}
+		}
+		final int[] result = new int[count];
+		int index = 0;
+		for (int x = 0; x < columnCounts.length; x++) {
+			if (columnCounts[x] > 0) {
+				result[index++] = x;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the packed keys of the selected cells in insertion order
+	 */
+	long[] keys() {
+		final long[] result = new long[size];
+		int index = 0;
+		for (int i = 0; i < orderLength; i++) {
+			if (order[i] != REMOVED) {
+				result[index++] = order[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return new points for all selected cells in insertion order
+	 */
+	Point[] toArray() {
+		final Point[] result = new Point[size];
+		int index = 0;
+		for (int i = 0; i < orderLength; i++) {
+			final long key = order[i];
+			if (key != REMOVED) {
+				result[index++] = new Point(x(key), y(key));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the table slot of the key, or <code>-(insertion slot) - 1</code>
+	 * if the key is not contained.
+	 */
+	private int find(long key) {
+		final int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (positions[slot] != 0) {
+			if (keys[slot] == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -slot - 1;
+	}
+
+	/**
+	 * Frees the slot, moving following keys of the probe sequence back so that
+	 * no tombstones are needed.
+	 */
+	private void deleteSlot(int slot) {
+		final int mask = keys.length - 1;
+		int hole = slot;
+		int next = slot;
+		while (true) {
+			next = (next + 1) & mask;
+			if (positions[next] == 0) {
+				break;
+			}
+			final int home = hash(keys[next]) & mask;
+			final boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+			if (movable) {
+				keys[hole] = keys[next];
+				positions[hole] = positions[next];
+				hole = next;
+			}
+		}
+		positions[hole] = 0;
+	}
+
+	/**
+	 * Rebuilds the table with the given capacity and compacts the insertion
+	 * order.
+	 */
+	private void rehash(int capacity) {
+		final long[] live = keys();
+		keys = new long[capacity];
+		positions = new int[capacity];
+		if (order.length < live.length * 2) {
+			order = new long[Math.max(INITIAL_CAPACITY, live.length * 2)];
+		}
+		orderLength = 0;
+		for (final long key : live) {
+			final int slot = -find(key) - 1;
+			order[orderLength] = key;
+			keys[slot] = key;
+			positions[slot] = ++orderLength;
+		}
+	}
+
+	private void count(int x, int y, int delta) {
+		if (y >= 0) {
+			if (y >= rowCounts.length) {
+				rowCounts = Arrays.copyOf(rowCounts, Math.max(y + 1, rowCounts.length * 2));
+			}
+			final int before = rowCounts[y];
+			rowCounts[y] += delta;
+			if (before == 0) {
+				rowCount++;
+			} else if (rowCounts[y] == 0) {
+				rowCount--;
+			}
+		}
+		if (x >= 0) {
+			if (x >= columnCounts.length) {
+				columnCounts = Arrays.copyOf(columnCounts, Math.max(x + 1, columnCounts.length * 2));
+			}
+			columnCounts[x] += delta;
+		}
+	}
+}
@@ -134,6 +134,17 @@ public class GridColumn extends Item {
 	 */
 	private boolean tree = false;
 
+	/**
+	 * Index of this column in the parent's columns, maintained by the parent.
+	 */
+	int modelIndex = -1;
+
+	/**
+	 * Index of this column in the parent's display order, maintained by the
+	 * parent.
+	 */
+	int displayIndex = -1;
+
 	/**
 	 * Does this column contain check boxes? Did the user specify SWT.CHECK in
 	 * the constructor of the column.
@@ -432,6 +443,9 @@ public class GridColumn extends Item {
 				widthToSet = Math.min(availableVisibleWidthForColumns, widthToSet);
 			}
 		}
+		if (this.width != widthToSet) {
+			parent.invalidatePreferredItemHeights();
+		}
 		this.width = widthToSet;
 		if (redraw) {
 			parent.setScrollValuesObsolete();
@@ -604,6 +618,7 @@ public class GridColumn extends Item {
 		this.visible = visible;
 
 		if (isVisible() != before) {
+			parent.invalidatePreferredItemHeights();
 			if (visible) {
 				notifyListeners(SWT.Show, new Event());
 			} else {
@@ -753,6 +768,7 @@ public class GridColumn extends Item {
 
 		this.cellRenderer = cellRenderer;
 		initCellRenderer();
+		parent.invalidatePreferredItemHeights();
 	}
 
 	/**
@@ -889,6 +905,7 @@ public class GridColumn extends Item {
 
 		this.tree = tree;
 		cellRenderer.setTree(tree);
+		parent.invalidatePreferredItemHeights();
 		parent.redraw();
 	}
 
@@ -1258,6 +1275,7 @@ public class GridColumn extends Item {
 	}
 
 	void setColumnIndex(int newIndex) {
+		modelIndex = newIndex;
 		cellRenderer.setColumn(newIndex);
 	}
 
@@ -1297,6 +1315,7 @@ public class GridColumn extends Item {
 	public void setWordWrap(boolean wordWrap) {
 		checkWidget();
 		cellRenderer.setWordWrap(wordWrap);
+		parent.invalidatePreferredItemHeights();
 		parent.redraw();
 	}
 
@@ -150,6 +150,30 @@ public class GridItem extends Item {
 
 	private final Object ROW_LOCK = new Object();
 
+	/**
+	 * Row slot assigned by {@link ColumnarDataVisualizer}, -1 if none.
+	 */
+	int dataVisualizerSlot = NO_ROW;
+
+	/**
+	 * Preferred height cached by {@link Grid#getPreferredItemHeight}, -1 if not
+	 * computed yet. Only valid for the generation it was computed in.
+	 */
+	int preferredHeight = -1;
+	int preferredHeightGeneration;
+
+	/**
+	 * Height cached by the auto-height feature, -1 if not computed yet.
+	 */
+	int autoHeight = -1;
+	int autoHeightGeneration;
+
+	/**
+	 * True if the height of this item has been estimated by {@link #pack()} and
+	 * must be measured before the item is painted.
+	 */
+	boolean heightEstimated = false;
+
 	/**
 	 * Creates a new instance of this class and places the item at the end of
 	 * the grid.
@@ -1366,6 +1390,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		defaultFont = f;
+		invalidatePreferredHeight();
 		parent.redraw();
 	}
 
@@ -1397,6 +1422,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setFont(this, index, font);
+		invalidatePreferredHeight();
 		parent.redraw();
 	}
 
@@ -1525,7 +1551,9 @@ public class GridItem extends Item {
 		if (newHeight < 1)
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		height = newHeight;
+		heightEstimated = false;
 		parent.hasDifferingHeights = true;
+		parent.updateRowIndex(this);
 		if (isVisible()) {
 			int myIndex = this.getRowIndex();
 			// note: cannot use Grid#isShown() here, because that returns false
@@ -1538,7 +1566,26 @@ public class GridItem extends Item {
 	}
 
 	/**
-	 * Sets this <code>GridItem</code> to its preferred height.
+	 * Sets the height measured while the grid is painted. Unlike
+	 * {@link #setHeight(int)} the grid is not redrawn, the paint in progress
+	 * already uses the new height.
+	 *
+	 * @param newHeight
+	 *            the measured height
+	 */
+	void setMeasuredHeight(int newHeight) {
+		height = newHeight;
+		heightEstimated = false;
+		parent.hasDifferingHeights = true;
+		parent.updateRowIndex(this);
+		parent.bottomIndex = NO_ROW;
+	}
+
+	/**
+	 * Sets this <code>GridItem</code> to its preferred height. The preferred
+	 * height is cached until the content of the item or the columns change. If
+	 * {@link Grid#isEstimatedItemHeights()} is set and the height is not cached,
+	 * the item gets an estimated height and is measured when it is painted.
 	 *
 	 * @throws org.eclipse.swt.SWTException
 	 *             <ul>
@@ -1551,28 +1598,29 @@ public class GridItem extends Item {
 	public void pack() {
 		checkWidget();
 
-		int maxPrefHeight = 2;
-		GridColumn[] columns = parent.getColumns();
-		GC gc = new GC(parent);
-		for (int cnt = 0; cnt < columns.length; cnt++) {
-			if (!columns[cnt].isVisible())
-				continue; // invisible columns do not affect item/row height
-
-			GridCellRenderer renderer = columns[cnt].getCellRenderer();
-
-			renderer.setAlignment(columns[cnt].getAlignment());
-			renderer.setCheck(columns[cnt].isCheck());
-			renderer.setColumn(cnt);
-			renderer.setTree(columns[cnt].isTree());
-			renderer.setWordWrap(columns[cnt].getWordWrap());
-
-			Point size = renderer.computeSize(gc, columns[cnt].getWidth(), SWT.DEFAULT, this);
-			if (size != null)
-				maxPrefHeight = Math.max(maxPrefHeight, size.y);
+		int prefHeight = parent.getCachedPreferredItemHeight(this);
+		boolean estimated = false;
+		if (prefHeight == -1) {
+			if (parent.isEstimatedItemHeights()) {
+				prefHeight = parent.getEstimatedItemHeight();
+				estimated = true;
+			} else {
+				prefHeight = parent.getPreferredItemHeight(this, null);
+			}
 		}
-		gc.dispose();
 
-		setHeight(maxPrefHeight);
+		if (prefHeight != height)
+			setHeight(prefHeight);
+		heightEstimated = estimated;
+	}
+
+	/**
+	 * Discards the cached preferred height after the content of the item has
+	 * changed.
+	 */
+	void invalidatePreferredHeight() {
+		preferredHeight = -1;
+		autoHeight = -1;
 	}
 
 	/**
@@ -1581,6 +1629,7 @@ public class GridItem extends Item {
 	@Override
 	public void setImage(Image image) {
 		parent.getDataVisualizer().setImage(this, 0, image);
+		invalidatePreferredHeight();
 		parent.redraw();
 	}
 
@@ -1610,6 +1659,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setImage(this, index, image);
+		invalidatePreferredHeight();
 
 		parent.imageSetOnItem(index, this);
 
@@ -1641,6 +1691,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 		parent.getDataVisualizer().setText(this, index, text);
+		invalidatePreferredHeight();
 		parent.redraw();
 	}
 
@@ -1650,6 +1701,7 @@ public class GridItem extends Item {
 	@Override
 	public void setText(String string) {
 		parent.getDataVisualizer().setText(this, 0, string);
+		invalidatePreferredHeight();
 		parent.redraw();
 	}
 
@@ -1727,6 +1779,7 @@ public class GridItem extends Item {
 		} else {
 			parent.updateVisibleItems(NO_ROW);
 		}
+		parent.updateRowIndex(this);
 
 		if (hasChildren) {
 			boolean childrenVisible = visible;
@@ -1864,6 +1917,7 @@ public class GridItem extends Item {
 			gc.dispose();
 
 			parent.recalculateRowHeaderWidth(this, oldWidth, newWidth);
+			invalidatePreferredHeight();
 		}
 		parent.redraw();
 	}
@@ -1900,6 +1954,7 @@ public class GridItem extends Item {
 
 			parent.recalculateRowHeaderWidth(this, oldWidth, newWidth);
 			parent.recalculateRowHeaderHeight(this, oldHeight, newHeight);
+			invalidatePreferredHeight();
 		}
 		parent.redraw();
 	}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Prefix sums over the rows of a {@link Grid}, kept in two Fenwick trees: one
+ * counting visible rows and one summing the pixel height of visible rows
+ * (including the 1 pixel separator line below each row).
+ * <p>
+ * Each row is described by its weight, which is <code>0</code> for a row that
+ * is not visible (collapsed parent) and <code>height + 1</code> otherwise.
+ * Changing the weight of a row and appending a row cost O(log n), as do all
+ * queries. Inserting or removing rows in the middle invalidates the index; it
+ * is then rebuilt in O(n) on the next access.
+ * </p>
+ */
+final class GridRowIndex {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** weight per row, 0-based */
+	private int[] weights = new int[INITIAL_CAPACITY];
+
+	/** Fenwick tree over the number of visible rows, 1-based */
+	private int[] countTree = new int[INITIAL_CAPACITY + 1];
+
+	/** Fenwick tree over the row weights, 1-based */
+	private int[] heightTree = new int[INITIAL_CAPACITY + 1];
+
+	private int size = 0;
+
+	private boolean valid = false;
+
+	/**
+	 * @return true if the index reflects the rows of the grid
+	 */
+	boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Marks the index as out of date, it must be rebuilt before it is used
+	 * again.
+	 */
+	void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Rebuilds the index in linear time.
+	 *
+	 * @param rowCount
+	 *            number of rows
+	 * @param weightOf
+	 *            returns the weight of the row at the given index
+	 */
+	void rebuild(int rowCount, IntUnaryOperator weightOf) {
+		size = 0;
+		ensureCapacity(rowCount);
+		Arrays.fill(countTree, 0, rowCount + 1, 0);
+		Arrays.fill(heightTree, 0, rowCount + 1, 0);
+		for (int i = 0; i < rowCount; i++) {
+			int weight = weightOf.applyAsInt(i);
+			weights[i] = weight;
+			countTree[i + 1] += weight > 0 ? 1 : 0;
+			heightTree[i + 1] += weight;
+			int parent = (i + 1) + lowestBit(i + 1);
+			if (parent <= rowCount) {
+				countTree[parent] += countTree[i + 1];
+				heightTree[parent] += heightTree[i + 1];
+			}
+		}
+		size = rowCount;
+		valid = true;
+	}
+
+	/**
+	 * Appends a row at the end.
+	 *
+	 * @param weight
+	 *            weight of the new row
+	 */
+	void append(int weight) {
+		ensureCapacity(size + 1);
+		int node = size + 1;
+		int from = node - lowestBit(node);
+		weights[size] = weight;
+		countTree[node] = (weight > 0 ? 1 : 0) + prefix(countTree, node - 1) - prefix(countTree, from);
+		heightTree[node] = weight + prefix(heightTree, node - 1) - prefix(heightTree, from);
+		size++;
+	}
+
+	/**
+	 * Changes the weight of the row at the given index.
+	 *
+	 * @param index
+	 *            row index
+	 * @param weight
+	 *            new weight
+	 */
+	void set(int index, int weight) {
+		int old = weights[index];
+		if (old == weight) {
+			return;
+		}
+		weights[index] = weight;
+		int countDelta = (weight > 0 ? 1 : 0) - (old > 0 ? 1 : 0);
+		int heightDelta = weight - old;
+		for (int node = index + 1; node <= size; node += lowestBit(node)) {
+			countTree[node] += countDelta;
+			heightTree[node] += heightDelta;
+		}
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param index
+	 *            row index
+	 * @return number of visible rows before the given row
+	 */
+	int countBefore(int index) {
+		return prefix(countTree, Math.min(index, size));
+	}
+
+	/**
+	 * @param index
+	 *            row index
+	 * @return the y offset of the given row, relative to the first row
+	 */
+	int heightBefore(int index) {
+		return prefix(heightTree, Math.min(index, size));
+	}
+
+	/**
+	 * @param n
+	 *            zero based position among the visible rows
+	 * @return index of the n-th visible row or -1
+	 */
+	int indexOfVisible(int n) {
+		if (n < 0) {
+			return -1;
+		}
+		int index = search(countTree, n);
+		return index < size ? index : -1;
+	}
+
+	/**
+	 * @param y
+	 *            pixel offset relative to the first row
+	 * @return index of the visible row covering the given offset (including
+	 *         its separator line) or -1
+	 */
+	int indexAt(int y) {
+		if (y < 0) {
+			return -1;
+		}
+		int index = search(heightTree, y);
+		return index < size ? index : -1;
+	}
+
+	/**
+	 * @param index
+	 *            row index
+	 * @return index of the first visible row after the given one or -1
+	 */
+	int nextVisible(int index) {
+		return indexOfVisible(countBefore(index + 1));
+	}
+
+	/**
+	 * @param index
+	 *            row index
+	 * @return index of the last visible row before the given one or -1
+	 */
+	int previousVisible(int index) {
+		return indexOfVisible(countBefore(index) - 1);
+	}
+
+	/**
+	 * Returns the number of leading rows whose prefix sum does not exceed the
+	 * given value, which is the index of the row where the prefix sum first
+	 * exceeds it.
+	 */
+	private int search(int[] tree, int value) {
+		int position = 0;
+		int remaining = value;
+		for (int step = Integer.highestOneBit(Math.max(size, 1)); step > 0; step >>= 1) {
+			int next = position + step;
+			if (next <= size && tree[next] <= remaining) {
+				position = next;
+				remaining -= tree[next];
+			}
+		}
+		return position;
+	}
+
+	private static int prefix(int[] tree, int node) {
+		int sum = 0;
+		for (; node > 0; node -= lowestBit(node)) {
+			sum += tree[node];
+		}
+		return sum;
+	}
+
+	private static int lowestBit(int node) {
+		return node & -node;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > weights.length) {
+			int newCapacity = Math.max(capacity, weights.length * 2);
+			weights = Arrays.copyOf(weights, newCapacity);
+			countTree = Arrays.copyOf(countTree, newCapacity + 1);
+			heightTree = Arrays.copyOf(heightTree, newCapacity + 1);
+		}
+	}
+}
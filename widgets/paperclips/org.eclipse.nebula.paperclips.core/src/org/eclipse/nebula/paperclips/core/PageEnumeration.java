@@ -13,6 +13,7 @@
  */
 package org.eclipse.nebula.paperclips.core;
 
+import org.eclipse.nebula.paperclips.core.internal.util.LayoutCheckpoint;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
@@ -52,6 +53,27 @@ public class PageEnumeration {
 		hasNext = document.hasNext();
 	}
 
+	/**
+	 * Copy constructor, used to resume the layout from this point later.
+	 */
+	private PageEnumeration(PageEnumeration that) {
+		this.document = that.document == null ? null
+				: LayoutCheckpoint.copy(that.document);
+		this.marginBounds = that.marginBounds;
+		this.paperBounds = that.paperBounds;
+		this.hasNext = that.hasNext;
+	}
+
+	/**
+	 * Returns a copy of this enumeration. Pages taken from the copy are laid
+	 * out again from the current position, independently of this enumeration.
+	 * 
+	 * @return a copy of this enumeration.
+	 */
+	PageEnumeration copy() {
+		return new PageEnumeration(this);
+	}
+
 	/**
 	 * Returns whether any pages remain.
 	 * 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.nebula.paperclips.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.printing.Printer;
+
+/**
+ * Lays out the pages of a print job on demand, without keeping the pages in
+ * memory. Like {@link PageEnumeration}, each page has already had the page
+ * orientation and page margins applied.
+ * <p>
+ * While pages are laid out for the first time, a copy of the layout state is
+ * recorded every few pages. A page that was laid out before is laid out again
+ * from the nearest preceding checkpoint, so jumping to any page only lays out
+ * a few pages again, and pages requested in sequence are laid out only once.
+ * <p>
+ * If a page cannot be laid out, for instance because some content does not
+ * fit on the page, the layout ends with the pages before it, as with
+ * {@link PageEnumeration}.
+ * <p>
+ * The Printer and GC must not be disposed while the PageLayout is in use.
+ * 
+ * @see PaperClips#getPageLayout(PrintJob, Printer, GC)
+ */
+public class PageLayout {
+	/**
+	 * The default number of pages between two checkpoints.
+	 */
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 10;
+
+	private final int checkpointInterval;
+
+	// checkpoints.get(i) is the state before page i * checkpointInterval
+	private final List<PageEnumeration> checkpoints = new ArrayList<>();
+
+	// the enumeration which laid out the most pages, and its next page
+	private PageEnumeration frontier;
+	private int frontierIndex = 0;
+
+	// the enumeration resumed from a checkpoint for the last page requested
+	// before the frontier, and its next page
+	private PageEnumeration cursor;
+	private int cursorIndex;
+
+	PageLayout(PrintJob printJob, Printer printer, GC gc,
+			int checkpointInterval) {
+		if (checkpointInterval < 1)
+			PaperClips.error(SWT.ERROR_INVALID_ARGUMENT,
+					"Checkpoint interval must be >= 1 (value is " //$NON-NLS-1$
+							+ checkpointInterval + ")"); //$NON-NLS-1$
+		this.checkpointInterval = checkpointInterval;
+		this.frontier = new PageEnumeration(printJob, printer, gc);
+	}
+
+	/**
+	 * Returns the number of pages laid out so far.
+	 * 
+	 * @return the number of pages laid out so far.
+	 */
+	public int getKnownPageCount() {
+		return frontierIndex;
+	}
+
+	/**
+	 * Returns whether all pages have been laid out.
+	 * 
+	 * @return whether all pages have been laid out.
+	 */
+	public boolean isComplete() {
+		return !frontier.hasNext();
+	}
+
+	/**
+	 * Returns the number of pages in the print job, laying out the remaining
+	 * pages if necessary.
+	 * 
+	 * @return the number of pages in the print job.
+	 */
+	public int getPageCount() {
+		layout(Integer.MAX_VALUE);
+		return frontierIndex;
+	}
+
+	/**
+	 * Lays out pages until the given number of pages is known or all pages
+	 * are laid out. The pages are disposed right away.
+	 * 
+	 * @param pageCount
+	 *            the number of pages to lay out.
+	 */
+	public void layout(int pageCount) {
+		while (frontierIndex < pageCount && frontier.hasNext()) {
+			PrintPiece page = nextFrontierPage();
+			if (page != null)
+				page.dispose();
+		}
+	}
+
+	/**
+	 * Returns the page at the given index. The caller is responsible for
+	 * disposing the returned page.
+	 * 
+	 * @param index
+	 *            the zero-based page index.
+	 * @return the page at the given index, or null if the print job has fewer
+	 *         pages.
+	 */
+	public PrintPiece getPage(int index) {
+		if (index < 0)
+			PaperClips.error(SWT.ERROR_INVALID_ARGUMENT,
+					"Page index must be >= 0 (value is " + index + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		if (index >= frontierIndex) {
+			layout(index);
+			return frontier.hasNext() ? nextFrontierPage() : null;
+		}
+
+		int checkpoint = index / checkpointInterval;
+		int checkpointIndex = checkpoint * checkpointInterval;
+		if (cursor == null || cursorIndex > index
+				|| cursorIndex < checkpointIndex) {
+			cursor = checkpoints.get(checkpoint).copy();
+			cursorIndex = checkpointIndex;
+		}
+
+		while (cursorIndex < index)
+			nextCursorPage().dispose();
+		return nextCursorPage();
+	}
+
+	private PrintPiece nextFrontierPage() {
+		if (frontierIndex % checkpointInterval == 0
+				&& checkpoints.size() == frontierIndex / checkpointInterval)
+			checkpoints.add(frontier.copy());
+
+		// A null page ends the enumeration and is not counted
+		PrintPiece page = frontier.nextPage();
+		if (page != null)
+			frontierIndex++;
+		return page;
+	}
+
+	private PrintPiece nextCursorPage() {
+		PrintPiece page = cursor.nextPage();
+		if (page == null) {
+			cursor = null;
+			PaperClips.error("Unable to layout page " + (cursorIndex + 1)); //$NON-NLS-1$
+		}
+		cursorIndex++;
+		return page;
+	}
+}
@@ -254,17 +254,18 @@ public class PaperClips {
 	private static void print(PrintJob printJob, Printer printer, final GC gc) {
 		final PrinterData printerData = printer.getPrinterData();
 
-		PrintPiece[] pages = getPages(printJob, printer, gc);
-
 		int startPage = 0;
-		int endPage = pages.length - 1;
+		int endPage = Integer.MAX_VALUE;
 		if (printerData.scope == PrinterData.PAGE_RANGE) {
 			// Convert from PrinterData's one-based indices to our zero-based
 			// indices
 			startPage = Math.max(startPage, printerData.startPage - 1);
-			endPage = Math.min(endPage, printerData.endPage - 1);
+			endPage = printerData.endPage - 1;
 		}
 
+		PrintPiece[] pages = getPages(printJob, printer, gc, startPage,
+				endPage);
+
 		final int collatedCopies;
 		final int noncollatedCopies;
 		if (printerData.collate) { // always false if printer driver performs
@@ -279,29 +280,27 @@ public class PaperClips {
 			collatedCopies = 1;
 		}
 
-		printPages(printer, gc, pages, startPage, endPage, collatedCopies,
+		printPages(printer, gc, pages, startPage, collatedCopies,
 				noncollatedCopies);
 	}
 
 	private static void printPages(final Printer printer, final GC gc,
-			final PrintPiece[] pages, final int startPage, final int endPage,
+			final PrintPiece[] pages, final int startPage,
 			final int collatedCopies, final int noncollatedCopies) {
-		disposeUnusedPages(pages, startPage, endPage);
-
 		Rectangle paperBounds = getPaperBounds(printer);
 		final int x = paperBounds.x;
 		final int y = paperBounds.y;
 
 		try {
 			for (int collated = 0; collated < collatedCopies; collated++) {
-				for (int pageIndex = startPage; pageIndex <= endPage; pageIndex++) {
+				for (int i = 0; i < pages.length; i++) {
 					for (int noncollated = 0; noncollated < noncollatedCopies; noncollated++) {
 						if (printer.startPage()) {
-							pages[pageIndex].paint(gc, x, y);
-							pages[pageIndex].dispose();
+							pages[i].paint(gc, x, y);
+							pages[i].dispose();
 							printer.endPage();
 						} else {
-							error("Unable to start page " + pageIndex); //$NON-NLS-1$
+							error("Unable to start page " + (startPage + i)); //$NON-NLS-1$
 						}
 					}
 				}
@@ -311,12 +310,6 @@ public class PaperClips {
 		}
 	}
 
-	private static void disposeUnusedPages(PrintPiece[] pages, int startPage,
-			int endPage) {
-		PaperClipsUtil.dispose(pages, 0, startPage);
-		PaperClipsUtil.dispose(pages, endPage + 1, pages.length);
-	}
-
 	/**
 	 * Processes the print job and returns an array of pages for the given
 	 * printer device. Each element in the returned array has already had the
@@ -411,16 +404,31 @@ public class PaperClips {
 
 	private static PrintPiece[] getPages(PrintJob printJob, Printer printer,
 			GC gc) {
+		return getPages(printJob, printer, gc, 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Lays out all pages of the print job, and returns the pages from
+	 * startPage to endPage (zero-based, inclusive). The other pages are
+	 * disposed as soon as they are laid out. All pages are still laid out so
+	 * that page numbers know the total page count.
+	 */
+	private static PrintPiece[] getPages(PrintJob printJob, Printer printer,
+			GC gc, int startPage, int endPage) {
 		PageEnumeration enumeration = new PageEnumeration(printJob, printer, gc);
 		List<PrintPiece> pages = new ArrayList<>();
+		int pageIndex = 0;
 		while (enumeration.hasNext()) {
 			PrintPiece page = enumeration.nextPage();
 			if (page == null) {
-				int pageNumber = pages.size() + 1;
 				PaperClipsUtil.dispose(pages);
-				error("Unable to layout page " + pageNumber); //$NON-NLS-1$
+				error("Unable to layout page " + (pageIndex + 1)); //$NON-NLS-1$
 			}
-			pages.add(page);
+			if (pageIndex >= startPage && pageIndex <= endPage)
+				pages.add(page);
+			else
+				page.dispose();
+			pageIndex++;
 		}
 
 		return (PrintPiece[]) pages.toArray(new PrintPiece[pages.size()]);
@@ -446,6 +454,52 @@ public class PaperClips {
 		return new PageEnumeration(printJob, printer, gc);
 	}
 
+	/**
+	 * Returns a {@link PageLayout} for the passed in PrintJob on the given
+	 * Printer, using the given GC, which records a checkpoint every
+	 * {@link PageLayout#DEFAULT_CHECKPOINT_INTERVAL} pages. The Printer and GC
+	 * must not be disposed while the layout is in use.
+	 * 
+	 * @param printJob
+	 *            the print job
+	 * @param printer
+	 *            the Printer device, which must not be disposed while the
+	 *            PageLayout is in use.
+	 * @param gc
+	 *            the GC, which must not be disposed while the PageLayout is in
+	 *            use.
+	 * @return a {@link PageLayout} for the passed in PrintJob.
+	 */
+	public static PageLayout getPageLayout(PrintJob printJob, Printer printer,
+			GC gc) {
+		return getPageLayout(printJob, printer, gc,
+				PageLayout.DEFAULT_CHECKPOINT_INTERVAL);
+	}
+
+	/**
+	 * Returns a {@link PageLayout} for the passed in PrintJob on the given
+	 * Printer, using the given GC. The Printer and GC must not be disposed
+	 * while the layout is in use.
+	 * 
+	 * @param printJob
+	 *            the print job
+	 * @param printer
+	 *            the Printer device, which must not be disposed while the
+	 *            PageLayout is in use.
+	 * @param gc
+	 *            the GC, which must not be disposed while the PageLayout is in
+	 *            use.
+	 * @param checkpointInterval
+	 *            the number of pages between two checkpoints. Larger values
+	 *            use less memory but lay out more pages again when jumping to
+	 *            a page.
+	 * @return a {@link PageLayout} for the passed in PrintJob.
+	 */
+	public static PageLayout getPageLayout(PrintJob printJob, Printer printer,
+			GC gc, int checkpointInterval) {
+		return new PageLayout(printJob, printer, gc, checkpointInterval);
+	}
+
 	/**
 	 * Returns the bounding rectangle of the paper, including non-printable
 	 * margins.
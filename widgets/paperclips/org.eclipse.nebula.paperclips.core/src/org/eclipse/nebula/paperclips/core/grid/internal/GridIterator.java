@@ -170,7 +170,7 @@ public class GridIterator implements PrintIterator {
 			return strategy.computeSize(entry.getTarget()).x;
 		if (col.size == GridPrint.PREFERRED)
 			return entry.getTarget().preferredSize().x;
-		return Math.round(col.size * device.getDPI().x / 72f);
+		return Math.round(col.size * dpi.x / 72f);
 	}
 
 	private static boolean isExplicitSize(GridColumn col) {
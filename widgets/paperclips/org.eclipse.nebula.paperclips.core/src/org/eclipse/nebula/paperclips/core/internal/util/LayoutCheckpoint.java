@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.nebula.paperclips.core.internal.util;
+
+import org.eclipse.nebula.paperclips.core.PrintIterator;
+
+/**
+ * Copies a document iterator to resume its layout later from the same point.
+ * Unlike the copies a print makes while trying out layouts, which are
+ * independent of the iterator they were copied from, the iterators copied
+ * here may share state that only grows with the layout, such as the highest
+ * page count reached.
+ */
+public class LayoutCheckpoint {
+	private static final ThreadLocal<Boolean> copying = new ThreadLocal<>();
+
+	private LayoutCheckpoint() {
+	}
+
+	/**
+	 * Returns a copy of the iterator to resume the layout from.
+	 *
+	 * @param iterator
+	 *            the iterator to copy.
+	 * @return a copy of the iterator.
+	 */
+	public static PrintIterator copy(PrintIterator iterator) {
+		Boolean outer = copying.get();
+		copying.set(Boolean.TRUE);
+		try {
+			return iterator.copy();
+		} finally {
+			copying.set(outer);
+		}
+	}
+
+	/**
+	 * Returns whether the iterators copied by the current thread are copied by
+	 * {@link #copy(PrintIterator)}.
+	 *
+	 * @return whether the iterators copied now are checkpoints.
+	 */
+	public static boolean isCopying() {
+		return copying.get() != null;
+	}
+}
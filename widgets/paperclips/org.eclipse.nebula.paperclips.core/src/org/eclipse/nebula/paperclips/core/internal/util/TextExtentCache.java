@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.nebula.paperclips.core.internal.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontMetrics;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * Remembers text measurements for a graphics device, so that text which is
+ * measured again (the same cell text in many rows of a grid, or pages laid out
+ * again) does not go through the GC every time.
+ * <p>
+ * Measurements are keyed by the font of the GC. The fonts are expected to
+ * live as long as the device, like the fonts from {@link ResourcePool}. As the
+ * fonts keep their device reachable, the caches of disposed devices are
+ * dropped whenever a cache is requested.
+ */
+public class TextExtentCache {
+	private static final int MAX_ENTRIES = 10000;
+
+	private static Map<Device, TextExtentCache> devices = new WeakHashMap<>();
+
+	/**
+	 * Returns the TextExtentCache for the given device.
+	 *
+	 * @param device
+	 *            the device which text is measured on.
+	 * @return the TextExtentCache for the given device.
+	 */
+	public synchronized static TextExtentCache forDevice(Device device) {
+		Util.notNull(device);
+		removeDisposedDevices();
+
+		TextExtentCache cache = devices.get(device);
+		if (cache == null) {
+			cache = new TextExtentCache();
+			devices.put(device, cache);
+		}
+		return cache;
+	}
+
+	private static void removeDisposedDevices() {
+		Iterator<Device> iter = devices.keySet().iterator();
+		while (iter.hasNext())
+			if (iter.next().isDisposed())
+				iter.remove();
+	}
+
+	private final Map<Font, FontMetrics> fontMetrics = createMap();
+	private final Map<Key, Point> extents = createMap();
+	private final Map<Key, Integer> fittingLengths = createMap();
+
+	private TextExtentCache() {
+	}
+
+	private static <K, V> Map<K, V> createMap() {
+		return new LinkedHashMap<K, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+	}
+
+	/**
+	 * Returns the font metrics of the current font of the GC.
+	 *
+	 * @param gc
+	 *            the GC.
+	 * @return the font metrics of the current font of the GC.
+	 */
+	public synchronized FontMetrics getFontMetrics(GC gc) {
+		Font font = gc.getFont();
+		FontMetrics result = fontMetrics.get(font);
+		if (result == null) {
+			result = gc.getFontMetrics();
+			fontMetrics.put(font, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the extent of the text in the current font of the GC, as
+	 * {@link GC#stringExtent(String)}.
+	 *
+	 * @param gc
+	 *            the GC.
+	 * @param text
+	 *            the text to measure.
+	 * @return the extent of the text.
+	 */
+	public synchronized Point stringExtent(GC gc, String text) {
+		Key key = new Key(gc.getFont(), text, 0);
+		Point result = extents.get(key);
+		if (result == null) {
+			result = gc.stringExtent(text);
+			extents.put(key, result);
+		}
+		return new Point(result.x, result.y);
+	}
+
+	/**
+	 * Returns the number of leading characters of the text which fit within
+	 * the given width in the current font of the GC.
+	 *
+	 * @param gc
+	 *            the GC.
+	 * @param text
+	 *            the text to measure.
+	 * @param width
+	 *            the available width.
+	 * @return the number of leading characters of the text which fit within
+	 *         the width.
+	 */
+	public synchronized int getFittingLength(GC gc, String text, int width) {
+		Key key = new Key(gc.getFont(), text, width);
+		Integer result = fittingLengths.get(key);
+		if (result == null) {
+			result = Integer.valueOf(computeFittingLength(gc, text, width));
+			fittingLengths.put(key, result);
+		}
+		return result.intValue();
+	}
+
+	private int computeFittingLength(GC gc, String text, int width) {
+		// Offsets within the string
+		int loIndex = 0;
+		int hiIndex = text.length();
+
+		// Does the whole string fit?
+		if (stringExtent(gc, text).x <= width)
+			return hiIndex;
+
+		// Do a binary search to find the maximum characters that will fit
+		// within the given width.
+		while (loIndex < hiIndex) {
+			int midIndex = (loIndex + hiIndex + 1) / 2;
+			int midWidth = gc.stringExtent(text.substring(0, midIndex)).x;
+
+			if (midWidth < width)
+				// don't add 1, the next character could make it too big
+				loIndex = midIndex;
+			else if (midWidth > width)
+				// subtract 1, we already know midIndex makes it too big
+				hiIndex = midIndex - 1;
+			else {
+				// perfect fit
+				loIndex = hiIndex = midIndex;
+			}
+		}
+
+		return loIndex;
+	}
+
+	private static class Key {
+		final Font font;
+		final String text;
+		final int width;
+
+		Key(Font font, String text, int width) {
+			this.font = font;
+			this.text = text;
+			this.width = width;
+		}
+
+		public int hashCode() {
+			int result = font == null ? 0 : font.hashCode();
+			result = 31 * result + text.hashCode();
+			return 31 * result + width;
+		}
+
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key that = (Key) obj;
+			return width == that.width && text.equals(that.text)
+					&& (font == null ? that.font == null
+							: font.equals(that.font));
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.eclipse.nebula.paperclips.core.PaperClips;
 import org.eclipse.nebula.paperclips.core.Print;
 import org.eclipse.nebula.paperclips.core.PrintIterator;
 import org.eclipse.nebula.paperclips.core.PrintPiece;
+import org.eclipse.nebula.paperclips.core.internal.util.LayoutCheckpoint;
 import org.eclipse.nebula.paperclips.core.internal.util.PaperClipsUtil;
 import org.eclipse.nebula.paperclips.core.internal.util.PrintSizeStrategy;
 import org.eclipse.nebula.paperclips.core.internal.util.Util;
@@ -315,15 +316,29 @@ class PageIterator implements PrintIterator {
 	class PageNumberer {
 		int pageCount = 0;
 
+		// Highest page count of this numberer and of the numberers it shares
+		// layout checkpoints with, see LayoutCheckpoint. Pages laid out again
+		// from a checkpoint thus know the total page count found by the first
+		// layout.
+		final int[] maxPageCount;
+
+		PageNumberer() {
+			this(new int[1]);
+		}
+
+		private PageNumberer(int[] maxPageCount) {
+			this.maxPageCount = maxPageCount;
+		}
+
 		synchronized PageNumber next() {
 			return new InnerPageNumber();
 		}
 
 		class InnerPageNumber implements PageNumber {
-			final int pageNumber = pageCount++; // POST-increment
+			final int pageNumber = nextPageNumber();
 
 			public int getPageCount() {
-				return pageCount;
+				return Math.max(pageCount, maxPageCount[0]);
 			}
 
 			public int getPageNumber() {
@@ -331,8 +346,18 @@ class PageIterator implements PrintIterator {
 			}
 		}
 
+		private int nextPageNumber() {
+			int result = pageCount++; // POST-increment
+			if (pageCount > maxPageCount[0])
+				maxPageCount[0] = pageCount;
+			return result;
+		}
+
 		PageNumberer copy() {
-			PageNumberer result = new PageNumberer();
+			// Other copies, like the layouts ColumnPrint tries out, keep their
+			// own page count as before.
+			PageNumberer result = new PageNumberer(
+					LayoutCheckpoint.isCopying() ? maxPageCount : new int[1]);
 			result.pageCount = this.pageCount;
 			return result;
 		}
@@ -381,12 +406,10 @@ class PageIterator implements PrintIterator {
 		this.footerGap = that.footerGap;
 
 		// FIXME: Wrapping PagePrint in a class with space-optimizing semantics
-		// (ColumnPrint) can fork the total
-		// page count. i.e. if the copied PageIterator is chosen as the optimal
-		// layout, then previous pages will
-		// have a page number spawned from a different page numberer. Thus the
-		// total page count for those
-		// previous pages will no longer be incremented with each new page.
+		// (ColumnPrint) can fork the total page count. i.e. if the copied
+		// PageIterator is chosen as the optimal layout, then previous pages
+		// will have a page number spawned from a different page numberer, and
+		// layout checkpoints no longer share the page count with it.
 		this.numberer = that.numberer.copy();
 		this.pageNumber = that.pageNumber;
 
@@ -21,6 +21,7 @@ import org.eclipse.nebula.paperclips.core.Print;
 import org.eclipse.nebula.paperclips.core.PrintIterator;
 import org.eclipse.nebula.paperclips.core.PrintPiece;
 import org.eclipse.nebula.paperclips.core.internal.util.ResourcePool;
+import org.eclipse.nebula.paperclips.core.internal.util.TextExtentCache;
 import org.eclipse.nebula.paperclips.core.internal.util.Util;
 import org.eclipse.nebula.paperclips.core.text.internal.TextPiece;
 import org.eclipse.swt.SWT;
@@ -350,6 +351,7 @@ public class TextPrint implements Print {
 class TextIterator implements PrintIterator {
 	private final Device device;
 	private final GC gc;
+	private final TextExtentCache extents;
 
 	final String text;
 	final String[] lines;
@@ -364,6 +366,7 @@ class TextIterator implements PrintIterator {
 	TextIterator(TextPrint print, Device device, GC gc) {
 		this.device = device;
 		this.gc = gc;
+		this.extents = TextExtentCache.forDevice(device);
 
 		this.text = print.text;
 		this.lines = print.text.split("(\r)?\n"); //$NON-NLS-1$
@@ -379,6 +382,7 @@ class TextIterator implements PrintIterator {
 	TextIterator(TextIterator that) {
 		this.device = that.device;
 		this.gc = that.gc;
+		this.extents = that.extents;
 
 		this.text = that.text;
 		this.lines = that.lines;
@@ -407,7 +411,7 @@ class TextIterator implements PrintIterator {
 	}
 
 	private PrintPiece internalNext(int width, int height) {
-		FontMetrics fm = gc.getFontMetrics();
+		FontMetrics fm = extents.getFontMetrics(gc);
 
 		final int lineHeight = fm.getHeight();
 		if (height < lineHeight)
@@ -492,12 +496,13 @@ class TextIterator implements PrintIterator {
 		try {
 			initGC();
 
-			FontMetrics fm = gc.getFontMetrics();
+			FontMetrics fm = extents.getFontMetrics(gc);
 			int maxWidth = 0;
 
 			for (int i = 0; i < text.length; i++) {
 				String textPiece = text[i];
-				maxWidth = Math.max(maxWidth, gc.stringExtent(textPiece).x);
+				maxWidth = Math.max(maxWidth,
+						extents.stringExtent(gc, textPiece).x);
 			}
 
 			return new Point(maxWidth, fm.getHeight());
@@ -507,37 +512,11 @@ class TextIterator implements PrintIterator {
 	}
 
 	private int findLineBreak(GC gc, String text, int width) {
-		// Offsets within the string
-		int loIndex = 0;
-		int hiIndex = text.length();
-
-		// Pixel width of entire string
-		int pixelWidth = gc.stringExtent(text).x;
-
-		// Does the whole string fit?
-		if (pixelWidth <= width)
-			// I'll take it
-			return hiIndex;
-
-		// Do a binary search to find the maximum characters that will fit
-		// within the given width.
-		while (loIndex < hiIndex) {
-			int midIndex = (loIndex + hiIndex + 1) / 2;
-			int midWidth = gc.stringExtent(text.substring(0, midIndex)).x;
-
-			if (midWidth < width)
-				// don't add 1, the next character could make it too big
-				loIndex = midIndex;
-			else if (midWidth > width)
-				// subtract 1, we already know midIndex makes it too big
-				hiIndex = midIndex - 1;
-			else {
-				// perfect fit
-				loIndex = hiIndex = midIndex;
-			}
-		}
+		// Maximum characters that will fit within the given width, remembered
+		// for the same text, font and width.
+		int maxLength = extents.getFittingLength(gc, text, width);
 
-		return findWordBreak(text, loIndex);
+		return findWordBreak(text, maxLength);
 	}
 
 	int findWordBreak(String text, int maxLength) {
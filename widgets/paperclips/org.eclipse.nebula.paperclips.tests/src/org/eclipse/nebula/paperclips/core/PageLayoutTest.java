@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.nebula.paperclips.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.paperclips.core.page.PageDecoration;
+import org.eclipse.nebula.paperclips.core.page.PageNumber;
+import org.eclipse.nebula.paperclips.core.page.PagePrint;
+import org.eclipse.nebula.paperclips.core.text.TextPrint;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.printing.Printer;
+import org.eclipse.swt.widgets.Display;
+
+import junit.framework.TestCase;
+
+public class PageLayoutTest extends TestCase {
+	private static final int CHECKPOINT_INTERVAL = 3;
+
+	private Printer printer;
+	private GC gc;
+	private final List<PageNumber> pageNumbers = new ArrayList<>();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		// Bug in SWT--a Display must be instantiated under Linux in order to
+		// print.
+		Display.getDefault();
+		if (Printer.getDefaultPrinterData() != null) {
+			printer = new Printer();
+			gc = new GC(printer);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (gc != null)
+			gc.dispose();
+		if (printer != null)
+			printer.dispose();
+		super.tearDown();
+	}
+
+	public void testResumedPagesMatchFullLayout() {
+		if (printer == null)
+			return; // no printer installed
+
+		PrintJob job = createPrintJob();
+		int pageCount = countPages(
+				PaperClips.getPageEnumeration(job, printer, gc));
+		assertTrue(pageCount > 2 * CHECKPOINT_INTERVAL);
+
+		PageLayout layout = PaperClips.getPageLayout(job, printer, gc,
+				CHECKPOINT_INTERVAL);
+		assertEquals(pageCount, layout.getPageCount());
+		assertTrue(layout.isComplete());
+
+		// Every page is now laid out again from a checkpoint
+		for (int index = pageCount - 1; index >= 0; index--)
+			assertPageNumber(layout, index, pageCount);
+		for (int index = 1; index < pageCount; index += 2)
+			assertPageNumber(layout, index, pageCount);
+		assertNull(layout.getPage(pageCount));
+		assertEquals(pageCount, layout.getPageCount());
+	}
+
+	public void testPagesBeforeFrontierMatchFullLayout() {
+		if (printer == null)
+			return; // no printer installed
+
+		PrintJob job = createPrintJob();
+		int pageCount = countPages(
+				PaperClips.getPageEnumeration(job, printer, gc));
+
+		PageLayout layout = PaperClips.getPageLayout(job, printer, gc,
+				CHECKPOINT_INTERVAL);
+		int last = 2 * CHECKPOINT_INTERVAL + 1;
+		assertPageNumber(layout, last, -1);
+		assertEquals(last + 1, layout.getKnownPageCount());
+		for (int index = last - 1; index >= 0; index--)
+			assertPageNumber(layout, index, -1);
+		assertEquals(last + 1, layout.getKnownPageCount());
+
+		assertEquals(pageCount, layout.getPageCount());
+		assertPageNumber(layout, 0, pageCount);
+		assertPageNumber(layout, pageCount - 1, pageCount);
+	}
+
+	public void testDiscardedCopyKeepsPageCount() {
+		if (printer == null)
+			return; // no printer installed
+
+		PrintIterator iterator = createPrintJob().getDocument()
+				.iterator(printer, gc);
+		PrintIterator copy = iterator.copy();
+		int copyPages = 0;
+		while (copy.hasNext()) {
+			PrintPiece page = PaperClips.next(copy, 500, 500);
+			assertNotNull(page);
+			page.dispose();
+			copyPages++;
+		}
+		assertTrue(copyPages > 1);
+
+		// the pages laid out by the copy don't count for the original
+		pageNumbers.clear();
+		PrintPiece page = PaperClips.next(iterator, 500, 500);
+		page.dispose();
+		PageNumber pageNumber = pageNumbers.get(pageNumbers.size() - 1);
+		assertEquals(0, pageNumber.getPageNumber());
+		assertEquals(1, pageNumber.getPageCount());
+	}
+
+	private PrintJob createPrintJob() {
+		StringBuilder text = new StringBuilder();
+		for (int line = 0; line < 1000; line++)
+			text.append("Line ").append(line).append('\n');
+		PagePrint page = new PagePrint(new TextPrint(text.toString()));
+		page.setHeader(new PageDecoration() {
+			public Print createPrint(PageNumber pageNumber) {
+				pageNumbers.add(pageNumber);
+				return new TextPrint("Header");
+			}
+		});
+		return new PrintJob("PageLayoutTest", page);
+	}
+
+	private static int countPages(PageEnumeration pages) {
+		int count = 0;
+		while (pages.hasNext()) {
+			PrintPiece page = pages.nextPage();
+			if (page != null) {
+				page.dispose();
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Asserts that the page at the given index is decorated with the page
+	 * number of the index and, unless -1, the given page count.
+	 */
+	private void assertPageNumber(PageLayout layout, int index, int pageCount) {
+		pageNumbers.clear();
+		PrintPiece page = layout.getPage(index);
+		assertNotNull(page);
+		page.dispose();
+
+		PageNumber pageNumber = pageNumbers.get(pageNumbers.size() - 1);
+		assertEquals(index, pageNumber.getPageNumber());
+		if (pageCount != -1)
+			assertEquals(pageCount, pageNumber.getPageCount());
+	}
+}
@@ -13,10 +13,11 @@
  */
 package org.eclipse.nebula.paperclips.widgets;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
-import org.eclipse.nebula.paperclips.core.PageEnumeration;
+import org.eclipse.nebula.paperclips.core.PageLayout;
 import org.eclipse.nebula.paperclips.core.PaperClips;
 import org.eclipse.nebula.paperclips.core.PrintJob;
 import org.eclipse.nebula.paperclips.core.PrintPiece;
@@ -64,8 +65,10 @@ public class PrintPreview extends Canvas {
 	private Printer printer = null;
 	private GC gc = null;
 
-	private PageEnumeration pageEnumeration = null;
-	private List<PrintPiece> pages = null;
+	private PageLayout pageLayout = null;
+	// Only the pages currently displayed are kept, the others are laid out
+	// again from the nearest checkpoint of the page layout when needed.
+	private Map<Integer, PrintPiece> visiblePages = null;
 	private Point pageDisplaySize = null;
 	private Point[] pageDisplayLocations = null;
 
@@ -179,7 +182,7 @@ public class PrintPreview extends Canvas {
 	public int getPageCount() {
 		checkWidget();
 		fetchPages(lazy ? horizontalPageCount * verticalPageCount : ALL_PAGES);
-		return pages == null ? 0 : pages.size();
+		return pageLayout == null ? 0 : pageLayout.getKnownPageCount();
 	}
 
 	/**
@@ -190,7 +193,7 @@ public class PrintPreview extends Canvas {
 	public boolean isPageLayoutComplete() {
 		checkWidget();
 		fetchPages(horizontalPageCount * verticalPageCount);
-		return pageEnumeration == null || !pageEnumeration.hasNext();
+		return pageLayout == null || pageLayout.isComplete();
 	}
 
 	/**
@@ -381,8 +384,8 @@ public class PrintPreview extends Canvas {
 			public void run() {
 				if (isDisposed())
 					return;
-				if (!isPageLayoutComplete() && pages != null) {
-					fetchPages(pages.size() + 1);
+				if (!isPageLayoutComplete() && pageLayout != null) {
+					fetchPages(pageLayout.getKnownPageCount() + 1);
 					if (!isPageLayoutComplete()) {
 						getDisplay().timerExec(DELAY, this);
 					}
@@ -405,20 +408,58 @@ public class PrintPreview extends Canvas {
 
 		getPrinter();
 		getPaperSize();
-		fetchPages(pageIndex + verticalPageCount * horizontalPageCount);
+		// The visible pages are taken before the pages are counted, so that
+		// pages not laid out yet come straight from the layout and are not
+		// laid out twice.
+		int visibleCount = verticalPageCount * horizontalPageCount;
+		if (pageIndex >= 0 && getPageLayout() != null)
+			fetchVisiblePages(visibleCount);
+		fetchPages(pageIndex + visibleCount);
 
 		getPageDisplaySize();
 		getPageDisplayLocations();
 
-		if (printer == null || paperSize == null || pages == null
+		if (printer == null || paperSize == null || pageLayout == null
 				|| pageDisplaySize == null || pageDisplayLocations == null
-				|| pageIndex < 0 || pageIndex >= pages.size())
+				|| pageIndex < 0
+				|| pageIndex >= pageLayout.getKnownPageCount())
 			return;
 
-		int count = Math.min(verticalPageCount * horizontalPageCount,
-				pages.size() - pageIndex);
+		int count = Math.min(visibleCount,
+				pageLayout.getKnownPageCount() - pageIndex);
 		for (int i = 0; i < count; i++) {
-			paintPage(event, pages.get(pageIndex + i), pageDisplayLocations[i]);
+			PrintPiece page = visiblePages.get(Integer.valueOf(pageIndex + i));
+			if (page != null)
+				paintPage(event, page, pageDisplayLocations[i]);
+		}
+	}
+
+	private void fetchVisiblePages(int count) {
+		if (visiblePages == null)
+			visiblePages = new HashMap<>();
+
+		// Dispose pages which scrolled out of view
+		for (Iterator<Map.Entry<Integer, PrintPiece>> it = visiblePages
+				.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<Integer, PrintPiece> entry = it.next();
+			int index = entry.getKey().intValue();
+			if (index < pageIndex || index >= pageIndex + count) {
+				entry.getValue().dispose();
+				it.remove();
+			}
+		}
+
+		boolean doRotate = orientationRequiresRotate();
+		for (int i = 0; i < count; i++) {
+			Integer index = Integer.valueOf(pageIndex + i);
+			if (visiblePages.containsKey(index))
+				continue;
+			PrintPiece page = pageLayout.getPage(index.intValue());
+			if (page == null)
+				break; // past the last page
+			if (doRotate)
+				page = new RotateClockwisePrintPiece(printer, page);
+			visiblePages.put(index, page);
 		}
 	}
 
@@ -522,30 +563,22 @@ public class PrintPreview extends Canvas {
 		return paperSize;
 	}
 
+	private PageLayout getPageLayout() {
+		if (pageLayout == null && getPrintJob() != null && getPrinter() != null
+				&& getGC() != null)
+			// The GC is kept until the printer is disposed, as pages before the
+			// visible ones may need to be laid out again.
+			pageLayout = PaperClips.getPageLayout(printJob, printer, gc);
+		return pageLayout;
+	}
+
 	private void fetchPages(int endIndex) {
-		if (getPrintJob() == null || getPrinter() == null)
+		if (getPageLayout() == null)
 			return;
-		if (pageEnumeration == null) {
-			if (getGC() == null)
-				return;
-			pageEnumeration = PaperClips.getPageEnumeration(printJob, printer,
-					gc);
-		}
-		if (pages == null)
-			pages = new ArrayList<>();
-		boolean doRotate = orientationRequiresRotate();
-		boolean allPages = endIndex == ALL_PAGES || !lazy;
-		while (pageEnumeration.hasNext()
-				&& (allPages || pages.size() < endIndex)) {
-			PrintPiece page = pageEnumeration.nextPage();
-			if (page != null) {
-				if (doRotate)
-					page = new RotateClockwisePrintPiece(printer, page);
-				pages.add(page);
-			}
-		}
-		if (!pageEnumeration.hasNext())
-			disposeGC();
+		if (endIndex == ALL_PAGES || !lazy)
+			pageLayout.getPageCount();
+		else
+			pageLayout.layout(endIndex);
 	}
 
 	private void drawBackground(Event event) {
@@ -740,11 +773,13 @@ public class PrintPreview extends Canvas {
 	}
 
 	private void disposePages() {
-		if (pages != null) {
-			pageEnumeration = null;
-			for (int i = 0; i < pages.size(); i++)
-				pages.get(i).dispose();
-			pages = null;
+		if (pageLayout != null) {
+			pageLayout = null;
+			if (visiblePages != null) {
+				for (PrintPiece page : visiblePages.values())
+					page.dispose();
+				visiblePages = null;
+			}
 			paperSize = null;
 			invalidatePageDisplayBounds();
 		}
@@ -779,7 +814,7 @@ public class PrintPreview extends Canvas {
 		Point size = new Point(wHint, hHint);
 
 		fetchPages(horizontalPageCount * verticalPageCount);
-		if (getPrinter() == null || pages == null) {
+		if (getPrinter() == null || pageLayout == null) {
 			Point boilerplate = getBoilerplateSize();
 			if (wHint == SWT.DEFAULT)
 				size.x = boilerplate.x;
@@ -821,7 +856,7 @@ public class PrintPreview extends Canvas {
 		Point size = getBoilerplateSize();
 
 		fetchPages(horizontalPageCount * verticalPageCount);
-		if (getPrinter() != null && pages != null) {
+		if (getPrinter() != null && pageLayout != null) {
 			Point displayDPI = getDisplay().getDPI();
 			Point printerDPI = getPrinter().getDPI();
 			Point paperSize = getPaperSize();
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.datadefinition;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.PredefinedColorMap;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+public class ColorMapTest {
+
+	private static final int WIDTH = 300;
+	private static final int HEIGHT = 250;
+
+	private final ColorMap colorMap = new ColorMap(PredefinedColorMap.JET, true, true);
+
+	@Test
+	public void testDrawImageForEachWrapper() {
+		final int size = WIDTH * HEIGHT;
+		final byte[] bytes = new byte[size];
+		final short[] shorts = new short[size];
+		final int[] ints = new int[size];
+		final long[] longs = new long[size];
+		final float[] floats = new float[size];
+		final double[] doubles = new double[size];
+		for (int i = 0; i < size; i++) {
+			shorts[i] = (short) (i * 31 % 65536 - 32768);
+			bytes[i] = (byte) shorts[i];
+			ints[i] = shorts[i];
+			longs[i] = shorts[i];
+			floats[i] = shorts[i] / 3f;
+			doubles[i] = shorts[i] / 300.0;
+		}
+		checkImage(new ByteArrayWrapper(bytes), -128, 127);
+		checkImage(new ShortArrayWrapper(shorts), -20000, 30000);
+		checkImage(new IntArrayWrapper(ints), -20000, 30000);
+		checkImage(new LongArrayWrapper(longs), -20000, 30000);
+		checkImage(new FloatArrayWrapper(floats), -5000, 9000);
+		checkImage(new DoubleArrayWrapper(doubles), -100, 100);
+	}
+
+	@Test
+	public void testParallelRendering() {
+		final int width = 1024;
+		final int height = 512;
+		final short[] shorts = new short[width * height];
+		for (int i = 0; i < shorts.length; i++)
+			shorts[i] = (short) (i * 7);
+		colorMap.setParallelRendering(true);
+		final ImageData imageData = colorMap.drawImage(new ShortArrayWrapper(shorts), width, height, 30000, -30000,
+				null, false);
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+				assertEquals(expectedPixel(shorts[y * width + x], -30000, 30000), imageData.getPixel(x, y));
+	}
+
+	private void checkImage(IPrimaryArrayWrapper data, double min, double max) {
+		ImageData imageData = colorMap.drawImage(data, WIDTH, HEIGHT, max, min, null, false);
+		for (int y = 0; y < HEIGHT; y++)
+			for (int x = 0; x < WIDTH; x++)
+				assertEquals(expectedPixel(data.get(y * WIDTH + x), min, max), imageData.getPixel(x, y));
+
+		// shrunk image, nearest neighbor
+		final int width = 97;
+		final int height = 61;
+		imageData = colorMap.drawImage(data, WIDTH, HEIGHT, max, min,
+				new ImageData(width, height, 24, colorMap.getPalette()), true);
+		final int xRatio = (WIDTH << 16) / width + 1;
+		final int yRatio = (HEIGHT << 16) / height + 1;
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++) {
+				final double value = data.get(((y * yRatio) >> 16) * WIDTH + ((x * xRatio) >> 16));
+				assertEquals(expectedPixel(value, min, max), imageData.getPixel(x, y));
+			}
+	}
+
+	private int expectedPixel(double value, double min, double max) {
+		int index = (int) ((value - min) / (max - min) * 255);
+		if (index < 0)
+			index = 0;
+		else if (index > 255)
+			index = 255;
+		final RGB rgb = colorMap.getColorsLookupTable()[index];
+		return colorMap.getPalette().getPixel(rgb);
+	}
+}
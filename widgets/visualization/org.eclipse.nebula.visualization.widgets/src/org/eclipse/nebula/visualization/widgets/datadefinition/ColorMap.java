@@ -89,6 +89,14 @@ public class ColorMap {
 	private PaletteData palette = new PaletteData(0xff, 0xff00, 0xff0000);
 	private double colorMapMin;
 	private double colorMapMax;
+	private boolean parallelRendering;
+	
+	//tables reused by drawImage
+	private int[] valuePixelTable;
+	private int[] valuePixelTableSource;
+	private double valuePixelTableMin;
+	private double valuePixelTableMax;
+	private int[] columnTable;
 	
 	public ColorMap() {
 		colorMap = new LinkedHashMap<Double, RGB>();
@@ -171,6 +179,21 @@ public class ColorMap {
 	public PredefinedColorMap getPredefinedColorMap() {
 		return predefinedColorMap;
 	}
+
+	/**If true, the rows of large images are drawn in parallel by the threads of the
+	 * common fork-join pool. The default value is false.
+	 * @param parallelRendering the parallelRendering to set
+	 */
+	public void setParallelRendering(boolean parallelRendering) {
+		this.parallelRendering = parallelRendering;
+	}
+
+	/**
+	 * @return true if the rows of large images are drawn in parallel
+	 */
+	public boolean isParallelRendering() {
+		return parallelRendering;
+	}
 	
 	@Override
 	public String toString() {
@@ -205,47 +228,35 @@ public class ColorMap {
 			min = colorMapMin;
 			max = colorMapMax;
 		}
-			if(shrink){				
-				int height = imageData.height;
-				int width = imageData.width;
-				    // EDIT: added +1 to account for an early rounding problem
-				    int x_ratio = (int)((dataWidth<<16)/width) +1;
-				    int y_ratio = (int)((dataHeight<<16)/height) +1;
-				    //int x_ratio = (int)((w1<<16)/w2) ;
-				    //int y_ratio = (int)((h1<<16)/h2) ;
-				    int x2, y2 ;
-				    for (int i=0;i<height;i++) {
-				        for (int j=0;j<width;j++) {
-				            x2 = ((j*x_ratio)>>16) ;
-				            y2 = ((i*y_ratio)>>16) ;
-				            int index = (int) ((dataArray.get(y2 * dataWidth + x2) - min) / (max - min) * 255);
-							if (index < 0)
-								index = 0;
-							else if (index > 255)
-								index = 255;
-							int pixel = pixelLookupTable[index];
-				            imageData.setPixel(j,i,pixel); ;
-				        }                
-				    }  
-				
-					
-			}else{
-				for (int y = 0; y < dataHeight; y++) {
-					for (int x = 0; x < dataWidth; x++) {
-						// the index of the value in the color table array
-						int index = (int) ((dataArray.get(y * dataWidth + x) - min) / (max - min) * 255);
-						if (index < 0)
-							index = 0;
-						else if (index > 255)
-							index = 255;
-						int pixel = pixelLookupTable[index];
-						imageData.setPixel(x, y, pixel);
-					}
-				}
+		int width = shrink ? imageData.width : dataWidth;
+		int height = shrink ? imageData.height : dataHeight;
+		
+		//the source column of each image column, shared by all rows
+		if(columnTable == null || columnTable.length < width)
+			columnTable = new int[width];
+		ColorMapRenderer.fillColumns(columnTable, width, dataWidth, shrink);
+		
+		//byte and short values are mapped through a table with the pixel of each value,
+		//if the image is large enough to make up for filling it
+		int[] valuePixels = null;
+		int tableSize = ColorMapRenderer.valueTableSize(dataArray);
+		if(tableSize > 0 && tableSize <= width * height){
+			if(valuePixelTable == null || valuePixelTable.length != tableSize 
+					|| valuePixelTableSource != pixelLookupTable
+					|| Double.compare(valuePixelTableMin, min) != 0 || Double.compare(valuePixelTableMax, max) != 0){
+				if(valuePixelTable == null || valuePixelTable.length != tableSize)
+					valuePixelTable = new int[tableSize];
+				ColorMapRenderer.fillValuePixels(valuePixelTable, pixelLookupTable, min, max);
+				valuePixelTableSource = pixelLookupTable;
+				valuePixelTableMin = min;
+				valuePixelTableMax = max;
 			}
-				
-			
-			return imageData;
+			valuePixels = valuePixelTable;
+		}
+		
+		new ColorMapRenderer(dataArray, dataWidth, dataHeight, min, max, imageData, shrink,
+				pixelLookupTable, valuePixels, columnTable).render(parallelRendering);
+		return imageData;
 	}
 		
 	/**Calculate the image data from source data based on the color map.
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.datadefinition;
+
+import java.util.stream.IntStream;
+
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * Fills the rows of an image with the colors of a data array, see
+ * {@link ColorMap#drawImage(IPrimaryArrayWrapper, int, int, double, double, ImageData, boolean)}.
+ * <p>
+ * There is a loop per wrapper type reading the wrapped array directly. Byte
+ * and short values are mapped through a table with the pixel of every
+ * possible value, other values through the 256 entries pixel table of the
+ * color map. 24 bit images are written to {@link ImageData#data} directly,
+ * the same way as {@link ImageData#setPixel(int, int, int)} does. Rows may be
+ * rendered in parallel, they do not share any state written to.
+ * </p>
+ */
+final class ColorMapRenderer {
+
+	/** images with fewer pixels are not rendered in parallel */
+	static final int PARALLEL_THRESHOLD = 512 * 512;
+
+	private final IPrimaryArrayWrapper dataArray;
+	private final int dataWidth;
+	private final double min;
+	private final double max;
+	private final ImageData imageData;
+	private final int width;
+	private final int height;
+	private final boolean direct;
+
+	/** pixel for each of the 256 color indices */
+	private final int[] pixels;
+
+	/** pixel for each value of a byte or short array, null to map each value */
+	private final int[] valuePixels;
+
+	/** source column for each image column */
+	private final int[] columns;
+
+	/** fixed point ratio between source rows and image rows, 0 if not shrunk */
+	private final int yRatio;
+
+	ColorMapRenderer(IPrimaryArrayWrapper dataArray, int dataWidth, int dataHeight, double min, double max,
+			ImageData imageData, boolean shrink, int[] pixels, int[] valuePixels, int[] columns) {
+		this.dataArray = dataArray;
+		this.dataWidth = dataWidth;
+		this.min = min;
+		this.max = max;
+		this.imageData = imageData;
+		this.pixels = pixels;
+		this.valuePixels = valuePixels;
+		this.columns = columns;
+		this.direct = imageData.depth == 24;
+		if (shrink) {
+			width = imageData.width;
+			height = imageData.height;
+			yRatio = (dataHeight << 16) / height + 1;
+		} else {
+			width = dataWidth;
+			height = dataHeight;
+			yRatio = 0;
+		}
+	}
+
+	/**
+	 * Fills the source column of each image column into the given array.
+	 *
+	 * @param columns
+	 *            array of at least <code>width</code> elements
+	 * @param shrink
+	 *            true if the image is smaller than the data
+	 */
+	static void fillColumns(int[] columns, int width, int dataWidth, boolean shrink) {
+		// EDIT: added +1 to account for an early rounding problem
+		final int xRatio = (dataWidth << 16) / width + 1;
+		for (int j = 0; j < width; j++)
+			columns[j] = shrink ? (j * xRatio) >> 16 : j;
+	}
+
+	/**
+	 * @return the index in the color table of a value, same as the original
+	 *         per pixel calculation
+	 */
+	static int colorIndex(double value, double min, double max) {
+		int index = (int) ((value - min) / (max - min) * 255);
+		if (index < 0)
+			index = 0;
+		else if (index > 255)
+			index = 255;
+		return index;
+	}
+
+	/**
+	 * Fills a table with the pixel of each byte or short value.
+	 *
+	 * @param table
+	 *            256 entries for bytes, 65536 entries for shorts, indexed by
+	 *            the unsigned value of the bits
+	 */
+	static void fillValuePixels(int[] table, int[] pixels, double min, double max) {
+		final boolean bytes = table.length == 256;
+		for (int i = 0; i < table.length; i++) {
+			final double value = bytes ? (byte) i : (short) i;
+			table[i] = pixels[colorIndex(value, min, max)];
+		}
+	}
+
+	/**
+	 * Renders all rows.
+	 *
+	 * @param parallel
+	 *            true to render the rows of large images in parallel
+	 */
+	void render(boolean parallel) {
+		if (parallel && direct && width * height >= PARALLEL_THRESHOLD)
+			IntStream.range(0, height).parallel().forEach(this::renderRow);
+		else
+			for (int i = 0; i < height; i++)
+				renderRow(i);
+	}
+
+	private void renderRow(int row) {
+		final int offset = (yRatio == 0 ? row : (row * yRatio) >> 16) * dataWidth;
+		final byte[] data = imageData.data;
+		final int lineOffset = row * imageData.bytesPerLine;
+		if (valuePixels != null && dataArray instanceof ShortArrayWrapper) {
+			final short[] values = ((ShortArrayWrapper) dataArray).getData();
+			for (int j = 0; j < width; j++)
+				setPixel(data, lineOffset, row, j, valuePixels[values[offset + columns[j]] & 0xffff]);
+		} else if (valuePixels != null && dataArray instanceof ByteArrayWrapper) {
+			final byte[] values = ((ByteArrayWrapper) dataArray).getData();
+			for (int j = 0; j < width; j++)
+				setPixel(data, lineOffset, row, j, valuePixels[values[offset + columns[j]] & 0xff]);
+		} else if (dataArray instanceof IntArrayWrapper) {
+			final int[] values = ((IntArrayWrapper) dataArray).getData();
+			for (int j = 0; j < width; j++)
+				setPixel(data, lineOffset, row, j, pixels[colorIndex(values[offset + columns[j]], min, max)]);
+		} else if (dataArray instanceof FloatArrayWrapper) {
+			final float[] values = ((FloatArrayWrapper) dataArray).getData();
+			for (int j = 0; j < width; j++)
+				setPixel(data, lineOffset, row, j, pixels[colorIndex(values[offset + columns[j]], min, max)]);
+		} else if (dataArray instanceof DoubleArrayWrapper) {
+			final double[] values = ((DoubleArrayWrapper) dataArray).getData();
+			for (int j = 0; j < width; j++)
+				setPixel(data, lineOffset, row, j, pixels[colorIndex(values[offset + columns[j]], min, max)]);
+		} else if (dataArray instanceof LongArrayWrapper) {
+			final long[] values = ((LongArrayWrapper) dataArray).getData();
+			for (int j = 0; j < width; j++)
+				setPixel(data, lineOffset, row, j, pixels[colorIndex(values[offset + columns[j]], min, max)]);
+		} else {
+			for (int j = 0; j < width; j++)
+				setPixel(data, lineOffset, row, j, pixels[colorIndex(dataArray.get(offset + columns[j]), min, max)]);
+		}
+	}
+
+	private void setPixel(byte[] data, int lineOffset, int row, int column, int pixel) {
+		if (direct) {
+			final int index = lineOffset + column * 3;
+			data[index] = (byte) (pixel >> 16);
+			data[index + 1] = (byte) (pixel >> 8);
+			data[index + 2] = (byte) pixel;
+		} else
+			imageData.setPixel(column, row, pixel);
+	}
+
+	/**
+	 * @return the size of the table with the pixel of each value for the
+	 *         wrapper type, 0 if there is none. See
+	 *         {@link #fillValuePixels(int[], int[], double, double)}
+	 */
+	static int valueTableSize(IPrimaryArrayWrapper dataArray) {
+		if (dataArray instanceof ByteArrayWrapper)
+			return 256;
+		if (dataArray instanceof ShortArrayWrapper)
+			return 65536;
+		return 0;
+	}
+}
@@ -27,6 +27,10 @@ public class DoubleArrayWrapper implements IPrimaryArrayWrapper {
 	public void setData(double[] data) {
 		this.data = data;
 	}
+
+	double[] getData() {
+		return data;
+	}
 	
 	public double get(int i) {
 		return data[i];
@@ -27,6 +27,10 @@ public class FloatArrayWrapper implements IPrimaryArrayWrapper {
 	public void setData(float[] data) {
 		this.data = data;
 	}
+
+	float[] getData() {
+		return data;
+	}
 	
 	public double get(int i) {
 		return data[i];
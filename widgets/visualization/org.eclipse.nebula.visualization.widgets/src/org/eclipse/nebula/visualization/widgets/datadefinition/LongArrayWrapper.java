@@ -27,6 +27,10 @@ public class LongArrayWrapper implements IPrimaryArrayWrapper {
 	public void setData(long[] data) {
 		this.data = data;
 	}
+
+	long[] getData() {
+		return data;
+	}
 	
 	public double get(int i) {
 		return data[i];
@@ -897,7 +897,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 					y2 = ((i * y_ratio) >> 16);
 					int index = y2 * dataWidth * 3 + x2 * 3;
 					int pixel = calcRGBPixel(dataArray, max, min, index);
-					imageData.setPixel(j, i, pixel);
+					setPixel(imageData, j, i, pixel);
 					
 				}
 			}
@@ -908,12 +908,25 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 					// the index of the value in the color table array
 					int index = y * dataWidth * 3 + x * 3;					
 					int pixel = calcRGBPixel(dataArray, max, min, index);
-					imageData.setPixel(x, y, pixel);
+					setPixel(imageData, x, y, pixel);
 				}
 			}
 		}
 		return imageData;
 	}
+
+	/**Set a pixel, writing 24 bit image data directly like {@link ImageData#setPixel(int, int, int)} does.
+	 */
+	private static void setPixel(ImageData imageData, int x, int y, int pixel) {
+		if (imageData.depth == 24) {
+			int index = y * imageData.bytesPerLine + x * 3;
+			imageData.data[index] = (byte) (pixel >> 16);
+			imageData.data[index + 1] = (byte) (pixel >> 8);
+			imageData.data[index + 2] = (byte) pixel;
+		} else
+			imageData.setPixel(x, y, pixel);
+	}
+
 	/**
 	 * @param dataArray
 	 * @param max
@@ -923,9 +936,12 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 	 */
 	protected int calcRGBPixel(IPrimaryArrayWrapper dataArray, double max,
 			double min, int index) {
-		int r = (int) dataArray.get(index);
-		int g = (int) dataArray.get(index + 1);
-		int b = (int) dataArray.get(index + 2);
+		double red = dataArray.get(index);
+		double green = dataArray.get(index + 1);
+		double blue = dataArray.get(index + 2);
+		int r = (int) red;
+		int g = (int) green;
+		int b = (int) blue;
 		switch (colorDepth) {
 		case BIT16:
 			r = r >> 8;
@@ -948,9 +964,9 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 			g = g & 0xFF;
 			break;
 		case SCALE:
-			r = (int) ((dataArray.get(index) - min) / (max - min) * 255);
-			g = (int) ((dataArray.get(index + 1) - min)	/ (max - min) * 255);
-			b = (int) ((dataArray.get(index + 2) - min)	/ (max - min) * 255);
+			r = (int) ((red - min) / (max - min) * 255);
+			g = (int) ((green - min)	/ (max - min) * 255);
+			b = (int) ((blue - min)	/ (max - min) * 255);
 			break;
 		case BIT8:
 		default:
@@ -959,7 +975,10 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 //		if(r>255) r=255; else if(r<0) r=0;
 //		if(g>255) g=255; else if(g<0) g=0;
 //		if(b>255) b=255; else if(b<0) b=0;
-		int pixel = palette.getPixel(new RGB(r, g, b));
+		//same as palette.getPixel(new RGB(r, g, b)) for the direct palette, without creating an RGB
+		if (r < 0 || r > 255 || g < 0 || g > 255 || b < 0 || b > 255)
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		int pixel = r | (g << 8) | (b << 16);
 		return pixel;
 	}
 
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ConcurrentCircularBufferTest {
+
+	@Test
+	public void testAdd() {
+		ConcurrentCircularBuffer<Integer> buffer = new ConcurrentCircularBuffer<Integer>(5);
+		for (int i = 0; i < 8; i++) {
+			buffer.add(i);
+		}
+		assertEquals(5, buffer.size());
+		assertEquals(8, buffer.getSequence());
+		assertEquals(Integer.valueOf(3), buffer.getElement(0));
+		assertEquals(Integer.valueOf(7), buffer.getTail());
+		assertNull(buffer.getElement(5));
+	}
+
+	@Test
+	public void testSnapshotIsFixed() {
+		ConcurrentCircularBuffer<Integer> buffer = new ConcurrentCircularBuffer<Integer>(5);
+		for (int i = 0; i < 5; i++) {
+			buffer.add(i);
+		}
+		ConcurrentCircularBuffer.Snapshot<Integer> snapshot = buffer.snapshot();
+		buffer.add(5);
+		buffer.add(6);
+		assertEquals(5, snapshot.size());
+		// the oldest samples were overwritten, the next one is being written
+		assertNull(snapshot.get(0));
+		assertNull(snapshot.get(1));
+		assertNull(snapshot.get(2));
+		assertEquals(Integer.valueOf(3), snapshot.get(3));
+		assertEquals(Integer.valueOf(4), snapshot.get(4));
+		assertEquals(Integer.valueOf(6), buffer.getTail());
+	}
+
+	@Test
+	public void testClear() {
+		ConcurrentCircularBuffer<Integer> buffer = new ConcurrentCircularBuffer<Integer>(5);
+		buffer.add(0);
+		buffer.add(1);
+		ConcurrentCircularBuffer.Snapshot<Integer> snapshot = buffer.snapshot();
+		buffer.clear();
+		assertEquals(0, buffer.size());
+		assertNull(buffer.getTail());
+		assertNull(snapshot.get(0));
+		buffer.add(2);
+		assertEquals(1, buffer.size());
+		assertEquals(Integer.valueOf(2), buffer.getElement(0));
+	}
+
+	@Test
+	public void testSetBufferSize() {
+		ConcurrentCircularBuffer<Integer> buffer = new ConcurrentCircularBuffer<Integer>(5);
+		for (int i = 0; i < 7; i++) {
+			buffer.add(i);
+		}
+		buffer.setBufferSize(3);
+		assertEquals(3, buffer.size());
+		assertEquals(Integer.valueOf(4), buffer.getElement(0));
+		buffer.setBufferSize(6);
+		buffer.add(7);
+		assertEquals(4, buffer.size());
+		assertEquals(Integer.valueOf(4), buffer.getElement(0));
+		assertEquals(Integer.valueOf(7), buffer.getTail());
+	}
+
+	@Test
+	public void testConcurrentReader() throws InterruptedException {
+		final ConcurrentCircularBuffer<Integer> buffer = new ConcurrentCircularBuffer<Integer>(64);
+		final int count = 200000;
+		Thread writer = new Thread(new Runnable() {
+			public void run() {
+				for (int i = 0; i < count; i++) {
+					buffer.add(i);
+				}
+			}
+		});
+		writer.start();
+		while (writer.isAlive()) {
+			ConcurrentCircularBuffer.Snapshot<Integer> snapshot = buffer.snapshot();
+			for (int i = 0; i < snapshot.size(); i++) {
+				Integer element = snapshot.get(i);
+				// an element is either the one of the window or lost
+				assertTrue(element == null || element.intValue() == snapshot.getStartSequence() + i);
+			}
+		}
+		writer.join();
+		assertEquals(Integer.valueOf(count - 1), buffer.getTail());
+	}
+}
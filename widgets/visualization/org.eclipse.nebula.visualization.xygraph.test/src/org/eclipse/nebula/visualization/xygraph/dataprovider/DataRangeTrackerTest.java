@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.junit.Test;
+
+public class DataRangeTrackerTest {
+
+	@Test
+	public void testMatchesScanOfCircularBuffer() {
+		final int bufferSize = 50;
+		final Random random = new Random(42);
+		final CircularBufferDataProvider tracked = new CircularBufferDataProvider(false);
+		tracked.setBufferSize(bufferSize);
+		final CircularBuffer<ISample> samples = new CircularBuffer<ISample>(bufferSize);
+		for (int i = 0; i < 1000; i++) {
+			final double x = random.nextInt(200) - 100;
+			final double y = i % 17 == 0 ? Double.NaN : random.nextGaussian() * 10;
+			final ISample sample = new Sample(x, y, random.nextDouble(), random.nextDouble(), 0, 0);
+			tracked.addSample(sample);
+			samples.add(sample);
+			for (boolean positiveOnly : new boolean[] { false, true }) {
+				assertEquals(scan(samples, positiveOnly, true), tracked.getXDataMinMax(positiveOnly));
+				assertEquals(scan(samples, positiveOnly, false), tracked.getYDataMinMax(positiveOnly));
+			}
+		}
+	}
+
+	@Test
+	public void testClearAndResize() {
+		final CircularBufferDataProvider provider = new CircularBufferDataProvider(true);
+		provider.setBufferSize(10);
+		for (int i = 0; i < 20; i++) {
+			provider.setCurrentYData(i);
+		}
+		assertEquals(10.0, provider.getYDataMinMax().getLower(), 0);
+		provider.setBufferSize(5);
+		assertEquals(15.0, provider.getYDataMinMax().getLower(), 0);
+		provider.clearTrace();
+		provider.setCurrentYData(-3);
+		assertEquals(-3.0, provider.getYDataMinMax().getLower(), 0);
+		assertEquals(-3.0, provider.getYDataMinMax().getUpper(), 0);
+	}
+
+	/** the scan of AbstractDataProvider#getDataRange */
+	private static Range scan(CircularBuffer<ISample> samples, boolean positiveOnly, boolean isXAxis) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = positiveOnly ? 0 : Double.NEGATIVE_INFINITY;
+		for (ISample dp : samples) {
+			double value = isXAxis ? dp.getXValue() - dp.getXMinusError() : dp.getYValue() - dp.getYMinusError();
+			if ((!positiveOnly || value > 0) && min > value)
+				min = value;
+			value = isXAxis ? dp.getXValue() + dp.getXPlusError() : dp.getYValue() + dp.getYPlusError();
+			if (max < value)
+				max = value;
+		}
+		if (positiveOnly && max < min)
+			max = min;
+		return new Range(min, max);
+	}
+}
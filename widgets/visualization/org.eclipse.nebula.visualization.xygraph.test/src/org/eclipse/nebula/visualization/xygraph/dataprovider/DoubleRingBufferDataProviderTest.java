@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.junit.Test;
+
+public class DoubleRingBufferDataProviderTest {
+
+	@Test
+	public void testAddSample() {
+		DoubleRingBufferDataProvider provider = new DoubleRingBufferDataProvider(true, 3);
+		for (int i = 0; i < 5; i++) {
+			provider.addSample(i, i * 10);
+		}
+		assertEquals(3, provider.getSize());
+		assertEquals(2, provider.getXValue(0), 0);
+		assertEquals(40, provider.getYValue(2), 0);
+		assertEquals(30, provider.getSample(1).getYValue(), 0);
+	}
+
+	@Test
+	public void testAddSamplesWrapsAround() {
+		DoubleRingBufferDataProvider provider = new DoubleRingBufferDataProvider(true, 4);
+		provider.addSamples(new double[] { 0, 1, 2 }, new double[] { 0, 1, 2 });
+		provider.addSamples(new double[] { 3, 4, 5 }, new double[] { 3, 4, 5 });
+		assertEquals(4, provider.getSize());
+		for (int i = 0; i < 4; i++) {
+			assertEquals(i + 2, provider.getXValue(i), 0);
+		}
+	}
+
+	@Test
+	public void testAddSamplesLongerThanCapacity() {
+		DoubleRingBufferDataProvider provider = new DoubleRingBufferDataProvider(true, 3);
+		provider.addSample(-1, -1);
+		provider.addSamples(new double[] { 0, 1, 2, 3, 4 }, new double[] { 0, 1, 2, 3, 4 });
+		assertEquals(3, provider.getSize());
+		assertEquals(2, provider.getXValue(0), 0);
+		assertEquals(4, provider.getXValue(2), 0);
+	}
+
+	@Test
+	public void testDataMinMax() {
+		DoubleRingBufferDataProvider provider = new DoubleRingBufferDataProvider(true, 4);
+		provider.addSamples(new double[] { 0, 1, 2, 3, 4, 5 }, new double[] { -3, 7, -2, 5, 1, 4 });
+		assertEquals(new Range(-2, 5), provider.getYDataMinMax());
+		assertEquals(new Range(1, 5), provider.getYDataMinMax(true));
+		assertEquals(new Range(2, 5), provider.getXDataMinMax());
+		assertEquals(new Range(1, 5), provider.getYDataMinMax(1, 2, false));
+		assertNull(provider.getYDataMinMax(3, 2, false));
+	}
+
+	@Test
+	public void testErrors() {
+		DoubleRingBufferDataProvider provider = new DoubleRingBufferDataProvider(true, 4, true);
+		provider.addSample(0, 10, 0, 0, 1, 2);
+		provider.addSample(1, 20, 0, 0, 3, 4);
+		assertEquals(new Range(9, 24), provider.getYDataMinMax());
+		assertEquals(4, provider.getSample(1).getYPlusError(), 0);
+	}
+
+	@Test
+	public void testClear() {
+		DoubleRingBufferDataProvider provider = new DoubleRingBufferDataProvider(true, 4);
+		provider.addSamples(new double[] { 0, 1 }, new double[] { 0, 1 });
+		provider.clearTrace();
+		assertEquals(0, provider.getSize());
+		assertNull(provider.getYDataMinMax());
+	}
+}
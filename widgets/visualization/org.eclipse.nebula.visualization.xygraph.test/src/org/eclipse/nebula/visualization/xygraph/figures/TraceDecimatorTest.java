@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProviderListener;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.junit.Test;
+
+public class TraceDecimatorTest {
+
+	private static IDataProvider provider(final double[] x, final double[] y) {
+		return new IDataProvider() {
+			@Override
+			public int getSize() {
+				return x.length;
+			}
+
+			@Override
+			public ISample getSample(int index) {
+				return new Sample(x[index], y[index]);
+			}
+
+			@Override
+			public Range getXDataMinMax() {
+				return null;
+			}
+
+			@Override
+			public Range getYDataMinMax() {
+				return null;
+			}
+
+			@Override
+			public Range getXDataMinMax(boolean positiveOnly) {
+				return null;
+			}
+
+			@Override
+			public Range getYDataMinMax(boolean positiveOnly) {
+				return null;
+			}
+
+			@Override
+			public boolean isChronological() {
+				return true;
+			}
+
+			@Override
+			public void addDataProviderListener(IDataProviderListener listener) {
+			}
+
+			@Override
+			public boolean removeDataProviderListener(IDataProviderListener listener) {
+				return false;
+			}
+		};
+	}
+
+	private static int[] decimate(double[] x, double[] y) {
+		TraceDecimator decimator = new TraceDecimator();
+		int count = decimator.decimate(provider(x, y), 0, x.length - 1, value -> (int) Math.floor(value));
+		int[] result = new int[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = decimator.getIndex(i);
+		}
+		return result;
+	}
+
+	@Test
+	public void testKeepsFirstMinMaxLastPerColumn() {
+		double[] x = { 0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 1.0, 1.5 };
+		double[] y = { 5, 9, 1, 4, 3, 6, 2, 7 };
+		assertArrayEquals(new int[] { 0, 1, 2, 5, 6, 7 }, decimate(x, y));
+	}
+
+	@Test
+	public void testMinBeforeMax() {
+		double[] x = { 0.0, 0.1, 0.2, 0.3 };
+		double[] y = { 5, 1, 9, 4 };
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, decimate(x, y));
+	}
+
+	@Test
+	public void testKeepsNaN() {
+		double[] x = { 0.0, 0.1, 0.2, 0.3, 0.4 };
+		double[] y = { 1, 2, Double.NaN, 3, 4 };
+		assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, decimate(x, y));
+	}
+
+	@Test
+	public void testAtMostFourPerColumn() {
+		int n = 100000;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = i / 1000.0;
+			y[i] = Math.sin(i);
+		}
+		int[] kept = decimate(x, y);
+		assertTrue(kept.length <= 4 * 100);
+		for (int i = 1; i < kept.length; i++) {
+			assertTrue(kept[i] > kept[i - 1]);
+		}
+	}
+}
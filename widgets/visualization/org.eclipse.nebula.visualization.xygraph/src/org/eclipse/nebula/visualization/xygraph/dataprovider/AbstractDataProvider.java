@@ -31,6 +31,14 @@ public abstract class AbstractDataProvider implements IDataProvider {
 	protected Range xDataMinMax = null;
 	protected Range yDataMinMax = null;
 
+	/**
+	 * Running extrema of the samples, null if the subclass does not report
+	 * appended samples.
+	 *
+	 * @see #trackDataRange(int)
+	 */
+	private DataRangeTracker rangeTracker;
+
 	/**
 	 * @param trace
 	 *            the trace which the data provider will provide data to.
@@ -108,6 +116,9 @@ public abstract class AbstractDataProvider implements IDataProvider {
 	 *            by default it should be 0
 	 */
 	public Range getDataRange(final boolean positiveOnly, final boolean isXAxis, final int lowerBound) {
+		if (rangeTracker != null && lowerBound <= 0) {
+			return getTrackedDataRange(positiveOnly, isXAxis);
+		}
 		Range range = null;
 		if (getSize() > 0) { // does not handle NaNs
 			double min = Double.POSITIVE_INFINITY;
@@ -136,6 +147,96 @@ public abstract class AbstractDataProvider implements IDataProvider {
 		return range;
 	}
 
+	/**
+	 * Enables incremental tracking of the data range. Subclasses that append
+	 * samples call this once and then report every change with
+	 * {@link #sampleAdded(ISample)}, {@link #samplesCleared()} or
+	 * {@link #samplesChanged()}. The data range is then available in constant
+	 * time instead of being computed by scanning all samples.
+	 *
+	 * @param capacity
+	 *            maximum number of samples held by the provider; appending
+	 *            beyond it is expected to drop the oldest sample
+	 */
+	protected void trackDataRange(int capacity) {
+		if (rangeTracker == null) {
+			rangeTracker = new DataRangeTracker(capacity);
+			if (getSize() > 0)
+				rangeTracker.invalidate();
+		} else {
+			rangeTracker.setCapacity(capacity);
+		}
+	}
+
+	/**
+	 * Reports a sample appended after the last sample.
+	 *
+	 * @param sample
+	 *            the new sample
+	 * @see #trackDataRange(int)
+	 */
+	protected void sampleAdded(ISample sample) {
+		if (rangeTracker != null && rangeTracker.isValid())
+			rangeTracker.add(sample);
+	}
+
+	/**
+	 * Reports a sample appended after the last sample.
+	 *
+	 * @param xLow
+	 *            x value minus x error
+	 * @param xHigh
+	 *            x value plus x error
+	 * @param yLow
+	 *            y value minus y error
+	 * @param yHigh
+	 *            y value plus y error
+	 * @see #trackDataRange(int)
+	 */
+	protected void sampleAdded(double xLow, double xHigh, double yLow, double yHigh) {
+		if (rangeTracker != null && rangeTracker.isValid())
+			rangeTracker.add(xLow, xHigh, yLow, yHigh);
+	}
+
+	/**
+	 * Reports that all samples have been removed.
+	 *
+	 * @see #trackDataRange(int)
+	 */
+	protected void samplesCleared() {
+		if (rangeTracker != null)
+			rangeTracker.clear();
+	}
+
+	/**
+	 * Reports a change other than appending samples, e.g. samples modified in
+	 * place. The data range is recomputed from all samples when it is needed
+	 * next.
+	 *
+	 * @see #trackDataRange(int)
+	 */
+	protected void samplesChanged() {
+		if (rangeTracker != null)
+			rangeTracker.invalidate();
+	}
+
+	private Range getTrackedDataRange(final boolean positiveOnly, final boolean isXAxis) {
+		synchronized (this) {
+			final int size = getSize();
+			if (size <= 0)
+				return null;
+			if (!rangeTracker.isValid() || rangeTracker.size() != size) {
+				rangeTracker.clear();
+				for (int i = 0; i < size; i++) {
+					final ISample sample = getSample(i);
+					if (sample != null)
+						rangeTracker.add(sample);
+				}
+			}
+			return isXAxis ? rangeTracker.getXRange(positiveOnly) : rangeTracker.getYRange(positiveOnly);
+		}
+	}
+
 	/**
 	 * @param chronological
 	 *            the chronological to set
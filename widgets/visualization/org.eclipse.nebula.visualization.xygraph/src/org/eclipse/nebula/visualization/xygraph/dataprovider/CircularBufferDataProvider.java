@@ -16,16 +16,24 @@ package org.eclipse.nebula.visualization.xygraph.dataprovider;
 
 import java.util.Calendar;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.swt.widgets.Display;
 
 /**
  * Provides data to a trace.
+ * <p>
+ * Samples are kept in a {@link ConcurrentCircularBuffer}. Methods changing the
+ * data are synchronized, while a trace paints from {@link #getSnapshot()}
+ * without locking, so the thread adding data never waits for a repaint.
+ * Listeners are notified on the display thread, at most once per display
+ * event loop run no matter how many samples were added meanwhile.
+ * </p>
  * 
  * @author Xihui Chen
  *
  */
-public class CircularBufferDataProvider extends AbstractDataProvider {
+public class CircularBufferDataProvider extends AbstractDataProvider implements ISnapshotDataProvider {
 
 	public enum UpdateMode {
 		X_OR_Y("X or Y"), X_AND_Y("X AND Y"), X("X"), Y("Y"), TRIGGER("Trigger");
@@ -73,7 +81,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		}
 	}
 
-	private CircularBuffer<ISample> traceData;
+	private final ConcurrentCircularBuffer<ISample> traceData;
 
 	private double currentXData;
 
@@ -97,8 +105,20 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 
 	private boolean xAxisDateEnabled = false;
 
-	private int updateDelay = 0;
-	private boolean duringDelay = false;
+	private volatile int updateDelay = 0;
+
+	/** true while a notification of the listeners is scheduled */
+	private final AtomicBoolean notificationPending = new AtomicBoolean();
+
+	/**
+	 * time of the last scheduled notification, display thread only. Starts at
+	 * the creation time, so that the first notification waits for the update
+	 * delay as well
+	 */
+	private long lastNotificationTime = System.currentTimeMillis();
+
+	/** display of the thread the first listener was added on */
+	private volatile Display display;
 
 	private boolean concatenate_data = true;
 
@@ -106,17 +126,25 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 
 	private PlotMode plotMode = PlotMode.LAST_N;
 
-	private Runnable fireUpdate;
+	private final Runnable fireUpdate;
 
 	public CircularBufferDataProvider(boolean chronological) {
 		super(chronological);
-		traceData = new CircularBuffer<ISample>(100);
+		traceData = new ConcurrentCircularBuffer<ISample>(100);
+		trackDataRange(traceData.getBufferSize());
 		fireUpdate = new Runnable() {
 			public void run() {
-				for (IDataProviderListener listener : listeners) {
-					listener.dataChanged(CircularBufferDataProvider.this);
+				final long now = System.currentTimeMillis();
+				final long wait = lastNotificationTime + updateDelay - now;
+				if (wait > 0) {
+					// still pending, listeners are notified after the delay
+					Display.getCurrent().timerExec((int) wait, this);
+					return;
 				}
-				duringDelay = false;
+				lastNotificationTime = now;
+				// changes from now on need another notification
+				notificationPending.set(false);
+				CircularBufferDataProvider.super.fireDataChange();
 			}
 		};
 	}
@@ -149,7 +177,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	public synchronized void addSample(ISample sample) {
 		if (traceData.size() == traceData.getBufferSize() && plotMode == PlotMode.N_STOP)
 			return;
-		traceData.add(sample);
+		addToBuffer(sample);
 		fireDataChange();
 	}
 
@@ -223,7 +251,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	private void addDataPoint() {
 		double newXValue;
 		if (!concatenate_data)
-			traceData.clear();
+			clearBuffer();
 		if (chronological) {
 			if (xAxisDateEnabled) {
 				if (updateMode != UpdateMode.TRIGGER)
@@ -239,7 +267,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		} else {
 			newXValue = currentXData;
 		}
-		traceData.add(new Sample(newXValue, currentYData));
+		addToBuffer(new Sample(newXValue, currentYData));
 		currentXDataChanged = false;
 		currentYDataChanged = false;
 		// currentYDataTimestampChanged = false;
@@ -303,7 +331,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	 */
 	private void addDataArray() {
 		if (!concatenate_data)
-			traceData.clear();
+			clearBuffer();
 
 		if (chronological) {
 			double[] newXValueArray;
@@ -318,7 +346,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 				}
 			for (int i = 0; i < Math.min(traceData.getBufferSize(),
 					Math.min(newXValueArray.length, currentYDataArray.length)); i++) {
-				traceData.add(new Sample(newXValueArray[i], currentYDataArray[i]));
+				addToBuffer(new Sample(newXValueArray[i], currentYDataArray[i]));
 			}
 		} else {
 			// newXValueArray = currentXDataArray;
@@ -327,7 +355,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 			// just ignore the tail data.
 			for (int i = 0; i < Math.min(traceData.getBufferSize(),
 					Math.min(currentXDataArray.length, currentYDataArray.length)); i++) {
-				traceData.add(new Sample(currentXDataArray[i], currentYDataArray[i]));
+				addToBuffer(new Sample(currentXDataArray[i], currentYDataArray[i]));
 			}
 		}
 
@@ -337,11 +365,21 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		fireDataChange();
 	}
 
+	private void addToBuffer(ISample sample) {
+		traceData.add(sample);
+		sampleAdded(sample);
+	}
+
+	private void clearBuffer() {
+		traceData.clear();
+		samplesCleared();
+	}
+
 	/**
 	 * Clear all data on in the data provider.
 	 */
 	public synchronized void clearTrace() {
-		traceData.clear();
+		clearBuffer();
 		currentXDataArray = new double[] {};
 		currentYDataArray = new double[] {};
 		currentXDataChanged = false;
@@ -352,7 +390,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	}
 
 	public Iterator<ISample> iterator() {
-		return traceData.iterator();
+		return traceData.snapshot().iterator();
 	}
 
 	/**
@@ -360,7 +398,21 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	 *            the bufferSize to set
 	 */
 	public synchronized void setBufferSize(int bufferSize) {
-		traceData.setBufferSize(bufferSize, false);
+		traceData.setBufferSize(bufferSize);
+		trackDataRange(bufferSize);
+	}
+
+	/**
+	 * @return the number of samples added since the data provider was
+	 *         created, changes whenever a sample is added
+	 */
+	public long getSequence() {
+		return traceData.getSequence();
+	}
+
+	@Override
+	public IDataProvider getSnapshot() {
+		return new Snapshot(traceData.snapshot(), chronological);
 	}
 
 	/**
@@ -439,15 +491,39 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		this.updateDelay = updateDelay;
 	}
 
+	/**
+	 * Remembers the display of the calling thread, on which the listeners are
+	 * notified of changes made on other threads.
+	 */
 	@Override
-	protected synchronized void fireDataChange() {
-		if (updateDelay > 0) {
-			if (!duringDelay) {
-				Display.getCurrent().timerExec(updateDelay, fireUpdate);
-				duringDelay = true;
-			}
-		} else
+	public void addDataProviderListener(final IDataProviderListener listener) {
+		if (display == null)
+			display = Display.getCurrent();
+		super.addDataProviderListener(listener);
+	}
+
+	/**
+	 * Listeners are notified directly if called on the display thread without
+	 * update delay. Otherwise one notification is scheduled with
+	 * {@link Display#asyncExec(Runnable)} on the display the listeners were
+	 * added on, and further changes until it runs are covered by it. Changes
+	 * made on other threads are not notified if no listener was added on a
+	 * display thread.
+	 */
+	@Override
+	protected void fireDataChange() {
+		if (listeners.isEmpty())
+			return;
+		Display current = Display.getCurrent();
+		if (updateDelay <= 0 && current != null && !notificationPending.get()) {
 			super.fireDataChange();
+			return;
+		}
+		Display target = current != null ? current : display;
+		if (target == null || target.isDisposed())
+			return;
+		if (notificationPending.compareAndSet(false, true))
+			target.asyncExec(fireUpdate);
 	}
 
 	public void setConcatenate_data(boolean concatenate_data) {
@@ -458,4 +534,28 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		return concatenate_data;
 	}
 
+	/**
+	 * Fixed window on the samples of the data provider, see
+	 * {@link ConcurrentCircularBuffer.Snapshot}.
+	 */
+	private static final class Snapshot extends AbstractDataProvider {
+
+		private final ConcurrentCircularBuffer.Snapshot<ISample> samples;
+
+		private Snapshot(ConcurrentCircularBuffer.Snapshot<ISample> samples, boolean chronological) {
+			super(chronological);
+			this.samples = samples;
+		}
+
+		@Override
+		public int getSize() {
+			return samples.size();
+		}
+
+		@Override
+		public ISample getSample(int index) {
+			return samples.get(index);
+		}
+	}
+
 }
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Circular buffer with a single writer and lock-free readers.
+ * <p>
+ * Every element gets a sequence number, the number of elements added before
+ * it. The writer stores an element and then publishes it by advancing the
+ * write sequence, so a reader never waits for the writer. A reader takes a
+ * {@link Snapshot}: a fixed window of sequence numbers that stays the same
+ * while the writer goes on adding elements. If the writer overwrites an
+ * element of the window before it is read, the snapshot returns
+ * <code>null</code> for it instead of the newer element, so the snapshot
+ * never shows data from outside its window.
+ * </p>
+ * <p>
+ * {@link #add(Object)}, {@link #clear()} and {@link #setBufferSize(int)} must
+ * not be called concurrently, e.g. by calling them from a single thread or
+ * while holding a lock. All other methods may be called from any thread.
+ * </p>
+ *
+ * @param <T>
+ *            element type
+ */
+public class ConcurrentCircularBuffer<T> {
+
+	/** storage, replaced as a whole when the buffer size changes */
+	private volatile AtomicReferenceArray<T> buffer;
+
+	/** sequence number of the next element */
+	private volatile long writeSequence = 0;
+
+	/**
+	 * no element before this sequence number is present, set by clear and
+	 * when the buffer size changes
+	 */
+	private volatile long startSequence = 0;
+
+	/**
+	 * @param bufferSize
+	 *            maximum number of elements
+	 */
+	public ConcurrentCircularBuffer(int bufferSize) {
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Buffer size must be greater than zero.");
+		buffer = new AtomicReferenceArray<T>(bufferSize);
+	}
+
+	/**
+	 * Adds an element, dropping the oldest one if the buffer is full. Writer
+	 * only.
+	 */
+	public void add(T element) {
+		final AtomicReferenceArray<T> elements = buffer;
+		final long sequence = writeSequence;
+		elements.lazySet(slot(sequence, elements.length()), element);
+		writeSequence = sequence + 1;
+	}
+
+	/**
+	 * Removes all elements. Writer only.
+	 */
+	public void clear() {
+		final long sequence = writeSequence;
+		startSequence = sequence;
+		final AtomicReferenceArray<T> elements = buffer;
+		for (int i = 0; i < elements.length(); i++)
+			elements.lazySet(i, null);
+	}
+
+	/**
+	 * Changes the buffer size, keeping the most recent elements. Writer only.
+	 *
+	 * @param bufferSize
+	 *            the new maximum number of elements
+	 */
+	public void setBufferSize(int bufferSize) {
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Buffer size must be greater than zero.");
+		final AtomicReferenceArray<T> elements = buffer;
+		if (bufferSize == elements.length())
+			return;
+		final AtomicReferenceArray<T> newElements = new AtomicReferenceArray<T>(bufferSize);
+		final long end = writeSequence;
+		final long start = Math.max(firstSequence(end, elements.length()), end - bufferSize);
+		for (long sequence = start; sequence < end; sequence++)
+			newElements.set(slot(sequence, bufferSize), elements.get(slot(sequence, elements.length())));
+		startSequence = start;
+		buffer = newElements;
+	}
+
+	/**
+	 * @return the maximum number of elements
+	 */
+	public int getBufferSize() {
+		return buffer.length();
+	}
+
+	/**
+	 * @return the current number of elements
+	 */
+	public int size() {
+		final AtomicReferenceArray<T> elements = buffer;
+		final long end = writeSequence;
+		return (int) (end - firstSequence(end, elements.length()));
+	}
+
+	/**
+	 * @return the number of elements added since the buffer was created. It
+	 *         changes whenever the content changes by adding, so readers can
+	 *         tell whether they are up to date.
+	 */
+	public long getSequence() {
+		return writeSequence;
+	}
+
+	/**
+	 * @param index
+	 *            index of the element, 0 is the oldest one
+	 * @return the element, or null if the index is out of range. Only
+	 *         consistent with {@link #size()} if the writer is not running.
+	 */
+	public T getElement(int index) {
+		final AtomicReferenceArray<T> elements = buffer;
+		final long end = writeSequence;
+		final long sequence = firstSequence(end, elements.length()) + index;
+		if (index < 0 || sequence >= end)
+			return null;
+		return elements.get(slot(sequence, elements.length()));
+	}
+
+	/**
+	 * @return the newest element, or null if the buffer is empty
+	 */
+	public T getTail() {
+		final AtomicReferenceArray<T> elements = buffer;
+		final long end = writeSequence;
+		if (end == firstSequence(end, elements.length()))
+			return null;
+		return elements.get(slot(end - 1, elements.length()));
+	}
+
+	/**
+	 * @return a fixed window of the current elements, readable without
+	 *         locking while the writer goes on
+	 */
+	public Snapshot<T> snapshot() {
+		while (true) {
+			final AtomicReferenceArray<T> elements = buffer;
+			final long end = writeSequence;
+			// the writer only publishes sequences of the new storage after
+			// replacing it, so end belongs to elements if it is still current
+			if (elements == buffer)
+				return new Snapshot<T>(this, elements, firstSequence(end, elements.length()), end);
+		}
+	}
+
+	private long firstSequence(long end, int bufferSize) {
+		return Math.max(startSequence, end - bufferSize);
+	}
+
+	private static int slot(long sequence, int bufferSize) {
+		return (int) (sequence % bufferSize);
+	}
+
+	/**
+	 * Read-only window of a {@link ConcurrentCircularBuffer}.
+	 *
+	 * @param <T>
+	 *            element type
+	 */
+	public static final class Snapshot<T> implements Iterable<T> {
+
+		private final ConcurrentCircularBuffer<T> owner;
+		private final AtomicReferenceArray<T> elements;
+		private final long start;
+		private final long end;
+
+		private Snapshot(ConcurrentCircularBuffer<T> owner, AtomicReferenceArray<T> elements, long start,
+				long end) {
+			this.owner = owner;
+			this.elements = elements;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * @return the sequence number of the first element
+		 */
+		public long getStartSequence() {
+			return start;
+		}
+
+		/**
+		 * @return the sequence number after the last element
+		 */
+		public long getEndSequence() {
+			return end;
+		}
+
+		/**
+		 * @return the number of elements in the window
+		 */
+		public int size() {
+			return (int) (end - start);
+		}
+
+		/**
+		 * @param index
+		 *            index in the window, 0 is the oldest element
+		 * @return the element, or null if the index is out of range or the
+		 *         writer has overwritten or cleared the element since the
+		 *         snapshot was taken
+		 */
+		public T get(int index) {
+			if (index < 0 || index >= end - start)
+				return null;
+			final long sequence = start + index;
+			final int bufferSize = elements.length();
+			final T element = elements.get(slot(sequence, bufferSize));
+			// The slot read synchronizes with the writer, so if it returned a
+			// newer element the write sequence read below is at least the one
+			// of that element. The slot of the sequence being written is
+			// treated as overwritten already. Storage replaced by
+			// setBufferSize is not written anymore, the check is conservative.
+			if (sequence < owner.startSequence || sequence <= owner.writeSequence - bufferSize)
+				return null;
+			return element;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new Iterator<T>() {
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < size();
+				}
+
+				@Override
+				public T next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					return get(index++);
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Keeps the x and y extrema of the last <code>capacity</code> appended samples
+ * up to date, so that the data range of a provider is available without
+ * scanning its samples.
+ * <p>
+ * Each extremum is kept in a monotonic deque: appending a sample removes the
+ * entries it dominates from the back, and samples that left the window are
+ * removed from the front. Appending is O(1) amortized and queries are O(1).
+ * The minimum is tracked twice, once over all values and once over positive
+ * values only, as needed for log axes. NaN values are ignored, like in
+ * {@link AbstractDataProvider#getDataRange(boolean, boolean, int)}.
+ * </p>
+ */
+final class DataRangeTracker {
+
+	private int capacity;
+
+	/** sequence number of the next sample */
+	private long next = 0;
+
+	/** number of samples in the window */
+	private int size = 0;
+
+	private boolean valid = true;
+
+	private final MonotonicDeque xMin = new MonotonicDeque(true);
+	private final MonotonicDeque xMinPositive = new MonotonicDeque(true);
+	private final MonotonicDeque xMax = new MonotonicDeque(false);
+	private final MonotonicDeque yMin = new MonotonicDeque(true);
+	private final MonotonicDeque yMinPositive = new MonotonicDeque(true);
+	private final MonotonicDeque yMax = new MonotonicDeque(false);
+
+	/**
+	 * @param capacity
+	 *            number of most recent samples to track
+	 */
+	DataRangeTracker(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Changes the number of tracked samples. The tracker must be rebuilt
+	 * afterwards.
+	 */
+	void setCapacity(int capacity) {
+		this.capacity = capacity;
+		invalidate();
+	}
+
+	/**
+	 * @return false if the tracker must be rebuilt from the samples
+	 */
+	boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Marks the tracker as out of date, e.g. after samples have been modified
+	 * in place.
+	 */
+	void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Removes all samples. The tracker is valid afterwards.
+	 */
+	void clear() {
+		next = 0;
+		size = 0;
+		xMin.clear();
+		xMinPositive.clear();
+		xMax.clear();
+		yMin.clear();
+		yMinPositive.clear();
+		yMax.clear();
+		valid = true;
+	}
+
+	/**
+	 * Appends a sample, the oldest sample leaves the window if it is full.
+	 */
+	void add(ISample sample) {
+		add(sample.getXValue() - sample.getXMinusError(), sample.getXValue() + sample.getXPlusError(),
+				sample.getYValue() - sample.getYMinusError(), sample.getYValue() + sample.getYPlusError());
+	}
+
+	/**
+	 * Appends a sample given by its lower and upper x and y values (value minus
+	 * and plus error), the oldest sample leaves the window if it is full.
+	 */
+	void add(double xLow, double xHigh, double yLow, double yHigh) {
+		final long sequence = next++;
+		if (size < capacity) {
+			size++;
+		}
+		final long first = next - size;
+		xMin.add(sequence, xLow, first);
+		xMax.add(sequence, xHigh, first);
+		yMin.add(sequence, yLow, first);
+		yMax.add(sequence, yHigh, first);
+		xMinPositive.add(sequence, xLow > 0 ? xLow : Double.NaN, first);
+		yMinPositive.add(sequence, yLow > 0 ? yLow : Double.NaN, first);
+	}
+
+	/**
+	 * @return number of samples in the window
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return the x range, same as
+	 *         {@link AbstractDataProvider#getDataRange(boolean, boolean)}
+	 */
+	Range getXRange(boolean positiveOnly) {
+		return range(positiveOnly ? xMinPositive : xMin, xMax, positiveOnly);
+	}
+
+	/**
+	 * @return the y range, same as
+	 *         {@link AbstractDataProvider#getDataRange(boolean, boolean)}
+	 */
+	Range getYRange(boolean positiveOnly) {
+		return range(positiveOnly ? yMinPositive : yMin, yMax, positiveOnly);
+	}
+
+	private Range range(MonotonicDeque minDeque, MonotonicDeque maxDeque, boolean positiveOnly) {
+		final long first = next - size;
+		final double min = minDeque.front(first, Double.POSITIVE_INFINITY);
+		double max = maxDeque.front(first, Double.NEGATIVE_INFINITY);
+		if (positiveOnly) {
+			if (max < 0) {
+				max = 0;
+			}
+			if (max < min) {
+				max = min;
+			}
+		}
+		return new Range(min, max);
+	}
+
+	/**
+	 * Deque of (sequence, value) pairs with monotonic values: increasing for a
+	 * minimum deque, decreasing for a maximum deque. The front holds the
+	 * extremum of the window.
+	 */
+	private static final class MonotonicDeque {
+
+		private final boolean minimum;
+
+		private long[] sequences = new long[16];
+		private double[] values = new double[16];
+
+		/** ring buffer position of the front entry */
+		private int head = 0;
+
+		private int length = 0;
+
+		MonotonicDeque(boolean minimum) {
+			this.minimum = minimum;
+		}
+
+		void clear() {
+			head = 0;
+			length = 0;
+		}
+
+		void add(long sequence, double value, long first) {
+			evict(first);
+			if (Double.isNaN(value)) {
+				return;
+			}
+			// drop entries that can no longer be the extremum
+			while (length > 0) {
+				final double back = values[position(length - 1)];
+				if (minimum ? back < value : back > value) {
+					break;
+				}
+				length--;
+			}
+			if (length == sequences.length) {
+				grow();
+			}
+			final int position = position(length++);
+			sequences[position] = sequence;
+			values[position] = value;
+		}
+
+		double front(long first, double empty) {
+			evict(first);
+			return length == 0 ? empty : values[head];
+		}
+
+		private void evict(long first) {
+			while (length > 0 && sequences[head] < first) {
+				head = (head + 1) % sequences.length;
+				length--;
+			}
+		}
+
+		private int position(int index) {
+			return (head + index) % sequences.length;
+		}
+
+		private void grow() {
+			final long[] newSequences = new long[sequences.length * 2];
+			final double[] newValues = new double[values.length * 2];
+			for (int i = 0; i < length; i++) {
+				newSequences[i] = sequences[position(i)];
+				newValues[i] = values[position(i)];
+			}
+			sequences = newSequences;
+			values = newValues;
+			head = 0;
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Data provider that keeps the last <code>capacity</code> samples in parallel
+ * <code>double</code> ring buffers for x, y and, optionally, their errors. No
+ * object is created per sample: values are appended from primitives or arrays
+ * and read through {@link IPrimitiveDataProvider}. {@link #getSample(int)}
+ * still works, but creates a new {@link Sample} on every call.
+ * <p>
+ * When the buffer is full, appending a sample drops the oldest one.
+ *
+ * @see IPrimitiveDataProvider
+ */
+public class DoubleRingBufferDataProvider extends AbstractDataProvider implements IPrimitiveDataProvider {
+
+	private final int capacity;
+
+	private final double[] xValues;
+	private final double[] yValues;
+
+	/** error buffers, null if the provider has no errors */
+	private final double[] xMinusErrors;
+	private final double[] xPlusErrors;
+	private final double[] yMinusErrors;
+	private final double[] yPlusErrors;
+
+	/** buffer position of the oldest sample */
+	private int head = 0;
+
+	private int size = 0;
+
+	/**
+	 * Creates a provider without error information.
+	 *
+	 * @param chronological
+	 *            true if the data is sorted on X axis
+	 * @param capacity
+	 *            maximum number of samples
+	 */
+	public DoubleRingBufferDataProvider(boolean chronological, int capacity) {
+		this(chronological, capacity, false);
+	}
+
+	/**
+	 * @param chronological
+	 *            true if the data is sorted on X axis
+	 * @param capacity
+	 *            maximum number of samples
+	 * @param errors
+	 *            true to keep x and y errors for each sample
+	 */
+	public DoubleRingBufferDataProvider(boolean chronological, int capacity, boolean errors) {
+		super(chronological);
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Buffer size must be greater than zero.");
+		this.capacity = capacity;
+		xValues = new double[capacity];
+		yValues = new double[capacity];
+		if (errors) {
+			xMinusErrors = new double[capacity];
+			xPlusErrors = new double[capacity];
+			yMinusErrors = new double[capacity];
+			yPlusErrors = new double[capacity];
+		} else {
+			xMinusErrors = xPlusErrors = yMinusErrors = yPlusErrors = null;
+		}
+		trackDataRange(capacity);
+	}
+
+	/**
+	 * @return the maximum number of samples
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public boolean hasErrors() {
+		return yPlusErrors != null;
+	}
+
+	/**
+	 * Appends a sample.
+	 *
+	 * @param x
+	 *            x value
+	 * @param y
+	 *            y value
+	 */
+	public void addSample(double x, double y) {
+		synchronized (this) {
+			final int position = nextPosition();
+			xValues[position] = x;
+			yValues[position] = y;
+			if (xMinusErrors != null) {
+				xMinusErrors[position] = xPlusErrors[position] = 0;
+				yMinusErrors[position] = yPlusErrors[position] = 0;
+			}
+			sampleAdded(x, x, y, y);
+		}
+		fireDataChange();
+	}
+
+	/**
+	 * Appends a sample with errors.
+	 *
+	 * @param x
+	 *            x value
+	 * @param y
+	 *            y value
+	 * @param xMinusError
+	 *            x minus error
+	 * @param xPlusError
+	 *            x plus error
+	 * @param yMinusError
+	 *            y minus error
+	 * @param yPlusError
+	 *            y plus error
+	 * @throws IllegalStateException
+	 *             if the provider was created without errors
+	 */
+	public void addSample(double x, double y, double xMinusError, double xPlusError, double yMinusError,
+			double yPlusError) {
+		if (xMinusErrors == null)
+			throw new IllegalStateException("Data provider has no errors.");
+		synchronized (this) {
+			final int position = nextPosition();
+			xValues[position] = x;
+			yValues[position] = y;
+			xMinusErrors[position] = xMinusError;
+			xPlusErrors[position] = xPlusError;
+			yMinusErrors[position] = yMinusError;
+			yPlusErrors[position] = yPlusError;
+			sampleAdded(x - xMinusError, x + xPlusError, y - yMinusError, y + yPlusError);
+		}
+		fireDataChange();
+	}
+
+	/**
+	 * Appends samples and notifies the listeners once.
+	 *
+	 * @param x
+	 *            x values
+	 * @param y
+	 *            y values, of the same length as the x values
+	 */
+	public void addSamples(double[] x, double[] y) {
+		addSamples(x, y, 0, Math.min(x.length, y.length));
+	}
+
+	/**
+	 * Appends samples and notifies the listeners once. If more samples than the
+	 * capacity are given, only the last ones are kept.
+	 *
+	 * @param x
+	 *            x values
+	 * @param y
+	 *            y values
+	 * @param offset
+	 *            index of the first sample in the arrays
+	 * @param length
+	 *            number of samples
+	 */
+	public void addSamples(double[] x, double[] y, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > x.length || offset + length > y.length)
+			throw new IndexOutOfBoundsException();
+		if (length == 0)
+			return;
+		synchronized (this) {
+			if (length > capacity) {
+				offset += length - capacity;
+				length = capacity;
+			}
+			// free space for the new samples, dropping the oldest ones
+			final int dropped = Math.max(0, size + length - capacity);
+			head = (head + dropped) % capacity;
+			size -= dropped;
+
+			int position = (head + size) % capacity;
+			int remaining = length;
+			while (remaining > 0) {
+				final int chunk = Math.min(remaining, capacity - position);
+				System.arraycopy(x, offset, xValues, position, chunk);
+				System.arraycopy(y, offset, yValues, position, chunk);
+				for (int i = offset; i < offset + chunk; i++)
+					sampleAdded(x[i], x[i], y[i], y[i]);
+				if (xMinusErrors != null) {
+					clear(xMinusErrors, position, chunk);
+					clear(xPlusErrors, position, chunk);
+					clear(yMinusErrors, position, chunk);
+					clear(yPlusErrors, position, chunk);
+				}
+				offset += chunk;
+				remaining -= chunk;
+				position = 0;
+			}
+			size += length;
+		}
+		fireDataChange();
+	}
+
+	/**
+	 * Removes all samples.
+	 */
+	public void clearTrace() {
+		synchronized (this) {
+			head = 0;
+			size = 0;
+			samplesCleared();
+		}
+		fireDataChange();
+	}
+
+	@Override
+	public synchronized int getSize() {
+		return size;
+	}
+
+	@Override
+	public synchronized ISample getSample(int index) {
+		if (index < 0 || index >= size)
+			return null;
+		final int position = position(index);
+		if (xMinusErrors == null)
+			return new Sample(xValues[position], yValues[position]);
+		return new Sample(xValues[position], yValues[position], yPlusErrors[position], yMinusErrors[position],
+				xPlusErrors[position], xMinusErrors[position]);
+	}
+
+	@Override
+	public synchronized double getXValue(int index) {
+		return xValues[position(index)];
+	}
+
+	@Override
+	public synchronized double getYValue(int index) {
+		return yValues[position(index)];
+	}
+
+	@Override
+	public Range getDataRange(boolean positiveOnly, boolean isXAxis, int lowerBound) {
+		if (lowerBound <= 0)
+			return super.getDataRange(positiveOnly, isXAxis, lowerBound);
+		if (isXAxis)
+			return getXDataMinMax(lowerBound, getSize() - 1, positiveOnly);
+		return getYDataMinMax(lowerBound, getSize() - 1, positiveOnly);
+	}
+
+	@Override
+	public synchronized Range getXDataMinMax(int fromIndex, int toIndex, boolean positiveOnly) {
+		return minMax(xValues, xMinusErrors, xPlusErrors, fromIndex, toIndex, positiveOnly);
+	}
+
+	@Override
+	public synchronized Range getYDataMinMax(int fromIndex, int toIndex, boolean positiveOnly) {
+		return minMax(yValues, yMinusErrors, yPlusErrors, fromIndex, toIndex, positiveOnly);
+	}
+
+	/**
+	 * Same semantics as {@link AbstractDataProvider#getDataRange}, but scanning
+	 * the primitive buffers in at most two contiguous chunks.
+	 */
+	private Range minMax(double[] values, double[] minusErrors, double[] plusErrors, int fromIndex, int toIndex,
+			boolean positiveOnly) {
+		fromIndex = Math.max(fromIndex, 0);
+		toIndex = Math.min(toIndex, size - 1);
+		if (fromIndex > toIndex)
+			return null;
+		double min = Double.POSITIVE_INFINITY;
+		double max = positiveOnly ? 0 : Double.NEGATIVE_INFINITY;
+		int position = position(fromIndex);
+		int remaining = toIndex - fromIndex + 1;
+		while (remaining > 0) {
+			final int end = position + Math.min(remaining, capacity - position);
+			for (int i = position; i < end; i++) {
+				double value = minusErrors == null ? values[i] : values[i] - minusErrors[i];
+				if ((!positiveOnly || value > 0) && min > value)
+					min = value;
+				value = plusErrors == null ? values[i] : values[i] + plusErrors[i];
+				if (max < value)
+					max = value;
+			}
+			remaining -= end - position;
+			position = 0;
+		}
+		if (positiveOnly && max < min)
+			max = min;
+		return new Range(min, max);
+	}
+
+	/**
+	 * @return buffer position for the next sample, dropping the oldest sample
+	 *         if the buffer is full
+	 */
+	private int nextPosition() {
+		final int position = (head + size) % capacity;
+		if (size == capacity)
+			head = (head + 1) % capacity;
+		else
+			size++;
+		return position;
+	}
+
+	private int position(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+		final int position = head + index;
+		return position < capacity ? position : position - capacity;
+	}
+
+	private static void clear(double[] buffer, int position, int length) {
+		for (int i = position; i < position + length; i++)
+			buffer[i] = 0;
+	}
+}
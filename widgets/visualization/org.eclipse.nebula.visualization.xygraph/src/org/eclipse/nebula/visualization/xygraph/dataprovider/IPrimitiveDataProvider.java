@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Optional extension of {@link IDataProvider} for providers that keep their
+ * samples in primitive arrays. The XY Graph detects this interface and reads
+ * values by index instead of calling {@link #getSample(int)}, which would
+ * create an {@link ISample} for every access.
+ * <p>
+ * The same synchronization rules as for {@link IDataProvider} apply.
+ *
+ * @see DoubleRingBufferDataProvider
+ */
+public interface IPrimitiveDataProvider extends IDataProvider {
+
+	/**
+	 * @param index
+	 *            Sample index, 0...<code>getSize()-1</code>
+	 * @return the X value of the sample
+	 */
+	public double getXValue(int index);
+
+	/**
+	 * @param index
+	 *            Sample index, 0...<code>getSize()-1</code>
+	 * @return the Y value of the sample
+	 */
+	public double getYValue(int index);
+
+	/**
+	 * Get the minimum and maximum xdata of a range of samples, including their
+	 * errors.
+	 *
+	 * @param fromIndex
+	 *            index of the first sample
+	 * @param toIndex
+	 *            index of the last sample (inclusive)
+	 * @param positiveOnly
+	 *            if true, return values greater than zero
+	 * @return a range includes the min and max as lower and upper. return null
+	 *         if the range contains no samples.
+	 */
+	public Range getXDataMinMax(int fromIndex, int toIndex, boolean positiveOnly);
+
+	/**
+	 * Get the minimum and maximum ydata of a range of samples, including their
+	 * errors.
+	 *
+	 * @param fromIndex
+	 *            index of the first sample
+	 * @param toIndex
+	 *            index of the last sample (inclusive)
+	 * @param positiveOnly
+	 *            if true, return values greater than zero
+	 * @return a range includes the min and max as lower and upper. return null
+	 *         if the range contains no samples.
+	 */
+	public Range getYDataMinMax(int fromIndex, int toIndex, boolean positiveOnly);
+}
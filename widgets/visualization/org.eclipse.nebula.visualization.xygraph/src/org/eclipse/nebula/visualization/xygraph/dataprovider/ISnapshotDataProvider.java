@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+/**
+ * Optional extension of {@link IDataProvider} for providers whose data can be
+ * read without locking. The XY Graph detects this interface and paints from a
+ * snapshot instead of synchronizing on the data provider, so threads adding
+ * data do not wait for the repaint.
+ *
+ * @see CircularBufferDataProvider
+ */
+public interface ISnapshotDataProvider extends IDataProvider {
+
+	/**
+	 * @return a read-only provider with the samples present when it was
+	 *         created. It does not change, needs no synchronization and does
+	 *         not notify listeners. A sample the provider dropped meanwhile may
+	 *         be returned as <code>null</code>.
+	 */
+	public IDataProvider getSnapshot();
+}
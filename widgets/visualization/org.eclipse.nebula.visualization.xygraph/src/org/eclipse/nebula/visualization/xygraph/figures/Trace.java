@@ -17,6 +17,7 @@
 package org.eclipse.nebula.visualization.xygraph.figures;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -33,7 +34,9 @@ import org.eclipse.nebula.visualization.xygraph.Messages;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProviderListener;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.IMetaData;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IPrimitiveDataProvider;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISnapshotDataProvider;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
 import org.eclipse.nebula.visualization.xygraph.linearscale.AbstractScale.LabelSide;
 import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
@@ -283,8 +286,40 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 
 	private List<ISample> hotSampleist;
 
+	/**
+	 * Samples of an {@link IPrimitiveDataProvider} in the hot sample list are
+	 * only recorded while painting, as null entries with their position, index
+	 * and painted values, and created when the list is requested.
+	 */
+	private IPrimitiveDataProvider hotSampleData;
+	private int hotSamplePendingCount;
+	private int[] hotSamplePositions = new int[0];
+	private int[] hotSampleIndices = new int[0];
+	private double[] hotSampleXValues = new double[0];
+	private double[] hotSampleYValues = new double[0];
+
+	/**
+	 * Samples reused for the points read from an
+	 * {@link IPrimitiveDataProvider} while painting: two, as the previous
+	 * point is kept to draw the line to the current one, and one for the base
+	 * line of bars.
+	 */
+	private final PaintSample[] paintSamples = { new PaintSample(), new PaintSample() };
+	private final PaintSample barBaseSample = new PaintSample();
+
 	private IPointStyleProvider fPointStyleProvider;
 
+	/**
+	 * Draw at most four samples per pixel column of line traces?
+	 */
+	private boolean minMaxDecimation = false;
+
+	/**
+	 * Indices of the samples to draw when min/max decimation is active, reused
+	 * across paints.
+	 */
+	private TraceDecimator decimator;
+
 	/**
 	 * {@link #init(Axis, Axis, IDataProvider)} needs to be called if a trace is
 	 * created with this constructor
@@ -631,15 +666,21 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		boolean predpInRange = false;
 		Point dpPos = null;
 		hotSampleist.clear();
+		hotSampleData = null;
+		hotSamplePendingCount = 0;
 		if (traceDataProvider == null)
 			throw new RuntimeException("No DataProvider defined for trace: " + name); //$NON-NLS-1$
-		// Lock data provider to prevent changes while painting
-		synchronized (traceDataProvider) {
-			if (traceDataProvider.getSize() > 0) {
+		// Paint from a snapshot if the data provider has one, otherwise lock
+		// it to prevent changes while painting
+		final IDataProvider data = traceDataProvider instanceof ISnapshotDataProvider
+				? ((ISnapshotDataProvider) traceDataProvider).getSnapshot()
+				: traceDataProvider;
+		synchronized (data) {
+			if (data.getSize() > 0) {
 				// Is only a sub-set of the trace data visible?
 				final int startIndex, endIndex;
-				if (traceDataProvider.isChronological()) {
-					final Range indexRange = getIndexRangeOnXAxis();
+				if (data.isChronological()) {
+					final Range indexRange = getIndexRangeOnXAxis(data);
 					if (indexRange == null) {
 						startIndex = 0;
 						endIndex = -1;
@@ -649,7 +690,19 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 					}
 				} else { // Cannot optimize range, use all data points
 					startIndex = 0;
-					endIndex = traceDataProvider.getSize() - 1;
+					endIndex = data.getSize() - 1;
+				}
+
+				// Only draw first/min/max/last sample per pixel column?
+				final boolean decimate = isDecimationApplicable(data);
+				final int sampleCount;
+				if (decimate) {
+					if (decimator == null)
+						decimator = new TraceDecimator();
+					sampleCount = decimator.decimate(data, startIndex, endIndex,
+							x -> xAxis.getValuePosition(x, false));
+				} else {
+					sampleCount = endIndex - startIndex + 1;
 				}
 
 				// Set of points which were already drawn
@@ -667,8 +720,22 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 				Point minInRegion = null;
 				Point lastInRegion = null;
 
-				for (int i = startIndex; i <= endIndex; i++) {
-					ISample dp = traceDataProvider.getSample(i);
+				// Read x and y of primitive providers without creating samples,
+				// unless the error bars or the point style need the samples
+				final IPrimitiveDataProvider primitiveData = data instanceof IPrimitiveDataProvider
+						&& !errorBarEnabled && fPointStyleProvider == null ? (IPrimitiveDataProvider) data : null;
+				hotSampleData = primitiveData;
+
+				for (int n = 0; n < sampleCount; n++) {
+					final int index = decimate ? decimator.getIndex(n) : startIndex + n;
+					ISample dp;
+					if (primitiveData != null) {
+						final PaintSample sample = paintSamples[n & 1];
+						sample.set(primitiveData.getXValue(index), primitiveData.getYValue(index));
+						dp = sample;
+					} else {
+						dp = data.getSample(index);
+					}
 					if (dp == null) {
 						continue;
 					}
@@ -684,6 +751,8 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 						graphics.setBackgroundColor(traceColor);
 						graphics.fillRectangle(markPos.x - MARKER_SIZE / 2, markPos.y - MARKER_SIZE / 2, MARKER_SIZE,
 								MARKER_SIZE);
+						if (dp instanceof PaintSample)
+							dp = data.getSample(index);
 						Sample nanSample = new Sample(dp.getXValue(),
 								xAxis.getTickLabelSide() == LabelSide.Primary ? yAxis.getRange().getLower()
 										: yAxis.getRange().getUpper(),
@@ -698,7 +767,10 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 					if (dpInRange) {
 						dpPos = new Point(xAxis.getValuePosition(dp.getXValue(), false),
 								yAxis.getValuePosition(dp.getYValue(), false));
-						hotSampleist.add(dp);
+						if (dp instanceof PaintSample)
+							addPendingHotSample(index, dp);
+						else
+							hotSampleist.add(dp);
 
 						// Do not draw points in the same place to improve
 						// performance
@@ -715,17 +787,24 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 
 					// draw line
 					if (traceType == TraceType.BAR) {
+						final double baseY;
 						switch (baseLine) {
 						case NEGATIVE_INFINITY:
-							predp = new Sample(dp.getXValue(), yAxis.getRange().getLower());
+							baseY = yAxis.getRange().getLower();
 							break;
 						case POSITIVE_INFINITY:
-							predp = new Sample(dp.getXValue(), yAxis.getRange().getUpper());
+							baseY = yAxis.getRange().getUpper();
 							break;
 						default:
-							predp = new Sample(dp.getXValue(), 0);
+							baseY = 0;
 							break;
 						}
+						if (primitiveData != null) {
+							barBaseSample.set(dp.getXValue(), baseY);
+							predp = barBaseSample;
+						} else {
+							predp = new Sample(dp.getXValue(), baseY);
+						}
 						predpInRange = xAxis.getRange().inRange(predp.getXValue())
 								&& yAxis.getRange().inRange(predp.getYValue());
 					}
@@ -804,7 +883,7 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 							if (plPolyline.size() == 0)
 								plPolyline.addPoint(predpPos);
 
-							if (traceDataProvider.isChronological()) {
+							if (data.isChronological()) {
 								// Line drawing optimization is available only
 								// when the trace data
 								// is ascending sorted on X axis.
@@ -1031,6 +1110,27 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		}
 	}
 
+	/**
+	 * Min/max decimation only keeps the look of plain lines. Markers, error bars,
+	 * steps, bars and areas need every sample.
+	 */
+	private boolean isDecimationApplicable(IDataProvider data) {
+		if (!minMaxDecimation || !data.isChronological())
+			return false;
+		if (pointStyle != PointStyle.NONE || fPointStyleProvider != null || errorBarEnabled)
+			return false;
+		switch (traceType) {
+		case SOLID_LINE:
+		case DASH_LINE:
+		case DASHDOT_LINE:
+		case DASHDOTDOT_LINE:
+		case DOT_LINE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
 	/**
 	 * Compute axes intersection considering the 'TraceType'
 	 * 
@@ -1201,12 +1301,18 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		if (!new Range(dp1.getXValue(), dp2.getXValue()).inRange(x)
 				|| !new Range(dp1.getYValue(), dp2.getYValue()).inRange(y))
 			return false;
-		final ISample dp = new Sample(x, y);
-		if (dp.equals(dp1) || dp.equals(dp2))
+		if (isSamePoint(x, y, dp1) || isSamePoint(x, y, dp2))
 			return false;
 		return true;
 	}
 
+	private static boolean isSamePoint(final double x, final double y, final ISample sample) {
+		// a sample read from a primitive provider has no errors or info
+		if (sample instanceof PaintSample)
+			return Double.compare(x, sample.getXValue()) == 0 && Double.compare(y, sample.getYValue()) == 0;
+		return new Sample(x, y).equals(sample);
+	}
+
 	/**
 	 * @param axis
 	 *            the xAxis to set
@@ -1433,6 +1539,30 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 			xyGraph.repaint();
 	}
 
+	/**
+	 * Enables min/max decimation. When enabled, line traces of chronological
+	 * data only draw the first, minimum, maximum and last sample of every
+	 * horizontal pixel column, which looks the same as drawing all samples but
+	 * makes painting traces with millions of samples fast. Only the drawn
+	 * samples are available as hot samples.
+	 * <p>
+	 * Decimation is not used for traces with point markers, error bars, steps,
+	 * bars or areas.
+	 * </p>
+	 *
+	 * @param minMaxDecimation
+	 *            true to decimate, false (default) to draw every sample
+	 */
+	public void setMinMaxDecimation(boolean minMaxDecimation) {
+		if (this.minMaxDecimation == minMaxDecimation)
+			return;
+		this.minMaxDecimation = minMaxDecimation;
+		if (!minMaxDecimation)
+			decimator = null;
+		if (xyGraph != null)
+			xyGraph.repaint();
+	}
+
 	/**
 	 * @param name
 	 *            the name of the trace to set
@@ -1515,38 +1645,51 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 	 * works for chronological data, which means the data is naturally sorted on
 	 * xAxis.</b>
 	 * 
+	 * @param data
+	 *            the data provider or its snapshot
 	 * @return the Range of the index.
 	 */
-	private Range getIndexRangeOnXAxis() {
+	private Range getIndexRangeOnXAxis(IDataProvider data) {
 		Range axisRange = xAxis.getRange();
-		if (traceDataProvider.getSize() <= 0)
+		if (data.getSize() <= 0)
 			return null;
 		double min = axisRange.getLower() > axisRange.getUpper() ? axisRange.getUpper() : axisRange.getLower();
 		double max = axisRange.getUpper() > axisRange.getLower() ? axisRange.getUpper() : axisRange.getLower();
 
-		if (min > traceDataProvider.getSample(traceDataProvider.getSize() - 1).getXValue()
-				|| max < traceDataProvider.getSample(0).getXValue())
+		if (min > getXValue(data, data.getSize() - 1) || max < getXValue(data, 0))
 			return null;
 
 		int lowIndex = 0;
-		int highIndex = traceDataProvider.getSize() - 1;
-		if (min > traceDataProvider.getSample(0).getXValue())
-			lowIndex = nearBinarySearchX(min, true);
-		if (max < traceDataProvider.getSample(highIndex).getXValue())
-			highIndex = nearBinarySearchX(max, false);
+		int highIndex = data.getSize() - 1;
+		if (min > getXValue(data, 0))
+			lowIndex = nearBinarySearchX(data, min, true);
+		if (max < getXValue(data, highIndex))
+			highIndex = nearBinarySearchX(data, max, false);
 		return new Range(lowIndex, highIndex);
 	}
 
+	/**
+	 * @return the X value of the sample at the given index, without creating a
+	 *         sample if the data provider holds primitive values. NaN if a
+	 *         snapshot has lost the sample.
+	 */
+	private static double getXValue(IDataProvider data, int index) {
+		if (data instanceof IPrimitiveDataProvider)
+			return ((IPrimitiveDataProvider) data).getXValue(index);
+		final ISample sample = data.getSample(index);
+		return sample == null ? Double.NaN : sample.getXValue();
+	}
+
 	// It will return the index on the closest left(if left is true) or right of
 	// the data
 	// Like public version, but without range checks.
-	private int nearBinarySearchX(double key, boolean left) {
+	private static int nearBinarySearchX(IDataProvider data, double key, boolean left) {
 		int low = 0;
-		int high = traceDataProvider.getSize() - 1;
+		int high = data.getSize() - 1;
 
 		while (low <= high) {
 			int mid = (low + high) >>> 1;
-			double midVal = traceDataProvider.getSample(mid).getXValue();
+			double midVal = getXValue(data, mid);
 
 			int cmp;
 			if (midVal < key) {
@@ -1562,7 +1705,7 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 			}
 
 			if (cmp < 0) {
-				if (mid < traceDataProvider.getSize() - 1 && key < traceDataProvider.getSample(mid + 1).getXValue()) {
+				if (mid < data.getSize() - 1 && key < getXValue(data, mid + 1)) {
 					if (left)
 						return mid;
 					else
@@ -1572,7 +1715,7 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 			}
 
 			else if (cmp > 0) {
-				if (mid > 0 && key > traceDataProvider.getSample(mid - 1).getXValue())
+				if (mid > 0 && key > getXValue(data, mid - 1))
 					if (left)
 						return mid - 1;
 					else
@@ -1657,9 +1800,100 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 	 * @return the hotPointList
 	 */
 	public List<ISample> getHotSampleList() {
+		createPendingHotSamples();
 		return hotSampleist;
 	}
 
+	private void addPendingHotSample(final int index, final ISample dp) {
+		if (hotSamplePendingCount == hotSampleIndices.length) {
+			final int capacity = Math.max(16, hotSamplePendingCount * 2);
+			hotSamplePositions = Arrays.copyOf(hotSamplePositions, capacity);
+			hotSampleIndices = Arrays.copyOf(hotSampleIndices, capacity);
+			hotSampleXValues = Arrays.copyOf(hotSampleXValues, capacity);
+			hotSampleYValues = Arrays.copyOf(hotSampleYValues, capacity);
+		}
+		hotSamplePositions[hotSamplePendingCount] = hotSampleist.size();
+		hotSampleIndices[hotSamplePendingCount] = index;
+		hotSampleXValues[hotSamplePendingCount] = dp.getXValue();
+		hotSampleYValues[hotSamplePendingCount] = dp.getYValue();
+		hotSamplePendingCount++;
+		hotSampleist.add(null);
+	}
+
+	/**
+	 * Creates the samples recorded by index while painting. A provider which
+	 * is not a snapshot may have changed since, then a sample with the painted
+	 * values is used.
+	 */
+	private void createPendingHotSamples() {
+		if (hotSamplePendingCount == 0)
+			return;
+		synchronized (hotSampleData) {
+			final int size = hotSampleData.getSize();
+			for (int i = 0; i < hotSamplePendingCount; i++) {
+				final double x = hotSampleXValues[i];
+				final double y = hotSampleYValues[i];
+				ISample sample = hotSampleIndices[i] < size ? hotSampleData.getSample(hotSampleIndices[i]) : null;
+				if (sample == null || Double.compare(sample.getXValue(), x) != 0
+						|| Double.compare(sample.getYValue(), y) != 0)
+					sample = new Sample(x, y);
+				hotSampleist.set(hotSamplePositions[i], sample);
+			}
+		}
+		hotSamplePendingCount = 0;
+		hotSampleData = null;
+	}
+
+	/**
+	 * Sample with the values of a point read from an
+	 * {@link IPrimitiveDataProvider}, reused from point to point while
+	 * painting.
+	 */
+	private static final class PaintSample implements ISample {
+		private double xValue;
+		private double yValue;
+
+		void set(final double xValue, final double yValue) {
+			this.xValue = xValue;
+			this.yValue = yValue;
+		}
+
+		@Override
+		public double getXValue() {
+			return xValue;
+		}
+
+		@Override
+		public double getYValue() {
+			return yValue;
+		}
+
+		@Override
+		public double getXPlusError() {
+			return 0;
+		}
+
+		@Override
+		public double getYPlusError() {
+			return 0;
+		}
+
+		@Override
+		public double getXMinusError() {
+			return 0;
+		}
+
+		@Override
+		public double getYMinusError() {
+			return 0;
+		}
+
+		@Override
+		public String getInfo() {
+			return null;
+		}
+	}
+
 	/**
 	 * @return the baseLine
 	 */
@@ -1688,6 +1922,14 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		return antiAliasing;
 	}
 
+	/**
+	 * @return true if line traces draw at most four samples per pixel column
+	 * @see #setMinMaxDecimation(boolean)
+	 */
+	public boolean isMinMaxDecimation() {
+		return minMaxDecimation;
+	}
+
 	/**
 	 * @return the errorBarEnabled
 	 */
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import java.util.Arrays;
+import java.util.function.DoubleToIntFunction;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IPrimitiveDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+
+/**
+ * Min/max (M4) decimation of chronological trace data.
+ * <p>
+ * The samples of an index range are grouped by the horizontal pixel column
+ * they are drawn in. Of every column only the first sample, the samples with
+ * the minimum and maximum Y value and the last sample are kept, in their
+ * original order. A polyline through the kept samples covers the same pixels
+ * as a polyline through all samples, so line traces look the same while at
+ * most four samples per pixel column are drawn.
+ * </p>
+ * <p>
+ * Samples with a NaN Y value are always kept, since they interrupt the line.
+ * The indices of the kept samples are stored in a buffer that is reused by
+ * the next call. Values of an {@link IPrimitiveDataProvider} are read without
+ * creating samples.
+ * </p>
+ *
+ * @see Trace#setMinMaxDecimation(boolean)
+ */
+final class TraceDecimator {
+
+	private int[] indices = new int[256];
+
+	private int count;
+
+	/**
+	 * Decimates the samples in the given index range.
+	 *
+	 * @param provider
+	 *            chronological data provider
+	 * @param startIndex
+	 *            index of the first sample
+	 * @param endIndex
+	 *            index of the last sample (inclusive)
+	 * @param columnOf
+	 *            maps an X value to its pixel column
+	 * @return the number of kept samples
+	 */
+	int decimate(IDataProvider provider, int startIndex, int endIndex, DoubleToIntFunction columnOf) {
+		final IPrimitiveDataProvider primitive = provider instanceof IPrimitiveDataProvider
+				? (IPrimitiveDataProvider) provider
+				: null;
+		count = 0;
+		int column = 0;
+		int first = -1;
+		int last = -1;
+		int min = -1;
+		int max = -1;
+		double minY = 0;
+		double maxY = 0;
+		for (int i = startIndex; i <= endIndex; i++) {
+			final double x;
+			final double y;
+			if (primitive != null) {
+				x = primitive.getXValue(i);
+				y = primitive.getYValue(i);
+			} else {
+				final ISample sample = provider.getSample(i);
+				if (sample == null) {
+					continue;
+				}
+				x = sample.getXValue();
+				y = sample.getYValue();
+			}
+			if (Double.isNaN(y)) {
+				flush(first, min, max, last);
+				first = -1;
+				add(i);
+				continue;
+			}
+			final int c = columnOf.applyAsInt(x);
+			if (first == -1 || c != column) {
+				flush(first, min, max, last);
+				column = c;
+				first = min = max = last = i;
+				minY = maxY = y;
+				continue;
+			}
+			if (y < minY) {
+				minY = y;
+				min = i;
+			} else if (y > maxY) {
+				maxY = y;
+				max = i;
+			}
+			last = i;
+		}
+		flush(first, min, max, last);
+		return count;
+	}
+
+	/**
+	 * @param n
+	 *            position among the kept samples
+	 * @return index of the n-th kept sample
+	 */
+	int getIndex(int n) {
+		return indices[n];
+	}
+
+	/**
+	 * @return the number of samples kept by the last call to
+	 *         {@link #decimate(IDataProvider, int, int, DoubleToIntFunction)}
+	 */
+	int getCount() {
+		return count;
+	}
+
+	private void flush(int first, int min, int max, int last) {
+		if (first == -1) {
+			return;
+		}
+		add(first);
+		final int low = Math.min(min, max);
+		final int high = Math.max(min, max);
+		if (low != first) {
+			add(low);
+		}
+		if (high != low && high != first) {
+			add(high);
+		}
+		if (last != high && last != first) {
+			add(last);
+		}
+	}
+
+	private void add(int index) {
+		if (count == indices.length) {
+			indices = Arrays.copyOf(indices, count * 2);
+		}
+		indices[count++] = index;
+	}
+}
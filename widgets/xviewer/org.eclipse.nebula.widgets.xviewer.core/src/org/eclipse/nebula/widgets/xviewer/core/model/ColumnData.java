@@ -17,8 +17,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import org.eclipse.nebula.widgets.xviewer.core.util.XmlUtil;
 
 /**
  * Provides for xml packing/unpacking of columns
@@ -30,14 +30,9 @@ public class ColumnData {
    List<XViewerColumn> columns = new ArrayList<>();
    Map<String, XViewerColumn> idToColumn = new HashMap<>();
 
-   private static Pattern pattern =
-      Pattern.compile("<" + XViewerColumn.XTREECOLUMN_TAG + ">(.*?)</" + XViewerColumn.XTREECOLUMN_TAG + ">"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
-
    public List<XViewerColumn> setFromXml(String xml) {
       columns.clear();
-      Matcher columnMatch = pattern.matcher(xml);
-      while (columnMatch.find()) {
-         String colXml = columnMatch.group(1);
+      for (String colXml : XmlUtil.getRawTagDataList(xml, XViewerColumn.XTREECOLUMN_TAG)) {
          XViewerColumn xCol = new XViewerColumn(null, colXml);
          columns.add(xCol);
          idToColumn.put(xCol.getId(), xCol);
@@ -18,8 +18,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.nebula.widgets.xviewer.core.util.Strings;
 import org.eclipse.nebula.widgets.xviewer.core.util.XmlUtil;
@@ -39,7 +37,6 @@ public class ColumnFilterData {
    private static final String DATE2_FILTER_TAG = "date2"; //$NON-NLS-1$
    private final Map<String, String> colIdToFilterText = new HashMap<String, String>();
    private final Map<String, ColumnDateFilter> colIdToDateFilter = new HashMap<String, ColumnDateFilter>();
-   private static Pattern p = Pattern.compile("<" + COLUMN_FILTER_TAG + ">(.*?)</" + COLUMN_FILTER_TAG + ">"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
    public String getFilterText(String colId) {
       return colIdToFilterText.get(colId);
@@ -92,9 +89,7 @@ public class ColumnFilterData {
 
    public void setFromXml(String xml) {
       colIdToFilterText.clear();
-      Matcher columnMatch = p.matcher(xml);
-      while (columnMatch.find()) {
-         String columnXml = columnMatch.group(1);
+      for (String columnXml : XmlUtil.getRawTagDataList(xml, COLUMN_FILTER_TAG)) {
          String columnId = XmlUtil.getTagData(columnXml, COLUMN_ID_TAG);
          String filterText = XmlUtil.getTagData(columnXml, FILTER_TEXT_TAG);
          if (Strings.isValid(filterText)) {
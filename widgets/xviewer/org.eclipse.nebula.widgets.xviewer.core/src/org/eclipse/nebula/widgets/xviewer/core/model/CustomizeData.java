@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.xviewer.core.model;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -59,6 +61,36 @@ public class CustomizeData implements Comparable<CustomizeData> {
       setFromXml(xml);
    }
 
+   /**
+    * Returns a deep copy with the same guid, without going through xml. Columns are copied with XViewerColumn.copy().
+    */
+   public CustomizeData copy() {
+      CustomizeData custData = new CustomizeData();
+      custData.guid = guid;
+      custData.name = name;
+      custData.nameSpace = nameSpace;
+      custData.personal = personal;
+      custData.sortingData.getSortingIds().addAll(sortingData.getSortingIds());
+      custData.filterData.setFilterText(filterData.getFilterText(), filterData.isRegularExpression());
+      for (String colId : columnFilterData.getColIds()) {
+         String filterText = columnFilterData.getFilterText(colId);
+         if (filterText != null) {
+            custData.columnFilterData.setFilterText(colId, filterText);
+         }
+         ColumnDateFilter dateFilter = columnFilterData.getDateFilter(colId);
+         if (dateFilter != null) {
+            custData.columnFilterData.setDateFilter(colId, dateFilter.getType(), dateFilter.getDate1(),
+               dateFilter.getDate2());
+         }
+      }
+      List<XViewerColumn> columns = new ArrayList<>(columnData.getColumns().size());
+      for (XViewerColumn xCol : columnData.getColumns()) {
+         columns.add(xCol.copy());
+      }
+      custData.columnData.setColumns(columns);
+      return custData;
+   }
+
    public void resetGuid() {
       guid = XViewerUtil.generateGuidStr();
    }
@@ -16,8 +16,6 @@ package org.eclipse.nebula.widgets.xviewer.core.model;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.nebula.widgets.xviewer.core.util.XViewerUtil;
 import org.eclipse.nebula.widgets.xviewer.core.util.XmlUtil;
@@ -91,21 +89,12 @@ public class SortingData {
       return sb.toString();
    }
 
-   private static Pattern pattern1 = Pattern.compile("<" + COL_NAME_TAG + ">(.*?)</" + COL_NAME_TAG + ">"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-   private static Pattern pattern2 = Pattern.compile("<" + OLD_COL_NAME_TAG + ">(.*?)</" + OLD_COL_NAME_TAG + ">"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-
    public void setFromXml(String xml) {
       // NOTE: Sorting direction is stored as part of the column data
       sortingIds.clear();
       String xmlSortStr = XmlUtil.getTagData(xml, XTREESORTER_TAG);
-      Matcher m = pattern1.matcher(xmlSortStr);
-      while (m.find()) {
-         sortingIds.add(m.group(1));
-      }
-      Matcher mOld = pattern2.matcher(xmlSortStr);
-      while (mOld.find()) {
-         sortingIds.add(mOld.group(1));
-      }
+      sortingIds.addAll(XmlUtil.getRawTagDataList(xmlSortStr, COL_NAME_TAG));
+      sortingIds.addAll(XmlUtil.getRawTagDataList(xmlSortStr, OLD_COL_NAME_TAG));
    }
 
    public List<String> getSortingIds() {
@@ -14,12 +14,12 @@
 package org.eclipse.nebula.widgets.xviewer.core.model;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.nebula.widgets.xviewer.core.util.CollectionsUtil;
+import org.eclipse.nebula.widgets.xviewer.core.util.LongStringMap;
 import org.eclipse.nebula.widgets.xviewer.core.util.XViewerUtil;
 import org.eclipse.nebula.widgets.xviewer.core.util.XmlUtil;
 
@@ -370,7 +370,7 @@ public class XViewerColumn {
 
    public Map<Long, String> getPreComputedValueMap() {
       if (preComputedValueMap == null) {
-         preComputedValueMap = new HashMap<>();
+         preComputedValueMap = new LongStringMap();
       }
       return preComputedValueMap;
    }
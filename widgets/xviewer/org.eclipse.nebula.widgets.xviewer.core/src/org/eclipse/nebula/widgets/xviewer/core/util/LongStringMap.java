@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer.core.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Map from long keys to strings which stores the keys unboxed in an open addressing table, without an entry object per
+ * mapping. Used for the pre-computed column values, which hold one entry per row.
+ * <p>
+ * The map is synchronized, so that the viewer can read values while they are still being computed. Null values are not
+ * stored: putting null removes the key. A null key is supported, as with a hash map. The entry set is a snapshot.
+ */
+public class LongStringMap extends AbstractMap<Long, String> {
+
+   private static final int MIN_CAPACITY = 16;
+
+   private long[] keys;
+   // a null value marks a free slot
+   private String[] values;
+   private int size;
+   private String nullKeyValue;
+
+   public LongStringMap() {
+      this(MIN_CAPACITY);
+   }
+
+   public LongStringMap(int expectedSize) {
+      allocate(capacityFor(expectedSize));
+   }
+
+   private static int capacityFor(int size) {
+      // keep the table at most half full
+      int capacity = MIN_CAPACITY;
+      while (capacity < size * 2 && capacity < (1 << 30)) {
+         capacity <<= 1;
+      }
+      return capacity;
+   }
+
+   private void allocate(int capacity) {
+      keys = new long[capacity];
+      values = new String[capacity];
+   }
+
+   private static int hash(long key) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32));
+   }
+
+   // slot of the key, or the free slot where it would go
+   private int indexOf(long key) {
+      int mask = keys.length - 1;
+      int index = hash(key) & mask;
+      while (values[index] != null && keys[index] != key) {
+         index = (index + 1) & mask;
+      }
+      return index;
+   }
+
+   public synchronized String get(long key) {
+      return values[indexOf(key)];
+   }
+
+   public synchronized String put(long key, String value) {
+      if (value == null) {
+         return remove(key);
+      }
+      int index = indexOf(key);
+      String old = values[index];
+      keys[index] = key;
+      values[index] = value;
+      if (old == null && ++size * 2 > keys.length) {
+         rehash(keys.length * 2);
+      }
+      return old;
+   }
+
+   public synchronized String remove(long key) {
+      int index = indexOf(key);
+      String old = values[index];
+      if (old == null) {
+         return null;
+      }
+      values[index] = null;
+      size--;
+
+      // move back the following entries which would no longer be found past the freed slot
+      int mask = keys.length - 1;
+      int free = index;
+      for (int next = (index + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+         int home = hash(keys[next]) & mask;
+         if (((next - home) & mask) >= ((next - free) & mask)) {
+            keys[free] = keys[next];
+            values[free] = values[next];
+            values[next] = null;
+            free = next;
+         }
+      }
+      return old;
+   }
+
+   private void rehash(int capacity) {
+      long[] oldKeys = keys;
+      String[] oldValues = values;
+      allocate(capacity);
+      for (int i = 0; i < oldKeys.length; i++) {
+         if (oldValues[i] != null) {
+            int index = indexOf(oldKeys[i]);
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+         }
+      }
+   }
+
+   @Override
+   public synchronized String get(Object key) {
+      if (key == null) {
+         return nullKeyValue;
+      }
+      return key instanceof Long ? get(((Long) key).longValue()) : null;
+   }
+
+   @Override
+   public synchronized String put(Long key, String value) {
+      if (key == null) {
+         String old = nullKeyValue;
+         nullKeyValue = value;
+         size += (old == null ? 0 : -1) + (value == null ? 0 : 1);
+         return old;
+      }
+      return put(key.longValue(), value);
+   }
+
+   @Override
+   public synchronized String remove(Object key) {
+      if (key == null) {
+         return put((Long) null, null);
+      }
+      return key instanceof Long ? remove(((Long) key).longValue()) : null;
+   }
+
+   @Override
+   public boolean containsKey(Object key) {
+      return get(key) != null;
+   }
+
+   @Override
+   public synchronized int size() {
+      return size;
+   }
+
+   @Override
+   public synchronized void clear() {
+      allocate(MIN_CAPACITY);
+      size = 0;
+      nullKeyValue = null;
+   }
+
+   @Override
+   public Set<Entry<Long, String>> entrySet() {
+      final List<Entry<Long, String>> entries = new ArrayList<>();
+      synchronized (this) {
+         if (nullKeyValue != null) {
+            entries.add(new SimpleImmutableEntry<Long, String>(null, nullKeyValue));
+         }
+         for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+               entries.add(new SimpleImmutableEntry<>(keys[i], values[i]));
+            }
+         }
+      }
+      return new AbstractSet<Entry<Long, String>>() {
+         @Override
+         public Iterator<Entry<Long, String>> iterator() {
+            return Collections.unmodifiableList(entries).iterator();
+         }
+
+         @Override
+         public int size() {
+            return entries.size();
+         }
+      };
+   }
+}
@@ -61,12 +61,20 @@ public class XmlUtil {
     */
    public static String[] getNameValue(String xmlRoot, String xmlStr) {
       String[] strs = new String[] {"", ""};
-      Matcher m;
-      m = Pattern.compile("<" + xmlRoot + " name=\"(.*?)\" value=\"(.*?)\" />",
-         Pattern.MULTILINE | Pattern.DOTALL).matcher(xmlStr);
-      if (m.find()) {
-         strs[0] = m.group(1);
-         strs[1] = m.group(2);
+      String nameStart = "<" + xmlRoot + " name=\"";
+      int start = xmlStr.indexOf(nameStart);
+      if (start < 0) {
+         return strs;
+      }
+      start += nameStart.length();
+      int valueStart = xmlStr.indexOf("\" value=\"", start);
+      if (valueStart < 0) {
+         return strs;
+      }
+      int end = xmlStr.indexOf("\" />", valueStart + 9);
+      if (end >= 0) {
+         strs[0] = xmlStr.substring(start, valueStart);
+         strs[1] = xmlStr.substring(valueStart + 9, end);
       }
       return strs;
    }
@@ -76,43 +84,65 @@ public class XmlUtil {
    }
 
    public static String[] getTagDataArray(String xmlStr, String xmlRoot) {
+      List<String> data = getRawTagDataList(xmlStr, xmlRoot);
+      String[] strs = new String[data.size()];
+      for (int i = 0; i < strs.length; i++) {
+         strs[i] = xmlToText(data.get(i));
+      }
+      return strs;
+   }
+
+   /**
+    * Returns the data between each <xmlRoot> and the following </xmlRoot> from xmlStr, without xmlToText. Tags are found
+    * by scanning the string, so stored data which is not valid xml is still read.
+    */
+   public static List<String> getRawTagDataList(String xmlStr, String xmlRoot) {
       List<String> data = new ArrayList<String>();
-      Matcher m;
-      m = Pattern.compile("<" + xmlRoot + ">(.*?)</" + xmlRoot + ">", Pattern.MULTILINE | Pattern.DOTALL).matcher(
-         xmlStr);
-      while (m.find()) {
-         data.add(xmlToText(m.group(1)));
+      String startTag = "<" + xmlRoot + ">";
+      String endTag = "</" + xmlRoot + ">";
+      int start = xmlStr.indexOf(startTag);
+      while (start >= 0) {
+         int end = xmlStr.indexOf(endTag, start + startTag.length());
+         if (end < 0) {
+            break;
+         }
+         data.add(xmlStr.substring(start + startTag.length(), end));
+         start = xmlStr.indexOf(startTag, end + endTag.length());
       }
-      return data.toArray(new String[data.size()]);
+      return data;
    }
 
    /**
     * Returns data between <xmlRoot> and </xmlRoot> from xmlStr
     */
    public static String getTagData(String xmlStr, String xmlRoot) {
-      String tags[] = getTagDataArray(xmlStr, xmlRoot);
-      if (tags.length > 0) {
-         return tags[0];
+      String data = getFirstRawTagData(xmlStr, xmlRoot);
+      return data == null ? "" : xmlToText(data);
+   }
+
+   private static String getFirstRawTagData(String xmlStr, String xmlRoot) {
+      String startTag = "<" + xmlRoot + ">";
+      int start = xmlStr.indexOf(startTag);
+      if (start >= 0) {
+         int end = xmlStr.indexOf("</" + xmlRoot + ">", start + startTag.length());
+         if (end >= 0) {
+            return xmlStr.substring(start + startTag.length(), end);
+         }
       }
-      return "";
+      return null;
    }
 
    public static int getTagIntData(String xmlStr, String xmlRoot) {
-      String tags[] = getTagDataArray(xmlStr, xmlRoot);
-      if (tags.length > 0) {
-         String intStr = tags[0];
+      String data = getFirstRawTagData(xmlStr, xmlRoot);
+      if (data != null) {
+         String intStr = xmlToText(data);
          return (Integer.valueOf(intStr)).intValue();
       }
       return 0;
    }
 
    public static Boolean getTagBooleanData(String xmlStr, String xmlRoot) {
-      String tags[] = getTagDataArray(xmlStr, xmlRoot);
-      if (tags.length > 0) {
-         String intStr = tags[0];
-         return (intStr.equals("true") ? true : false);
-      }
-      return false;
+      return getTagData(xmlStr, xmlRoot).equals("true");
    }
 
    /**
@@ -142,13 +172,43 @@ public class XmlUtil {
       if (xml == null || xml.equals("")) {
          return "";
       }
-      String str = xml;
-      str = str.replaceAll("&gt;", ">");
-      str = str.replaceAll("&lt;", "<");
-      str = str.replaceAll("&apos;", "'");
-      str = str.replaceAll("&quot;", "\"");
-      str = str.replaceAll("&amp;", "&");
-      return str;
+      int amp = xml.indexOf('&');
+      if (amp < 0) {
+         return xml;
+      }
+      // single pass, so that &amp; is not read again as the start of another reference
+      StringBuilder sb = new StringBuilder(xml.length());
+      sb.append(xml, 0, amp);
+      for (int i = amp; i < xml.length(); i++) {
+         char c = xml.charAt(i);
+         if (c == '&') {
+            String ref = null;
+            char replacement = 0;
+            if (xml.startsWith("&gt;", i)) {
+               ref = "&gt;";
+               replacement = '>';
+            } else if (xml.startsWith("&lt;", i)) {
+               ref = "&lt;";
+               replacement = '<';
+            } else if (xml.startsWith("&apos;", i)) {
+               ref = "&apos;";
+               replacement = '\'';
+            } else if (xml.startsWith("&quot;", i)) {
+               ref = "&quot;";
+               replacement = '"';
+            } else if (xml.startsWith("&amp;", i)) {
+               ref = "&amp;";
+               replacement = '&';
+            }
+            if (ref != null) {
+               sb.append(replacement);
+               i += ref.length() - 1;
+               continue;
+            }
+         }
+         sb.append(c);
+      }
+      return sb.toString();
    }
 
 }
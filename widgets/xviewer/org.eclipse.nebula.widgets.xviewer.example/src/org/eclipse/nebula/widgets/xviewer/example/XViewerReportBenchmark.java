@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer.example;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.xviewer.XViewerReportWriter;
+import org.eclipse.nebula.widgets.xviewer.XViewerReportWriter.Format;
+import org.eclipse.nebula.widgets.xviewer.example.model.ISomeTask.RunDb;
+import org.eclipse.nebula.widgets.xviewer.example.model.ISomeTask.TaskType;
+import org.eclipse.nebula.widgets.xviewer.example.model.SomeTask;
+import org.eclipse.nebula.widgets.xviewer.util.XViewerDisplay;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Writes the example XViewer with many rows as HTML and CSV report and prints the row count, time, throughput, file
+ * size and heap used. Run as application, optionally with the number of rows as argument (default 500000).
+ */
+public class XViewerReportBenchmark {
+
+   public static void main(String[] args) throws IOException {
+      int rows = args.length > 0 ? Integer.parseInt(args[0]) : 500000;
+
+      Display display = Display.getDefault();
+      Shell shell = new Shell(display, SWT.SHELL_TRIM);
+      shell.setLayout(new GridLayout());
+      XViewerDisplay.setStandaloneXViewer(true, display);
+
+      // virtual, so that the rows of the report are not created as tree items
+      MyXViewer xViewer = new MyXViewer(shell, SWT.MULTI | SWT.BORDER | SWT.FULL_SELECTION | SWT.VIRTUAL);
+      xViewer.setContentProvider(new MyXViewerContentProvider());
+      xViewer.setLabelProvider(new MyXViewerLabelProvider(xViewer));
+      xViewer.setForcePend(true);
+
+      List<Object> tasks = new ArrayList<>(rows);
+      Date date = new Date();
+      for (int x = 0; x < rows; x++) {
+         tasks.add(new SomeTask(x % 2 == 0 ? RunDb.Test_Db : RunDb.Production_Db, TaskType.Backup, date,
+            "org.eclipse.osee.test" + x, "10:03", "run, \"" + x + "\" to test this", "Suite A", "mark@eclipse.com",
+            x % 101, x));
+      }
+      xViewer.setInputXViewer(tasks);
+
+      for (Format format : Format.values()) {
+         File file = File.createTempFile("xviewerReport", "." + format.name().toLowerCase());
+         file.deleteOnExit();
+         System.gc();
+         long start = System.nanoTime();
+         int written = new XViewerReportWriter(xViewer, format).write(file);
+         long ms = Math.max(1, (System.nanoTime() - start) / 1000000);
+         Runtime runtime = Runtime.getRuntime();
+         System.out.println(String.format("%s: %d rows in %d ms, %d rows/s, %d KB, %d MB heap used", format, written,
+            ms, written * 1000L / ms, file.length() / 1024, (runtime.totalMemory() - runtime.freeMemory()) >> 20));
+      }
+
+      shell.dispose();
+      display.dispose();
+   }
+
+}
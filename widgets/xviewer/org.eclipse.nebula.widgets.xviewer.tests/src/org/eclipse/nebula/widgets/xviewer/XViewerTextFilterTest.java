@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Checks that the literal filters of {@link XViewerTextFilter} give the same results as the regular expressions they
+ * replaced.
+ */
+public class XViewerTextFilterTest {
+
+   private static final String[] CELLS =
+      {"", "a", "Task", "TASK 12", "my task", "Gr\u00f6\u00dfe", "GR\u00d6SSE", "\u00c9COLE", "\u00e9cole"};
+   private static final String[] FILTERS =
+      {"", "t", "task", "AsK", "x", "gr\u00f6\u00dfe", "GR\u00d6", "\u00e9", "\u00c9", "\u00e9cole"};
+
+   @Test
+   public void testNegatedEmptyFilterShowsEmptyCells() {
+      assertTrue(XViewerTextFilter.matchesColumnLiteral("", "", true));
+      assertFalse(XViewerTextFilter.matchesColumnLiteral("Task", "", true));
+      assertTrue(XViewerTextFilter.matchesColumnLiteral("", "", false));
+      assertTrue(XViewerTextFilter.matchesColumnLiteral("Task", "", false));
+   }
+
+   @Test
+   public void testNonAsciiCaseIsNotFolded() {
+      assertTrue(XViewerTextFilter.containsIgnoreCase("TASK", "task"));
+      assertTrue(XViewerTextFilter.containsIgnoreCase("\u00e9cole", "\u00e9cole"));
+      assertFalse(XViewerTextFilter.containsIgnoreCase("\u00c9COLE", "\u00e9cole"));
+      assertFalse(XViewerTextFilter.containsIgnoreCase("GR\u00d6SSE", "gr\u00f6"));
+      assertFalse(XViewerTextFilter.containsIgnoreCase("@", "`"));
+   }
+
+   @Test
+   public void testColumnFilterMatchesRegularExpression() {
+      for (String filter : FILTERS) {
+         String quoted = Pattern.quote(filter);
+         Pattern pattern = Pattern.compile(quoted, Pattern.CASE_INSENSITIVE);
+         Pattern notPattern = Pattern.compile("^(.(?<!" + quoted + "))*$", Pattern.CASE_INSENSITIVE);
+         for (String cell : CELLS) {
+            String message = "'" + cell + "' filtered by '" + filter + "'";
+            assertEquals(message, pattern.matcher(cell).find(),
+               XViewerTextFilter.matchesColumnLiteral(cell, filter, false));
+            assertEquals("!" + message, notPattern.matcher(cell).find(),
+               XViewerTextFilter.matchesColumnLiteral(cell, filter, true));
+         }
+      }
+   }
+
+   @Test
+   public void testTextFilterMatchesRegularExpression() {
+      for (String filter : FILTERS) {
+         Pattern pattern = Pattern.compile(filter, Pattern.LITERAL | Pattern.CASE_INSENSITIVE);
+         for (String cell : CELLS) {
+            assertEquals("'" + cell + "' filtered by '" + filter + "'", pattern.matcher(cell).find(),
+               XViewerTextFilter.containsIgnoreCase(cell, filter));
+         }
+      }
+   }
+}
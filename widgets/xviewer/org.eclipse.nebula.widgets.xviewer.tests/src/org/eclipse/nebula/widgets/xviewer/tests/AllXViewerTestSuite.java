@@ -13,11 +13,12 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.xviewer.tests;
 
+import org.eclipse.nebula.widgets.xviewer.XViewerTextFilterTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses({DummyTest.class})
+@Suite.SuiteClasses({DummyTest.class, XViewerTextFilterTest.class, LongStringMapTest.class})
 public class AllXViewerTestSuite {
    // do nothing
 }
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.nebula.widgets.xviewer.core.util.LongStringMap;
+import org.junit.Test;
+
+/**
+ * Checks {@link LongStringMap} against a {@link HashMap}, with few enough keys for the probe sequences of the open
+ * addressing table to overlap, so that removing a key has to move back the keys probed past it.
+ */
+public class LongStringMapTest {
+
+   private static final long[] SPECIAL_KEYS = {0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE, 1L << 32, -(1L << 32)};
+
+   @Test
+   public void testPutGetRemove() {
+      LongStringMap map = new LongStringMap();
+      for (long key : SPECIAL_KEYS) {
+         assertNull(map.put(key, "v" + key));
+      }
+      assertEquals(SPECIAL_KEYS.length, map.size());
+      for (long key : SPECIAL_KEYS) {
+         assertEquals("v" + key, map.get(key));
+         assertEquals("v" + key, map.get(Long.valueOf(key)));
+      }
+
+      assertEquals("v0", map.put(0L, "zero"));
+      assertEquals("zero", map.get(0L));
+      assertEquals(SPECIAL_KEYS.length, map.size());
+
+      for (long key : SPECIAL_KEYS) {
+         assertTrue(map.containsKey(key));
+         map.remove(key);
+         assertFalse(map.containsKey(key));
+      }
+      assertEquals(0, map.size());
+      assertNull(map.remove(42L));
+   }
+
+   @Test
+   public void testPutNullValueRemoves() {
+      LongStringMap map = new LongStringMap();
+      map.put(7L, "seven");
+      assertEquals("seven", map.put(7L, null));
+      assertNull(map.get(7L));
+      assertEquals(0, map.size());
+   }
+
+   @Test
+   public void testNullKey() {
+      LongStringMap map = new LongStringMap();
+      map.put(0L, "zero");
+      assertNull(map.put(null, "null"));
+      assertEquals("null", map.get(null));
+      assertEquals("zero", map.get(0L));
+      assertEquals(2, map.size());
+      assertTrue(map.containsKey(null));
+
+      Map<Long, String> expected = new HashMap<>();
+      expected.put(null, "null");
+      expected.put(0L, "zero");
+      assertEquals(expected, new HashMap<>(map));
+
+      assertEquals("null", map.put(null, "other"));
+      assertEquals(2, map.size());
+      assertEquals("other", map.remove(null));
+      assertNull(map.get(null));
+      assertFalse(map.containsKey(null));
+      assertEquals(1, map.size());
+      assertEquals("zero", map.get(0L));
+
+      map.put(null, "null");
+      map.clear();
+      assertNull(map.get(null));
+      assertEquals(0, map.size());
+   }
+
+   @Test
+   public void testOtherKeyTypes() {
+      LongStringMap map = new LongStringMap();
+      map.put(1L, "one");
+      assertNull(map.get(Integer.valueOf(1)));
+      assertNull(map.remove("1"));
+      assertEquals(1, map.size());
+   }
+
+   @Test
+   public void testRemoveKeepsCollidingKeys() {
+      Random random = new Random(4711);
+      for (int range : new int[] {8, 20, 64, 1000}) {
+         LongStringMap map = new LongStringMap();
+         Map<Long, String> expected = new HashMap<>();
+         for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(range) - range / 2;
+            if (random.nextInt(3) == 0) {
+               assertEquals(expected.remove(key), map.remove(key));
+            } else {
+               String value = "v" + i;
+               assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            if (i % 97 == 0) {
+               assertSameMappings(expected, map, range);
+            }
+         }
+         assertSameMappings(expected, map, range);
+
+         // empty it again, checking the keys left after each removal
+         for (Long key : expected.keySet().toArray(new Long[0])) {
+            assertEquals(expected.remove(key), map.remove(key.longValue()));
+            assertSameMappings(expected, map, range);
+         }
+         assertEquals(0, map.size());
+      }
+   }
+
+   @Test
+   public void testGrowsFromExpectedSize() {
+      LongStringMap map = new LongStringMap(4);
+      for (long key = 0; key < 10000; key++) {
+         map.put(key * 31, String.valueOf(key));
+      }
+      assertEquals(10000, map.size());
+      for (long key = 0; key < 10000; key++) {
+         assertEquals(String.valueOf(key), map.get(key * 31));
+         assertNull(map.get(key * 31 + 1));
+      }
+   }
+
+   private static void assertSameMappings(Map<Long, String> expected, LongStringMap map, int range) {
+      assertEquals(expected.size(), map.size());
+      for (long key = -range / 2; key < range - range / 2; key++) {
+         assertEquals("key " + key, expected.get(key), map.get(key));
+      }
+      assertEquals(expected, new HashMap<>(map));
+   }
+}
@@ -28,13 +28,15 @@ public interface IXViewerPreComputedColumn {
    /**
     * Called in a background thread to populate values in XViewerColumn.preComputedValueMap. For best performance, each
     * item in table should have an entry here and should not be null. See getText comment for cases where null is found.
+    * The input is handed over in batches, and the columns are populated in parallel, but calls for one column are never
+    * concurrent.
     */
    void populateCachedValues(Collection<?> objects, Map<Long, String> preComputedValueMap);
 
    /**
     * Optional method available to make other checks during loading or otherwise change the cached value. If this method
-    * returns null, populateCachedValues will be called one more time to attempt to resolve a possibly new object. If
-    * null is returned, then empty string will be stored in preComputedValueMap for successive calls. This will handle
+    * returns null, the cached value is used. If there is none, populateCachedValues will be called one more time in the
+    * background to attempt to resolve a possibly new object. If that finds no value either, then empty string will be stored in preComputedValueMap for successive calls. This will handle
     * cases where a parent in the table expands to show an object that was not in the original objects sent to
     * populateCachedValues OR a new element is added to the viewer.
     *
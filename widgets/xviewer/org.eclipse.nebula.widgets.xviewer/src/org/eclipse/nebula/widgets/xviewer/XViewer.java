@@ -17,16 +17,15 @@ package org.eclipse.nebula.widgets.xviewer;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
@@ -100,9 +99,12 @@ public class XViewer extends TreeViewer {
    private TreeItem rightClickSelectedItem = null;
    private Color searchColor;
    private boolean forcePend = false;
+   private boolean refreshingFilters = false;
    private static final Map<Composite, Composite> parentToTopComposites = new HashMap<>();
    private boolean debugLoading = "true".equals(System.getProperty("DebugLoading"));
    private final Map<String, Long> preComputeElapsedTime = new HashMap<>();
+   private final XViewerPreComputer preComputer = new XViewerPreComputer(this);
+   private Job preComputeJob = null;
 
    public XViewer(Composite parent, int style, IXViewerFactory xViewerFactory) {
       this(parent, style, xViewerFactory, false, false);
@@ -325,7 +327,7 @@ public class XViewer extends TreeViewer {
    }
 
    private List<Object> getInputObjects(Object input) {
-      List<Object> objects = new LinkedList<>();
+      List<Object> objects = new ArrayList<>();
       if (input instanceof Collection) {
          Collection<?> collection = (Collection<?>) input;
          for (Object obj : collection) {
@@ -350,18 +352,32 @@ public class XViewer extends TreeViewer {
       this.loading = true;
 
       if (!inputObjects.isEmpty()) {
+         if (preComputeJob != null) {
+            preComputeJob.cancel();
+            preComputeJob = null;
+         }
          if (forcePend) {
-            performPreCompute(inputObjects);
+            preComputer.compute(inputObjects, new NullProgressMonitor(), null);
             performLoad(inputObjects, xViewer);
          } else {
-            Job job = new Job("Refreshing Columns") {
+            // rows are loaded once the first batches are computed, and refreshed once all are
+            final AtomicBoolean loaded = new AtomicBoolean(false);
+            final Job job = new Job("Refreshing Columns") {
 
                @Override
                protected IStatus run(IProgressMonitor monitor) {
                   ElapsedTime time = new ElapsedTime("performPreCompute");
-                  performPreCompute(inputObjects);
+                  final Job thisJob = this;
+                  IStatus status = preComputer.compute(inputObjects, monitor, () -> {
+                     loaded.set(true);
+                     Display.getDefault().asyncExec(() -> {
+                        if (thisJob == preComputeJob) {
+                           performLoad(input, xViewer);
+                        }
+                     });
+                  });
                   time.end(Units.SEC);
-                  return Status.OK_STATUS;
+                  return status;
                }
 
             };
@@ -371,49 +387,48 @@ public class XViewer extends TreeViewer {
                @Override
                public void done(IJobChangeEvent event) {
                   Display.getDefault().asyncExec(() -> {
-						ElapsedTime time = new ElapsedTime("performLoad");
-						performLoad(input, xViewer);
-						time.end(Units.SEC);
-	             });
+                     // a job canceled for newer input leaves the loading to the newer job
+                     if (job != preComputeJob) {
+                        return;
+                     }
+                     preComputeJob = null;
+                     ElapsedTime time = new ElapsedTime("performLoad");
+                     if (loaded.get()) {
+                        if (getTree() != null && !getTree().isDisposed()) {
+                           refresh();
+                        }
+                     } else {
+                        performLoad(input, xViewer);
+                     }
+                     time.end(Units.SEC);
+                  });
                }
             });
+            preComputeJob = job;
             job.schedule();
          }
       }
    }
 
-   private void performPreCompute(final List<Object> inputObjects) {
-      List<XViewerColumn> currentVisibleTableColumns = getCustomizeMgr().getCurrentVisibleTableColumns();
-      for (XViewerColumn column : currentVisibleTableColumns) {
-         if (column instanceof IXViewerPreComputedColumn) {
-            IXViewerPreComputedColumn preComputedColumn = (IXViewerPreComputedColumn) column;
-            if (column.getPreComputedValueMap() == null) {
-               column.setPreComputedValueMap(new HashMap<Long, String>(inputObjects.size()));
-            } else {
-               column.getPreComputedValueMap().clear();
-            }
-            if (!inputObjects.isEmpty()) {
-               try {
-                  Long startTime = isDebugLoading() ? (new Date()).getTime() : 0L;
-                  preComputedColumn.populateCachedValues(inputObjects, column.getPreComputedValueMap());
-                  if (isDebugLoading()) {
-                     Long elapsedTime = preComputeElapsedTime.get("PRE - " + column.getName());
-                     if (elapsedTime == null) {
-                        elapsedTime = (new Date()).getTime() - startTime;
-                     } else {
-                        elapsedTime += (new Date()).getTime() - startTime;
-                     }
-                     preComputeElapsedTime.put("PRE - " + column.getName(), elapsedTime);
-                  }
-               } catch (Exception ex) {
-                  XViewerLog.log(Activator.class, Level.SEVERE,
-                     String.format("Error performing pre-compute for column %s", column), ex);
-               }
-            }
-         }
+   void addPreComputeElapsedTime(String name, long elapsedTime) {
+      synchronized (preComputeElapsedTime) {
+         Long total = preComputeElapsedTime.get(name);
+         preComputeElapsedTime.put(name, total == null ? elapsedTime : total + elapsedTime);
       }
    }
 
+   XViewerPreComputer getPreComputer() {
+      return preComputer;
+   }
+
+   /**
+    * Filtered and sorted children as shown in the tree, without creating tree items. Widened for the report writer.
+    */
+   @Override
+   protected Object[] getSortedChildren(Object parentElementOrTreePath) {
+      return super.getSortedChildren(parentElementOrTreePath);
+   }
+
    private void performLoad(final Object input, final XViewer xViewer) {
       if (xViewer.getTree() != null && !xViewer.getTree().isDisposed()) {
          xViewer.superInputChanged(input);
@@ -596,32 +611,76 @@ public class XViewer extends TreeViewer {
       if (getTree() == null || getTree().isDisposed()) {
          return;
       }
+      clearFilterColumnTextCache(null);
       super.refresh();
       // do not need to updateStatusLabel cause super.refresh will call refresh(element);
    }
 
+   /**
+    * Refreshes the viewer after its filters changed. Unlike {@link #refresh()}, the text filter keeps the column text
+    * it read, as the labels did not change.
+    */
+   public void refreshFilters() {
+      refreshingFilters = true;
+      try {
+         refresh();
+      } finally {
+         refreshingFilters = false;
+      }
+   }
+
+   /**
+    * Makes the text filter read the column text of the element again, or of all elements if null.
+    */
+   private void clearFilterColumnTextCache(Object element) {
+      if (refreshingFilters || customizeMgr == null || customizeMgr.getTextFilter() == null) {
+         return;
+      }
+      if (element == null) {
+         customizeMgr.getTextFilter().clearColumnTextCache();
+      } else {
+         customizeMgr.getTextFilter().clearColumnTextCache(element);
+      }
+   }
+
    public boolean isFiltered() {
       return getFilters().length > 0;
    }
 
    @Override
    public void refresh(boolean updateLabels) {
+      clearFilterColumnTextCache(null);
       super.refresh(updateLabels);
       // do not need to updateStatusLabel cause super.refresh will call refresh(element, updateLabels);
    }
 
    @Override
    public void refresh(Object element, boolean updateLabels) {
+      // the children of the element are refreshed too
+      clearFilterColumnTextCache(null);
       super.refresh(element, updateLabels);
       updateStatusLabel();
    }
 
    @Override
    public void refresh(Object element) {
+      clearFilterColumnTextCache(null);
       super.refresh(element);
       updateStatusLabel();
    }
 
+   @Override
+   public void update(Object element, String[] properties) {
+      clearFilterColumnTextCache(element);
+      super.update(element, properties);
+   }
+
+   @Override
+   protected void inputChanged(Object input, Object oldInput) {
+      clearFilterColumnTextCache(null);
+      super.inputChanged(input, oldInput);
+   }
+
    /**
     * Override this to add information to the status string. eg. extra filters etc.
     */
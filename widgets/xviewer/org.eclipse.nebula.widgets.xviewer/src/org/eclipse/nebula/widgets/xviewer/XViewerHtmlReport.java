@@ -56,11 +56,24 @@ public class XViewerHtmlReport {
       this.open(null);
    }
 
+   /**
+    * Override to offer other file types, which write(File) must then handle
+    */
+   protected String[] getFilterExtensions() {
+      return new String[] {"*.html"}; //$NON-NLS-1$
+   }
+
+   /**
+    * Writes the report to the file chosen by the user. Override to stream large reports instead of providing html.
+    */
+   protected void write(File file) throws IOException, XViewerException {
+      XViewerLib.writeStringToFile(getHtml(), file);
+   }
+
    public void open(String defaultFilename) {
       try {
-         String html = getHtml();
          final FileDialog dialog = new FileDialog(Display.getCurrent().getActiveShell().getShell(), SWT.SAVE);
-         dialog.setFilterExtensions(new String[] {"*.html"}); //$NON-NLS-1$
+         dialog.setFilterExtensions(getFilterExtensions());
          if (defaultFilename != null && !defaultFilename.equals("")) { //$NON-NLS-1$
             dialog.setFileName(defaultFilename);
          }
@@ -69,7 +82,7 @@ public class XViewerHtmlReport {
             return;
          }
          try {
-            XViewerLib.writeStringToFile(html, new File(filename));
+            write(new File(filename));
          } catch (IOException ex) {
             XViewerLog.log(Activator.class, Level.SEVERE, ex);
             return;
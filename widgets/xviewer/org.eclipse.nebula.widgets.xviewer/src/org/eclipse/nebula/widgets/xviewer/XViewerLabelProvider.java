@@ -90,8 +90,7 @@ public abstract class XViewerLabelProvider implements ITableLabelProvider, ITabl
          // Check if Pre Computed column
          if (xViewerColumn instanceof IXViewerPreComputedColumn) {
             IXViewerPreComputedColumn preComputedColumn = (IXViewerPreComputedColumn) xViewerColumn;
-            String result = getPrecomputedText(element, xViewerColumn, preComputedColumn, true);
-            return result;
+            return viewer.getPreComputer().getText(element, xViewerColumn, preComputedColumn);
          }
          // First check value column's methods
          if (xViewerColumn instanceof IXViewerValueColumn) {
@@ -123,6 +122,9 @@ public abstract class XViewerLabelProvider implements ITableLabelProvider, ITabl
       String cachedValue = xViewerColumn.getPreComputedValue(key);
       Long startTime = debugLoading ? (new Date()).getTime() : 0L;
       String result = ((IXViewerPreComputedColumn) xViewerColumn).getText(element, key, cachedValue);
+      if (result == null) {
+         result = cachedValue;
+      }
       if (result == null) {
          // Give a single chance to populate a potentially new element, else store empty string to ensure good performance
          preComputedColumn.populateCachedValues(Collections.singleton(element), xViewerColumn.getPreComputedValueMap());
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
+import org.eclipse.nebula.widgets.xviewer.core.util.LongStringMap;
+import org.eclipse.nebula.widgets.xviewer.util.internal.XViewerLog;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Computes the values of the visible {@link IXViewerPreComputedColumn}s of an XViewer. The input is split in batches
+ * which are handed to the columns on several threads, batch by batch, so that the rows can be shown once the first
+ * batch of every column is done. The calls for one column are never concurrent.
+ * <p>
+ * Values missing when the viewer asks for them are computed in a background job instead of in the paint path, and the
+ * elements are updated once they are known.
+ */
+final class XViewerPreComputer {
+
+   private static final int BATCH_SIZE = 1000;
+
+   private final XViewer xViewer;
+   // runs of compute() in progress, a canceled run may still be finishing a batch while the run that replaced it starts
+   private final AtomicInteger computing = new AtomicInteger();
+
+   // elements whose value was missing, to compute in the background, and the keys queued or being computed
+   private final Map<XViewerColumn, Map<Long, Object>> queued = new LinkedHashMap<>();
+   private final Map<XViewerColumn, Set<Long>> requested = new LinkedHashMap<>();
+   private Job missingValuesJob = null;
+
+   XViewerPreComputer(XViewer xViewer) {
+      this.xViewer = xViewer;
+   }
+
+   /**
+    * @return true while the values of the input are computed, when missing values are expected
+    */
+   boolean isComputing() {
+      return computing.get() > 0;
+   }
+
+   /**
+    * Computes the values of the visible pre-computed columns for the given elements into new value maps of the columns.
+    *
+    * @param firstBatchesDone run once every column is done with the first batch, if there is more than one, may be null
+    * @return cancel status if the monitor was canceled before all values were computed
+    */
+   IStatus compute(final List<Object> inputObjects, final IProgressMonitor monitor, final Runnable firstBatchesDone) {
+      // every run fills its own value maps, so that a canceled run never writes into the maps of a newer one
+      final List<XViewerColumn> columns = new ArrayList<>();
+      final List<Map<Long, String>> valueMaps = new ArrayList<>();
+      for (XViewerColumn column : xViewer.getCustomizeMgr().getCurrentVisibleTableColumns()) {
+         if (column instanceof IXViewerPreComputedColumn) {
+            Map<Long, String> valueMap = new LongStringMap(inputObjects.size());
+            column.setPreComputedValueMap(valueMap);
+            columns.add(column);
+            valueMaps.add(valueMap);
+         }
+      }
+      if (columns.isEmpty() || inputObjects.isEmpty()) {
+         return Status.OK_STATUS;
+      }
+
+      final List<List<Object>> batches = new ArrayList<>();
+      for (int start = 0; start < inputObjects.size(); start += BATCH_SIZE) {
+         batches.add(inputObjects.subList(start, Math.min(start + BATCH_SIZE, inputObjects.size())));
+      }
+
+      // tasks are taken batch by batch, so that the first batch of every column is done first
+      final int tasks = batches.size() * columns.size();
+      final AtomicInteger nextTask = new AtomicInteger();
+      final AtomicInteger firstBatchesLeft = new AtomicInteger(columns.size());
+      Runnable worker = () -> {
+         for (int task = nextTask.getAndIncrement(); task < tasks && !monitor.isCanceled(); task =
+            nextTask.getAndIncrement()) {
+            int batch = task / columns.size();
+            XViewerColumn column = columns.get(task % columns.size());
+            synchronized (column) {
+               populate(column, batches.get(batch), valueMaps.get(task % columns.size()));
+            }
+            synchronized (monitor) {
+               monitor.worked(1);
+            }
+            if (batch == 0 && firstBatchesLeft.decrementAndGet() == 0 && batches.size() > 1 && firstBatchesDone != null) {
+               firstBatchesDone.run();
+            }
+         }
+      };
+
+      computing.incrementAndGet();
+      monitor.beginTask("Computing Columns", tasks);
+      int threads = Math.min(columns.size(), Runtime.getRuntime().availableProcessors());
+      ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads - 1) : null;
+      try {
+         List<Future<?>> futures = new ArrayList<>();
+         for (int i = 1; i < threads; i++) {
+            futures.add(executor.submit(worker));
+         }
+         // the calling thread is a worker as well
+         worker.run();
+         for (Future<?> future : futures) {
+            future.get();
+         }
+      } catch (InterruptedException ex) {
+         Thread.currentThread().interrupt();
+         return Status.CANCEL_STATUS;
+      } catch (ExecutionException ex) {
+         XViewerLog.log(Activator.class, Level.SEVERE, ex);
+      } finally {
+         if (executor != null) {
+            executor.shutdown();
+         }
+         computing.decrementAndGet();
+         monitor.done();
+      }
+      return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+   }
+
+   private void populate(XViewerColumn column, Collection<?> objects, Map<Long, String> valueMap) {
+      try {
+         long startTime = xViewer.isDebugLoading() ? (new Date()).getTime() : 0L;
+         ((IXViewerPreComputedColumn) column).populateCachedValues(objects, valueMap);
+         if (xViewer.isDebugLoading()) {
+            xViewer.addPreComputeElapsedTime("PRE - " + column.getName(), (new Date()).getTime() - startTime);
+         }
+      } catch (Exception ex) {
+         XViewerLog.log(Activator.class, Level.SEVERE, String.format("Error performing pre-compute for column %s", column),
+            ex);
+      }
+   }
+
+   /**
+    * Returns the text of a pre-computed column without computing missing values. A missing value shows as empty string
+    * until the background job has computed it.
+    */
+   String getText(Object element, XViewerColumn column, IXViewerPreComputedColumn preComputedColumn) {
+      Long key = preComputedColumn.getKey(element);
+      String cachedValue = column.getPreComputedValue(key);
+      String result = preComputedColumn.getText(element, key, cachedValue);
+      if (result == null) {
+         result = cachedValue;
+      }
+      if (result == null) {
+         // values of the input come with the refresh after computing
+         if (!isComputing()) {
+            queueMissingValue(column, key, element);
+         }
+         result = "";
+      }
+      return result;
+   }
+
+   private synchronized void queueMissingValue(XViewerColumn column, Long key, Object element) {
+      if (!requested.computeIfAbsent(column, c -> new HashSet<>()).add(key)) {
+         return;
+      }
+      queued.computeIfAbsent(column, c -> new LinkedHashMap<>()).put(key, element);
+      if (missingValuesJob == null) {
+         missingValuesJob = new Job("Computing Column Values") {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+               computeMissingValues();
+               return Status.OK_STATUS;
+            }
+         };
+         missingValuesJob.setSystem(true);
+         missingValuesJob.schedule();
+      }
+   }
+
+   private void computeMissingValues() {
+      while (true) {
+         Map<XViewerColumn, Map<Long, Object>> columns;
+         synchronized (this) {
+            if (queued.isEmpty()) {
+               missingValuesJob = null;
+               return;
+            }
+            columns = new LinkedHashMap<>(queued);
+            queued.clear();
+         }
+
+         final Set<Object> elements = new HashSet<>();
+         for (Map.Entry<XViewerColumn, Map<Long, Object>> entry : columns.entrySet()) {
+            XViewerColumn column = entry.getKey();
+            Map<Long, Object> keyToElement = entry.getValue();
+            // a run of compute() fills new value maps and refreshes the rows once done, so the values are left to it. A run
+            // starting meanwhile replaces the map, so these values never end up in the map it is filling
+            if (!isComputing()) {
+               Map<Long, String> valueMap = column.getPreComputedValueMap();
+               synchronized (column) {
+                  populate(column, new ArrayList<>(keyToElement.values()), valueMap);
+               }
+               // store empty string for values which still can't be computed, to not try again
+               for (Long key : keyToElement.keySet()) {
+                  if (valueMap.get(key) == null) {
+                     valueMap.put(key, "");
+                  }
+               }
+               elements.addAll(keyToElement.values());
+            }
+            synchronized (this) {
+               requested.get(column).removeAll(keyToElement.keySet());
+            }
+         }
+
+         Display.getDefault().asyncExec(() -> {
+            if (xViewer.getTree() != null && !xViewer.getTree().isDisposed()) {
+               xViewer.update(elements.toArray(), null);
+            }
+         });
+      }
+   }
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
+import org.eclipse.nebula.widgets.xviewer.util.internal.HtmlUtil;
+
+/**
+ * Writes the rows of an XViewer as an HTML or CSV report. The rows are read from the content and label providers in the
+ * order and with the filters of the viewer, and written one at a time, so that neither tree items nor the whole report
+ * are created in memory. Children are included for the expanded elements, as in the tree.
+ * <p>
+ * The label providers are called, so the report must be written on the UI thread.
+ *
+ * @see XViewerTreeReport
+ */
+public class XViewerReportWriter {
+
+   public static enum Format {
+      HTML,
+      CSV
+   }
+
+   private static final String HTML_INDENT = "&nbsp;&nbsp;&nbsp;&nbsp;"; //$NON-NLS-1$
+   private static final String CSV_INDENT = "    "; //$NON-NLS-1$
+
+   private final XViewer xViewer;
+   private final Format format;
+   private List<XViewerColumn> showCols;
+   private Map<XViewerColumn, Integer> xColToColumnIndex;
+   private IXViewerLabelProvider labelProv;
+   private int rowCount;
+
+   public XViewerReportWriter(XViewer xViewer, Format format) {
+      this.xViewer = xViewer;
+      this.format = format;
+   }
+
+   /**
+    * @return CSV for files ending in .csv, else HTML
+    */
+   public static Format getFormat(File file) {
+      return file.getName().toLowerCase().endsWith(".csv") ? Format.CSV : Format.HTML; //$NON-NLS-1$
+   }
+
+   /**
+    * Writes the report to the file in UTF-8.
+    *
+    * @return number of rows written, not counting the header
+    */
+   public int write(File file) throws IOException {
+      try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+         return write(writer);
+      }
+   }
+
+   /**
+    * Writes the report to the writer, which is neither buffered nor closed here.
+    *
+    * @return number of rows written, not counting the header
+    */
+   public int write(Writer writer) throws IOException {
+      showCols = new ArrayList<>();
+      List<String> headerStrs = new ArrayList<>();
+      for (XViewerColumn xCol : xViewer.getCustomizeMgr().getCurrentTableColumnsInOrder()) {
+         if (xCol.isShow()) {
+            showCols.add(xCol);
+            headerStrs.add(xCol.getName());
+         }
+      }
+      xColToColumnIndex = xViewer.getCustomizeMgr().getCurrentTableColumnsIndex();
+      labelProv = (IXViewerLabelProvider) xViewer.getLabelProvider();
+      rowCount = 0;
+
+      String[] headers = headerStrs.toArray(new String[headerStrs.size()]);
+      if (format == Format.HTML) {
+         writer.write("<html><body>"); //$NON-NLS-1$
+         writer.write(HtmlUtil.beginMultiColumnTable(100, 1));
+         writer.write(HtmlUtil.addHeaderRowMultiColumnTable(headers));
+      } else {
+         writeCsvRow(writer, headers);
+      }
+      Object input = xViewer.getInput();
+      if (input != null) {
+         writeRows(writer, xViewer.getSortedChildren(input), 1);
+      }
+      if (format == Format.HTML) {
+         writer.write(HtmlUtil.endMultiColumnTable());
+         writer.write("</body></html>"); //$NON-NLS-1$
+      }
+      writer.flush();
+      return rowCount;
+   }
+
+   private void writeRows(Writer writer, Object[] elements, int level) throws IOException {
+      String[] cells = new String[showCols.size()];
+      for (Object element : elements) {
+         for (int i = 0; i < cells.length; i++) {
+            XViewerColumn xCol = showCols.get(i);
+            String text = labelProv.getColumnText(element, xColToColumnIndex.get(xCol));
+            cells[i] = format == Format.HTML ? HtmlUtil.textToHtml(text) : text == null ? "" : text; //$NON-NLS-1$
+         }
+         if (cells.length > 0 && level > 1) {
+            cells[0] = indent(format == Format.HTML ? HTML_INDENT : CSV_INDENT, level) + cells[0];
+         }
+         if (format == Format.HTML) {
+            writer.write(HtmlUtil.addRowMultiColumnTable(cells));
+         } else {
+            writeCsvRow(writer, cells);
+         }
+         rowCount++;
+         if (xViewer.getExpandedState(element)) {
+            writeRows(writer, xViewer.getSortedChildren(element), level + 1);
+         }
+      }
+   }
+
+   private static String indent(String indent, int level) {
+      StringBuilder sb = new StringBuilder();
+      for (int y = 1; y < level; y++) {
+         sb.append(indent);
+      }
+      return sb.toString();
+   }
+
+   private static void writeCsvRow(Writer writer, String[] cells) throws IOException {
+      for (int i = 0; i < cells.length; i++) {
+         if (i > 0) {
+            writer.write(',');
+         }
+         writeCsvCell(writer, cells[i]);
+      }
+      writer.write("\r\n"); //$NON-NLS-1$
+   }
+
+   // quote cells with separators, quotes or line breaks, doubling the quotes
+   private static void writeCsvCell(Writer writer, String cell) throws IOException {
+      boolean quote = false;
+      for (int i = 0; i < cell.length() && !quote; i++) {
+         char c = cell.charAt(i);
+         quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+      }
+      if (!quote) {
+         writer.write(cell);
+         return;
+      }
+      writer.write('"');
+      for (int i = 0; i < cell.length(); i++) {
+         char c = cell.charAt(i);
+         if (c == '"') {
+            writer.write('"');
+         }
+         writer.write(c);
+      }
+      writer.write('"');
+   }
+
+}
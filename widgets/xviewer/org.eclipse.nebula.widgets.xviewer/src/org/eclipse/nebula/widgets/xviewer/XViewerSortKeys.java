@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.xviewer;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import org.eclipse.jface.viewers.IBaseLabelProvider;
+import org.eclipse.nebula.widgets.xviewer.core.model.SortDataType;
+import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
+
+/**
+ * Sort keys of a set of elements for the sort columns of an {@link XViewerSorter}. The column text (and for dates the
+ * backing data) of each element is read and parsed once per sort column, then the elements are sorted by comparing the
+ * typed keys, following the same ordering rules as {@link XViewerSorter#compare(org.eclipse.jface.viewers.Viewer, Object, Object, int)}.
+ */
+final class XViewerSortKeys {
+
+   private final Object[] elements;
+   private final SortColumn[] columns;
+
+   /**
+    * Reads the sort keys. This calls the label provider of the viewer and so must run on the UI thread.
+    */
+   XViewerSortKeys(XViewer xViewer, List<XViewerColumn> sortXCols, Comparator<Object> comparator, Object[] elements) {
+      this.elements = elements;
+      this.columns = new SortColumn[sortXCols.size()];
+
+      IBaseLabelProvider labelProvider = xViewer.getLabelProvider();
+      for (int i = 0; i < columns.length; i++) {
+         XViewerColumn sortXCol = sortXCols.get(i);
+         int columnNum = xViewer.getCustomizeMgr().getColumnNumFromXViewerColumn(sortXCol);
+         SortColumn column = createColumn(sortXCol.getSortDataType(), comparator, elements.length);
+         column.forward = sortXCol.isSortForward();
+         for (int index = 0; index < elements.length; index++) {
+            String text = xViewer.getColumnText(elements[index], columnNum);
+            Object data = null;
+            if (column instanceof DateColumn && labelProvider instanceof IXViewerLabelProvider) {
+               data = ((IXViewerLabelProvider) labelProvider).getBackingData(elements[index], sortXCol, columnNum);
+            }
+            column.set(index, text, data);
+         }
+         columns[i] = column;
+      }
+   }
+
+   private static SortColumn createColumn(SortDataType type, Comparator<Object> comparator, int size) {
+      if (type == SortDataType.Date) {
+         return new DateColumn(size);
+      } else if (type == SortDataType.Float) {
+         return new FloatColumn(size, comparator);
+      } else if (type == SortDataType.Percent || type == SortDataType.Integer || type == SortDataType.Long) {
+         return new IntegerColumn(size, comparator, type);
+      } else if (type == SortDataType.Paragraph_Number) {
+         return new ParagraphNumberColumn(size);
+      }
+      return new TextColumn(size, comparator);
+   }
+
+   /**
+    * Sorts the elements given to the constructor in place. The sort is stable.
+    *
+    * @param parallel true to sort on several threads, which requires the comparator given to the constructor to be thread
+    * safe unless it is a {@link Collator}
+    */
+   void sort(boolean parallel) {
+      Integer[] order = new Integer[elements.length];
+      for (int i = 0; i < order.length; i++) {
+         order[i] = Integer.valueOf(i);
+      }
+
+      Comparator<Integer> indexComparator = (i1, i2) -> compare(i1.intValue(), i2.intValue());
+      if (parallel) {
+         Arrays.parallelSort(order, indexComparator);
+      } else {
+         Arrays.sort(order, indexComparator);
+      }
+
+      Object[] sorted = new Object[elements.length];
+      for (int i = 0; i < order.length; i++) {
+         sorted[i] = elements[order[i].intValue()];
+      }
+      System.arraycopy(sorted, 0, elements, 0, sorted.length);
+   }
+
+   private int compare(int index1, int index2) {
+      for (SortColumn column : columns) {
+         int compareInt = column.compareNulls(index1, index2);
+         if (compareInt == 0 && column.text[index1] != null) {
+            compareInt = column.compare(index1, index2);
+         }
+         if (compareInt != 0) {
+            return column.forward ? compareInt : -compareInt;
+         }
+      }
+      return 0;
+   }
+
+   private static abstract class SortColumn {
+      final String[] text;
+      boolean forward;
+
+      SortColumn(int size) {
+         text = new String[size];
+      }
+
+      void set(int index, String text, Object data) {
+         this.text[index] = text;
+      }
+
+      // elements without text come first
+      int compareNulls(int index1, int index2) {
+         if (text[index1] == null) {
+            return text[index2] == null ? 0 : -1;
+         }
+         return text[index2] == null ? 1 : 0;
+      }
+
+      /**
+       * Compares two elements which both have text.
+       */
+      abstract int compare(int index1, int index2);
+   }
+
+   private static final class TextColumn extends SortColumn {
+      private final Comparator<Object> comparator;
+      private final Collator collator;
+      private final CollationKey[] keys;
+
+      TextColumn(int size, Comparator<Object> comparator) {
+         super(size);
+         this.comparator = comparator;
+         this.collator = comparator instanceof Collator ? (Collator) comparator : null;
+         this.keys = collator == null ? null : new CollationKey[size];
+      }
+
+      @Override
+      void set(int index, String text, Object data) {
+         super.set(index, text, data);
+         if (collator != null && text != null) {
+            keys[index] = collator.getCollationKey(text);
+         }
+      }
+
+      @Override
+      int compare(int index1, int index2) {
+         if (keys != null) {
+            return keys[index1].compareTo(keys[index2]);
+         }
+         return comparator.compare(text[index1], text[index2]);
+      }
+   }
+
+   /**
+    * Numbers come after text which could not be parsed, which is compared as text.
+    */
+   private static abstract class NumberColumn extends SortColumn {
+      private final TextColumn unparsed;
+      final boolean[] parsed;
+
+      NumberColumn(int size, Comparator<Object> comparator) {
+         super(size);
+         this.unparsed = new TextColumn(size, comparator);
+         this.parsed = new boolean[size];
+      }
+
+      @Override
+      void set(int index, String text, Object data) {
+         super.set(index, text, data);
+         if (text != null) {
+            try {
+               parse(index, text);
+               parsed[index] = true;
+            } catch (NumberFormatException ex) {
+               unparsed.set(index, text, data);
+            }
+         }
+      }
+
+      abstract void parse(int index, String text);
+
+      @Override
+      int compare(int index1, int index2) {
+         if (parsed[index1] && parsed[index2]) {
+            return compareParsed(index1, index2);
+         } else if (parsed[index1]) {
+            return 1;
+         } else if (parsed[index2]) {
+            return -1;
+         }
+         return unparsed.compare(index1, index2);
+      }
+
+      abstract int compareParsed(int index1, int index2);
+   }
+
+   private static final class FloatColumn extends NumberColumn {
+      private final double[] values;
+
+      FloatColumn(int size, Comparator<Object> comparator) {
+         super(size, comparator);
+         values = new double[size];
+      }
+
+      @Override
+      void parse(int index, String text) {
+         values[index] = Double.parseDouble(text);
+      }
+
+      @Override
+      int compareParsed(int index1, int index2) {
+         return Double.compare(values[index1], values[index2]);
+      }
+   }
+
+   private static final class IntegerColumn extends NumberColumn {
+      private final long[] values;
+      private final SortDataType type;
+
+      IntegerColumn(int size, Comparator<Object> comparator, SortDataType type) {
+         super(size, comparator);
+         this.values = new long[size];
+         this.type = type;
+      }
+
+      @Override
+      void parse(int index, String text) {
+         if (type == SortDataType.Long) {
+            values[index] = Long.parseLong(text);
+         } else if (type == SortDataType.Percent) {
+            // 0% comes before and 100% after any other percentage
+            int percent = Integer.parseInt(text);
+            values[index] = percent == 0 ? Long.MIN_VALUE : percent == 100 ? Long.MAX_VALUE : percent;
+         } else {
+            values[index] = Integer.parseInt(text);
+         }
+      }
+
+      @Override
+      int compareParsed(int index1, int index2) {
+         return Long.compare(values[index1], values[index2]);
+      }
+   }
+
+   /**
+    * Dates are compared by their backing data. Elements without backing data come first and elements whose backing data
+    * is not a date come last.
+    */
+   private static final class DateColumn extends SortColumn {
+      private final long[] times;
+      private final byte[] ranks;
+
+      DateColumn(int size) {
+         super(size);
+         times = new long[size];
+         ranks = new byte[size];
+      }
+
+      @Override
+      void set(int index, String text, Object data) {
+         super.set(index, text, data);
+         if (data instanceof Date) {
+            times[index] = ((Date) data).getTime();
+            ranks[index] = 1;
+         } else if (data != null) {
+            ranks[index] = 2;
+         }
+      }
+
+      @Override
+      int compare(int index1, int index2) {
+         if (ranks[index1] != ranks[index2]) {
+            return ranks[index1] < ranks[index2] ? -1 : 1;
+         }
+         return ranks[index1] == 1 ? Long.compare(times[index1], times[index2]) : 0;
+      }
+   }
+
+   /**
+    * Paragraph numbers such as 1.2.10 are compared number by number, see
+    * {@link XViewerSorter#paragraphNumberCompare(String, String)}.
+    */
+   private static final class ParagraphNumberColumn extends SortColumn {
+      private final String[][] tokens;
+      private final int[][] numbers;
+      private final boolean[][] numeric;
+
+      ParagraphNumberColumn(int size) {
+         super(size);
+         tokens = new String[size][];
+         numbers = new int[size][];
+         numeric = new boolean[size][];
+      }
+
+      @Override
+      void set(int index, String text, Object data) {
+         super.set(index, text, data);
+         if (text == null) {
+            return;
+         }
+         StringTokenizer st = new StringTokenizer(text, ".");
+         int count = st.countTokens();
+         tokens[index] = new String[count];
+         numbers[index] = new int[count];
+         numeric[index] = new boolean[count];
+         for (int i = 0; i < count; i++) {
+            String token = st.nextToken();
+            tokens[index][i] = token;
+            try {
+               numbers[index][i] = Integer.parseInt(token);
+               numeric[index][i] = true;
+            } catch (NumberFormatException ex) {
+               // compared as text
+            }
+         }
+      }
+
+      @Override
+      int compare(int index1, int index2) {
+         int count = Math.min(tokens[index1].length, tokens[index2].length);
+         for (int i = 0; i < count; i++) {
+            int result;
+            if (numeric[index1][i] && numeric[index2][i]) {
+               result = Integer.compare(numbers[index1][i], numbers[index2][i]);
+            } else {
+               result = tokens[index1][i].compareTo(tokens[index2][i]);
+            }
+            if (result != 0) {
+               return result;
+            }
+         }
+         return text[index1].compareTo(text[index2]);
+      }
+   }
+}
@@ -16,6 +16,7 @@ package org.eclipse.nebula.widgets.xviewer;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.StringTokenizer;
@@ -38,10 +39,85 @@ import org.eclipse.nebula.widgets.xviewer.util.internal.XViewerLog;
 public class XViewerSorter extends ViewerSorter {
    private final XViewer treeViewer;
    public final static SimpleDateFormat format10 = new SimpleDateFormat("MM/dd/yyyy");
+   // element count from which sorting runs in parallel, if enabled
+   private static final int PARALLEL_SORT_THRESHOLD = 10000;
+   private final boolean sortByKeys;
+   private boolean parallelSort = false;
 
    public XViewerSorter(XViewer treeViewer) {
       super();
       this.treeViewer = treeViewer;
+      this.sortByKeys = !overridesComparison(getClass());
+   }
+
+   /**
+    * Sort keys are only used if the comparison is not customized by a subclass
+    */
+   private static boolean overridesComparison(Class<?> sorterClass) {
+      try {
+         return isOverridden(sorterClass, "compare", Viewer.class, Object.class, Object.class) //
+            || isOverridden(sorterClass, "compare", Viewer.class, Object.class, Object.class, int.class) //
+            || isOverridden(sorterClass, "getCompareBasedOnDirection", XViewerColumn.class, int.class, Viewer.class,
+               Object.class, Object.class, int.class) //
+            || isOverridden(sorterClass, "paragraphNumberCompare", String.class, String.class) //
+            || isOverridden(sorterClass, "getCompareForFloat", String.class, String.class) //
+            || isOverridden(sorterClass, "getCompareForInteger", String.class, String.class) //
+            || isOverridden(sorterClass, "getCompareForLong", String.class, String.class) //
+            || isOverridden(sorterClass, "getCompareForPercent", String.class, String.class) //
+            || isOverridden(sorterClass, "getCompareForPercent", int.class, int.class) //
+            || isOverridden(sorterClass, "getCompareForDate", String.class, Object.class, String.class, Object.class) //
+            || isOverridden(sorterClass, "getCompareForDate", Date.class, Date.class);
+      } catch (NoSuchMethodException ex) {
+         return true;
+      }
+   }
+
+   private static boolean isOverridden(Class<?> sorterClass, String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+      return sorterClass.getMethod(name, parameterTypes).getDeclaringClass() != XViewerSorter.class;
+   }
+
+   /**
+    * Returns whether large sorts run on several threads.
+    */
+   public boolean isParallelSort() {
+      return parallelSort;
+   }
+
+   /**
+    * Sets whether sorts of many elements run on several threads. The column text is still read on the calling thread,
+    * only the comparisons of the sort keys run in parallel. The comparator of the sorter must then be thread safe, unless
+    * it is a {@link java.text.Collator}. Off by default.
+    */
+   public void setParallelSort(boolean parallelSort) {
+      this.parallelSort = parallelSort;
+   }
+
+   /**
+    * Reads the sort keys of each element once per sort column, then sorts the elements by their keys, instead of
+    * reading and parsing the column text of both elements on every comparison. Falls back to comparing the elements if
+    * a subclass customizes the comparison.
+    */
+   @SuppressWarnings("unchecked")
+   @Override
+   public void sort(Viewer viewer, Object[] elements) {
+      if (!sortByKeys) {
+         super.sort(viewer, elements);
+         return;
+      }
+      if (elements.length < 2 || treeViewer.getCustomizeMgr().isLoading()) {
+         return;
+      }
+      List<XViewerColumn> sortXCols = treeViewer.getCustomizeMgr().getSortXCols();
+      if (sortXCols == null || sortXCols.isEmpty()) {
+         return;
+      }
+      try {
+         XViewerSortKeys sortKeys =
+            new XViewerSortKeys(treeViewer, sortXCols, (Comparator<Object>) getComparator(), elements);
+         sortKeys.sort(parallelSort && elements.length >= PARALLEL_SORT_THRESHOLD);
+      } catch (Exception ex) {
+         XViewerLog.log(Activator.class, Level.SEVERE, ex);
+      }
    }
 
    public int compare(Viewer viewer, Object o1, Object o2, int sortXColIndex) {
@@ -13,10 +13,12 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.xviewer;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -29,6 +31,14 @@ import org.eclipse.nebula.widgets.xviewer.core.model.XViewerColumn;
 import org.eclipse.nebula.widgets.xviewer.core.util.Strings;
 
 /**
+ * Filters the rows by the filter text and the column filters of the viewer.
+ * <p>
+ * Literal filters are matched as substrings ignoring the case of ASCII letters, as the regular expressions did without
+ * {@link Pattern#UNICODE_CASE}, rather than as regular expressions. The columns are resolved
+ * once after each {@link #update()}, and the column text of each element is kept until the element is refreshed or
+ * updated in the viewer. While the filter text only gets longer (as when typing), rows which did not match the shorter
+ * text are not checked again.
+ *
  * @author Donald G. Dunne
  */
 public class XViewerTextFilter extends ViewerFilter {
@@ -42,6 +52,25 @@ public class XViewerTextFilter extends ViewerFilter {
    protected static final Pattern NOT_EMPTY_STR_PATTERN = Pattern.compile("^.+$");
    private final Set<Object> parentMatches = new HashSet<Object>();
 
+   // literal filter text, null if none or if it is a regular expression
+   private String literalText;
+   // literal text of each column filter, and whether it must not be contained
+   private final Map<String, String> colIdToLiteral = new HashMap<String, String>();
+   private final Set<String> negatedColIds = new HashSet<String>();
+   // column filters the rejected rows were checked against
+   private String columnFilterState;
+   // rows which did not match on their own, kept while the filter text only gets longer
+   private final Set<Object> rejected = new HashSet<Object>();
+
+   // filters resolved against the columns of the viewer on the first select after update
+   private ColumnFilter[] columnFilters;
+   private int[] textColumnNums;
+   private int columnCount;
+   // column text per element, by column number
+   private final Map<Object, String[]> columnTextCache = new HashMap<Object, String[]>();
+   // distinct instance standing for a null column text, as null stands for text not read yet
+   private static final String NULL_TEXT = new String();
+
    public XViewerTextFilter(XViewer xViewer) {
       this.xViewer = xViewer;
    }
@@ -51,19 +80,27 @@ public class XViewerTextFilter extends ViewerFilter {
     */
    public void update() {
       parentMatches.clear();
+      columnFilters = null;
+      textColumnNums = null;
+      String previousLiteralText = literalText;
       // Update text filter pattern
       if (!Strings.isValid(xViewer.getCustomizeMgr().getFilterText())) {
          textPattern = null;
+         literalText = null;
       } else {
          int flags = Pattern.CASE_INSENSITIVE;
          if (!xViewer.getCustomizeMgr().isFilterTextRegularExpression()) {
             flags = Pattern.LITERAL | flags;
          }
          textPattern = Pattern.compile(xViewer.getCustomizeMgr().getFilterText(), flags);
+         literalText =
+            xViewer.getCustomizeMgr().isFilterTextRegularExpression() ? null : xViewer.getCustomizeMgr().getFilterText();
       }
       // Update column filter patterns
       colIdToPattern.clear();
       colIdToDateFilter.clear();
+      colIdToLiteral.clear();
+      negatedColIds.clear();
       for (String colId : xViewer.getCustomizeMgr().getColumnFilterData().getColIds()) {
          String colFilterText = xViewer.getCustomizeMgr().getColumnFilterText(colId);
          if (colFilterText != null) {
@@ -75,7 +112,9 @@ public class XViewerTextFilter extends ViewerFilter {
             isNot = colFilterText.startsWith("!");
             if (isNot) {
                colFilterText = colFilterText.replaceFirst("^!", "");
+               negatedColIds.add(colId);
             }
+            colIdToLiteral.put(colId, colFilterText);
             colFilterText = Pattern.quote(colFilterText);
             // Handle != case  ^(.(?<!big))*$
             if (isNot) {
@@ -100,6 +139,111 @@ public class XViewerTextFilter extends ViewerFilter {
             colIdToDateFilter.put(colId, dateFilter);
          }
       }
+
+      // A row which did not contain the previous text does not contain a text which contains it either
+      String newColumnFilterState = colIdToLiteral.toString() + negatedColIds + colIdToDateFilter;
+      if (literalText == null || previousLiteralText == null || !newColumnFilterState.equals(
+         columnFilterState) || !containsIgnoreCase(literalText, previousLiteralText)) {
+         rejected.clear();
+      }
+      columnFilterState = newColumnFilterState;
+   }
+
+   /**
+    * Forgets the column text of all elements, to be called when the labels of the viewer may have changed.
+    */
+   public void clearColumnTextCache() {
+      columnTextCache.clear();
+      rejected.clear();
+   }
+
+   /**
+    * Forgets the column text of the element, to be called when its labels may have changed.
+    */
+   public void clearColumnTextCache(Object element) {
+      columnTextCache.remove(element);
+      rejected.remove(element);
+   }
+
+   private void resolveColumns() {
+      columnCount = xViewer.getTree().getColumnCount();
+      List<ColumnFilter> filters = new ArrayList<ColumnFilter>();
+      for (String filteredColId : xViewer.getCustomizeMgr().getColumnFilterData().getColIds()) {
+         XViewerColumn xCol = xViewer.getCustomizeMgr().getCurrentTableColumn(filteredColId);
+         if (xCol == null || !xCol.isShow()) {
+            continue;
+         }
+         String literal = colIdToLiteral.get(xCol.getId());
+         ColumnDateFilter dateFilter = colIdToDateFilter.get(xCol.getId());
+         if (literal != null || dateFilter != null) {
+            filters.add(new ColumnFilter(xViewer.getCustomizeMgr().getColumnNumFromXViewerColumn(xCol), literal,
+               negatedColIds.contains(xCol.getId()), dateFilter));
+         }
+      }
+      columnFilters = filters.toArray(new ColumnFilter[filters.size()]);
+
+      List<Integer> columnNums = new ArrayList<Integer>();
+      for (XViewerColumn xCol : xViewer.getCustomizeMgr().getCurrentTableColumns()) {
+         if (xCol.isShow()) {
+            columnNums.add(xViewer.getCustomizeMgr().getColumnNumFromXViewerColumn(xCol));
+         }
+      }
+      textColumnNums = new int[columnNums.size()];
+      for (int i = 0; i < textColumnNums.length; i++) {
+         textColumnNums[i] = columnNums.get(i);
+      }
+   }
+
+   private String getColumnText(Object element, int columnNum) {
+      String[] texts = columnTextCache.get(element);
+      if (texts == null || texts.length != columnCount) {
+         texts = new String[columnCount];
+         columnTextCache.put(element, texts);
+      }
+      if (columnNum >= texts.length) {
+         return xViewer.getColumnText(element, columnNum);
+      }
+      String text = texts[columnNum];
+      if (text == null) {
+         text = xViewer.getColumnText(element, columnNum);
+         texts[columnNum] = text == null ? NULL_TEXT : text;
+      }
+      return text == NULL_TEXT ? null : text;
+   }
+
+   /**
+    * @return true if the text contains the part, ignoring the case of ASCII letters only
+    */
+   static boolean containsIgnoreCase(String text, String part) {
+      int length = part.length();
+      outer: for (int i = 0, last = text.length() - length; i <= last; i++) {
+         for (int j = 0; j < length; j++) {
+            if (!equalsIgnoreAsciiCase(text.charAt(i + j), part.charAt(j))) {
+               continue outer;
+            }
+         }
+         return true;
+      }
+      return false;
+   }
+
+   private static boolean equalsIgnoreAsciiCase(char c1, char c2) {
+      if (c1 == c2) {
+         return true;
+      }
+      char lower = (char) (c1 | 0x20);
+      return (c1 ^ c2) == 0x20 && lower >= 'a' && lower <= 'z';
+   }
+
+   /**
+    * @return true if the cell text matches the literal text of a column filter, which must not be contained if negated.
+    *         A negated empty filter only matches empty cells.
+    */
+   static boolean matchesColumnLiteral(String cellStr, String literal, boolean isNot) {
+      if (isNot) {
+         return literal.isEmpty() ? cellStr.isEmpty() : !containsIgnoreCase(cellStr, literal);
+      }
+      return containsIgnoreCase(cellStr, literal);
    }
 
    @Override
@@ -114,92 +258,110 @@ public class XViewerTextFilter extends ViewerFilter {
          }
          return true;
       }
-      boolean match = true;
+      if (rejected.contains(element)) {
+         return false;
+      }
+      if (columnFilters == null) {
+         resolveColumns();
+      }
+      if (matches(element)) {
+         if (parentElement != null) {
+            parentMatches.add(parentElement);
+         }
+         return true;
+      }
+      if (literalText != null) {
+         rejected.add(element);
+      }
+      return false;
+   }
+
+   private boolean matches(Object element) {
       // Must match all column filters or don't show
-      Set<String> colIds = xViewer.getCustomizeMgr().getColumnFilterData().getColIds();
-      for (String filteredColId : colIds) {
-         XViewerColumn xCol = xViewer.getCustomizeMgr().getCurrentTableColumn(filteredColId);
-         if (xCol.isShow()) {
-            if (colIdToPattern.keySet().contains(xCol.getId())) {
-               String cellStr =
-                  xViewer.getColumnText(element, xViewer.getCustomizeMgr().getColumnNumFromXViewerColumn(xCol));
-               if (cellStr != null) {
-                  matcher = colIdToPattern.get(xCol.getId()).matcher(cellStr);
-                  if (!matcher.find()) {
-                     return false;
-                  }
+      for (ColumnFilter columnFilter : columnFilters) {
+         if (!columnFilter.matches(getColumnText(element, columnFilter.columnNum))) {
+            return false;
+         }
+      }
+
+      // Must match at least one column for filter text
+      if (textPattern == null) {
+         return true;
+      }
+      for (int columnNum : textColumnNums) {
+         String cellStr = getColumnText(element, columnNum);
+         if (cellStr != null) {
+            if (literalText != null) {
+               if (containsIgnoreCase(cellStr, literalText)) {
+                  return true;
                }
-            }
-            if (colIdToDateFilter.containsKey(xCol.getId())) {
-               String cellStr =
-                  xViewer.getColumnText(element, xViewer.getCustomizeMgr().getColumnNumFromXViewerColumn(xCol));
-               if (Strings.isValid(cellStr)) {
-                  Date cellDate = XViewerSorter.parseDatePair(cellStr, "").getFirst();
-                  if (cellDate != null) {
-                     ColumnDateFilter columnDateFilter = colIdToDateFilter.get(xCol.getId());
-                     Calendar cellCal = Calendar.getInstance();
-                     cellCal.setTime(cellDate);
-                     Calendar filterCal = Calendar.getInstance();
-                     Date filterDate1 = columnDateFilter.getDate1();
-                     filterCal.setTime(filterDate1);
-                     DateRangeType rangeType = columnDateFilter.getType();
-                     if (rangeType == DateRangeType.Equals_Date) {
-                        if (cellCal.get(Calendar.YEAR) != filterCal.get(Calendar.YEAR) || cellCal.get(
-                           Calendar.MONTH) != filterCal.get(Calendar.MONTH) || cellCal.get(
-                              Calendar.DAY_OF_MONTH) != filterCal.get(Calendar.DAY_OF_MONTH)) {
-                           return false;
-                        }
-                     } else if (rangeType == DateRangeType.After_Date && cellDate.before(filterDate1)) {
-                        return false;
-                     } else if (rangeType == DateRangeType.Before_Date && cellDate.after(filterDate1)) {
-                        return false;
-                     } else if (rangeType == DateRangeType.Between_Dates) {
-                        if (cellDate.before(filterDate1)) {
-                           return false;
-                        }
-                        Date filterDate2 = columnDateFilter.getDate2();
-                        if (cellDate.after(filterDate2)) {
-                           return false;
-                        }
-                     }
-                  }
-               } else {
-                  // Do not show this row if date filter selected and no date is shown
-                  return false;
+            } else {
+               matcher = textPattern.matcher(cellStr);
+               if (matcher.find()) {
+                  return true;
                }
             }
          }
       }
-      if (!match) {
-         return false;
+      return false;
+   }
+
+   private static final class ColumnFilter {
+      final int columnNum;
+      private final String literal;
+      private final boolean isNot;
+      private final ColumnDateFilter dateFilter;
+
+      ColumnFilter(int columnNum, String literal, boolean isNot, ColumnDateFilter dateFilter) {
+         this.columnNum = columnNum;
+         this.literal = literal;
+         this.isNot = isNot;
+         this.dateFilter = dateFilter;
       }
 
-      // Must match at least one column for filter text
-      if (textPattern == null) {
-         if (match && parentElement != null) {
-            parentMatches.add(parentElement);
+      boolean matches(String cellStr) {
+         if (literal != null && cellStr != null && !matchesColumnLiteral(cellStr, literal, isNot)) {
+            return false;
          }
-         return match;
-      }
-      if (textPattern != null) {
-         for (XViewerColumn xCol : xViewer.getCustomizeMgr().getCurrentTableColumns()) {
-            if (xCol.isShow()) {
-               // Check text filter
-               String cellStr =
-                  xViewer.getColumnText(element, xViewer.getCustomizeMgr().getColumnNumFromXViewerColumn(xCol));
-               if (cellStr != null) {
-                  matcher = textPattern.matcher(cellStr);
-                  if (matcher.find()) {
-                     if (parentElement != null) {
-                        parentMatches.add(parentElement);
-                     }
-                     return true;
-                  }
-               }
+         if (dateFilter != null) {
+            // Do not show this row if date filter selected and no date is shown
+            return Strings.isValid(cellStr) && matchesDate(cellStr);
+         }
+         return true;
+      }
+
+      private boolean matchesDate(String cellStr) {
+         Date cellDate = XViewerSorter.parseDatePair(cellStr, "").getFirst();
+         if (cellDate == null) {
+            return true;
+         }
+         Calendar cellCal = Calendar.getInstance();
+         cellCal.setTime(cellDate);
+         Calendar filterCal = Calendar.getInstance();
+         Date filterDate1 = dateFilter.getDate1();
+         filterCal.setTime(filterDate1);
+         DateRangeType rangeType = dateFilter.getType();
+         if (rangeType == DateRangeType.Equals_Date) {
+            if (cellCal.get(Calendar.YEAR) != filterCal.get(Calendar.YEAR) || cellCal.get(
+               Calendar.MONTH) != filterCal.get(Calendar.MONTH) || cellCal.get(
+                  Calendar.DAY_OF_MONTH) != filterCal.get(Calendar.DAY_OF_MONTH)) {
+               return false;
+            }
+         } else if (rangeType == DateRangeType.After_Date && cellDate.before(filterDate1)) {
+            return false;
+         } else if (rangeType == DateRangeType.Before_Date && cellDate.after(filterDate1)) {
+            return false;
+         } else if (rangeType == DateRangeType.Between_Dates) {
+            if (cellDate.before(filterDate1)) {
+               return false;
+            }
+            Date filterDate2 = dateFilter.getDate2();
+            if (cellDate.after(filterDate2)) {
+               return false;
             }
          }
+         return true;
       }
-      return false;
    }
 
 }
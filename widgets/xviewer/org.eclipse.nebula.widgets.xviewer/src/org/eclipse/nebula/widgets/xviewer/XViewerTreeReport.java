@@ -14,6 +14,8 @@
 
 package org.eclipse.nebula.widgets.xviewer;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +53,35 @@ public class XViewerTreeReport extends XViewerHtmlReport {
       return getHtml(xViewer.getTree().getItems());
    }
 
+   @Override
+   protected String[] getFilterExtensions() {
+      if (isStreamed()) {
+         return new String[] {"*.html", "*.csv"}; //$NON-NLS-1$ //$NON-NLS-2$
+      }
+      return super.getFilterExtensions();
+   }
+
+   /**
+    * Streams the rows from the providers to the file, as HTML or, for .csv files, as CSV
+    */
+   @Override
+   protected void write(File file) throws IOException, XViewerException {
+      if (isStreamed()) {
+         new XViewerReportWriter(xViewer, XViewerReportWriter.getFormat(file)).write(file);
+      } else {
+         super.write(file);
+      }
+   }
+
+   // reports which provide their own html are written from it
+   private boolean isStreamed() {
+      try {
+         return getClass().getMethod("getHtml").getDeclaringClass() == XViewerTreeReport.class; //$NON-NLS-1$
+      } catch (NoSuchMethodException ex) {
+         return false;
+      }
+   }
+
    private Map<XViewerColumn, Integer> xColToColumnIndex = null;
 
    public String getHtml(TreeItem items[]) throws XViewerException {
@@ -207,7 +207,7 @@ public class CustomizeManager {
       try {
          xViewer.getTree().setRedraw(false);
          xViewerTextFilter.update();
-         xViewer.refresh();
+         xViewer.refreshFilters();
       } finally {
          xViewer.getTree().setRedraw(true);
       }
@@ -224,20 +224,27 @@ public class CustomizeManager {
          currentCustData.getColumnFilterData().setFilterText(colId, text);
       }
       xViewerTextFilter.update();
-      xViewer.refresh();
+      xViewer.refreshFilters();
    }
 
    public void clearFilters() {
       xViewer.getFilterDataUI().clear();
       currentCustData.getColumnFilterData().clear();
       xViewerTextFilter.update();
-      xViewer.refresh();
+      xViewer.refreshFilters();
    }
 
    public void clearAllColumnFilters() {
       currentCustData.getColumnFilterData().clear();
       xViewerTextFilter.update();
-      xViewer.refresh();
+      xViewer.refreshFilters();
+   }
+
+   /**
+    * @return the text filter of the viewer, null until a customization is loaded
+    */
+   public XViewerTextFilter getTextFilter() {
+      return xViewerTextFilter;
    }
 
    public String getColumnFilterText(String colId) {
@@ -608,7 +615,7 @@ public class CustomizeManager {
          currentCustData.getColumnFilterData().setDateFilter(columnId, dateRangeType, date1, date2);
       }
       xViewerTextFilter.update();
-      xViewer.refresh();
+      xViewer.refreshFilters();
 
    }
 
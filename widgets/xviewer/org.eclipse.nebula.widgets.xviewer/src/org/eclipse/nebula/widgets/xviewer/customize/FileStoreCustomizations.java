@@ -17,7 +17,11 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import org.eclipse.nebula.widgets.xviewer.XViewerText;
 import org.eclipse.nebula.widgets.xviewer.core.model.CustomizeData;
@@ -26,6 +30,9 @@ import org.eclipse.nebula.widgets.xviewer.util.internal.FileUtil;
 import org.eclipse.nebula.widgets.xviewer.util.internal.XViewerLog;
 
 /**
+ * Stores each customization in its own file. Parsed customizations are cached by file and reused while the file's
+ * modification time and length are unchanged; callers get copies, which they are free to change.
+ *
  * @author Andrew M. Finkbeiner
  */
 public class FileStoreCustomizations implements IXViewerCustomizations {
@@ -35,6 +42,24 @@ public class FileStoreCustomizations implements IXViewerCustomizations {
    private final String postfix;
    private final String defaultCustomizationFileName;
    private final CustomizeData defaultCustomData;
+   private final Map<File, CachedFile<CustomizeData>> fileToCustData = new HashMap<>();
+   private volatile CachedFile<String> defaultGuidFile = null;
+
+   private static class CachedFile<T> {
+      private final long lastModified;
+      private final long length;
+      private final T data;
+
+      private CachedFile(long lastModified, long length, T data) {
+         this.lastModified = lastModified;
+         this.length = length;
+         this.data = data;
+      }
+
+      private boolean isCurrent(File file) {
+         return file.lastModified() == lastModified && file.length() == length;
+      }
+   }
 
    public FileStoreCustomizations(File pathToCustomizations, String fileNamePrefix, String fileNamePostfix, String defaultCustomizationFileName, String defaultCustomDataXml) {
       this.baseStorage = pathToCustomizations;
@@ -53,11 +78,15 @@ public class FileStoreCustomizations implements IXViewerCustomizations {
             throw new XViewerException(XViewerText.get("error.delete_customization")); //$NON-NLS-1$
          }
       }
+      synchronized (fileToCustData) {
+         fileToCustData.remove(file);
+      }
    }
 
    @Override
    public List<CustomizeData> getSavedCustDatas() throws XViewerException {
       List<CustomizeData> custDatas = new ArrayList<CustomizeData>();
+      Set<File> files = new HashSet<>();
       for (String filename : FileUtil.readListFromDir(getCustomDataDir(), new FilenameFilter() {
          @Override
          public boolean accept(File dir, String name) {
@@ -67,25 +96,73 @@ public class FileStoreCustomizations implements IXViewerCustomizations {
             return false;
          }
       })) {
-         custDatas.add(new CustomizeData(FileUtil.fileToString(new File(getCustomDataDir(), filename))));
+         File file = new File(getCustomDataDir(), filename);
+         files.add(file);
+         custDatas.add(getCustData(file));
+      }
+      // forget files deleted outside of this store
+      synchronized (fileToCustData) {
+         fileToCustData.keySet().retainAll(files);
       }
       return custDatas;
    }
 
-   @Override
-   public CustomizeData getUserDefaultCustData() throws XViewerException {
+   /**
+    * @return copy of the customization parsed from the file, parsed again only if the file changed
+    */
+   private CustomizeData getCustData(File file) throws XViewerException {
+      CachedFile<CustomizeData> cached;
+      synchronized (fileToCustData) {
+         cached = fileToCustData.get(file);
+      }
+      if (cached == null || !cached.isCurrent(file)) {
+         // status is read first, so that a change while reading is read again next time
+         long lastModified = file.lastModified();
+         long length = file.length();
+         cached = new CachedFile<>(lastModified, length, new CustomizeData(FileUtil.fileToString(file)));
+         synchronized (fileToCustData) {
+            fileToCustData.put(file, cached);
+         }
+      }
+      return cached.data.copy();
+   }
+
+   /**
+    * @return guid stored as user default, null if there is none
+    */
+   private String getDefaultGuid() throws XViewerException {
       File file = new File(getDefaultFilename());
       if (!file.exists()) {
+         return null;
+      }
+      CachedFile<String> cached = defaultGuidFile;
+      if (cached == null || !cached.isCurrent(file)) {
+         long lastModified = file.lastModified();
+         long length = file.length();
+         String defaultGuid = FileUtil.fileToString(file).replaceAll("\\s", ""); //$NON-NLS-1$ //$NON-NLS-2$
+         cached = new CachedFile<>(lastModified, length, defaultGuid);
+         defaultGuidFile = cached;
+      }
+      return cached.data;
+   }
+
+   @Override
+   public CustomizeData getUserDefaultCustData() throws XViewerException {
+      String defaultGuid = getDefaultGuid();
+      if (defaultGuid == null) {
          return defaultCustomData;
-      } else {
-         String defaultGuid;
-         defaultGuid = FileUtil.fileToString(file).replaceAll("\\s", ""); //$NON-NLS-1$ //$NON-NLS-2$
-         if (defaultGuid != null) {
-            for (CustomizeData custData : getSavedCustDatas()) {
-               if (custData.getGuid().equals(defaultGuid)) {
-                  return custData;
-               }
-            }
+      }
+      // saved under its guid, unless the file was renamed
+      File file = new File(getCustomDataDir(), prefix + defaultGuid + postfix);
+      if (file.isFile()) {
+         CustomizeData custData = getCustData(file);
+         if (custData.getGuid().equals(defaultGuid)) {
+            return custData;
+         }
+      }
+      for (CustomizeData custData : getSavedCustDatas()) {
+         if (custData.getGuid().equals(defaultGuid)) {
+            return custData;
          }
       }
       return null;
@@ -98,18 +175,17 @@ public class FileStoreCustomizations implements IXViewerCustomizations {
 
    @Override
    public boolean isCustomizationUserDefault(CustomizeData custData) throws XViewerException {
-      File file = new File(getDefaultFilename());
-      if (!file.exists()) {
-         return false;
-      }
-      String defaultGuid;
-      defaultGuid = FileUtil.fileToString(new File(getDefaultFilename())).replaceAll("\\s", ""); //$NON-NLS-1$ //$NON-NLS-2$
-      return custData.getGuid().equals(defaultGuid);
+      return custData.getGuid().equals(getDefaultGuid());
    }
 
    @Override
    public void saveCustomization(CustomizeData custData) throws Exception {
-      FileUtil.writeStringToFile(custData.getXml(true), new File(getFilename(custData)));
+      File file = new File(getFilename(custData));
+      FileUtil.writeStringToFile(custData.getXml(true), file);
+      // parsed again from what was written, which only has the visible columns
+      synchronized (fileToCustData) {
+         fileToCustData.remove(file);
+      }
    }
 
    private String getFilename(CustomizeData custData) {
@@ -126,6 +202,7 @@ public class FileStoreCustomizations implements IXViewerCustomizations {
 
    @Override
    public void setUserDefaultCustData(CustomizeData newCustData, boolean set) throws XViewerException {
+      defaultGuidFile = null;
       if (set) {
          try {
             FileUtil.writeStringToFile(newCustData.getGuid(), new File(getDefaultFilename()));
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.xviewer.util.internal;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -67,15 +66,13 @@ public class FileUtil {
    }
 
    public static String fileToString(File file) throws XViewerException {
-      try {
-         StringBuilder buffer = new StringBuilder();
-         Reader inStream = new InputStreamReader(new FileInputStream(file), "UTF-8"); //$NON-NLS-1$
-         Reader in = new BufferedReader(inStream);
-         int ch;
-         while ((ch = in.read()) > -1) {
-            buffer.append((char) ch);
+      try (Reader in = new InputStreamReader(new FileInputStream(file), "UTF-8")) { //$NON-NLS-1$
+         StringBuilder buffer = new StringBuilder((int) Math.min(file.length(), Integer.MAX_VALUE));
+         char[] chars = new char[8192];
+         int count;
+         while ((count = in.read(chars)) > -1) {
+            buffer.append(chars, 0, count);
          }
-         in.close();
          return buffer.toString();
       } catch (IOException ex) {
          throw new XViewerException(ex);